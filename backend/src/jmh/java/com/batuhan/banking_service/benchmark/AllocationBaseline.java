@@ -0,0 +1,143 @@
+package com.batuhan.banking_service.benchmark;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares the bytes allocated per operation ({@code gc.alloc.rate.norm}) of a JMH run against the committed
+ * baseline and fails when a benchmark allocates more than {@code baseline.tolerance} (default 10%) above it.
+ * Timings are printed next to their baseline but never fail the check, since they only compare on the same machine.
+ * <p>
+ * With {@code -Dbaseline.update=true} the run's results are merged into the baseline instead, labelled with the JDK
+ * of the run and {@code -Dbaseline.machine}; benchmarks the run did not include keep their previous entries.
+ * <p>
+ * Arguments: the JMH JSON result and the baseline file.
+ */
+public final class AllocationBaseline {
+
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    private AllocationBaseline() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: AllocationBaseline <jmh-result.json> <baseline.json>");
+        }
+        Path resultFile = Path.of(args[0]);
+        Path baselineFile = Path.of(args[1]);
+        JsonNode result = MAPPER.readTree(resultFile.toFile());
+        if (!result.isArray() || result.isEmpty()) {
+            throw new IllegalStateException("No JMH results in " + resultFile);
+        }
+
+        if (Boolean.getBoolean("baseline.update")) {
+            update(result, baselineFile);
+        } else {
+            check(result, baselineFile, Double.parseDouble(System.getProperty("baseline.tolerance", "0.10")));
+        }
+    }
+
+    private static void update(JsonNode result, Path baselineFile) throws IOException {
+        Map<String, JsonNode> entries = new TreeMap<>();
+        if (Files.exists(baselineFile)) {
+            MAPPER.readTree(baselineFile.toFile()).path("benchmarks")
+                    .forEach(entry -> entries.put(key(entry), entry));
+        }
+        for (JsonNode run : result) {
+            ObjectNode entry = MAPPER.createObjectNode();
+            entry.put("benchmark", run.path("benchmark").asText());
+            entry.set("params", run.path("params").isMissingNode() ? MAPPER.createObjectNode() : run.path("params"));
+            entry.put("score", run.path("primaryMetric").path("score").asDouble());
+            entry.put("scoreUnit", run.path("primaryMetric").path("scoreUnit").asText());
+            entry.put("allocBytesPerOp", Math.round(allocation(run)));
+            entries.put(key(entry), entry);
+        }
+
+        JsonNode first = result.get(0);
+        ObjectNode baseline = MAPPER.createObjectNode();
+        baseline.put("jdk", "%s (%s %s)".formatted(first.path("jdkVersion").asText(),
+                first.path("vmName").asText(), first.path("vmVersion").asText()));
+        baseline.put("machine", System.getProperty("baseline.machine",
+                "%s, %d CPUs".formatted(System.getProperty("os.arch"), Runtime.getRuntime().availableProcessors())));
+        ArrayNode benchmarks = baseline.putArray("benchmarks");
+        entries.values().forEach(benchmarks::add);
+        Files.createDirectories(baselineFile.toAbsolutePath().getParent());
+        MAPPER.writeValue(baselineFile.toFile(), baseline);
+        System.out.printf("Baseline %s now holds %d benchmarks%n", baselineFile, entries.size());
+    }
+
+    private static void check(JsonNode result, Path baselineFile, double tolerance) throws IOException {
+        JsonNode baseline = MAPPER.readTree(baselineFile.toFile());
+        Map<String, JsonNode> expected = new TreeMap<>();
+        baseline.path("benchmarks").forEach(entry -> expected.put(key(entry), entry));
+
+        String jdk = result.get(0).path("jdkVersion").asText();
+        if (!baseline.path("jdk").asText().startsWith(jdk + " ")) {
+            System.out.printf("Warning: baseline was recorded on %s, this run used JDK %s%n", baseline.path("jdk").asText(), jdk);
+        }
+        System.out.printf("Baseline: %s on %s, tolerance %.0f%%%n%n", baseline.path("jdk").asText(),
+                baseline.path("machine").asText(), tolerance * 100);
+
+        List<String> regressions = new ArrayList<>();
+        for (JsonNode run : result) {
+            String key = key(run);
+            double bytes = allocation(run);
+            JsonNode previous = expected.get(key);
+            if (previous == null) {
+                System.out.printf(Locale.ROOT, "NEW   %-90s %12.0f B/op%n", key, bytes);
+                continue;
+            }
+            double baselineBytes = previous.path("allocBytesPerOp").asDouble();
+            boolean regressed = bytes > baselineBytes * (1 + tolerance) + 16;
+            System.out.printf(Locale.ROOT, "%-5s %-90s %12.0f B/op (baseline %.0f)   %.3f %s (baseline %.3f)%n",
+                    regressed ? "FAIL" : "OK", key, bytes, baselineBytes,
+                    run.path("primaryMetric").path("score").asDouble(), run.path("primaryMetric").path("scoreUnit").asText(),
+                    previous.path("score").asDouble());
+            if (regressed) {
+                regressions.add(key);
+            }
+        }
+        if (!regressions.isEmpty()) {
+            throw new IllegalStateException("Allocation regressed beyond the baseline in " + regressions);
+        }
+    }
+
+    private static double allocation(JsonNode run) {
+        JsonNode metric = run.path("secondaryMetrics").path(ALLOCATION_METRIC);
+        if (metric.isMissingNode()) {
+            throw new IllegalStateException("No " + ALLOCATION_METRIC + " for " + key(run) + "; run JMH with -prof gc");
+        }
+        return metric.path("score").asDouble();
+    }
+
+    /**
+     * The benchmark method and its {@code @Param} values, e.g. {@code DocumentBenchmark.transactionsToExcel rows=1000}.
+     */
+    private static String key(JsonNode entry) {
+        String benchmark = entry.path("benchmark").asText();
+        StringBuilder key = new StringBuilder(benchmark.substring(benchmark.lastIndexOf('.', benchmark.lastIndexOf('.') - 1) + 1));
+        Map<String, String> params = new TreeMap<>();
+        for (Iterator<Map.Entry<String, JsonNode>> fields = entry.path("params").fields(); fields.hasNext(); ) {
+            Map.Entry<String, JsonNode> field = fields.next();
+            params.put(field.getKey(), field.getValue().asText());
+        }
+        params.forEach((name, value) -> key.append(' ').append(name).append('=').append(value));
+        return key.toString();
+    }
+}
@@ -0,0 +1,70 @@
+package com.batuhan.banking_service.benchmark;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.AccountEntity;
+import com.batuhan.banking_service.entity.TransactionEntity;
+import com.batuhan.banking_service.entity.UserEntity;
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.TransactionCategory;
+import com.batuhan.banking_service.entity.enums.TransactionStatus;
+import com.batuhan.banking_service.entity.enums.TransactionType;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+/**
+ * Fixed, in-memory fixtures shared by the JMH benchmarks, so runs stay comparable across commits.
+ */
+public final class BenchmarkData {
+
+    public static final String SENDER_IBAN = "TR730008800000002000000000";
+    public static final String RECEIVER_IBAN = "TR460008800000002000000001";
+    public static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    private BenchmarkData() {
+    }
+
+    public static TransactionEntity transaction() {
+        TransactionEntity transaction = TransactionEntity.builder()
+                .externalId(UUID.fromString("5d9f1c3e-7a4b-4c2d-9e8f-0a1b2c3d4e5f"))
+                .referenceNumber("TX-1735722000000-4F2A9")
+                .senderAccount(account(SENDER_IBAN, "Ayşe", "Yılmaz"))
+                .receiverAccount(account(RECEIVER_IBAN, "Mehmet", "Demir"))
+                .amount(new BigDecimal("1250.75"))
+                .currency(CurrencyType.TRY)
+                .transactionType(TransactionType.TRANSFER)
+                .status(TransactionStatus.COMPLETED)
+                .description("Monthly rent payment")
+                .category(TransactionCategory.RENT)
+                .build();
+        transaction.setCreatedAt(BASE_TIME);
+        return transaction;
+    }
+
+    public static List<TransactionResponse> responses(int rows) {
+        return IntStream.range(0, rows)
+                .mapToObj(i -> new TransactionResponse(
+                        new UUID(0, i),
+                        SENDER_IBAN, "Ayşe Yılmaz",
+                        RECEIVER_IBAN, "Mehmet Demir",
+                        BigDecimal.valueOf(10_000 + i, 2),
+                        TransactionType.TRANSFER,
+                        TransactionStatus.COMPLETED,
+                        "Transfer " + i,
+                        BASE_TIME.plusMinutes(i),
+                        "TX-1735722000000-" + Integer.toHexString(0x10000 + i).toUpperCase()))
+                .toList();
+    }
+
+    private static AccountEntity account(String iban, String firstName, String lastName) {
+        return AccountEntity.builder()
+                .iban(iban)
+                .currency(CurrencyType.TRY)
+                .balance(new BigDecimal("10000.00"))
+                .user(UserEntity.builder().firstName(firstName).lastName(lastName).build())
+                .build();
+    }
+}
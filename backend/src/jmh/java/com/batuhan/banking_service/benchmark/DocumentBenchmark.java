@@ -0,0 +1,55 @@
+package com.batuhan.banking_service.benchmark;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.TransactionEntity;
+import com.batuhan.banking_service.service.impl.ExcelServiceImpl;
+import com.batuhan.banking_service.service.impl.PdfServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Document rendering: the PDF receipt, and the Excel report at several row counts. The receipt is written to a
+ * buffer sized like a real one, so allocation numbers include the bytes a response would carry.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DocumentBenchmark {
+
+    private final PdfServiceImpl pdfService = new PdfServiceImpl();
+    private final ExcelServiceImpl excelService = new ExcelServiceImpl();
+    private final TransactionEntity transaction = BenchmarkData.transaction();
+
+    @State(Scope.Benchmark)
+    public static class Report {
+
+        @Param({"10", "1000", "10000"})
+        public int rows;
+
+        private List<TransactionResponse> transactions;
+
+        @Setup
+        public void setUp() {
+            transactions = BenchmarkData.responses(rows);
+        }
+    }
+
+    @Benchmark
+    public int receiptPdf() {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(4096);
+        pdfService.writeTransactionReceipt(transaction, out);
+        return out.size();
+    }
+
+    @Benchmark
+    public ByteArrayInputStream transactionsToExcel(Report report) {
+        return excelService.transactionsToExcel(report.transactions);
+    }
+}
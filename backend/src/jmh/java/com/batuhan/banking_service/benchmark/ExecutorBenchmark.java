@@ -0,0 +1,101 @@
+package com.batuhan.banking_service.benchmark;
+
+import com.batuhan.banking_service.config.AsyncConfig;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Platform against virtual threads on the bounded executors of {@link AsyncConfig}, under blocking work. Each
+ * operation fans out a burst of tasks and waits for all of them:
+ * <ul>
+ *     <li>{@code JDBC}: a 2 ms query behind a fair 10-permit semaphore, as {@code VirtualThreadConfig} fronts the
+ *     10-connection Hikari pool;</li>
+ *     <li>{@code SMTP}: a 20 ms remote call with no pool in front of it.</li>
+ * </ul>
+ * The blocking is a sleep, which parks a virtual thread the same way a socket read does. The virtual rows need a
+ * JDK 21 runtime and the {@code java21} profile; on an older JDK {@code AsyncConfig} falls back to platform threads,
+ * so the setup refuses to run them.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ExecutorBenchmark {
+
+    private static final int TASKS = 512;
+    private static final int CONNECTIONS = 10;
+
+    @Param({"platform", "virtual"})
+    public String threads;
+
+    @Param({"16", "256"})
+    public int concurrency;
+
+    @Param({"JDBC", "SMTP"})
+    public String workload;
+
+    private Executor executor;
+    private Semaphore connections;
+    private long blockMillis;
+
+    @Setup
+    public void setUp() {
+        boolean virtual = "virtual".equals(threads);
+        if (virtual && Runtime.version().feature() < 21) {
+            throw new IllegalStateException("Virtual threads need JDK 21, this is " + Runtime.version());
+        }
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("spring.threads.virtual.enabled", String.valueOf(virtual));
+        executor = new AsyncConfig(environment).auditTaskExecutor(concurrency, TASKS);
+        connections = "JDBC".equals(workload) ? new Semaphore(CONNECTIONS, true) : null;
+        blockMillis = connections != null ? 2 : 20;
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        if (executor instanceof DisposableBean pool) {
+            pool.destroy();
+        } else if (executor instanceof AutoCloseable virtualExecutor) {
+            virtualExecutor.close();
+        }
+    }
+
+    @Benchmark
+    public long burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(TASKS);
+        for (int i = 0; i < TASKS; i++) {
+            executor.execute(() -> {
+                try {
+                    block();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    done.countDown();
+                }
+            });
+        }
+        done.await();
+        return done.getCount();
+    }
+
+    private void block() throws InterruptedException {
+        if (connections == null) {
+            Thread.sleep(blockMillis);
+            return;
+        }
+        connections.acquire();
+        try {
+            Thread.sleep(blockMillis);
+        } finally {
+            connections.release();
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.batuhan.banking_service.benchmark;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.enums.TransactionStatus;
+import com.batuhan.banking_service.entity.enums.TransactionType;
+import com.batuhan.banking_service.service.export.CsvTransactionExportWriter;
+import com.batuhan.banking_service.service.export.NdjsonTransactionExportWriter;
+import com.batuhan.banking_service.service.export.TransactionExportWriter;
+import com.batuhan.banking_service.service.impl.ExcelServiceImpl;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * The export writers in isolation: rows are generated lazily and the bytes are counted, not kept, so the numbers
+ * show the serialization cost without the database cursor. The fork has a 64 MB heap, so a writer that buffered
+ * rows instead of streaming them would fail at a million rows; {@code gc.alloc.rate.norm} divided by {@code rows}
+ * is the garbage each row costs.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx64m")
+public class ExportWriterBenchmark {
+
+    @Param({"100000", "1000000"})
+    public long rows;
+
+    /**
+     * Writer and compression: a format name, with {@code _GZIP} for the compressed response.
+     */
+    @Param({"CSV", "CSV_GZIP", "NDJSON", "NDJSON_GZIP", "EXCEL"})
+    public String output;
+
+    private TransactionExportWriter writer;
+    private boolean gzip;
+    private long lastOutputBytes;
+
+    @Setup
+    public void setUp() {
+        gzip = output.endsWith("_GZIP");
+        writer = switch (output.replace("_GZIP", "")) {
+            case "CSV" -> new CsvTransactionExportWriter();
+            case "NDJSON" -> new NdjsonTransactionExportWriter(new ObjectMapper()
+                    .registerModule(new JavaTimeModule())
+                    .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS));
+            case "EXCEL" -> new ExcelServiceImpl();
+            default -> throw new IllegalArgumentException("Unknown output: " + output);
+        };
+    }
+
+    @TearDown
+    public void reportOutputSize() {
+        System.out.printf("%n%s, %d rows: %.1f MB written%n", output, rows, lastOutputBytes / 1_048_576.0);
+    }
+
+    @Benchmark
+    public long export() throws IOException {
+        CountingOutputStream counter = new CountingOutputStream();
+        if (gzip) {
+            GZIPOutputStream out = new GZIPOutputStream(counter, 64 * 1024);
+            writer.write(generate(rows), out);
+            out.finish();
+        } else {
+            writer.write(generate(rows), counter);
+        }
+        lastOutputBytes = counter.count;
+        return counter.count;
+    }
+
+    private static Stream<TransactionResponse> generate(long rows) {
+        return LongStream.range(0, rows).mapToObj(i -> new TransactionResponse(
+                new UUID(0x5EED, i),
+                "TR3300088000000000" + (10_000_000 + i % 1000),
+                "Sender " + (i % 1000),
+                "TR4100088000000000" + (20_000_000 + i % 5000),
+                "Receiver " + (i % 5000),
+                BigDecimal.valueOf(1 + i % 100_000, 2),
+                TransactionType.TRANSFER,
+                TransactionStatus.COMPLETED,
+                i % 7 == 0 ? "Rent payment, March" : "Market",
+                BenchmarkData.BASE_TIME.plusSeconds(i * 30),
+                "TXN-" + (100_000_000 + i)));
+    }
+
+    private static final class CountingOutputStream extends OutputStream {
+
+        private long count;
+
+        @Override
+        public void write(int b) {
+            count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            count += len;
+        }
+    }
+}
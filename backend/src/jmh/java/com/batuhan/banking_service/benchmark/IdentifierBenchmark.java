@@ -0,0 +1,50 @@
+package com.batuhan.banking_service.benchmark;
+
+import com.batuhan.banking_service.service.helper.IdentifierAllocator;
+import com.batuhan.banking_service.service.helper.ReferenceNumberGenerator;
+import org.h2.jdbcx.JdbcDataSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Identifier generation on the write paths: IBANs and customer numbers from sequence blocks on an in-memory H2
+ * database (one sequence call per 100 numbers), and the reference number of every transfer.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class IdentifierBenchmark {
+
+    private IdentifierAllocator allocator;
+    private final ReferenceNumberGenerator referenceNumberGenerator = new ReferenceNumberGenerator();
+
+    @Setup
+    public void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:identifiers;DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS account_number_seq START WITH 1 INCREMENT BY 100");
+        jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS customer_number_seq START WITH 1 INCREMENT BY 100");
+        allocator = new IdentifierAllocator(jdbcTemplate, 7046029254386353131L);
+    }
+
+    @Benchmark
+    public String nextIban() {
+        return allocator.nextIban();
+    }
+
+    @Benchmark
+    public String nextCustomerNumber() {
+        return allocator.nextCustomerNumber();
+    }
+
+    @Benchmark
+    public String nextReferenceNumber() {
+        return referenceNumberGenerator.next();
+    }
+}
@@ -0,0 +1,45 @@
+package com.batuhan.banking_service.benchmark;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.TransactionEntity;
+import com.batuhan.banking_service.entity.enums.TransactionCategory;
+import com.batuhan.banking_service.mapper.TransactionMapper;
+import com.batuhan.banking_service.mapper.TransactionMapperImpl;
+import com.batuhan.banking_service.service.impl.TransactionAnalysisServiceImpl;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Per-transaction work on the transfer and history paths: keyword categorization and the MapStruct entity mapping.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TransactionMappingBenchmark {
+
+    private final TransactionAnalysisServiceImpl analysisService = new TransactionAnalysisServiceImpl(null);
+    private final TransactionMapper transactionMapper = new TransactionMapperImpl();
+    private final TransactionEntity transaction = BenchmarkData.transaction();
+
+    @State(Scope.Benchmark)
+    public static class Descriptions {
+
+        // Early keyword hit, late keyword hit, and no hit at all
+        @Param({"Monthly rent payment", "Dinner at the cafe with friends", "Birthday gift for my sister"})
+        public String description;
+    }
+
+    @Benchmark
+    public TransactionCategory determineCategory(Descriptions descriptions) {
+        return analysisService.determineCategory(descriptions.description);
+    }
+
+    @Benchmark
+    public TransactionResponse toResponse() {
+        return transactionMapper.toResponse(transaction);
+    }
+}
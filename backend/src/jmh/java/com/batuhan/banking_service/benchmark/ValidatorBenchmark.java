@@ -0,0 +1,66 @@
+package com.batuhan.banking_service.benchmark;
+
+import com.batuhan.banking_service.validator.AgeValidator;
+import com.batuhan.banking_service.validator.IbanValidator;
+import com.batuhan.banking_service.validator.MinAge;
+import com.batuhan.banking_service.validator.PasswordStrengthValidator;
+import com.batuhan.banking_service.validator.TcknValidator;
+import org.openjdk.jmh.annotations.*;
+
+import java.time.LocalDate;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Bean Validation constraints on the request DTOs; each runs once per annotated field on every request.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private final IbanValidator ibanValidator = new IbanValidator();
+    private final TcknValidator tcknValidator = new TcknValidator();
+    private final PasswordStrengthValidator passwordValidator = new PasswordStrengthValidator();
+    private final AgeValidator ageValidator = new AgeValidator();
+
+    @MinAge
+    private LocalDate birthDate = LocalDate.of(1990, 5, 17);
+
+    @Setup
+    public void setUp() throws NoSuchFieldException {
+        ageValidator.initialize(ValidatorBenchmark.class.getDeclaredField("birthDate").getAnnotation(MinAge.class));
+    }
+
+    @Benchmark
+    public boolean ibanValid() {
+        return ibanValidator.isValid(BenchmarkData.SENDER_IBAN, null);
+    }
+
+    @Benchmark
+    public boolean ibanWithSpacesInvalid() {
+        return ibanValidator.isValid("TR73 0008 8000 0000 2000 0000 01", null);
+    }
+
+    @Benchmark
+    public boolean tcknValid() {
+        return tcknValidator.isValid("10000000146", null);
+    }
+
+    @Benchmark
+    public boolean passwordStrong() {
+        return passwordValidator.isValid("Str0ng!Passw0rd", null);
+    }
+
+    @Benchmark
+    public boolean passwordWeak() {
+        return passwordValidator.isValid("weakpassword", null);
+    }
+
+    @Benchmark
+    public boolean minAge() {
+        return ageValidator.isValid(birthDate, null);
+    }
+}
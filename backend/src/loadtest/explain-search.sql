@@ -0,0 +1,71 @@
+-- Fails unless PostgreSQL answers transaction search from the pg_trgm indexes of changeset 004.
+-- Plans depend on table sizes, so run it against the perfdata dataset (README, "Production-Scale Synthetic Data"):
+--   psql -h localhost -p 55432 -U loadtest -d banking-loadtest -f src/loadtest/explain-search.sql [-v term=rent]
+-- The statement has the shape TransactionTextSearch builds for one term on the busiest account.
+\set ON_ERROR_STOP on
+\if :{?term}
+\else
+    \set term yusuf
+\endif
+
+ANALYZE transactions;
+ANALYZE accounts;
+ANALYZE users;
+
+SELECT a.iban AS busiest_iban
+FROM transactions t
+         JOIN accounts a ON a.id = t.sender_account_id
+GROUP BY a.iban
+ORDER BY count(*) DESC
+LIMIT 1 \gset
+
+SELECT set_config('search.iban', :'busiest_iban', false),
+       set_config('search.pattern', '%' || lower(:'term') || '%', false);
+
+DO $$
+DECLARE
+    line text;
+    plan text := '';
+    expected text;
+BEGIN
+    FOR line IN EXECUTE format($query$
+        EXPLAIN
+        SELECT t.id
+        FROM transactions t
+                 JOIN accounts s ON s.id = t.sender_account_id
+                 JOIN accounts r ON r.id = t.receiver_account_id
+        WHERE (s.iban = %1$L OR r.iban = %1$L)
+          AND t.id IN (
+            SELECT d.id
+            FROM transactions d
+            WHERE lower(d.description) LIKE %2$L
+              AND (d.sender_account_id = (SELECT id FROM accounts WHERE iban = %1$L)
+                OR d.receiver_account_id = (SELECT id FROM accounts WHERE iban = %1$L))
+            UNION ALL
+            SELECT o.id
+            FROM transactions o
+                     JOIN accounts oa ON oa.id = o.receiver_account_id
+                     JOIN users ou ON ou.id = oa.user_id
+            WHERE o.sender_account_id = (SELECT id FROM accounts WHERE iban = %1$L)
+              AND (lower(ou.first_name) LIKE %2$L OR lower(ou.last_name) LIKE %2$L)
+            UNION ALL
+            SELECT i.id
+            FROM transactions i
+                     JOIN accounts ia ON ia.id = i.sender_account_id
+                     JOIN users iu ON iu.id = ia.user_id
+            WHERE i.receiver_account_id = (SELECT id FROM accounts WHERE iban = %1$L)
+              AND (lower(iu.first_name) LIKE %2$L OR lower(iu.last_name) LIKE %2$L))
+        $query$, current_setting('search.iban'), current_setting('search.pattern'))
+    LOOP
+        RAISE NOTICE '%', line;
+        plan := plan || line || E'\n';
+    END LOOP;
+
+    FOREACH expected IN ARRAY ARRAY['idx_transaction_description_trgm', 'idx_user_first_name_trgm', 'idx_user_last_name_trgm']
+    LOOP
+        IF position(expected IN plan) = 0 THEN
+            RAISE EXCEPTION 'Transaction search plan does not use %', expected;
+        END IF;
+    END LOOP;
+END
+$$;
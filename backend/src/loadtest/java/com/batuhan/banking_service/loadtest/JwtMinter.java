@@ -0,0 +1,52 @@
+package com.batuhan.banking_service.loadtest;
+
+import com.nimbusds.jose.JOSEException;
+import com.nimbusds.jose.JWSAlgorithm;
+import com.nimbusds.jose.JWSHeader;
+import com.nimbusds.jose.crypto.MACSigner;
+import com.nimbusds.jwt.JWTClaimsSet;
+import com.nimbusds.jwt.SignedJWT;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+/**
+ * Mints HS256 tokens that the service accepts when {@code application.security.jwt.local-signing.enabled=true}.
+ * The claims mirror Keycloak's: the holder's email and a realm role.
+ */
+final class JwtMinter {
+
+    private static final Duration VALIDITY = Duration.ofHours(2);
+
+    private final MACSigner signer;
+
+    JwtMinter(String secret) {
+        try {
+            this.signer = new MACSigner(secret.getBytes(StandardCharsets.UTF_8));
+        } catch (JOSEException e) {
+            throw new IllegalArgumentException("JWT secret must be at least 32 bytes", e);
+        }
+    }
+
+    String mint(String email) {
+        Instant now = Instant.now();
+        JWTClaimsSet claims = new JWTClaimsSet.Builder()
+                .subject(email)
+                .claim("email", email)
+                .claim("preferred_username", email)
+                .claim("roles", List.of("USER"))
+                .issueTime(Date.from(now))
+                .expirationTime(Date.from(now.plus(VALIDITY)))
+                .build();
+        try {
+            SignedJWT jwt = new SignedJWT(new JWSHeader(JWSAlgorithm.HS256), claims);
+            jwt.sign(signer);
+            return jwt.serialize();
+        } catch (JOSEException e) {
+            throw new IllegalStateException("Could not sign load test token", e);
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.batuhan.banking_service.loadtest;
+
+import com.batuhan.banking_service.validator.IbanCodec;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Seeds one holder and one funded account per load test slot straight into the database, and checks afterwards
+ * that the transfers conserved money. Every run uses its own customer-number prefix, so runs never share accounts.
+ * The service must have started once against the database, so Liquibase and Hibernate have created the schema.
+ */
+final class LoadTestFixture {
+
+    private static final int BATCH_SIZE = 500;
+    private static final String BANK_CODE = "00062";
+    private static final BigDecimal DAILY_LIMIT = new BigDecimal("1000000000.00");
+
+    private final LoadTestOptions options;
+    private final String runPrefix;
+
+    LoadTestFixture(LoadTestOptions options, String runId) {
+        this.options = options;
+        this.runPrefix = "L" + runId;
+    }
+
+    record SeededAccount(String iban, String email) {
+    }
+
+    record ConservationReport(BigDecimal expectedTotal, BigDecimal actualTotal, int ledgerMismatches,
+                              int negativeBalances, long recordedTransfers) {
+
+        boolean holds() {
+            return expectedTotal.compareTo(actualTotal) == 0 && ledgerMismatches == 0 && negativeBalances == 0;
+        }
+    }
+
+    List<SeededAccount> seed() throws SQLException {
+        try (Connection connection = connect()) {
+            connection.setAutoCommit(false);
+            long base = nextNumber(connection);
+
+            try (PreparedStatement users = connection.prepareStatement("""
+                    INSERT INTO users (external_id, first_name, last_name, email, tckn, customer_number, birth_date,
+                                       phone_number, role, is_active, version, created_at, updated_at)
+                    VALUES (?, 'Load', ?, ?, ?, ?, ?, ?, 'USER', TRUE, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)""")) {
+                for (int i = 0; i < options.accounts(); i++) {
+                    users.setString(1, UUID.randomUUID().toString());
+                    users.setString(2, "Tester " + i);
+                    users.setString(3, email(i));
+                    users.setString(4, "7%010d".formatted(base + i));
+                    users.setString(5, customerNumber(i));
+                    users.setObject(6, LocalDate.of(1990, 1, 1));
+                    users.setString(7, "+8%012d".formatted(base + i));
+                    users.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        users.executeBatch();
+                    }
+                }
+                users.executeBatch();
+            }
+
+            List<SeededAccount> accounts = new ArrayList<>(options.accounts());
+            try (PreparedStatement insert = connection.prepareStatement("""
+                    INSERT INTO accounts (external_id, iban, balance, currency, status, daily_limit, active, user_id,
+                                          version, created_at, updated_at)
+                    SELECT ?, ?, ?, 'TRY', 'ACTIVE', ?, TRUE, id, 0, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP
+                    FROM users WHERE customer_number = ?""")) {
+                for (int i = 0; i < options.accounts(); i++) {
+                    String iban = iban(base + i);
+                    insert.setObject(1, UUID.randomUUID());
+                    insert.setString(2, iban);
+                    insert.setBigDecimal(3, options.initialBalance());
+                    insert.setBigDecimal(4, DAILY_LIMIT);
+                    insert.setString(5, customerNumber(i));
+                    insert.addBatch();
+                    if ((i + 1) % BATCH_SIZE == 0) {
+                        insert.executeBatch();
+                    }
+                    accounts.add(new SeededAccount(iban, email(i)));
+                }
+                insert.executeBatch();
+            }
+            connection.commit();
+            return accounts;
+        }
+    }
+
+    long deadlocks() throws SQLException {
+        try (Connection connection = connect();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT deadlocks FROM pg_stat_database WHERE datname = current_database()")) {
+            return result.next() ? result.getLong(1) : 0;
+        }
+    }
+
+    /**
+     * Every seeded account must hold its initial balance plus what it received minus what it sent, no balance may
+     * be negative, and the total must be unchanged.
+     */
+    ConservationReport checkConservation() throws SQLException {
+        try (Connection connection = connect();
+             PreparedStatement statement = connection.prepareStatement("""
+                     SELECT a.balance,
+                            ? + COALESCE((SELECT SUM(t.amount) FROM transactions t WHERE t.receiver_account_id = a.id), 0)
+                              - COALESCE((SELECT SUM(t.amount) FROM transactions t WHERE t.sender_account_id = a.id), 0),
+                            (SELECT COUNT(*) FROM transactions t WHERE t.sender_account_id = a.id)
+                     FROM accounts a JOIN users u ON u.id = a.user_id
+                     WHERE u.customer_number LIKE ?""")) {
+            statement.setBigDecimal(1, options.initialBalance());
+            statement.setString(2, runPrefix + "%");
+
+            BigDecimal actualTotal = BigDecimal.ZERO;
+            int accounts = 0;
+            int ledgerMismatches = 0;
+            int negativeBalances = 0;
+            long transfers = 0;
+            try (ResultSet result = statement.executeQuery()) {
+                while (result.next()) {
+                    BigDecimal balance = result.getBigDecimal(1);
+                    accounts++;
+                    actualTotal = actualTotal.add(balance);
+                    if (balance.compareTo(result.getBigDecimal(2)) != 0) {
+                        ledgerMismatches++;
+                    }
+                    if (balance.signum() < 0) {
+                        negativeBalances++;
+                    }
+                    transfers += result.getLong(3);
+                }
+            }
+            BigDecimal expectedTotal = options.initialBalance().multiply(BigDecimal.valueOf(accounts));
+            return new ConservationReport(expectedTotal, actualTotal, ledgerMismatches, negativeBalances, transfers);
+        }
+    }
+
+    private Connection connect() throws SQLException {
+        return DriverManager.getConnection(options.jdbcUrl(), options.dbUsername(), options.dbPassword());
+    }
+
+    private static long nextNumber(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) + 1 FROM users")) {
+            result.next();
+            return result.getLong(1) * 10;
+        }
+    }
+
+    private String email(int slot) {
+        return runPrefix.toLowerCase() + "-" + slot + "@loadtest.local";
+    }
+
+    private String customerNumber(int slot) {
+        return runPrefix + slot;
+    }
+
+    /**
+     * A valid TR IBAN, built with the service's codec, with the sequence number as account part.
+     */
+    private static String iban(long number) {
+        return IbanCodec.build("TR", BANK_CODE + "9%016d".formatted(number));
+    }
+}
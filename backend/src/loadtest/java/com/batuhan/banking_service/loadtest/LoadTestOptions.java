@@ -0,0 +1,68 @@
+package com.batuhan.banking_service.loadtest;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+
+/**
+ * Load test settings, read from {@code -Dloadtest.*} system properties. Defaults match the stand-ins in
+ * {@code src/loadtest/docker-compose.yml} and the {@code loadtest} Spring profile.
+ *
+ * @param accounts      number of seeded accounts, one holder each; at most {@value #MAX_ACCOUNTS}, so customer
+ *                      numbers fit their column
+ * @param zipfExponent  skew of the account popularity; 0 is uniform, around 1 makes a few accounts very hot
+ * @param readRatio     share of operations that are reads (account details and history) rather than transfers
+ * @param rate          target arrival rate in operations per second, independent of response times (open loop)
+ * @param maxInFlight   requests allowed in flight before arrivals are shed and counted
+ */
+public record LoadTestOptions(
+        String baseUrl,
+        String jdbcUrl,
+        String dbUsername,
+        String dbPassword,
+        String jwtSecret,
+        int accounts,
+        double zipfExponent,
+        double readRatio,
+        int rate,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        BigDecimal initialBalance,
+        int maxTransferAmount
+) {
+
+    static final int MAX_ACCOUNTS = 99_999;
+
+    private static final String PREFIX = "loadtest.";
+
+    public LoadTestOptions {
+        if (accounts < 2 || accounts > MAX_ACCOUNTS) {
+            throw new IllegalArgumentException("loadtest.accounts must be between 2 and " + MAX_ACCOUNTS);
+        }
+        if (rate < 1) {
+            throw new IllegalArgumentException("loadtest.rate must be positive");
+        }
+    }
+
+    public static LoadTestOptions fromSystemProperties() {
+        return new LoadTestOptions(
+                property("base-url", "http://localhost:8080"),
+                property("jdbc-url", "jdbc:postgresql://localhost:55432/banking-loadtest"),
+                property("db-username", "loadtest"),
+                property("db-password", "loadtest"),
+                property("jwt-secret", "local-load-test-signing-key-change-me-0123456789"),
+                Integer.parseInt(property("accounts", "1000")),
+                Double.parseDouble(property("zipf-exponent", "0.99")),
+                Double.parseDouble(property("read-ratio", "0.7")),
+                Integer.parseInt(property("rate", "200")),
+                Duration.ofSeconds(Long.parseLong(property("warmup-seconds", "10"))),
+                Duration.ofSeconds(Long.parseLong(property("duration-seconds", "60"))),
+                Integer.parseInt(property("max-in-flight", "1000")),
+                new BigDecimal(property("initial-balance", "10000.00")),
+                Integer.parseInt(property("max-transfer-amount", "100")));
+    }
+
+    private static String property(String name, String defaultValue) {
+        return System.getProperty(PREFIX + name, defaultValue);
+    }
+}
@@ -0,0 +1,246 @@
+package com.batuhan.banking_service.loadtest;
+
+import com.batuhan.banking_service.constant.Messages;
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.math.BigDecimal;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Open-loop load test for the transfer and read endpoints of a locally running instance.
+ * <p>
+ * Arrivals follow the target rate whether or not earlier requests have finished, and latency is measured from each
+ * request's scheduled start, so a stalled server shows up as latency instead of a politely slower client. Accounts
+ * are picked with Zipfian skew, so a handful of hot accounts see most of the row-lock contention.
+ * <p>
+ * Run with the stand-ins and the {@code loadtest} profile, see the README:
+ * {@code mvn -Ploadtest test-compile exec:java -Dloadtest.rate=300 -Dloadtest.zipf-exponent=1.2}
+ * <p>
+ * Exits with status 1 when money was not conserved.
+ */
+public final class TransferLoadTest {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+    private static final Duration PROGRESS_INTERVAL = Duration.ofSeconds(5);
+
+    private enum Operation {
+        TRANSFER("transfer"), ACCOUNT("read account"), HISTORY("read history");
+
+        private final String label;
+
+        Operation(String label) {
+            this.label = label;
+        }
+    }
+
+    private enum Outcome {
+        OK, REJECTED, DEADLOCK, LOCK_TIMEOUT, THROTTLED, ERROR
+    }
+
+    private final LoadTestOptions options;
+    private final HttpClient client;
+    private final ZipfianSampler sampler;
+    private final Map<Operation, Histogram> latencies = new EnumMap<>(Operation.class);
+    private final Map<Operation, Map<Outcome, LongAdder>> outcomes = new EnumMap<>(Operation.class);
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicLong shed = new AtomicLong();
+    private final LongAdder completed = new LongAdder();
+
+    private List<LoadTestFixture.SeededAccount> accounts;
+    private String[] tokens;
+
+    private TransferLoadTest(LoadTestOptions options) {
+        this.options = options;
+        this.client = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+        this.sampler = new ZipfianSampler(options.accounts(), options.zipfExponent());
+        for (Operation operation : Operation.values()) {
+            latencies.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            Map<Outcome, LongAdder> counts = new EnumMap<>(Outcome.class);
+            for (Outcome outcome : Outcome.values()) {
+                counts.put(outcome, new LongAdder());
+            }
+            outcomes.put(operation, counts);
+        }
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestOptions options = LoadTestOptions.fromSystemProperties();
+        boolean conserved = new TransferLoadTest(options).run();
+        System.exit(conserved ? 0 : 1);
+    }
+
+    private boolean run() throws Exception {
+        LoadTestFixture fixture = new LoadTestFixture(options, UUID.randomUUID().toString().substring(0, 4).toUpperCase());
+        System.out.printf("Seeding %d accounts with %s each...%n", options.accounts(), options.initialBalance());
+        accounts = fixture.seed();
+        JwtMinter minter = new JwtMinter(options.jwtSecret());
+        tokens = accounts.stream().map(account -> minter.mint(account.email())).toArray(String[]::new);
+        System.out.printf("Zipf exponent %.2f: the 10 hottest accounts take %.1f%% of picks%n",
+                options.zipfExponent(), 100 * sampler.shareOfTop(10));
+
+        long deadlocksBefore = fixture.deadlocks();
+        long measuredNanos = drive();
+        awaitInFlight();
+        long deadlocks = fixture.deadlocks() - deadlocksBefore;
+
+        LoadTestFixture.ConservationReport conservation = fixture.checkConservation();
+        report(measuredNanos, deadlocks, conservation);
+        return conservation.holds();
+    }
+
+    /**
+     * Issues requests at the target rate for warm-up plus duration; returns the length of the measured window.
+     */
+    private long drive() {
+        long intervalNanos = TimeUnit.SECONDS.toNanos(1) / options.rate();
+        long start = System.nanoTime();
+        long measureFrom = start + options.warmup().toNanos();
+        long end = measureFrom + options.duration().toNanos();
+        long nextProgress = start + PROGRESS_INTERVAL.toNanos();
+
+        for (long scheduled = start; scheduled < end; scheduled += intervalNanos) {
+            long wait = scheduled - System.nanoTime();
+            if (wait > 0) {
+                LockSupport.parkNanos(wait);
+            }
+            if (inFlight.get() >= options.maxInFlight()) {
+                if (scheduled >= measureFrom) {
+                    shed.incrementAndGet();
+                }
+                continue;
+            }
+            send(scheduled, scheduled >= measureFrom);
+
+            if (scheduled >= nextProgress) {
+                System.out.printf("  %3ds  completed=%d  in-flight=%d  shed=%d%n",
+                        TimeUnit.NANOSECONDS.toSeconds(scheduled - start), completed.sum(), inFlight.get(), shed.get());
+                nextProgress += PROGRESS_INTERVAL.toNanos();
+            }
+        }
+        return end - measureFrom;
+    }
+
+    private void send(long scheduledNanos, boolean measured) {
+        Operation operation;
+        HttpRequest request;
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int owner = sampler.next();
+        LoadTestFixture.SeededAccount account = accounts.get(owner);
+
+        if (random.nextDouble() >= options.readRatio()) {
+            operation = Operation.TRANSFER;
+            int receiver = sampler.next();
+            while (receiver == owner) {
+                receiver = random.nextInt(accounts.size());
+            }
+            BigDecimal amount = BigDecimal.valueOf(random.nextInt(100, options.maxTransferAmount() * 100 + 1), 2);
+            String body = """
+                    {"senderIban":"%s","receiverIban":"%s","amount":%s,"currency":"TRY","description":"Load test transfer"}"""
+                    .formatted(account.iban(), accounts.get(receiver).iban(), amount.toPlainString());
+            request = authorized("/api/v1/transactions/transfer", owner)
+                    .header("Content-Type", "application/json")
+                    .POST(HttpRequest.BodyPublishers.ofString(body))
+                    .build();
+        } else if (random.nextBoolean()) {
+            operation = Operation.ACCOUNT;
+            request = authorized("/api/v1/accounts/" + account.iban(), owner).GET().build();
+        } else {
+            operation = Operation.HISTORY;
+            request = authorized("/api/v1/transactions/history/" + account.iban() + "?size=10", owner).GET().build();
+        }
+
+        inFlight.incrementAndGet();
+        client.sendAsync(request, HttpResponse.BodyHandlers.ofString())
+                .whenComplete((response, failure) -> {
+                    long micros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - scheduledNanos);
+                    inFlight.decrementAndGet();
+                    completed.increment();
+                    if (measured) {
+                        latencies.get(operation).recordValue(Math.min(micros, HIGHEST_TRACKABLE_MICROS));
+                        outcomes.get(operation).get(classify(response, failure)).increment();
+                    }
+                });
+    }
+
+    private HttpRequest.Builder authorized(String path, int owner) {
+        return HttpRequest.newBuilder(URI.create(options.baseUrl() + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Authorization", "Bearer " + tokens[owner]);
+    }
+
+    private static Outcome classify(HttpResponse<String> response, Throwable failure) {
+        if (failure != null) {
+            return Outcome.ERROR;
+        }
+        int status = response.statusCode();
+        if (status / 100 == 2) {
+            return Outcome.OK;
+        }
+        if (status == 409 && response.body().contains(Messages.LOCK_DEADLOCK)) {
+            return Outcome.DEADLOCK;
+        }
+        if (status == 409 && response.body().contains(Messages.LOCK_TIMEOUT)) {
+            return Outcome.LOCK_TIMEOUT;
+        }
+        if (status == 429 || status == 503) {
+            return Outcome.THROTTLED;
+        }
+        return status / 100 == 4 ? Outcome.REJECTED : Outcome.ERROR;
+    }
+
+    private void awaitInFlight() throws InterruptedException {
+        long deadline = System.nanoTime() + REQUEST_TIMEOUT.toNanos();
+        while (inFlight.get() > 0 && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(50);
+        }
+    }
+
+    private void report(long measuredNanos, long deadlocks, LoadTestFixture.ConservationReport conservation) {
+        double seconds = measuredNanos / 1e9;
+        long total = 0;
+
+        System.out.println();
+        System.out.printf("%-13s %8s %8s %8s %9s %9s %8s %7s %9s %9s %9s %9s %9s%n", "operation", "count", "ok",
+                "rejected", "deadlock", "lock-wait", "throttle", "error", "p50 ms", "p90 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = latencies.get(operation);
+            Map<Outcome, LongAdder> counts = outcomes.get(operation);
+            total += histogram.getTotalCount();
+            System.out.printf("%-13s %8d %8d %8d %9d %9d %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n", operation.label,
+                    histogram.getTotalCount(), counts.get(Outcome.OK).sum(), counts.get(Outcome.REJECTED).sum(),
+                    counts.get(Outcome.DEADLOCK).sum(), counts.get(Outcome.LOCK_TIMEOUT).sum(),
+                    counts.get(Outcome.THROTTLED).sum(), counts.get(Outcome.ERROR).sum(),
+                    millis(histogram, 50), millis(histogram, 90), millis(histogram, 99), millis(histogram, 99.9),
+                    histogram.getMaxValue() / 1000.0);
+        }
+
+        System.out.println();
+        System.out.printf("Throughput       %.1f ops/s completed (target %d ops/s), %d arrivals shed at %d in flight%n",
+                total / seconds, options.rate(), shed.get(), options.maxInFlight());
+        System.out.printf("Deadlocks        %d detected by PostgreSQL during the run%n", deadlocks);
+        System.out.printf("Transfers        %d recorded in the database for the seeded accounts%n", conservation.recordedTransfers());
+        System.out.printf("Conservation     total %s -> %s, %d ledger mismatches, %d negative balances: %s%n",
+                conservation.expectedTotal(), conservation.actualTotal(), conservation.ledgerMismatches(),
+                conservation.negativeBalances(), conservation.holds() ? "OK" : "VIOLATED");
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
@@ -0,0 +1,112 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.WorkloadContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.task.TaskExecutionAutoConfiguration;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.task.SimpleAsyncTaskExecutorBuilder;
+import org.springframework.boot.task.ThreadPoolTaskExecutorBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.core.task.TaskDecorator;
+import org.springframework.scheduling.annotation.AsyncAnnotationBeanPostProcessor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Executors for background and fan-out work.
+ * <p>
+ * When {@code spring.threads.virtual.enabled} is set on Java 21+, every executor runs on virtual threads
+ * with a concurrency limit instead of a fixed pool, so blocking JDBC/SMTP calls no longer hold a platform thread.
+ * Declaring our own executors disables Boot's default one, so {@code applicationTaskExecutor} is re-created here
+ * from Boot's builders to keep MVC async handling and unqualified {@code @Async} on the configured executor.
+ */
+@Slf4j
+@Configuration
+@RequiredArgsConstructor
+public class AsyncConfig {
+
+    private final Environment environment;
+
+    @Bean(name = {TaskExecutionAutoConfiguration.APPLICATION_TASK_EXECUTOR_BEAN_NAME,
+            AsyncAnnotationBeanPostProcessor.DEFAULT_TASK_EXECUTOR_BEAN_NAME})
+    public AsyncTaskExecutor applicationTaskExecutor(SimpleAsyncTaskExecutorBuilder simpleBuilder,
+                                                     ThreadPoolTaskExecutorBuilder poolBuilder) {
+        if (virtualThreadsActive()) {
+            return simpleBuilder.virtualThreads(true).build();
+        }
+        return poolBuilder.build();
+    }
+
+    /**
+     * Dashboard sections query on behalf of the request that fanned them out, so they inherit its workload pool and
+     * its authentication; ownership checks inside a section see the caller, not an anonymous worker thread.
+     */
+    @Bean
+    public Executor dashboardTaskExecutor(@Value("${application.dashboard.parallelism:16}") int parallelism) {
+        return boundedExecutor("dashboard-", parallelism, parallelism * 4,
+                task -> new DelegatingSecurityContextRunnable(WorkloadContext.propagate(task)));
+    }
+
+    /**
+     * Every audit entry opens its own {@code REQUIRES_NEW} transaction, so the limit keeps bursts of audit
+     * writes from draining the connection pool that request threads depend on.
+     */
+    @Bean
+    public Executor auditTaskExecutor(@Value("${application.async.audit.concurrency:4}") int concurrency,
+                                      @Value("${application.async.audit.queue-capacity:500}") int queueCapacity) {
+        return boundedExecutor("audit-", concurrency, queueCapacity, null);
+    }
+
+    /**
+     * Background exports always run on a small platform pool, never on the caller: a full queue rejects the
+     * submission, so report generation cannot spill over into request threads or claim more connections.
+     */
+    @Bean
+    public Executor exportTaskExecutor(@Value("${application.export.jobs.workers:2}") int workers,
+                                       @Value("${application.export.jobs.queue-capacity:20}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix("export-");
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadPriority(Thread.NORM_PRIORITY - 1);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+        executor.initialize();
+        return executor;
+    }
+
+    private Executor boundedExecutor(String threadNamePrefix, int concurrency, int queueCapacity, TaskDecorator taskDecorator) {
+        if (virtualThreadsActive()) {
+            SimpleAsyncTaskExecutor executor = new SimpleAsyncTaskExecutor(threadNamePrefix);
+            executor.setVirtualThreads(true);
+            executor.setConcurrencyLimit(concurrency);
+            executor.setTaskDecorator(taskDecorator);
+            log.info("Executor '{}' running on virtual threads (concurrency limit: {})", threadNamePrefix, concurrency);
+            return executor;
+        }
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(concurrency);
+        executor.setMaxPoolSize(concurrency);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(taskDecorator);
+        executor.initialize();
+        return executor;
+    }
+
+    private boolean virtualThreadsActive() {
+        return Threading.VIRTUAL.isActive(environment);
+    }
+}
@@ -0,0 +1,53 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.SlowQueryLog;
+import com.batuhan.banking_service.config.util.SlowQueryLoggingDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+
+/**
+ * Query timing and the slow-query log.
+ * <p>
+ * Per-method timers come from Boot's Spring Data repository metrics ({@code spring.data.repository.invocations},
+ * tagged with {@code repository} and {@code method}). On top of those, every {@link DataSource} is wrapped so that
+ * statements slower than {@code application.datasource.slow-query.threshold} are logged with their SQL and the
+ * types of their bind parameters, and both views are served by the {@code queries} actuator endpoint.
+ */
+@Configuration
+@ConditionalOnProperty(name = "application.datasource.slow-query.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryMonitoringConfig {
+
+    @Bean
+    public SlowQueryLog slowQueryLog(@Value("${application.datasource.slow-query.threshold:500ms}") Duration threshold,
+                                     @Value("${application.datasource.slow-query.retained:50}") int retained) {
+        return new SlowQueryLog(threshold, retained);
+    }
+
+    @Bean
+    public static BeanPostProcessor slowQueryLoggingDataSourcePostProcessor(ObjectProvider<SlowQueryLog> slowQueryLog) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof SlowQueryLoggingDataSource) {
+                    return bean;
+                }
+                return new SlowQueryLoggingDataSource(dataSource, slowQueryLog.getObject());
+            }
+        };
+    }
+
+    @Bean
+    public QueryStatisticsEndpoint queryStatisticsEndpoint(
+            MeterRegistry meterRegistry, SlowQueryLog slowQueryLog,
+            @Value("${management.metrics.data.repository.metric-name:spring.data.repository.invocations}") String metricName) {
+        return new QueryStatisticsEndpoint(meterRegistry, slowQueryLog, metricName);
+    }
+}
@@ -0,0 +1,79 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.SlowQueryLog;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.lang.Nullable;
+
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@code /actuator/queries}: the repository methods that dominate database time, and the latest slow statements.
+ * <p>
+ * Method times come from Boot's Spring Data repository timers, summed over outcomes since startup; a method that
+ * was never called does not appear. {@code ?limit=} caps the number of methods returned (default 10).
+ */
+@Endpoint(id = "queries")
+public class QueryStatisticsEndpoint {
+
+    private static final int DEFAULT_LIMIT = 10;
+
+    private final MeterRegistry meterRegistry;
+    private final SlowQueryLog slowQueryLog;
+    private final String repositoryMetricName;
+
+    public QueryStatisticsEndpoint(MeterRegistry meterRegistry, SlowQueryLog slowQueryLog, String repositoryMetricName) {
+        this.meterRegistry = meterRegistry;
+        this.slowQueryLog = slowQueryLog;
+        this.repositoryMetricName = repositoryMetricName;
+    }
+
+    @ReadOperation
+    public QueryStatistics queries(@Nullable Integer limit) {
+        int top = limit != null && limit > 0 ? limit : DEFAULT_LIMIT;
+
+        Map<String, MethodTime> byMethod = new LinkedHashMap<>();
+        for (Timer timer : meterRegistry.find(repositoryMetricName).timers()) {
+            String repository = timer.getId().getTag("repository");
+            String method = timer.getId().getTag("method");
+            boolean failed = !"SUCCESS".equals(timer.getId().getTag("state"));
+            byMethod.merge(repository + "#" + method, MethodTime.of(repository, method, timer, failed), MethodTime::plus);
+        }
+
+        List<MethodTime> topByTotalTime = byMethod.values().stream()
+                .filter(time -> time.calls() > 0)
+                .sorted(Comparator.comparingDouble(MethodTime::totalMillis).reversed())
+                .limit(top)
+                .toList();
+        return new QueryStatistics(topByTotalTime, slowQueryLog.getThreshold().toMillis(), slowQueryLog.count(),
+                slowQueryLog.recent());
+    }
+
+    public record QueryStatistics(List<MethodTime> topByTotalTime, long slowQueryThresholdMillis, long slowQueries,
+                                  List<SlowQueryLog.SlowQuery> recentSlowQueries) {
+    }
+
+    public record MethodTime(String repository, String method, long calls, long failures, double totalMillis,
+                             double meanMillis, double maxMillis) {
+
+        private static MethodTime of(String repository, String method, Timer timer, boolean failed) {
+            long calls = timer.count();
+            double total = timer.totalTime(TimeUnit.MILLISECONDS);
+            return new MethodTime(repository, method, calls, failed ? calls : 0, total,
+                    calls > 0 ? total / calls : 0, timer.max(TimeUnit.MILLISECONDS));
+        }
+
+        private MethodTime plus(MethodTime other) {
+            long totalCalls = calls + other.calls;
+            double total = totalMillis + other.totalMillis;
+            return new MethodTime(repository, method, totalCalls, failures + other.failures, total,
+                    totalCalls > 0 ? total / totalCalls : 0, Math.max(maxMillis, other.maxMillis));
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.UserRateLimit;
+import com.batuhan.banking_service.config.util.UserRateLimitInterceptor;
+import com.batuhan.banking_service.config.util.UserRateLimiter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+
+/**
+ * Per-caller rate limits for endpoints annotated with {@link UserRateLimit}.
+ * <p>
+ * Limits are read from {@code application.rate-limits.limits.<name>} ({@code limit}, {@code period} and an
+ * optional {@code burst}). With {@code application.rate-limits.redis.enabled} they are shared by every instance
+ * through Redis; otherwise each instance enforces them on its own.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "application.rate-limits.enabled", havingValue = "true", matchIfMissing = true)
+public class RateLimitConfig implements WebMvcConfigurer {
+
+    private static final String LIMITS_PREFIX = "application.rate-limits.limits";
+
+    private final ObjectProvider<UserRateLimiter> userRateLimiter;
+
+    public RateLimitConfig(ObjectProvider<UserRateLimiter> userRateLimiter) {
+        this.userRateLimiter = userRateLimiter;
+    }
+
+    @Bean
+    public UserRateLimiter userRateLimiter(Environment environment,
+                                           ObjectProvider<RedisConnectionFactory> redisConnectionFactory,
+                                           MeterRegistry meterRegistry,
+                                           @Value("${application.rate-limits.redis.enabled:false}") boolean redisEnabled,
+                                           @Value("${application.rate-limits.redis.key-prefix:banking:rate-limit}") String keyPrefix,
+                                           @Value("${application.rate-limits.lease-fraction:0.1}") double leaseFraction,
+                                           @Value("${application.rate-limits.lease-ttl:1s}") Duration leaseTtl) {
+        Map<String, UserRateLimiter.Limit> limits = Binder.get(environment)
+                .bind(LIMITS_PREFIX, Bindable.mapOf(String.class, UserRateLimiter.Limit.class))
+                .orElse(Map.of());
+        StringRedisTemplate redisTemplate = redisEnabled ? createRedisTemplate(redisConnectionFactory.getIfAvailable()) : null;
+        log.info("Per-caller rate limits {}, {}", limits, redisTemplate != null ? "shared through Redis" : "enforced per instance");
+        return new UserRateLimiter(limits, redisTemplate, keyPrefix, leaseFraction, leaseTtl, meterRegistry, Clock.systemUTC());
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new UserRateLimitInterceptor(userRateLimiter.getObject()));
+    }
+
+    private static StringRedisTemplate createRedisTemplate(RedisConnectionFactory connectionFactory) {
+        if (connectionFactory == null) {
+            log.warn("Rate limits: Redis enabled but no RedisConnectionFactory is available, limiting per instance");
+            return null;
+        }
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        return template;
+    }
+}
@@ -0,0 +1,85 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.HikariPools;
+import com.batuhan.banking_service.config.util.ReplicaRoutingDataSource;
+import com.batuhan.banking_service.service.helper.ReadYourWritesWindow;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Active only when {@code application.datasource.replicas.enabled=true}.
+ * <p>
+ * Replaces Boot's single pool with the primary's pools (see {@link WorkloadPoolConfig}) plus one pool per replica
+ * URL, all tuned from {@code spring.datasource.hikari}. Transactions marked {@code readOnly} (history, dashboard, filters, exports)
+ * read from the replicas, and everything else, including the pessimistic-lock transfer path, stays on the primary.
+ * Replica pools do not fail startup when a replica is down; the health check keeps it out of rotation until it
+ * answers.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "application.datasource.replicas.enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+    /**
+     * Seconds of replay lag on a streaming replica; 0 on a primary, or when everything received has been replayed.
+     */
+    static final String POSTGRES_LAG_QUERY = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    @Bean
+    public ReplicaRoutingDataSource dataSource(DataSourceProperties properties,
+                                               Environment environment,
+                                               ReadYourWritesWindow readYourWritesWindow,
+                                               MeterRegistry meterRegistry,
+                                               @Value("${application.datasource.replicas.urls:}") List<String> replicaUrls,
+                                               @Value("${application.datasource.replicas.username:}") String username,
+                                               @Value("${application.datasource.replicas.password:}") String password,
+                                               @Value("${application.datasource.replicas.maximum-pool-size:10}") int maximumPoolSize,
+                                               @Value("${application.datasource.replicas.max-lag:5s}") Duration maxLag,
+                                               @Value("${application.datasource.replicas.health-check-interval:5s}") Duration healthCheckInterval,
+                                               @Value("${application.datasource.replicas.lag-query:}") String lagQuery) {
+        DataSource primary = HikariPools.primary(properties, environment, meterRegistry);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (String url : replicaUrls) {
+            if (url.isBlank()) {
+                continue;
+            }
+            String name = "replica-" + (replicas.size() + 1);
+            HikariDataSource replica = HikariPools.create(name, properties, environment, meterRegistry);
+            replica.setJdbcUrl(url.trim());
+            if (!username.isBlank()) {
+                replica.setUsername(username);
+                replica.setPassword(password);
+            }
+            replica.setMaximumPoolSize(maximumPoolSize);
+            if (replica.getMinimumIdle() > maximumPoolSize) {
+                replica.setMinimumIdle(maximumPoolSize);
+            }
+            replica.setReadOnly(true);
+            replica.setInitializationFailTimeout(-1);
+            replicas.put(name, HikariPools.limitForVirtualThreads(replica, environment));
+        }
+
+        ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(primary, replicas, maxLag,
+                lagQuery.isBlank() ? POSTGRES_LAG_QUERY : lagQuery, readYourWritesWindow, meterRegistry);
+        dataSource.startHealthChecks(healthCheckInterval);
+        log.info("Read-only transactions routed to {} replica(s) with max lag {}", replicas.size(), maxLag);
+        return dataSource;
+    }
+}
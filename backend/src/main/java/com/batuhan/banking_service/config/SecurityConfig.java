@@ -14,12 +14,15 @@ import org.springframework.security.config.annotation.web.configurers.AbstractHt
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.oauth2.jose.jws.MacAlgorithm;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.security.oauth2.jwt.JwtDecoder;
 import org.springframework.security.oauth2.jwt.NimbusJwtDecoder;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationConverter;
 import org.springframework.security.web.SecurityFilterChain;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.Map;
@@ -38,12 +41,21 @@ public class SecurityConfig {
     @Value("${spring.security.oauth2.resourceserver.jwt.jwk-set-uri}")
     private String jwkSetUri;
 
+    // Load tests only: tokens are HS256-signed with application.security.jwt.secret-key instead of issued by Keycloak
+    @Value("${application.security.jwt.local-signing.enabled:false}")
+    private boolean localSigning;
+
+    @Value("${application.security.jwt.secret-key:}")
+    private String secretKey;
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
         http
                 .csrf(AbstractHttpConfigurer::disable)
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.POST, "/api/v1/users").permitAll()
+                        // Slow statements and per-method query timings describe the schema and traffic; admins only
+                        .requestMatchers("/actuator/queries", "/actuator/queries/**").hasRole("ADMIN")
                         .requestMatchers("/actuator/**").permitAll()
                         .requestMatchers(
                                 "/v2/api-docs",
@@ -66,7 +78,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtDecoder jwtDecoder() {
-        NimbusJwtDecoder jwtDecoder = NimbusJwtDecoder
+        NimbusJwtDecoder jwtDecoder = localSigning ? localJwtDecoder() : NimbusJwtDecoder
                 .withJwkSetUri(jwkSetUri)
                 .build();
 
@@ -74,6 +86,18 @@ public class SecurityConfig {
         return jwtDecoder;
     }
 
+    private NimbusJwtDecoder localJwtDecoder() {
+        byte[] key = secretKey.getBytes(StandardCharsets.UTF_8);
+        if (key.length < 32) {
+            throw new IllegalStateException("application.security.jwt.secret-key must be at least 32 bytes for local signing");
+        }
+        log.warn("JWTs are verified with the local HS256 secret instead of Keycloak; use this for load tests only");
+        return NimbusJwtDecoder
+                .withSecretKey(new SecretKeySpec(key, "HmacSHA256"))
+                .macAlgorithm(MacAlgorithm.HS256)
+                .build();
+    }
+
     @Bean
     public JwtAuthenticationConverter jwtAuthenticationConverter() {
         JwtAuthenticationConverter converter = new JwtAuthenticationConverter();
@@ -0,0 +1,55 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.SyntheticDataGenerator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+
+import javax.sql.DataSource;
+import java.time.LocalDate;
+
+/**
+ * Active only with the {@code perfdata} profile, in place of {@link DataInitializer}.
+ * <p>
+ * Fills an empty performance environment with a production-sized synthetic dataset shaped by
+ * {@code application.synthetic-data.*}, so query plans and cache behaviour can be reproduced locally. The same seed
+ * and end date always produce the same rows. Runs once: a database that already holds a synthetic dataset is left
+ * as it is.
+ */
+@Slf4j
+@Configuration
+@Profile("perfdata")
+public class SyntheticDataInitializer {
+
+    @Bean
+    public CommandLineRunner loadSyntheticData(
+            DataSource dataSource,
+            @Value("${application.synthetic-data.seed:42}") long seed,
+            @Value("${application.synthetic-data.users:1000000}") int users,
+            @Value("${application.synthetic-data.max-accounts-per-user:4}") int maxAccountsPerUser,
+            @Value("${application.synthetic-data.transactions:10000000}") long transactions,
+            @Value("${application.synthetic-data.history-days:730}") int historyDays,
+            @Value("${application.synthetic-data.end-date:}") String endDate,
+            @Value("${application.synthetic-data.activity-exponent:1.1}") double activityExponent,
+            @Value("${application.synthetic-data.threads:8}") int threads,
+            @Value("${application.synthetic-data.batch-size:1000}") int batchSize) {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(dataSource, new SyntheticDataGenerator.Settings(
+                seed, users, maxAccountsPerUser, transactions, historyDays,
+                endDate.isBlank() ? LocalDate.now() : LocalDate.parse(endDate),
+                activityExponent, threads, batchSize));
+
+        return args -> {
+            if (generator.alreadyGenerated()) {
+                log.info(">>> Synthetic dataset already present. Skipping generation.");
+                return;
+            }
+            log.info(">>> Generating synthetic dataset: {} users, {} transactions, seed {}", users, transactions, seed);
+            SyntheticDataGenerator.Summary summary = generator.generate();
+            log.info(">>> Synthetic dataset ready: {} users, {} accounts, {} transactions in {} s",
+                    summary.users(), summary.accounts(), summary.transactions(), summary.elapsed().toSeconds());
+        };
+    }
+}
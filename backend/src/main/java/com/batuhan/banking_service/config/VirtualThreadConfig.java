@@ -0,0 +1,66 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.ConnectionLimitingDataSource;
+import com.batuhan.banking_service.config.util.ReplicaRoutingDataSource;
+import com.batuhan.banking_service.config.util.WorkloadRoutingDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Active only when {@code spring.threads.virtual.enabled=true} on Java 21+.
+ * <p>
+ * Boot itself switches Tomcat, RabbitMQ listener containers and the task executors to virtual threads;
+ * this configuration adds the guard rails those workloads need: the JDBC pool is fronted by a semaphore of
+ * the same size so an unbounded number of virtual threads queue cheaply instead of timing out inside Hikari.
+ * Routing data sources are left alone: their pools are each limited to their own size when they are built.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadConfig {
+
+    private static final int DEFAULT_POOL_SIZE = 10;
+    private static final Duration DEFAULT_ACQUIRE_TIMEOUT = Duration.ofSeconds(30);
+
+    @Bean
+    public static BeanPostProcessor connectionLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || isLimited(dataSource)) {
+                    return bean;
+                }
+
+                int maxConnections = environment.getProperty(
+                        "spring.datasource.hikari.maximum-pool-size", Integer.class, DEFAULT_POOL_SIZE);
+                Duration acquireTimeout = environment.getProperty(
+                        "spring.datasource.hikari.connection-timeout", Duration.class, DEFAULT_ACQUIRE_TIMEOUT);
+
+                log.info("DataSource '{}' limited to {} concurrent connections for virtual threads", beanName, maxConnections);
+                return new ConnectionLimitingDataSource(dataSource, maxConnections, acquireTimeout);
+            }
+        };
+    }
+
+    /**
+     * Looks through wrappers such as the slow-query proxy, which may have been applied first.
+     */
+    private static boolean isLimited(DataSource dataSource) {
+        try {
+            return dataSource.isWrapperFor(ConnectionLimitingDataSource.class)
+                    || dataSource.isWrapperFor(WorkloadRoutingDataSource.class)
+                    || dataSource.isWrapperFor(ReplicaRoutingDataSource.class);
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+}
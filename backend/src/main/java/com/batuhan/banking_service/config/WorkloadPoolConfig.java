@@ -0,0 +1,43 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.HikariPools;
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadPoolAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+/**
+ * Active only when {@code application.datasource.workloads.enabled=true}.
+ * <p>
+ * Splits the primary's connections into one pool per {@link Workload}, sized and timed out independently under
+ * {@code application.datasource.workloads.pools.<name>}, so exports and dashboard aggregations queue in their own
+ * pool while transfers holding row locks keep theirs. Service methods choose a pool with
+ * {@code @WorkloadPool}; everything else uses the interactive pool. With read replicas enabled,
+ * {@link ReplicaRoutingConfig} uses these pools as its primary.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = HikariPools.WORKLOADS_ENABLED, havingValue = "true")
+public class WorkloadPoolConfig {
+
+    @Bean
+    public static WorkloadPoolAspect workloadPoolAspect() {
+        return new WorkloadPoolAspect();
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "application.datasource.replicas.enabled", havingValue = "false", matchIfMissing = true)
+    public DataSource dataSource(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        DataSource dataSource = HikariPools.primary(properties, environment, meterRegistry);
+        log.info("Connection pools isolated by workload: {}", Arrays.toString(Workload.values()));
+        return dataSource;
+    }
+}
@@ -0,0 +1,157 @@
+package com.batuhan.banking_service.config.util;
+
+import org.postgresql.PGConnection;
+import org.postgresql.copy.CopyIn;
+
+import java.nio.charset.StandardCharsets;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+
+/**
+ * Streams rows into one table over one connection, one cell at a time: {@code COPY ... FROM STDIN} in text format
+ * on PostgreSQL, JDBC batches of single-row inserts anywhere else. Rows are not visible to other sessions before
+ * the caller commits.
+ */
+public abstract class BulkRowWriter implements AutoCloseable {
+
+    /**
+     * Opens a writer for the given columns, in the order the cells of each row will be written.
+     */
+    public static BulkRowWriter open(Connection connection, String table, String[] columns, int batchSize) throws SQLException {
+        if (connection.isWrapperFor(PGConnection.class)) {
+            return new CopyWriter(connection.unwrap(PGConnection.class), table, columns);
+        }
+        return new BatchWriter(connection, table, columns, batchSize);
+    }
+
+    /**
+     * The next cell of the current row; {@code null} writes SQL NULL. Values are written in their {@code toString}
+     * form, which PostgreSQL parses for every type used here.
+     */
+    public abstract BulkRowWriter cell(Object value) throws SQLException;
+
+    public abstract void endRow() throws SQLException;
+
+    /**
+     * Sends the rows still buffered.
+     */
+    public abstract void finish() throws SQLException;
+
+    @Override
+    public abstract void close() throws SQLException;
+
+    private static final class CopyWriter extends BulkRowWriter {
+
+        private static final int FLUSH_THRESHOLD = 1 << 20;
+
+        private final CopyIn copyIn;
+        private final StringBuilder buffer = new StringBuilder(FLUSH_THRESHOLD + 4096);
+        private boolean firstCell = true;
+
+        private CopyWriter(PGConnection connection, String table, String[] columns) throws SQLException {
+            this.copyIn = connection.getCopyAPI()
+                    .copyIn("COPY " + table + " (" + String.join(", ", columns) + ") FROM STDIN");
+        }
+
+        @Override
+        public BulkRowWriter cell(Object value) {
+            if (!firstCell) {
+                buffer.append('\t');
+            }
+            firstCell = false;
+            if (value == null) {
+                buffer.append("\\N");
+            } else {
+                escape(value.toString());
+            }
+            return this;
+        }
+
+        @Override
+        public void endRow() throws SQLException {
+            buffer.append('\n');
+            firstCell = true;
+            if (buffer.length() >= FLUSH_THRESHOLD) {
+                flush();
+            }
+        }
+
+        @Override
+        public void finish() throws SQLException {
+            flush();
+            copyIn.endCopy();
+        }
+
+        @Override
+        public void close() throws SQLException {
+            if (copyIn.isActive()) {
+                copyIn.cancelCopy();
+            }
+        }
+
+        private void escape(String value) {
+            for (int i = 0; i < value.length(); i++) {
+                char c = value.charAt(i);
+                switch (c) {
+                    case '\\' -> buffer.append("\\\\");
+                    case '\t' -> buffer.append("\\t");
+                    case '\n' -> buffer.append("\\n");
+                    case '\r' -> buffer.append("\\r");
+                    default -> buffer.append(c);
+                }
+            }
+        }
+
+        private void flush() throws SQLException {
+            if (buffer.isEmpty()) {
+                return;
+            }
+            byte[] bytes = buffer.toString().getBytes(StandardCharsets.UTF_8);
+            copyIn.writeToCopy(bytes, 0, bytes.length);
+            buffer.setLength(0);
+        }
+    }
+
+    private static final class BatchWriter extends BulkRowWriter {
+
+        private final PreparedStatement statement;
+        private final int batchSize;
+        private int parameter = 1;
+        private int pending;
+
+        private BatchWriter(Connection connection, String table, String[] columns, int batchSize) throws SQLException {
+            this.statement = connection.prepareStatement("INSERT INTO " + table + " (" + String.join(", ", columns)
+                    + ") VALUES (" + "?, ".repeat(columns.length - 1) + "?)");
+            this.batchSize = batchSize;
+        }
+
+        @Override
+        public BulkRowWriter cell(Object value) throws SQLException {
+            statement.setObject(parameter++, value);
+            return this;
+        }
+
+        @Override
+        public void endRow() throws SQLException {
+            statement.addBatch();
+            parameter = 1;
+            if (++pending == batchSize) {
+                finish();
+            }
+        }
+
+        @Override
+        public void finish() throws SQLException {
+            if (pending > 0) {
+                statement.executeBatch();
+                pending = 0;
+            }
+        }
+
+        @Override
+        public void close() throws SQLException {
+            statement.close();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package com.batuhan.banking_service.config.util;
 
-import java.math.BigInteger;
+import com.batuhan.banking_service.validator.IbanCodec;
+
 import java.security.SecureRandom;
 
 public final class DataGenerator {
@@ -8,6 +9,9 @@ public final class DataGenerator {
     private static final SecureRandom SECURE_RANDOM = new SecureRandom();
     public static final String BANK_CODE = "00088";
 
+    private static final long TCKN_SERIAL_BASE = 100_000_000L;
+    private static final long TCKN_SERIAL_BOUND = 900_000_000L;
+
     private DataGenerator() {
         throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
     }
@@ -19,7 +23,32 @@ public final class DataGenerator {
         for (int i = 1; i < 9; i++) {
             digits[i] = SECURE_RANDOM.nextInt(10);
         }
+        return withCheckDigits(digits);
+    }
+
+    /**
+     * A valid TCKN whose first nine digits are {@code 100000000 + serial}, so distinct serials give distinct numbers
+     * and the same serial always gives the same number.
+     */
+    public static String generateSerialTckn(long serial) {
+        if (serial < 0 || serial >= TCKN_SERIAL_BOUND) {
+            throw new IllegalArgumentException("TCKN serial out of range: " + serial);
+        }
+        int[] digits = new int[11];
+        long base = TCKN_SERIAL_BASE + serial;
+        for (int i = 8; i >= 0; i--) {
+            digits[i] = (int) (base % 10);
+            base /= 10;
+        }
+        return withCheckDigits(digits);
+    }
+
+    public static String generateIban(long seed) {
+        String accountNumber = String.format("%016d", 2000000000L + seed);
+        return IbanCodec.build("TR", BANK_CODE + "0" + accountNumber);
+    }
 
+    private static String withCheckDigits(int[] digits) {
         int oddSum = digits[0] + digits[2] + digits[4] + digits[6] + digits[8];
         int evenSum = digits[1] + digits[3] + digits[5] + digits[7];
 
@@ -34,12 +63,4 @@ public final class DataGenerator {
         for (int d : digits) sb.append(d);
         return sb.toString();
     }
-
-    public static String generateIban(int seed) {
-        String accountNumber = String.format("%016d", 2000000000L + seed);
-        String bban = BANK_CODE + "0" + accountNumber;
-        String forCheck = bban + "292700";
-        int checkDigit = 98 - new BigInteger(forCheck).mod(BigInteger.valueOf(97)).intValue();
-        return "TR" + String.format("%02d", checkDigit) + bban;
-    }
-}
\ No newline at end of file
+}
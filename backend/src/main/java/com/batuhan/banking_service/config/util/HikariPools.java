@@ -0,0 +1,71 @@
+package com.batuhan.banking_service.config.util;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Builds the named Hikari pools used when the application replaces Boot's single pool.
+ * <p>
+ * Every pool starts from {@code spring.datasource.*} and {@code spring.datasource.hikari.*} and registers its own
+ * {@code hikaricp.*} meters under its pool name, so pending threads and acquisition times are visible per pool.
+ */
+public final class HikariPools {
+
+    public static final String WORKLOADS_ENABLED = "application.datasource.workloads.enabled";
+    private static final String WORKLOAD_POOL_PREFIX = "application.datasource.workloads.pools.";
+
+    private HikariPools() {
+    }
+
+    public static HikariDataSource create(String name, DataSourceProperties properties, Environment environment,
+                                          MeterRegistry meterRegistry) {
+        HikariDataSource pool = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        Binder.get(environment).bind("spring.datasource.hikari", Bindable.ofInstance(pool));
+        pool.setPoolName(name);
+        pool.setMetricRegistry(meterRegistry);
+        return pool;
+    }
+
+    /**
+     * The connections to the primary database: one pool per {@link Workload} when workload isolation is enabled,
+     * otherwise a single pool named {@code primary}.
+     */
+    public static DataSource primary(DataSourceProperties properties, Environment environment, MeterRegistry meterRegistry) {
+        if (!environment.getProperty(WORKLOADS_ENABLED, Boolean.class, false)) {
+            return limitForVirtualThreads(create("primary", properties, environment, meterRegistry), environment);
+        }
+
+        Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            HikariDataSource pool = create(workload.getPoolName(), properties, environment, meterRegistry);
+            Binder.get(environment).bind(WORKLOAD_POOL_PREFIX + workload.getPoolName(), Bindable.ofInstance(pool));
+            if (pool.getMinimumIdle() > pool.getMaximumPoolSize()) {
+                pool.setMinimumIdle(pool.getMaximumPoolSize());
+            }
+            pools.put(workload, limitForVirtualThreads(pool, environment));
+        }
+        return new WorkloadRoutingDataSource(pools);
+    }
+
+    /**
+     * With virtual threads, fronts the pool with a semaphore of its own size, so each pool keeps its own queue
+     * instead of sharing one limit for the whole routing data source.
+     */
+    public static DataSource limitForVirtualThreads(HikariDataSource pool, Environment environment) {
+        if (!Threading.VIRTUAL.isActive(environment)) {
+            return pool;
+        }
+        return new ConnectionLimitingDataSource(pool, pool.getMaximumPoolSize(),
+                Duration.ofMillis(pool.getConnectionTimeout()));
+    }
+}
@@ -0,0 +1,188 @@
+package com.batuhan.banking_service.config.util;
+
+import com.batuhan.banking_service.service.helper.ReadYourWritesWindow;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Sends connections of {@code readOnly} transactions to read replicas and everything else to the primary.
+ * <p>
+ * Connections are fetched lazily, on the first statement, when Spring has already marked the transaction read-only.
+ * Read-only connections go round robin to replicas whose last health check succeeded with a replication lag of at
+ * most {@code maxLag}. They fall back to the primary when no replica qualifies, or while the current user's
+ * {@link ReadYourWritesWindow} is open after their own write.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends LazyConnectionDataSourceProxy implements Closeable {
+
+    public static final String PRIMARY = "primary";
+
+    private final ReadOnlyRouter router;
+    private ScheduledExecutorService healthChecks;
+
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration maxLag, String lagQuery,
+                                    ReadYourWritesWindow readYourWrites, MeterRegistry meterRegistry) {
+        super(primary);
+        this.router = new ReadOnlyRouter(primary, replicas, maxLag, lagQuery, readYourWrites, meterRegistry);
+        setReadOnlyDataSource(router);
+    }
+
+    public void startHealthChecks(Duration interval) {
+        healthChecks = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health");
+            thread.setDaemon(true);
+            return thread;
+        });
+        healthChecks.scheduleWithFixedDelay(this::checkReplicas, 0, interval.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Measures every replica's lag and updates which replicas receive reads.
+     */
+    public void checkReplicas() {
+        router.replicas.forEach(router::check);
+    }
+
+    public List<String> healthyReplicas() {
+        return router.replicas.stream().filter(replica -> replica.healthy).map(Replica::name).toList();
+    }
+
+    @Override
+    public void close() {
+        if (healthChecks != null) {
+            healthChecks.shutdownNow();
+        }
+        router.replicas.forEach(replica -> closeQuietly(replica.dataSource));
+        closeQuietly(obtainTargetDataSource());
+    }
+
+    private static void closeQuietly(DataSource dataSource) {
+        if (dataSource instanceof AutoCloseable closeable) {
+            try {
+                closeable.close();
+            } catch (Exception e) {
+                log.warn("Could not close data source {}: {}", dataSource, e.getMessage());
+            }
+        }
+    }
+
+    private static final class Replica {
+        private final String name;
+        private final DataSource dataSource;
+        private volatile boolean healthy;
+        private volatile double lagSeconds = Double.NaN;
+
+        private Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+
+        private String name() {
+            return name;
+        }
+    }
+
+    private static final class ReadOnlyRouter extends AbstractRoutingDataSource {
+
+        private final List<Replica> replicas;
+        private final double maxLagSeconds;
+        private final String lagQuery;
+        private final ReadYourWritesWindow readYourWrites;
+        private final MeterRegistry meterRegistry;
+        private final AtomicInteger next = new AtomicInteger();
+
+        private ReadOnlyRouter(DataSource primary, Map<String, DataSource> replicas, Duration maxLag, String lagQuery,
+                               ReadYourWritesWindow readYourWrites, MeterRegistry meterRegistry) {
+            this.replicas = replicas.entrySet().stream().map(e -> new Replica(e.getKey(), e.getValue())).toList();
+            this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+            this.lagQuery = lagQuery;
+            this.readYourWrites = readYourWrites;
+            this.meterRegistry = meterRegistry;
+
+            Map<Object, Object> targets = new LinkedHashMap<>();
+            targets.put(PRIMARY, primary);
+            replicas.forEach(targets::put);
+            setTargetDataSources(targets);
+            setDefaultTargetDataSource(primary);
+            setLenientFallback(false);
+            afterPropertiesSet();
+
+            for (Replica replica : this.replicas) {
+                Gauge.builder("banking.datasource.replica.lag", replica, r -> r.lagSeconds)
+                        .description("Replication lag measured by the last health check, NaN when unreachable")
+                        .tag("replica", replica.name)
+                        .baseUnit("seconds")
+                        .register(meterRegistry);
+                Gauge.builder("banking.datasource.replica.healthy", replica, r -> r.healthy ? 1 : 0)
+                        .description("1 while the replica receives read-only traffic")
+                        .tag("replica", replica.name)
+                        .register(meterRegistry);
+            }
+        }
+
+        @Override
+        protected Object determineCurrentLookupKey() {
+            String target = selectTarget();
+            meterRegistry.counter("banking.datasource.reads", "target", target).increment();
+            return target;
+        }
+
+        private String selectTarget() {
+            if (replicas.isEmpty() || readYourWrites.isOpenForCurrentUser()) {
+                return PRIMARY;
+            }
+            int start = Math.floorMod(next.getAndIncrement(), replicas.size());
+            for (int i = 0; i < replicas.size(); i++) {
+                Replica replica = replicas.get((start + i) % replicas.size());
+                if (replica.healthy) {
+                    return replica.name;
+                }
+            }
+            return PRIMARY;
+        }
+
+        private void check(Replica replica) {
+            double lag = Double.NaN;
+            String failure = null;
+            try (Connection connection = replica.dataSource.getConnection();
+                 Statement statement = connection.createStatement()) {
+                statement.setQueryTimeout(5);
+                try (ResultSet result = statement.executeQuery(lagQuery)) {
+                    lag = result.next() ? result.getDouble(1) : Double.NaN;
+                }
+            } catch (SQLException | RuntimeException e) {
+                failure = e.getMessage();
+            }
+
+            boolean healthy = !Double.isNaN(lag) && lag <= maxLagSeconds;
+            if (healthy != replica.healthy) {
+                if (healthy) {
+                    log.info("Replica {} in rotation (lag {}s)", replica.name, lag);
+                } else {
+                    log.warn("Replica {} taken out of rotation: {}", replica.name,
+                            failure != null ? failure : "lag " + lag + "s exceeds " + maxLagSeconds + "s");
+                }
+            }
+            replica.lagSeconds = lag;
+            replica.healthy = healthy;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.batuhan.banking_service.config.util;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.regex.Pattern;
+
+/**
+ * Logs statements that ran longer than the threshold and keeps the most recent ones for the {@code queries}
+ * actuator endpoint.
+ * <p>
+ * Only the SQL text and the types of its bind parameters are recorded, never their values; quoted and numeric
+ * literals in the SQL are masked as well, so account numbers, amounts or names inlined into a statement do not reach
+ * the log. Digits that are part of an identifier, such as Hibernate's {@code t1_0} aliases, are kept.
+ */
+@Slf4j
+public class SlowQueryLog implements MeterBinder {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMERIC_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?(?:[eE][+-]?\\d+)?\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private final Duration threshold;
+    private final int retained;
+    private final Deque<SlowQuery> recent = new ArrayDeque<>();
+    private final AtomicLong count = new AtomicLong();
+
+    public SlowQueryLog(Duration threshold, int retained) {
+        this.threshold = threshold;
+        this.retained = retained;
+    }
+
+    public Duration getThreshold() {
+        return threshold;
+    }
+
+    public boolean isSlow(long elapsedNanos) {
+        return elapsedNanos >= threshold.toNanos();
+    }
+
+    public void record(String sql, List<String> parameterShapes, int batchSize, long elapsedNanos) {
+        SlowQuery query = new SlowQuery(Instant.now(), elapsedNanos / 1_000_000, mask(sql),
+                List.copyOf(parameterShapes), batchSize);
+        count.incrementAndGet();
+        synchronized (recent) {
+            if (recent.size() == retained) {
+                recent.removeFirst();
+            }
+            recent.addLast(query);
+        }
+        log.warn("Slow query ({} ms, threshold {} ms){} params {}: {}", query.elapsedMillis(), threshold.toMillis(),
+                batchSize > 0 ? " batch of " + batchSize : "", query.parameterShapes(), query.sql());
+    }
+
+    public long count() {
+        return count.get();
+    }
+
+    /**
+     * Most recent slow statements first.
+     */
+    public List<SlowQuery> recent() {
+        synchronized (recent) {
+            List<SlowQuery> snapshot = new ArrayList<>(recent);
+            Collections.reverse(snapshot);
+            return snapshot;
+        }
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionCounter.builder("banking.jdbc.slow.queries", count, AtomicLong::get)
+                .description("Statements that ran longer than the slow-query threshold")
+                .register(registry);
+    }
+
+    static String mask(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String masked = NUMERIC_LITERAL.matcher(STRING_LITERAL.matcher(sql).replaceAll("'?'")).replaceAll("?");
+        return WHITESPACE.matcher(masked).replaceAll(" ").trim();
+    }
+
+    public record SlowQuery(Instant at, long elapsedMillis, String sql, List<String> parameterShapes, int batchSize) {
+    }
+}
@@ -0,0 +1,154 @@
+package com.batuhan.banking_service.config.util;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Times every statement executed through the data source and reports the ones over the threshold to a
+ * {@link SlowQueryLog}.
+ * <p>
+ * Connections and statements are wrapped in JDK proxies. A prepared statement remembers its SQL and the Java type
+ * of each bound parameter, which is all that is reported. The measured time covers the execute call; rows fetched
+ * later from a result set are not included. Closing this data source closes the pool behind it.
+ */
+public class SlowQueryLoggingDataSource extends DelegatingDataSource implements Closeable {
+
+    private static final Set<String> EXECUTE_METHODS = Set.of(
+            "execute", "executeQuery", "executeUpdate", "executeLargeUpdate", "executeBatch", "executeLargeBatch");
+
+    private final SlowQueryLog slowQueryLog;
+
+    public SlowQueryLoggingDataSource(DataSource target, SlowQueryLog slowQueryLog) {
+        super(target);
+        this.slowQueryLog = slowQueryLog;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return timed(obtainTargetDataSource().getConnection());
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return timed(obtainTargetDataSource().getConnection(username, password));
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (obtainTargetDataSource() instanceof AutoCloseable target) {
+            try {
+                target.close();
+            } catch (IOException | RuntimeException e) {
+                throw e;
+            } catch (Exception e) {
+                throw new IOException("Could not close " + target, e);
+            }
+        }
+    }
+
+    private Connection timed(Connection target) {
+        return (Connection) Proxy.newProxyInstance(
+                Connection.class.getClassLoader(),
+                new Class<?>[]{Connection.class},
+                (proxy, method, args) -> {
+                    Object result = invoke(target, method, args);
+                    if (result instanceof CallableStatement statement) {
+                        return timed(statement, CallableStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof PreparedStatement statement) {
+                        return timed(statement, PreparedStatement.class, (String) args[0]);
+                    }
+                    if (result instanceof Statement statement) {
+                        return timed(statement, Statement.class, null);
+                    }
+                    return result;
+                });
+    }
+
+    private Statement timed(Statement target, Class<? extends Statement> type, String preparedSql) {
+        StatementState state = new StatementState(preparedSql);
+        return (Statement) Proxy.newProxyInstance(
+                type.getClassLoader(),
+                new Class<?>[]{type},
+                (proxy, method, args) -> {
+                    String name = method.getName();
+                    if (!EXECUTE_METHODS.contains(name)) {
+                        state.observe(name, args);
+                        return invoke(target, method, args);
+                    }
+
+                    long startedAt = System.nanoTime();
+                    try {
+                        return invoke(target, method, args);
+                    } finally {
+                        long elapsed = System.nanoTime() - startedAt;
+                        if (slowQueryLog.isSlow(elapsed)) {
+                            String sql = args != null && args.length > 0 && args[0] instanceof String s ? s : state.sql;
+                            slowQueryLog.record(sql, state.shapes, state.batchSize, elapsed);
+                        }
+                        if (name.equals("executeBatch") || name.equals("executeLargeBatch")) {
+                            state.batchSize = 0;
+                        }
+                    }
+                });
+    }
+
+    private static Object invoke(Object target, Method method, Object[] args) throws Throwable {
+        try {
+            return method.invoke(target, args);
+        } catch (InvocationTargetException e) {
+            throw e.getTargetException();
+        }
+    }
+
+    private static final class StatementState {
+        private final List<String> shapes = new ArrayList<>();
+        private String sql;
+        private int batchSize;
+
+        private StatementState(String sql) {
+            this.sql = sql;
+        }
+
+        private void observe(String method, Object[] args) {
+            if (method.equals("clearParameters")) {
+                shapes.clear();
+            } else if (method.equals("clearBatch")) {
+                batchSize = 0;
+            } else if (method.equals("addBatch")) {
+                batchSize++;
+                if (args != null && args.length == 1 && args[0] instanceof String batchSql) {
+                    sql = batchSql;
+                }
+            } else if (method.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index
+                    && index > 0) {
+                bind(index, method.equals("setNull") ? "null" : shapeOf(args[1]));
+            }
+        }
+
+        private void bind(int index, String shape) {
+            while (shapes.size() < index) {
+                shapes.add("?");
+            }
+            shapes.set(index - 1, shape);
+        }
+
+        private static String shapeOf(Object value) {
+            return value == null ? "null" : value.getClass().getSimpleName();
+        }
+    }
+}
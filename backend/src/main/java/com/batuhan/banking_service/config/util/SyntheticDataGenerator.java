@@ -0,0 +1,535 @@
+package com.batuhan.banking_service.config.util;
+
+import com.batuhan.banking_service.entity.enums.AccountStatus;
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.Role;
+import com.batuhan.banking_service.entity.enums.TransactionCategory;
+import com.batuhan.banking_service.entity.enums.TransactionStatus;
+import com.batuhan.banking_service.entity.enums.TransactionType;
+import lombok.extern.slf4j.Slf4j;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Builds a production-shaped dataset straight into the database: customers with an address, one or more accounts
+ * and a daily limit per account, and a history of transfers between those accounts.
+ * <p>
+ * Every value is derived from the seed and the row's ordinal alone, never from a shared random stream, so a seed
+ * always produces the same rows whatever the thread count or batch size. Activity follows a bounded power law: the
+ * sender and receiver of each transfer are drawn by rank, rank {@code r} with weight {@code 1 / (r + 1)^exponent},
+ * and ranks are scattered over the accounts so hot accounts are not neighbours by id. Transfers are spread over
+ * {@code historyDays} days ending on {@code endDate}, clustered around the afternoon.
+ * <p>
+ * Addresses, users and accounts get explicit ids above the highest existing one, so foreign keys are known without
+ * reading anything back, and the identity columns are moved past them at the end. Rows are written in shards in
+ * parallel, each shard over its own connection and transaction; customers first, then transfers.
+ */
+@Slf4j
+public class SyntheticDataGenerator {
+
+    private static final int SHARD_SIZE = 50_000;
+    private static final String AUDITOR = "SYSTEM";
+    private static final String CUSTOMER_PREFIX = "S";
+    private static final String REFERENCE_PREFIX = "SYN-";
+    private static final long IBAN_SEED_BASE = 1_000_000_000_000L;
+
+    private static final String[] ADDRESS_COLUMNS = {"id", "external_id", "country", "city", "district", "street",
+            "address_detail", "zip_code", "is_active", "created_at", "updated_at", "last_modified_by", "version"};
+    private static final String[] USER_COLUMNS = {"id", "external_id", "first_name", "last_name", "tckn",
+            "customer_number", "email", "birth_date", "phone_number", "is_active", "role", "address_id", "created_at",
+            "updated_at", "last_modified_by", "version"};
+    private static final String[] ACCOUNT_COLUMNS = {"id", "external_id", "iban", "balance", "currency", "status",
+            "daily_limit", "active", "user_id", "created_at", "updated_at", "last_modified_by", "version"};
+    private static final String[] LIMIT_COLUMNS = {"external_id", "account_id", "used_amount", "daily_limit",
+            "limit_date", "active", "created_at", "updated_at", "last_modified_by", "version"};
+    private static final String[] TRANSACTION_COLUMNS = {"external_id", "reference_number", "amount", "currency",
+            "transaction_type", "status", "description", "category", "sender_account_id", "receiver_account_id",
+            "created_at", "updated_at", "last_modified_by", "version"};
+
+    private static final String[] FIRST_NAMES = {"Ahmet", "Mehmet", "Ayse", "Fatma", "Mustafa", "Emine", "Ali",
+            "Hatice", "Huseyin", "Zeynep", "Hasan", "Elif", "Ibrahim", "Meryem", "Ismail", "Sultan", "Osman", "Zehra",
+            "Yusuf", "Hulya", "Murat", "Selin", "Emre", "Derya", "Burak", "Ece", "Can", "Deniz", "Gokhan", "Esra"};
+    private static final String[] LAST_NAMES = {"Yilmaz", "Kaya", "Demir", "Sahin", "Celik", "Yildiz", "Yildirim",
+            "Ozturk", "Aydin", "Ozdemir", "Arslan", "Dogan", "Kilic", "Aslan", "Cetin", "Kara", "Koc", "Kurt",
+            "Ozkan", "Simsek", "Polat", "Bulut", "Korkmaz", "Erdogan", "Gunes", "Aksoy", "Tekin", "Aktas"};
+    // Ordered by population, so the power-law draw puts most customers in the largest cities
+    private static final String[][] CITIES = {
+            {"Istanbul", "Kadikoy", "34710"}, {"Ankara", "Cankaya", "06690"}, {"Izmir", "Karsiyaka", "35530"},
+            {"Bursa", "Nilufer", "16110"}, {"Antalya", "Muratpasa", "07100"}, {"Konya", "Selcuklu", "42060"},
+            {"Adana", "Seyhan", "01010"}, {"Gaziantep", "Sahinbey", "27010"}, {"Kocaeli", "Izmit", "41040"},
+            {"Mersin", "Yenisehir", "33110"}, {"Kayseri", "Melikgazi", "38030"}, {"Eskisehir", "Tepebasi", "26010"}};
+    private static final String[] EMAIL_DOMAINS = {"gmail.com", "hotmail.com", "outlook.com", "yahoo.com", "icloud.com"};
+    private static final String[] PAYMENT_TEXTS = {"Rent payment", "Market shopping", "Electricity bill",
+            "Salary", "Dinner with friends", "Money transfer", "Internet bill", "Online order", "Family support",
+            "Restaurant", "Water bill", "Gift"};
+    private static final TransactionCategory[] PAYMENT_CATEGORIES = {TransactionCategory.RENT,
+            TransactionCategory.SHOPPING, TransactionCategory.BILLS, TransactionCategory.SALARY,
+            TransactionCategory.DINING, TransactionCategory.TRANSFER, TransactionCategory.BILLS,
+            TransactionCategory.SHOPPING, TransactionCategory.TRANSFER, TransactionCategory.DINING,
+            TransactionCategory.BILLS, TransactionCategory.OTHER};
+    private static final BigDecimal[] DAILY_LIMITS = {new BigDecimal("5000.0000"), new BigDecimal("10000.0000"),
+            new BigDecimal("20000.0000"), new BigDecimal("50000.0000"), new BigDecimal("250000.0000")};
+    private static final double[] DAILY_LIMIT_WEIGHTS = {0.30, 0.65, 0.90, 0.98, 1.00};
+
+    // Each kind of row draws from its own stream, so rows of different tables never share values by ordinal
+    private static final long JOINED_STREAM = 1;
+    private static final long ADDRESS_STREAM = 2;
+    private static final long USER_STREAM = 3;
+    private static final long ACCOUNT_COUNT_STREAM = 4;
+    private static final long ACCOUNT_STREAM = 5;
+    private static final long LIMIT_STREAM = 6;
+    private static final long TRANSACTION_STREAM = 7;
+
+    private final DataSource dataSource;
+    private final Settings settings;
+    private final double[] accountCountWeights;
+    private final PowerLawRanks cityRanks;
+
+    /**
+     * Dataset shape. {@code activityExponent} 0 spreads transfers evenly; around 1 a few percent of the accounts
+     * send and receive most of them.
+     */
+    public record Settings(long seed, int users, int maxAccountsPerUser, long transactions, int historyDays,
+                           LocalDate endDate, double activityExponent, int threads, int batchSize) {
+
+        public Settings {
+            if (users < 1 || maxAccountsPerUser < 1 || transactions < 0 || historyDays < 1 || threads < 1 || batchSize < 1) {
+                throw new IllegalArgumentException("Synthetic data settings must be positive");
+            }
+            if (transactions > 0 && users < 2) {
+                throw new IllegalArgumentException("Transfers need at least two users");
+            }
+        }
+    }
+
+    public record Summary(long users, long accounts, long transactions, Duration elapsed) {}
+
+    public SyntheticDataGenerator(DataSource dataSource, Settings settings) {
+        this.dataSource = dataSource;
+        this.settings = settings;
+        // One account is the norm; the share of customers with k accounts falls off as 1 / k^2
+        this.accountCountWeights = PowerLawRanks.cumulativeWeights(settings.maxAccountsPerUser(), 2);
+        this.cityRanks = new PowerLawRanks(CITIES.length, 1, 0, false);
+    }
+
+    /**
+     * Whether a dataset has been generated into this database before, by any seed.
+     */
+    public boolean alreadyGenerated() throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery(
+                     "SELECT COUNT(*) FROM users WHERE customer_number = '" + customerNumber(0) + "'")) {
+            result.next();
+            return result.getLong(1) > 0;
+        }
+    }
+
+    public Summary generate() throws SQLException {
+        long startedAt = System.nanoTime();
+        long addressBase = maxId("addresses");
+        long userBase = maxId("users");
+        long accountBase = maxId("accounts");
+
+        int[] accountStart = accountLayout();
+        int accounts = accountStart[settings.users()];
+        Layout layout = new Layout(addressBase, userBase, accountBase, accountStart,
+                new PowerLawRanks(accounts, settings.activityExponent(), settings.seed(), true),
+                new PowerLawRanks(accounts, settings.activityExponent(), ~settings.seed(), true));
+
+        ExecutorService executor = Executors.newFixedThreadPool(settings.threads());
+        try {
+            runShards(executor, "customers", settings.users(), (connection, from, to) -> writeCustomers(connection, layout, (int) from, (int) to));
+            runShards(executor, "transactions", settings.transactions(), (connection, from, to) -> writeTransactions(connection, layout, from, to));
+        } finally {
+            executor.shutdown();
+        }
+
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            restartIdentity(statement, "addresses", addressBase + settings.users());
+            restartIdentity(statement, "users", userBase + settings.users());
+            restartIdentity(statement, "accounts", accountBase + accounts);
+            if (isPostgres(connection)) {
+                // Fresh statistics, so the first query plans already see the new table sizes
+                statement.execute("ANALYZE addresses, users, accounts, account_limits, transactions");
+            }
+        }
+        return new Summary(settings.users(), accounts, settings.transactions(), Duration.ofNanos(System.nanoTime() - startedAt));
+    }
+
+    /**
+     * Account ordinals per user: user {@code u} owns ordinals {@code [start[u], start[u + 1])}.
+     */
+    private int[] accountLayout() {
+        int[] start = new int[settings.users() + 1];
+        RowRandom random = new RowRandom(settings.seed());
+        long total = 0;
+        for (int user = 0; user < settings.users(); user++) {
+            start[user] = (int) total;
+            total += 1 + PowerLawRanks.pick(accountCountWeights, random.at(ACCOUNT_COUNT_STREAM, user).nextDouble());
+            if (total > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Too many accounts for one run: " + total);
+            }
+        }
+        start[settings.users()] = (int) total;
+        return start;
+    }
+
+    private void runShards(ExecutorService executor, String name, long rows, ShardWriter writer) {
+        long startedAt = System.nanoTime();
+        List<CompletableFuture<Void>> shards = new ArrayList<>();
+        for (long from = 0; from < rows; from += SHARD_SIZE) {
+            long shardFrom = from;
+            long shardTo = Math.min(from + SHARD_SIZE, rows);
+            shards.add(CompletableFuture.runAsync(() -> writeShard(writer, shardFrom, shardTo), executor));
+        }
+        try {
+            CompletableFuture.allOf(shards.toArray(CompletableFuture[]::new)).join();
+        } catch (CompletionException e) {
+            shards.forEach(shard -> shard.cancel(false));
+            throw e;
+        }
+        long millis = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        log.info("Synthetic {}: {} rows in {} shards ({} ms, {} rows/s)", name, rows, shards.size(), millis, rows * 1000 / millis);
+    }
+
+    private void writeShard(ShardWriter writer, long from, long to) {
+        try (Connection connection = dataSource.getConnection()) {
+            connection.setAutoCommit(false);
+            if (isPostgres(connection)) {
+                try (Statement statement = connection.createStatement()) {
+                    // Losing the last commits on a crash only means regenerating, so do not wait for the WAL flush
+                    statement.execute("SET synchronous_commit = off");
+                }
+            }
+            try {
+                writer.write(connection, from, to);
+                connection.commit();
+            } catch (SQLException | RuntimeException e) {
+                connection.rollback();
+                throw e;
+            }
+        } catch (SQLException e) {
+            throw new IllegalStateException("Writing synthetic rows [" + from + ", " + to + ") failed", e);
+        }
+    }
+
+    private void writeCustomers(Connection connection, Layout layout, int from, int to) throws SQLException {
+        RowRandom random = new RowRandom(settings.seed());
+        LocalDate windowStart = settings.endDate().minusDays(settings.historyDays());
+
+        try (BulkRowWriter addresses = BulkRowWriter.open(connection, "addresses", ADDRESS_COLUMNS, settings.batchSize())) {
+            for (int user = from; user < to; user++) {
+                LocalDateTime joinedAt = joinedAt(random, user, windowStart);
+                random.at(ADDRESS_STREAM, user);
+                String[] city = CITIES[cityRanks.rank(random.nextDouble())];
+                addresses.cell(layout.addressBase() + user + 1).cell(random.nextUuid())
+                        .cell("Turkey").cell(city[0]).cell(city[1])
+                        .cell("Street No: " + (1 + random.nextInt(250)))
+                        .cell("Floor: " + random.nextInt(12) + " Apartment: " + (1 + random.nextInt(40)))
+                        .cell(city[2]).cell(Boolean.TRUE);
+                audit(addresses, joinedAt);
+            }
+            addresses.finish();
+        }
+
+        try (BulkRowWriter users = BulkRowWriter.open(connection, "users", USER_COLUMNS, settings.batchSize())) {
+            for (int user = from; user < to; user++) {
+                LocalDateTime joinedAt = joinedAt(random, user, windowStart);
+                random.at(USER_STREAM, user);
+                String firstName = FIRST_NAMES[random.nextInt(FIRST_NAMES.length)];
+                String lastName = LAST_NAMES[random.nextInt(LAST_NAMES.length)];
+                users.cell(layout.userBase() + user + 1).cell(random.nextUuid().toString())
+                        .cell(firstName).cell(lastName)
+                        .cell(DataGenerator.generateSerialTckn(user))
+                        .cell(customerNumber(user))
+                        .cell((firstName + "." + lastName).toLowerCase(Locale.ROOT) + user + "@" + EMAIL_DOMAINS[random.nextInt(EMAIL_DOMAINS.length)])
+                        .cell(settings.endDate().minusYears(18 + random.nextInt(62)).minusDays(random.nextInt(365)))
+                        .cell("+905%09d".formatted(user))
+                        .cell(Boolean.TRUE).cell(Role.USER.name())
+                        .cell(layout.addressBase() + user + 1);
+                audit(users, joinedAt);
+            }
+            users.finish();
+        }
+
+        int firstAccount = layout.accountStart()[from];
+        int lastAccount = layout.accountStart()[to];
+        try (BulkRowWriter accounts = BulkRowWriter.open(connection, "accounts", ACCOUNT_COLUMNS, settings.batchSize())) {
+            int user = from;
+            for (int account = firstAccount; account < lastAccount; account++) {
+                while (account >= layout.accountStart()[user + 1]) {
+                    user++;
+                }
+                LocalDateTime joinedAt = joinedAt(random, user, windowStart);
+                BigDecimal dailyLimit = dailyLimit(random, account);
+                random.at(ACCOUNT_STREAM, account);
+                CurrencyType currency = currency(random.nextDouble());
+                double status = random.nextDouble();
+                accounts.cell(layout.accountBase() + account + 1).cell(random.nextUuid())
+                        .cell(DataGenerator.generateIban(IBAN_SEED_BASE + account))
+                        .cell(logNormal(random, 8.5, 1.6, 10_000_000))
+                        .cell(currency.name())
+                        .cell((status < 0.95 ? AccountStatus.ACTIVE : status < 0.98 ? AccountStatus.SUSPENDED : AccountStatus.CLOSED).name())
+                        .cell(dailyLimit).cell(Boolean.TRUE)
+                        .cell(layout.userBase() + user + 1);
+                audit(accounts, joinedAt);
+            }
+            accounts.finish();
+        }
+
+        try (BulkRowWriter limits = BulkRowWriter.open(connection, "account_limits", LIMIT_COLUMNS, settings.batchSize())) {
+            LocalDateTime limitDate = settings.endDate().atStartOfDay();
+            for (int account = firstAccount; account < lastAccount; account++) {
+                BigDecimal dailyLimit = dailyLimit(random, account);
+                limits.cell(random.nextUuid())
+                        .cell(layout.accountBase() + account + 1)
+                        .cell(BigDecimal.ZERO).cell(dailyLimit)
+                        .cell(settings.endDate()).cell(Boolean.TRUE);
+                audit(limits, limitDate);
+            }
+            limits.finish();
+        }
+    }
+
+    private void writeTransactions(Connection connection, Layout layout, long from, long to) throws SQLException {
+        RowRandom random = new RowRandom(settings.seed());
+        RowRandom lookup = new RowRandom(settings.seed());
+        LocalDateTime windowStart = settings.endDate().minusDays(settings.historyDays()).atStartOfDay();
+        LocalDateTime categorizedFrom = windowStart.plusDays(settings.historyDays() / 4);
+        int accounts = layout.accountStart()[settings.users()];
+
+        try (BulkRowWriter transactions = BulkRowWriter.open(connection, "transactions", TRANSACTION_COLUMNS, settings.batchSize())) {
+            for (long transaction = from; transaction < to; transaction++) {
+                random.at(TRANSACTION_STREAM, transaction);
+                int sender = layout.senders().rank(random.nextDouble());
+                int receiver = layout.receivers().rank(random.nextDouble());
+                if (receiver == sender) {
+                    receiver = (receiver + 1) % accounts;
+                }
+                int payment = random.nextInt(PAYMENT_TEXTS.length);
+                double status = random.nextDouble();
+                // Most transfers happen in the afternoon: the sum of two uniform draws peaks in the middle of the day
+                long secondOfDay = Math.min(86_399, (long) ((random.nextDouble() + random.nextDouble()) * 43_200));
+                LocalDateTime createdAt = windowStart.plusDays(1 + random.nextInt(settings.historyDays())).plusSeconds(secondOfDay);
+                // The sender's currency is the first draw of its account stream
+                CurrencyType currency = currency(lookup.at(ACCOUNT_STREAM, sender).nextDouble());
+
+                transactions.cell(random.nextUuid())
+                        .cell(REFERENCE_PREFIX + "%012d".formatted(transaction))
+                        .cell(logNormal(random, 5.5, 1.3, 1_000_000))
+                        .cell(currency.name())
+                        .cell(TransactionType.TRANSFER.name())
+                        .cell((status < 0.96 ? TransactionStatus.COMPLETED : status < 0.99 ? TransactionStatus.FAILED : TransactionStatus.PENDING).name())
+                        .cell(PAYMENT_TEXTS[payment] + " #" + (transaction % 10_000))
+                        // The oldest rows are left uncategorized, as written before the category column existed
+                        .cell(createdAt.isBefore(categorizedFrom) ? null : PAYMENT_CATEGORIES[payment].name())
+                        .cell(layout.accountBase() + sender + 1)
+                        .cell(layout.accountBase() + receiver + 1);
+                audit(transactions, createdAt);
+            }
+            transactions.finish();
+        }
+    }
+
+    private static void audit(BulkRowWriter writer, LocalDateTime at) throws SQLException {
+        writer.cell(at).cell(at).cell(AUDITOR).cell(0L).endRow();
+    }
+
+    /**
+     * Customers joined up to five years before the transfer history starts; their address and accounts date from then.
+     */
+    private static LocalDateTime joinedAt(RowRandom random, int user, LocalDate windowStart) {
+        random.at(JOINED_STREAM, user);
+        return windowStart.minusDays(random.nextInt(5 * 365)).atStartOfDay().plusSeconds(random.nextInt(86_400));
+    }
+
+    /**
+     * Leaves the generator on the limit stream of the account, for the limit row's remaining draws.
+     */
+    private static BigDecimal dailyLimit(RowRandom random, int account) {
+        return DAILY_LIMITS[PowerLawRanks.pick(DAILY_LIMIT_WEIGHTS, random.at(LIMIT_STREAM, account).nextDouble())];
+    }
+
+    private static CurrencyType currency(double draw) {
+        if (draw < 0.85) {
+            return CurrencyType.TRY;
+        }
+        return draw < 0.93 ? CurrencyType.USD : draw < 0.98 ? CurrencyType.EUR : CurrencyType.GBP;
+    }
+
+    private static BigDecimal logNormal(RowRandom random, double mu, double sigma, double max) {
+        return BigDecimal.valueOf(Math.min(max, Math.max(1, Math.exp(mu + sigma * random.nextGaussian()))))
+                .setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static String customerNumber(int user) {
+        return CUSTOMER_PREFIX + "%09d".formatted(user);
+    }
+
+    private long maxId(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet result = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            result.next();
+            return result.getLong(1);
+        }
+    }
+
+    private static void restartIdentity(Statement statement, String table, long lastId) throws SQLException {
+        statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + (lastId + 1));
+    }
+
+    private static boolean isPostgres(Connection connection) throws SQLException {
+        return "PostgreSQL".equals(connection.getMetaData().getDatabaseProductName());
+    }
+
+    private record Layout(long addressBase, long userBase, long accountBase, int[] accountStart,
+                          PowerLawRanks senders, PowerLawRanks receivers) {}
+
+    @FunctionalInterface
+    private interface ShardWriter {
+        void write(Connection connection, long from, long to) throws SQLException;
+    }
+
+    /**
+     * Draws ranks in {@code [0, n)} with weight {@code 1 / (rank + 1)^exponent} by inverting the continuous bounded
+     * power law, so no table of n weights is needed. Optionally scatters ranks over {@code [0, n)} with
+     * {@code rank * stride + offset mod n}, a bijection because the stride is coprime with n.
+     */
+    private static final class PowerLawRanks {
+
+        private final int n;
+        private final double oneMinusExponent;
+        private final double span;
+        private final long stride;
+        private final long offset;
+
+        private PowerLawRanks(int n, double exponent, long salt, boolean scatter) {
+            this.n = n;
+            this.oneMinusExponent = 1 - exponent;
+            this.span = Math.abs(oneMinusExponent) < 1e-9 ? Math.log(n + 1.0) : Math.pow(n + 1.0, oneMinusExponent) - 1;
+            long stride = 1;
+            long offset = 0;
+            if (scatter && n > 1) {
+                stride = Math.floorMod(RowRandom.mix(salt), n) | 1;
+                while (gcd(stride, n) != 1) {
+                    stride += 2;
+                }
+                offset = Math.floorMod(RowRandom.mix(~salt), n);
+            }
+            this.stride = stride;
+            this.offset = offset;
+        }
+
+        private int rank(double draw) {
+            double x = Math.abs(oneMinusExponent) < 1e-9
+                    ? Math.exp(draw * span)
+                    : Math.pow(1 + draw * span, 1 / oneMinusExponent);
+            long rank = Math.min(n - 1, Math.max(0, (long) x - 1));
+            return (int) ((rank * stride + offset) % n);
+        }
+
+        private static double[] cumulativeWeights(int n, double exponent) {
+            double[] cumulative = new double[n];
+            double sum = 0;
+            for (int rank = 0; rank < n; rank++) {
+                sum += 1 / Math.pow(rank + 1, exponent);
+                cumulative[rank] = sum;
+            }
+            for (int rank = 0; rank < n; rank++) {
+                cumulative[rank] /= sum;
+            }
+            return cumulative;
+        }
+
+        private static int pick(double[] cumulative, double draw) {
+            int rank = 0;
+            while (rank < cumulative.length - 1 && draw >= cumulative[rank]) {
+                rank++;
+            }
+            return rank;
+        }
+
+        private static long gcd(long a, long b) {
+            while (b != 0) {
+                long t = a % b;
+                a = b;
+                b = t;
+            }
+            return a;
+        }
+    }
+
+    /**
+     * Counter-based random numbers: {@link #at} positions the generator on a (stream, ordinal) pair, and the draws
+     * that follow depend on the seed and that pair only. SplitMix64 over a Weyl sequence; not for security.
+     */
+    private static final class RowRandom {
+
+        private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+        private final long seed;
+        private long state;
+
+        private RowRandom(long seed) {
+            this.seed = seed;
+        }
+
+        private RowRandom at(long stream, long ordinal) {
+            state = mix(seed ^ mix(stream * GOLDEN_GAMMA + ordinal));
+            return this;
+        }
+
+        private long nextLong() {
+            state += GOLDEN_GAMMA;
+            return mix(state);
+        }
+
+        private double nextDouble() {
+            return (nextLong() >>> 11) * 0x1.0p-53;
+        }
+
+        private int nextInt(int bound) {
+            return (int) ((nextLong() >>> 1) % bound);
+        }
+
+        private double nextGaussian() {
+            double u = 1 - nextDouble();
+            return Math.sqrt(-2 * Math.log(u)) * Math.cos(2 * Math.PI * nextDouble());
+        }
+
+        private UUID nextUuid() {
+            long most = (nextLong() & ~0xF000L) | 0x4000L;
+            long least = (nextLong() & 0x3FFFFFFFFFFFFFFFL) | 0x8000000000000000L;
+            return new UUID(most, least);
+        }
+
+        /**
+         * SplitMix64 finalizer.
+         */
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.batuhan.banking_service.config.util;
+
+import java.lang.annotation.*;
+
+/**
+ * Limits how often each caller may invoke the annotated endpoint, across all instances, under the limit configured
+ * at {@code application.rate-limits.limits.<value>}. Callers are told apart by their authenticated principal, or
+ * by client address when anonymous.
+ * <p>
+ * Applied before the handler runs, so it combines with Resilience4j's {@code @RateLimiter}: this one keeps a
+ * single client from using up the endpoint, that one still caps the total load each instance accepts.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface UserRateLimit {
+
+    String value();
+}
@@ -0,0 +1,69 @@
+package com.batuhan.banking_service.config.util;
+
+import com.batuhan.banking_service.constant.Messages;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.Duration;
+
+/**
+ * Applies {@link UserRateLimit} and reports the caller's budget in the {@code RateLimit-Limit},
+ * {@code RateLimit-Remaining} and {@code RateLimit-Reset} headers (IETF draft, reset in seconds). A rejected request
+ * gets 429 with {@code Retry-After} and never reaches the handler.
+ */
+public class UserRateLimitInterceptor implements HandlerInterceptor {
+
+    public static final String LIMIT_HEADER = "RateLimit-Limit";
+    public static final String REMAINING_HEADER = "RateLimit-Remaining";
+    public static final String RESET_HEADER = "RateLimit-Reset";
+
+    private final UserRateLimiter rateLimiter;
+
+    public UserRateLimitInterceptor(UserRateLimiter rateLimiter) {
+        this.rateLimiter = rateLimiter;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        UserRateLimit userRateLimit = handlerMethod.getMethodAnnotation(UserRateLimit.class);
+        if (userRateLimit == null) {
+            return true;
+        }
+
+        UserRateLimiter.Decision decision = rateLimiter.acquire(userRateLimit.value(), caller(request));
+        response.setHeader(LIMIT_HEADER, Integer.toString(decision.limit()));
+        response.setHeader(REMAINING_HEADER, Long.toString(decision.remaining()));
+        response.setHeader(RESET_HEADER, Long.toString(seconds(decision.resetAfter())));
+        if (!decision.allowed()) {
+            response.setHeader(HttpHeaders.RETRY_AFTER, Long.toString(Math.max(1, seconds(decision.retryAfter()))));
+            throw new BankingServiceException(Messages.TOO_MANY_REQUESTS, HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return true;
+    }
+
+    private static String caller(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    /**
+     * Whole seconds, rounded up, so a client that waits that long is never turned away again.
+     */
+    private static long seconds(Duration duration) {
+        return (duration.toNanos() + 999_999_999) / 1_000_000_000;
+    }
+}
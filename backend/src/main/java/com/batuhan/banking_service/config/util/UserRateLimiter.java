@@ -0,0 +1,242 @@
+package com.batuhan.banking_service.config.util;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Per-caller rate limits shared by every instance, using the generic cell rate algorithm (GCRA).
+ * <p>
+ * A limit of {@code limit} requests per {@code period} with a burst of {@code burst} lets one request through every
+ * {@code period / limit}, and up to {@code burst} at once after a quiet spell. GCRA stores one timestamp per caller,
+ * the theoretical arrival time (TAT), instead of a token count and a refill time. It is updated in a Lua script
+ * under Redis's clock, so the instances agree without synchronised clocks. Without Redis, or while it is
+ * unreachable, the same algorithm runs in memory, and each instance enforces the full limit on its own.
+ * <p>
+ * Two local caches save round trips. A call to Redis takes a lease of up to {@code lease-fraction} of the burst,
+ * and the following requests spend it locally until it expires after {@code lease-ttl}. Leased tokens are already
+ * spent in Redis, so an expired lease can only make the limit stricter, never looser. A rejection is remembered
+ * until the caller may retry, so a client hammering a spent limit costs no Redis calls at all.
+ * <p>
+ * Meter {@value #DECISIONS}, tagged with {@code limit}, {@code outcome} ({@code allowed} or {@code rejected}) and
+ * {@code source}: {@code redis}, {@code local} (in-memory fallback), {@code lease} or {@code rejection} (cached).
+ */
+@Slf4j
+public class UserRateLimiter {
+
+    public static final String DECISIONS = "banking.rate-limit.decisions";
+
+    private static final long MICROS_PER_SECOND = 1_000_000L;
+    private static final int SWEEP_THRESHOLD = 10_000;
+
+    /**
+     * KEYS[1] = TAT key; ARGV = emission interval, burst window (both in microseconds), tokens wanted.
+     * Grants as many of the wanted tokens as the burst allows and returns
+     * {granted, remaining, retry after, reset after}, the last two in microseconds.
+     */
+    private static final RedisScript<List> GCRA_SCRIPT = new DefaultRedisScript<>("""
+            local clock = redis.call('TIME')
+            local now = tonumber(clock[1]) * 1000000 + tonumber(clock[2])
+            local interval = tonumber(ARGV[1])
+            local window = tonumber(ARGV[2])
+            local tat = math.max(tonumber(redis.call('GET', KEYS[1]) or 0), now)
+            local available = math.floor((now + window - tat) / interval)
+            local granted = math.min(tonumber(ARGV[3]), available)
+            if granted < 1 then
+                return {0, 0, tat + interval - window - now, tat - now}
+            end
+            tat = tat + granted * interval
+            redis.call('SET', KEYS[1], string.format('%d', tat), 'PX', math.ceil((tat - now) / 1000))
+            return {granted, available - granted, 0, tat - now}
+            """, List.class);
+
+    /**
+     * {@code limit} requests per {@code period}, at most {@code burst} of them back to back; a burst of 0 means
+     * {@code limit}.
+     */
+    public record Limit(int limit, Duration period, int burst) {
+
+        public Limit {
+            if (limit < 1 || period == null || period.isNegative() || period.isZero() || burst < 0) {
+                throw new IllegalArgumentException("A rate limit needs a positive limit and period");
+            }
+            if (burst == 0) {
+                burst = limit;
+            }
+        }
+
+        long intervalMicros() {
+            return Math.max(1, period.toNanos() / 1_000 / limit);
+        }
+
+        long windowMicros() {
+            return intervalMicros() * burst;
+        }
+    }
+
+    /**
+     * The answer for one request, with what to report in the {@code RateLimit-*} headers.
+     */
+    public record Decision(boolean allowed, int limit, long remaining, Duration resetAfter, Duration retryAfter) {}
+
+    private record Grant(int granted, long remaining, long retryAfterMicros, long resetAfterMicros) {}
+
+    private final Map<String, Limit> limits;
+    private final StringRedisTemplate redisTemplate;
+    private final String keyPrefix;
+    private final double leaseFraction;
+    private final long leaseTtlMicros;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock;
+    private final Map<String, CallerState> callers = new ConcurrentHashMap<>();
+
+    public UserRateLimiter(Map<String, Limit> limits, StringRedisTemplate redisTemplate, String keyPrefix,
+                           double leaseFraction, Duration leaseTtl, MeterRegistry meterRegistry, Clock clock) {
+        this.limits = Map.copyOf(limits);
+        this.redisTemplate = redisTemplate;
+        this.keyPrefix = keyPrefix;
+        this.leaseFraction = leaseFraction;
+        this.leaseTtlMicros = leaseTtl.toNanos() / 1_000;
+        this.meterRegistry = meterRegistry;
+        this.clock = clock;
+    }
+
+    /**
+     * Takes one request from the caller's budget under the named limit.
+     */
+    public Decision acquire(String name, String caller) {
+        Limit limit = limits.get(name);
+        if (limit == null) {
+            throw new IllegalArgumentException("No rate limit configured under application.rate-limits.limits." + name);
+        }
+        String key = keyPrefix + ":" + name + ":" + caller;
+        CallerState state = callers.computeIfAbsent(key, k -> new CallerState());
+        if (callers.size() > SWEEP_THRESHOLD) {
+            long now = nowMicros();
+            callers.values().removeIf(candidate -> candidate.idleSince(now));
+        }
+
+        // The Redis call runs under the caller's lock, so it is a ReentrantLock: a monitor would pin a virtual thread
+        state.lock.lock();
+        try {
+            long now = nowMicros();
+            if (now < state.rejectedUntil) {
+                return record(name, "rejection", rejected(limit, state.rejectedUntil - now, state.resetAt - now));
+            }
+            if (state.leased > 0 && now < state.leaseExpiresAt) {
+                state.leased--;
+                return record(name, "lease", allowed(limit, state.remaining + state.leased, state.resetAt - now));
+            }
+
+            String source = "redis";
+            Grant grant = redisTemplate != null ? takeFromRedis(key, limit) : null;
+            if (grant == null) {
+                source = "local";
+                grant = takeLocally(state, limit, now);
+            }
+
+            state.resetAt = now + grant.resetAfterMicros();
+            if (grant.granted() == 0) {
+                state.leased = 0;
+                state.rejectedUntil = now + grant.retryAfterMicros();
+                return record(name, source, rejected(limit, grant.retryAfterMicros(), grant.resetAfterMicros()));
+            }
+            state.leased = grant.granted() - 1;
+            state.leaseExpiresAt = now + leaseTtlMicros;
+            state.remaining = grant.remaining();
+            return record(name, source, allowed(limit, grant.remaining() + state.leased, grant.resetAfterMicros()));
+        } finally {
+            state.lock.unlock();
+        }
+    }
+
+    private Grant takeFromRedis(String key, Limit limit) {
+        int wanted = Math.max(1, (int) (limit.burst() * leaseFraction));
+        try {
+            List<?> result = redisTemplate.execute(GCRA_SCRIPT, List.of(key),
+                    Long.toString(limit.intervalMicros()), Long.toString(limit.windowMicros()), Integer.toString(wanted));
+            if (result == null || result.size() != 4) {
+                log.warn("Rate limit: unexpected reply from Redis for {}: {}", key, result);
+                return null;
+            }
+            return new Grant(((Number) result.get(0)).intValue(), ((Number) result.get(1)).longValue(),
+                    ((Number) result.get(2)).longValue(), ((Number) result.get(3)).longValue());
+        } catch (DataAccessException e) {
+            log.warn("Rate limit: Redis unavailable for {}, limiting on this instance only: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * The script's arithmetic on this instance's clock, for when Redis is off or unreachable; nothing to lease.
+     */
+    private static Grant takeLocally(CallerState state, Limit limit, long now) {
+        long interval = limit.intervalMicros();
+        long window = limit.windowMicros();
+        long tat = Math.max(state.localTat, now);
+        long available = (now + window - tat) / interval;
+        if (available < 1) {
+            return new Grant(0, 0, tat + interval - window - now, tat - now);
+        }
+        state.localTat = tat + interval;
+        return new Grant(1, available - 1, 0, state.localTat - now);
+    }
+
+    private Decision record(String name, String source, Decision decision) {
+        meterRegistry.counter(DECISIONS, "limit", name, "outcome", decision.allowed() ? "allowed" : "rejected", "source", source)
+                .increment();
+        return decision;
+    }
+
+    private static Decision allowed(Limit limit, long remaining, long resetAfterMicros) {
+        return new Decision(true, limit.burst(), remaining, micros(resetAfterMicros), Duration.ZERO);
+    }
+
+    private static Decision rejected(Limit limit, long retryAfterMicros, long resetAfterMicros) {
+        return new Decision(false, limit.burst(), 0, micros(resetAfterMicros), micros(retryAfterMicros));
+    }
+
+    private static Duration micros(long micros) {
+        return Duration.of(Math.max(0, micros), ChronoUnit.MICROS);
+    }
+
+    private long nowMicros() {
+        Instant now = clock.instant();
+        return now.getEpochSecond() * MICROS_PER_SECOND + now.getNano() / 1_000;
+    }
+
+    /**
+     * What this instance knows about one caller under one limit. Guarded by its own lock.
+     */
+    private static final class CallerState {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private int leased;
+        private long leaseExpiresAt;
+        private long remaining;
+        private long rejectedUntil;
+        private long resetAt;
+        private long localTat;
+
+        private boolean idleSince(long now) {
+            lock.lock();
+            try {
+                return now >= leaseExpiresAt && now >= rejectedUntil && now >= localTat;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+}
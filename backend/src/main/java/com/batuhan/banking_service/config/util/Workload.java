@@ -0,0 +1,23 @@
+package com.batuhan.banking_service.config.util;
+
+import lombok.Getter;
+
+/**
+ * Classes of database work that get their own connection pool, so one cannot exhaust the connections of another.
+ */
+@Getter
+public enum Workload {
+
+    /** Money movement holding row locks; short transactions that must never wait behind reports. */
+    TRANSFER("transfer"),
+    /** Request-scoped reads and small writes; the default for anything not annotated. */
+    INTERACTIVE("interactive"),
+    /** Exports, dashboard aggregations and batch jobs; long-running and allowed to queue. */
+    REPORTING("reporting");
+
+    private final String poolName;
+
+    Workload(String poolName) {
+        this.poolName = poolName;
+    }
+}
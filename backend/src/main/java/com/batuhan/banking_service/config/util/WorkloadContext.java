@@ -0,0 +1,67 @@
+package com.batuhan.banking_service.config.util;
+
+import java.util.function.Supplier;
+
+/**
+ * Holds the workload of the current thread, read by {@link WorkloadRoutingDataSource} when a connection is fetched.
+ */
+public final class WorkloadContext {
+
+    private static final ThreadLocal<Workload> CURRENT = new ThreadLocal<>();
+
+    private WorkloadContext() {
+    }
+
+    public static Workload current() {
+        Workload workload = CURRENT.get();
+        return workload != null ? workload : Workload.INTERACTIVE;
+    }
+
+    /**
+     * Runs the action under the given workload and restores the previous one afterwards.
+     */
+    public static <T> T supply(Workload workload, Supplier<T> action) {
+        Workload previous = enter(workload);
+        try {
+            return action.get();
+        } finally {
+            restore(previous);
+        }
+    }
+
+    public static void run(Workload workload, Runnable action) {
+        supply(workload, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    /**
+     * Carries the submitting thread's workload over to an executor thread; usable as a {@code TaskDecorator}.
+     */
+    public static Runnable propagate(Runnable task) {
+        Workload workload = CURRENT.get();
+        if (workload == null) {
+            return task;
+        }
+        return () -> run(workload, task);
+    }
+
+    /**
+     * Switches the current thread to the given workload and returns the previous one, {@code null} if there was
+     * none, to be handed to {@link #restore(Workload)} in a {@code finally} block.
+     */
+    public static Workload enter(Workload workload) {
+        Workload previous = CURRENT.get();
+        CURRENT.set(workload);
+        return previous;
+    }
+
+    public static void restore(Workload previous) {
+        if (previous == null) {
+            CURRENT.remove();
+        } else {
+            CURRENT.set(previous);
+        }
+    }
+}
@@ -0,0 +1,18 @@
+package com.batuhan.banking_service.config.util;
+
+import java.lang.annotation.*;
+
+/**
+ * Runs the annotated service method, and any transaction it starts, on the connection pool of the given workload.
+ * <p>
+ * Only a transaction that starts inside the method picks up the pool; a method joining an outer transaction keeps
+ * the connection that transaction already holds. Has no effect unless
+ * {@code application.datasource.workloads.enabled=true}.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface WorkloadPool {
+
+    Workload value();
+}
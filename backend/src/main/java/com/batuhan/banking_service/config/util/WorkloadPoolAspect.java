@@ -0,0 +1,39 @@
+package com.batuhan.banking_service.config.util;
+
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.core.annotation.Order;
+
+import java.lang.reflect.Method;
+
+/**
+ * Applies {@link WorkloadPool} before any other advice, so the transaction interceptor already sees the workload
+ * when it fetches the connection for a new transaction.
+ */
+@Aspect
+@Order(Ordered.HIGHEST_PRECEDENCE)
+public class WorkloadPoolAspect {
+
+    @Around("@annotation(com.batuhan.banking_service.config.util.WorkloadPool)")
+    public Object routeToPool(ProceedingJoinPoint joinPoint) throws Throwable {
+        Method method = ((MethodSignature) joinPoint.getSignature()).getMethod();
+        Class<?> targetClass = joinPoint.getTarget() != null ? AopUtils.getTargetClass(joinPoint.getTarget()) : method.getDeclaringClass();
+        WorkloadPool workloadPool = AnnotatedElementUtils.findMergedAnnotation(
+                AopUtils.getMostSpecificMethod(method, targetClass), WorkloadPool.class);
+        if (workloadPool == null) {
+            return joinPoint.proceed();
+        }
+
+        Workload previous = WorkloadContext.enter(workloadPool.value());
+        try {
+            return joinPoint.proceed();
+        } finally {
+            WorkloadContext.restore(previous);
+        }
+    }
+}
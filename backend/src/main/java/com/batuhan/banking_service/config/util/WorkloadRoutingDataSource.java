@@ -0,0 +1,55 @@
+package com.batuhan.banking_service.config.util;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Hands out connections from the pool of the current {@link WorkloadContext} workload, the interactive pool
+ * when none is set.
+ */
+@Slf4j
+public class WorkloadRoutingDataSource extends AbstractRoutingDataSource implements Closeable {
+
+    private final Map<Workload, DataSource> pools;
+
+    public WorkloadRoutingDataSource(Map<Workload, DataSource> pools) {
+        this.pools = new EnumMap<>(pools);
+        for (Workload workload : Workload.values()) {
+            if (!this.pools.containsKey(workload)) {
+                throw new IllegalArgumentException("No connection pool configured for workload " + workload);
+            }
+        }
+        setTargetDataSources(new LinkedHashMap<>(this.pools));
+        setDefaultTargetDataSource(this.pools.get(Workload.INTERACTIVE));
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return WorkloadContext.current();
+    }
+
+    public DataSource pool(Workload workload) {
+        return pools.get(workload);
+    }
+
+    @Override
+    public void close() {
+        pools.forEach((workload, pool) -> {
+            if (pool instanceof AutoCloseable closeable) {
+                try {
+                    closeable.close();
+                } catch (Exception e) {
+                    log.warn("Could not close {} pool: {}", workload.getPoolName(), e.getMessage());
+                }
+            }
+        });
+    }
+}
@@ -11,6 +11,7 @@ public final class Messages {
     public static final String USER_RETRIEVED = "User retrieved successfully";
     public static final String USER_DEACTIVATED = "User deactivated successfully";
     public static final String USERS_PAGINATED = "Users retrieved with pagination";
+    public static final String USERS_IMPORTED = "Bulk import completed";
 
     public static final String ACCOUNT_CREATED = "Account opened successfully";
     public static final String ACCOUNT_RETRIEVED = "Account details retrieved";
@@ -19,4 +20,14 @@ public final class Messages {
 
     public static final String TRANSFER_SUCCESS = "Transfer completed successfully";
     public static final String HISTORY_RETRIEVED = "Transaction history retrieved";
+    public static final String SEARCH_COMPLETED = "Transaction search completed";
+
+    public static final String SCHEDULED_TRANSFER_CREATED = "Scheduled transfer created successfully";
+    public static final String SCHEDULED_TRANSFERS_LISTED = "Scheduled transfers retrieved";
+    public static final String SCHEDULED_TRANSFER_CANCELLED = "Scheduled transfer cancelled successfully";
+
+    public static final String LOCK_DEADLOCK = "Transfer was aborted to resolve a deadlock, please retry";
+    public static final String LOCK_TIMEOUT = "Account is locked by another transfer, please retry";
+    public static final String TOO_MANY_REQUESTS = "Too many requests. Please wait a moment before trying again.";
+    public static final String DUPLICATE_RECORD = "A customer or account with the same unique details already exists";
 }
\ No newline at end of file
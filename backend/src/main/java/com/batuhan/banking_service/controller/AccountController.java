@@ -1,5 +1,6 @@
 package com.batuhan.banking_service.controller;
 
+import com.batuhan.banking_service.config.util.UserRateLimit;
 import com.batuhan.banking_service.constant.Messages;
 import com.batuhan.banking_service.dto.request.AccountCreateRequest;
 import com.batuhan.banking_service.dto.response.AccountResponse;
@@ -34,6 +35,7 @@ public class AccountController {
     @ApiResponse(responseCode = "201", description = "Account created successfully")
     @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isOwner(#request.customerNumber())")
     @RateLimiter(name = "accountCreationLimiter")
+    @UserRateLimit("account-creation")
     public ResponseEntity<GlobalResponse<AccountResponse>> createAccount(@Valid @RequestBody AccountCreateRequest request) {
         log.info("API Request: Open account for Customer: {}", request.customerNumber());
         AccountResponse response = accountService.createAccount(request);
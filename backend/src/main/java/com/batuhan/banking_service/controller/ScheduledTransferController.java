@@ -0,0 +1,75 @@
+package com.batuhan.banking_service.controller;
+
+import com.batuhan.banking_service.constant.Messages;
+import com.batuhan.banking_service.dto.common.GlobalResponse;
+import com.batuhan.banking_service.dto.request.ScheduledTransferRequest;
+import com.batuhan.banking_service.dto.response.ScheduledTransferResponse;
+import com.batuhan.banking_service.service.ScheduledTransferService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
+
+import java.net.URI;
+import java.util.UUID;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/scheduled-transfers")
+@RequiredArgsConstructor
+@Tag(name = "Scheduled Transfers", description = "Standing orders and future-dated transfers")
+public class ScheduledTransferController {
+
+    private final ScheduledTransferService scheduledTransferService;
+
+    @PostMapping
+    @Operation(summary = "Schedule a one-off or recurring transfer",
+            description = "Requires ADMIN role or to be the sender account owner. Each run is a regular transfer, validated against balance and daily limit at run time")
+    @ApiResponse(responseCode = "201", description = "Scheduled transfer created successfully")
+    @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isAccountOwner(#request.senderIban())")
+    public ResponseEntity<GlobalResponse<ScheduledTransferResponse>> createScheduledTransfer(
+            @Valid @RequestBody ScheduledTransferRequest request) {
+
+        log.info("API Request: Schedule {} transfer from {} to {}", request.frequency(), request.senderIban(), request.receiverIban());
+        ScheduledTransferResponse response = scheduledTransferService.createScheduledTransfer(request);
+
+        URI location = ServletUriComponentsBuilder
+                .fromCurrentRequest()
+                .path("/{externalId}")
+                .buildAndExpand(response.externalId())
+                .toUri();
+
+        return ResponseEntity.created(location)
+                .body(GlobalResponse.success(response, Messages.SCHEDULED_TRANSFER_CREATED));
+    }
+
+    @GetMapping
+    @Operation(summary = "List the scheduled transfers of an account")
+    @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isAccountOwner(#iban)")
+    public ResponseEntity<GlobalResponse<Page<ScheduledTransferResponse>>> getScheduledTransfers(
+            @RequestParam("iban") String iban,
+            @PageableDefault(size = 20, sort = "nextRunAt", direction = Sort.Direction.ASC) Pageable pageable) {
+
+        log.info("API Request: List scheduled transfers for IBAN: {}", iban);
+        Page<ScheduledTransferResponse> result = scheduledTransferService.getScheduledTransfers(iban, pageable);
+        return ResponseEntity.ok(GlobalResponse.success(result, Messages.SCHEDULED_TRANSFERS_LISTED));
+    }
+
+    @DeleteMapping("/{externalId}")
+    @Operation(summary = "Cancel a scheduled transfer", description = "Ownership is checked on the sender account of the loaded order")
+    public ResponseEntity<GlobalResponse<ScheduledTransferResponse>> cancelScheduledTransfer(@PathVariable UUID externalId) {
+        log.warn("API Request: CANCEL scheduled transfer {}", externalId);
+        ScheduledTransferResponse response = scheduledTransferService.cancelScheduledTransfer(externalId);
+        return ResponseEntity.ok(GlobalResponse.success(response, Messages.SCHEDULED_TRANSFER_CANCELLED));
+    }
+}
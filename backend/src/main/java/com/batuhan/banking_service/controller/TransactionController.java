@@ -1,38 +1,67 @@
 package com.batuhan.banking_service.controller;
 
+import com.batuhan.banking_service.config.util.UserRateLimit;
 import com.batuhan.banking_service.constant.Messages;
 import com.batuhan.banking_service.dto.common.GlobalResponse;
 import com.batuhan.banking_service.dto.common.TransactionCategoryDTO;
 import com.batuhan.banking_service.dto.common.TransactionSummaryDTO;
 import com.batuhan.banking_service.dto.common.WeeklyTrendDTO;
 import com.batuhan.banking_service.dto.request.TransactionRequest;
+import com.batuhan.banking_service.dto.response.DashboardResponse;
+import com.batuhan.banking_service.dto.response.ExportJobResponse;
 import com.batuhan.banking_service.dto.response.TransactionResponse;
-import com.batuhan.banking_service.service.ExcelService;
+import com.batuhan.banking_service.dto.response.TransactionSearchResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.service.ExportJobService;
+import com.batuhan.banking_service.service.TransactionExportService;
+import com.batuhan.banking_service.service.export.ExportJobFile;
 import com.batuhan.banking_service.service.TransactionService;
-import io.github.resilience4j.bulkhead.annotation.Bulkhead;
+import com.batuhan.banking_service.service.receipt.ReceiptDocument;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.core.io.Resource;
-import org.springframework.core.io.InputStreamResource;
+import org.apache.catalina.Globals;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.web.PageableDefault;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
-import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
 import java.math.BigDecimal;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPOutputStream;
 
 @Slf4j
 @RestController
@@ -41,8 +70,18 @@ import java.util.List;
 @Tag(name = "Transaction Management", description = "Operations related to money transfers, transaction history, and financial analytics")
 public class TransactionController {
 
+    private static final String EXCEL_BULKHEAD = "excelBulkhead";
+    private static final String EXPORT_BULKHEAD = "exportBulkhead";
+    private static final int GZIP_BUFFER_SIZE = 64 * 1024;
+    private static final String BULKHEAD_RELEASE_INTERCEPTOR = TransactionController.class.getName() + ".bulkheadRelease";
+    private static final String FILE_RELEASE_CALLBACK = TransactionController.class.getName() + ".fileRelease";
+    // Completed receipts never change: clients may keep them but revalidate, which re-checks ownership and costs a 304
+    private static final CacheControl RECEIPT_CACHE_CONTROL = CacheControl.noCache().cachePrivate();
+
     private final TransactionService transactionService;
-    private final ExcelService excelService;
+    private final TransactionExportService transactionExportService;
+    private final ExportJobService exportJobService;
+    private final BulkheadRegistry bulkheadRegistry;
 
     @PostMapping("/transfer")
     @Operation(summary = "Transfer money between accounts", description = "Requires ADMIN role or to be the sender account owner")
@@ -68,16 +107,33 @@ public class TransactionController {
     }
 
     @GetMapping("/receipt/{id}")
-    @Operation(summary = "Download transaction receipt (PDF)")
-    @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isTransactionOwner(#id)")
+    @Operation(summary = "Download transaction receipt (PDF)",
+            description = "Ownership is checked on the loaded transaction. Receipts of completed transactions are cached and carry a strong ETag; send If-None-Match to get 304 Not Modified")
     @RateLimiter(name = "receiptLimiter")
-    public ResponseEntity<byte[]> downloadReceipt(@PathVariable Long id) {
+    @UserRateLimit("receipt")
+    public ResponseEntity<StreamingResponseBody> downloadReceipt(@PathVariable Long id, ServletWebRequest webRequest) {
         log.info("API Request: Generating receipt for Transaction ID: {}", id);
-        byte[] pdfContent = transactionService.generateTransactionReceipt(id);
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=receipt_" + id + ".pdf")
-                .header(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_PDF_VALUE)
-                .body(pdfContent);
+        ReceiptDocument receipt = transactionService.generateTransactionReceipt(id);
+
+        try {
+            if (receipt.etag() != null && webRequest.checkNotModified(receipt.etag())) {
+                receipt.close();
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(RECEIPT_CACHE_CONTROL).build();
+            }
+
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + receipt.filename())
+                    .contentType(MediaType.APPLICATION_PDF);
+            if (!receipt.isOnDisk()) {
+                return response.body(receipt.writer()::writeTo);
+            }
+            // The cache keeps the file on disk until the receipt is closed, which serveFile does once the response is done
+            response.eTag(receipt.etag()).cacheControl(RECEIPT_CACHE_CONTROL).contentLength(receipt.sizeBytes());
+            return serveFile(webRequest.getRequest(), response, receipt.path(), receipt.sizeBytes(), receipt::close);
+        } catch (RuntimeException e) {
+            receipt.close();
+            throw e;
+        }
     }
 
     @GetMapping("/filter")
@@ -99,24 +155,106 @@ public class TransactionController {
         return ResponseEntity.ok(GlobalResponse.success(result, "Transactions filtered successfully"));
     }
 
+    @GetMapping("/search")
+    @Operation(summary = "Search transactions by description or counterparty name",
+            description = "Every term of at least 3 characters must match. Results are ranked by relevance, then newest first; pass nextCursor to get the next page. Amount and date filters work as in /filter")
+    @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isAccountOwner(#iban)")
+    public ResponseEntity<GlobalResponse<TransactionSearchResponse>> searchTransactions(
+            @RequestParam("iban") String iban,
+            @RequestParam("q") String query,
+            @RequestParam(required = false) BigDecimal minAmount,
+            @RequestParam(required = false) BigDecimal maxAmount,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime startDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime endDate,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+
+        String cleanIban = iban.trim();
+        log.info("API Request: Searching transactions for IBAN: {}", cleanIban);
+        TransactionSearchResponse result = transactionService.searchTransactions(
+                cleanIban, query, minAmount, maxAmount, startDate, endDate, cursor, size);
+
+        return ResponseEntity.ok(GlobalResponse.success(result, Messages.SEARCH_COMPLETED));
+    }
+
     @GetMapping("/download/excel")
-    @Operation(summary = "Export transaction history to Excel")
+    @Operation(summary = "Export transaction history to Excel",
+            description = "Streams the full history from a database cursor directly into the response")
     @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isAccountOwner(#iban)")
     @RateLimiter(name = "excelLimiter")
-    @Bulkhead(name = "excelBulkhead")
-    public ResponseEntity<Resource> downloadTransactionsExcel(@RequestParam("iban") String iban) {
-        String cleanIban = iban.trim();
-        log.info("Excel download requested for IBAN: {}", cleanIban);
-        List<TransactionResponse> transactions = transactionService.getAllTransactionsByIban(cleanIban);
-        ByteArrayInputStream in = excelService.transactionsToExcel(transactions);
+    @UserRateLimit("excel")
+    public ResponseEntity<StreamingResponseBody> downloadTransactionsExcel(@RequestParam("iban") String iban,
+                                                                           HttpServletRequest request) {
+        return streamExport(request, iban, ExportFormat.EXCEL, EXCEL_BULKHEAD, false);
+    }
 
-        String filename = "transactions_" + cleanIban + ".xlsx";
-        InputStreamResource file = new InputStreamResource(in);
+    @GetMapping("/download/csv")
+    @Operation(summary = "Export transaction history as CSV",
+            description = "Streams RFC 4180 CSV rows; the body is gzip-encoded when the client accepts it")
+    @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isAccountOwner(#iban)")
+    @RateLimiter(name = "exportLimiter")
+    @UserRateLimit("export")
+    public ResponseEntity<StreamingResponseBody> downloadTransactionsCsv(
+            @RequestParam("iban") String iban,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        return streamExport(request, iban, ExportFormat.CSV, EXPORT_BULKHEAD, acceptsGzip(acceptEncoding));
+    }
 
-        return ResponseEntity.ok()
-                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
-                .contentType(MediaType.parseMediaType("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet"))
-                .body(file);
+    @GetMapping("/download/ndjson")
+    @Operation(summary = "Export transaction history as newline-delimited JSON",
+            description = "Streams one JSON object per line; the body is gzip-encoded when the client accepts it")
+    @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isAccountOwner(#iban)")
+    @RateLimiter(name = "exportLimiter")
+    @UserRateLimit("export")
+    public ResponseEntity<StreamingResponseBody> downloadTransactionsNdjson(
+            @RequestParam("iban") String iban,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            HttpServletRequest request) {
+        return streamExport(request, iban, ExportFormat.NDJSON, EXPORT_BULKHEAD, acceptsGzip(acceptEncoding));
+    }
+
+    @PostMapping("/export-jobs")
+    @Operation(summary = "Start a background export",
+            description = "Queues the export on a dedicated worker pool and returns a job id to poll; suited for large histories")
+    @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isAccountOwner(#iban)")
+    @RateLimiter(name = "exportLimiter")
+    @UserRateLimit("export")
+    public ResponseEntity<GlobalResponse<ExportJobResponse>> submitExportJob(
+            @RequestParam("iban") String iban,
+            @RequestParam(value = "format", defaultValue = "CSV") ExportFormat format) {
+
+        log.info("API Request: Background {} export requested for IBAN: {}", format, iban);
+        ExportJobResponse job = exportJobService.submitExport(iban, format);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/api/v1/transactions/export-jobs/" + job.jobId())
+                .body(GlobalResponse.success(job, "Export job accepted"));
+    }
+
+    @GetMapping("/export-jobs/{jobId}")
+    @Operation(summary = "Get the status of a background export")
+    public ResponseEntity<GlobalResponse<ExportJobResponse>> getExportJob(@PathVariable UUID jobId) {
+        ExportJobResponse job = exportJobService.getExportJob(jobId);
+        return ResponseEntity.ok(GlobalResponse.success(job, "Export job retrieved"));
+    }
+
+    @GetMapping("/export-jobs/{jobId}/download")
+    @Operation(summary = "Download a completed background export",
+            description = "Served with the container's sendfile support when available, otherwise copied with FileChannel.transferTo")
+    public ResponseEntity<StreamingResponseBody> downloadExportJob(@PathVariable UUID jobId, HttpServletRequest request) {
+        ExportJobFile file = exportJobService.getExportFile(jobId);
+        log.info("API Request: Downloading export job {} ({} bytes)", jobId, file.sizeBytes());
+
+        try {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + file.filename())
+                    .contentType(MediaType.parseMediaType(file.format().getMediaType()))
+                    .contentLength(file.sizeBytes());
+            return serveFile(request, response, file.path(), file.sizeBytes(), file::close);
+        } catch (RuntimeException e) {
+            file.close();
+            throw e;
+        }
     }
 
     @GetMapping("/dashboard/summary")
@@ -145,4 +283,137 @@ public class TransactionController {
         List<TransactionCategoryDTO> analysis = transactionService.getCategoryAnalysis(iban);
         return ResponseEntity.ok(GlobalResponse.success(analysis, "Category analysis retrieved successfully"));
     }
-}
\ No newline at end of file
+
+    @GetMapping("/dashboard/{iban}")
+    @Operation(summary = "Get the complete dashboard in a single call",
+            description = "Summary, weekly trend and category analysis are loaded in parallel; sections that fail or time out are listed in unavailableSections")
+    // Ownership is checked once, by the service, before the sections fan out
+    public ResponseEntity<GlobalResponse<DashboardResponse>> getDashboard(@PathVariable String iban) {
+        log.info("API Request: Fetching composite dashboard for IBAN: {}", iban);
+        DashboardResponse dashboard = transactionService.getDashboard(iban);
+        return ResponseEntity.ok(GlobalResponse.success(dashboard, "Dashboard retrieved successfully"));
+    }
+
+    private ResponseEntity<StreamingResponseBody> streamExport(HttpServletRequest request, String iban, ExportFormat format,
+                                                              String bulkheadName, boolean gzip) {
+        String cleanIban = iban.trim();
+        log.info("{} download requested for IBAN: {}", format, cleanIban);
+
+        // The permit is held until the stream completes, not just until this method returns. It is released once:
+        // by the body, or by the async completion callback when the body never runs (rejected task, timeout, error).
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(bulkheadName);
+        bulkhead.acquirePermission();
+        Runnable releasePermit = releaseOnce(bulkhead);
+        try {
+            WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(BULKHEAD_RELEASE_INTERCEPTOR,
+                    new CallableProcessingInterceptor() {
+                        @Override
+                        public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                            releasePermit.run();
+                        }
+                    });
+
+            boolean compress = gzip && format.isCompressible();
+            StreamingResponseBody body = out -> {
+                try {
+                    if (compress) {
+                        GZIPOutputStream gzipOut = new GZIPOutputStream(out, GZIP_BUFFER_SIZE);
+                        transactionExportService.exportTransactions(cleanIban, format, gzipOut);
+                        gzipOut.finish();
+                    } else {
+                        transactionExportService.exportTransactions(cleanIban, format, out);
+                    }
+                } finally {
+                    releasePermit.run();
+                }
+            };
+
+            String filename = "transactions_" + cleanIban + "." + format.getFileExtension();
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=" + filename)
+                    .contentType(MediaType.parseMediaType(format.getMediaType()));
+            if (format.isCompressible()) {
+                response.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            }
+            if (compress) {
+                response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+            }
+            return response.body(body);
+        } catch (RuntimeException e) {
+            releasePermit.run();
+            throw e;
+        }
+    }
+
+    private static Runnable releaseOnce(Bulkhead bulkhead) {
+        AtomicBoolean released = new AtomicBoolean();
+        return () -> {
+            if (released.compareAndSet(false, true)) {
+                bulkhead.onComplete();
+            }
+        };
+    }
+
+    /**
+     * Tomcat hands the file to the kernel (sendfile) after the headers are written: no copy through the JVM.
+     * <p>
+     * {@code release} tells the file's owner that this response is done with it. With sendfile that is the end of
+     * the request; Tomcat opens the file just after it, which the owners' release grace allows for. Otherwise the
+     * copy runs asynchronously and {@code release} runs on async completion, so it also runs when the body never
+     * does (client abort, async timeout, rejected task).
+     */
+    private static ResponseEntity<StreamingResponseBody> serveFile(HttpServletRequest request, ResponseEntity.BodyBuilder response,
+                                                                  Path path, long sizeBytes, Runnable release) {
+        if (Boolean.TRUE.equals(request.getAttribute(Globals.SENDFILE_SUPPORTED_ATTR))) {
+            request.setAttribute(Globals.SENDFILE_FILENAME_ATTR, path.toAbsolutePath().toString());
+            request.setAttribute(Globals.SENDFILE_FILE_START_ATTR, 0L);
+            request.setAttribute(Globals.SENDFILE_FILE_END_ATTR, sizeBytes);
+            RequestContextHolder.currentRequestAttributes()
+                    .registerDestructionCallback(FILE_RELEASE_CALLBACK, release, RequestAttributes.SCOPE_REQUEST);
+            return response.build();
+        }
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(FILE_RELEASE_CALLBACK,
+                new CallableProcessingInterceptor() {
+                    @Override
+                    public <T> void afterCompletion(NativeWebRequest webRequest, Callable<T> task) {
+                        release.run();
+                    }
+                });
+        return response.body(out -> transferFile(path, out));
+    }
+
+    private static void transferFile(Path path, OutputStream out) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            WritableByteChannel target = Channels.newChannel(out);
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                position += channel.transferTo(position, size - position, target);
+            }
+        }
+    }
+
+    private static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String token : acceptEncoding.split(",")) {
+            String[] parts = token.trim().split(";");
+            if (!"gzip".equals(parts[0].trim().toLowerCase(Locale.ROOT))) {
+                continue;
+            }
+            for (int i = 1; i < parts.length; i++) {
+                String param = parts[i].trim();
+                if (param.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(param.substring(2)) > 0;
+                    } catch (NumberFormatException e) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+}
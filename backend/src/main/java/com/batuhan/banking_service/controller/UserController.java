@@ -1,10 +1,14 @@
 package com.batuhan.banking_service.controller;
 
+import com.batuhan.banking_service.config.util.UserRateLimit;
 import com.batuhan.banking_service.constant.Messages;
 import com.batuhan.banking_service.dto.common.GlobalResponse;
 import com.batuhan.banking_service.dto.request.UserCreateRequest;
 import com.batuhan.banking_service.dto.request.UserUpdateRequest;
+import com.batuhan.banking_service.dto.response.BulkOnboardingResponse;
 import com.batuhan.banking_service.dto.response.UserResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.service.BulkOnboardingService;
 import com.batuhan.banking_service.service.UserService;
 import io.github.resilience4j.ratelimiter.annotation.RateLimiter;
 import io.swagger.v3.oas.annotations.Operation;
@@ -15,12 +19,15 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableDefault;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.oauth2.server.resource.authentication.JwtAuthenticationToken;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 
+import java.io.InputStream;
 import java.net.URI;
 import java.util.LinkedHashMap;
 import java.util.Map;
@@ -33,10 +40,12 @@ import java.util.Map;
 public class UserController {
 
     private final UserService userService;
+    private final BulkOnboardingService bulkOnboardingService;
 
     @PostMapping
     @Operation(summary = "Register a new user", description = "Public endpoint to create a new banking customer")
     @RateLimiter(name = "userCreationLimiter")
+    @UserRateLimit("user-creation")
     public ResponseEntity<GlobalResponse<UserResponse>> createUser(@Valid @RequestBody UserCreateRequest request) {
         log.info("API Request: Create user for email: {}", request.email());
         UserResponse response = userService.createUser(request);
@@ -51,6 +60,20 @@ public class UserController {
                 .body(GlobalResponse.success(response, Messages.USER_CREATED));
     }
 
+    @PostMapping(value = "/import", consumes = {"text/csv", "application/x-ndjson"})
+    @Operation(summary = "Bulk import customers with accounts (Admin Only)",
+            description = "Streams a CSV or NDJSON file, imports every valid row with an address and an account, and reports the rejected rows")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<GlobalResponse<BulkOnboardingResponse>> importUsers(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) String contentType, InputStream body) {
+        ExportFormat format = MediaType.parseMediaType(contentType)
+                .isCompatibleWith(MediaType.parseMediaType(ExportFormat.NDJSON.getMediaType()))
+                ? ExportFormat.NDJSON : ExportFormat.CSV;
+        log.info("API Request: Bulk onboarding from a {} file", format);
+        BulkOnboardingResponse response = bulkOnboardingService.importCustomers(body, format);
+        return ResponseEntity.ok(GlobalResponse.success(response, Messages.USERS_IMPORTED));
+    }
+
     @PutMapping("/{customerNumber}")
     @Operation(summary = "Update user details", description = "Requires ADMIN role or to be the profile owner")
     @PreAuthorize("hasRole('ADMIN') or @bankingBusinessValidator.isOwner(#customerNumber)")
@@ -0,0 +1,14 @@
+package com.batuhan.banking_service.dto.common;
+
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+
+import java.math.BigDecimal;
+
+public record StatementAccountDTO(
+        Long accountId,
+        String iban,
+        CurrencyType currency,
+        BigDecimal balance,
+        String firstName,
+        String lastName
+) {}
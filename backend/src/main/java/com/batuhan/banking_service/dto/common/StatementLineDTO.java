@@ -0,0 +1,13 @@
+package com.batuhan.banking_service.dto.common;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+
+public record StatementLineDTO(
+        LocalDateTime createdAt,
+        String referenceNumber,
+        String description,
+        String senderIban,
+        String receiverIban,
+        BigDecimal amount
+) {}
@@ -0,0 +1,57 @@
+package com.batuhan.banking_service.dto.request;
+
+import com.batuhan.banking_service.dto.common.AddressDto;
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.validator.MinAge;
+import com.batuhan.banking_service.validator.ValidTckn;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One customer of a bulk onboarding file: the user, their address and the account opened for them.
+ * A blank {@code iban} gets a newly allocated one; a given one is checked by the import and kept, e.g. when
+ * migrating existing accounts.
+ */
+public record OnboardingRow(
+
+        @NotBlank(message = "First name cannot be empty")
+        @Size(min = 2, max = 50, message = "First name must be between 2-50 characters")
+        String firstName,
+
+        @NotBlank(message = "Last name cannot be empty")
+        @Size(max = 50, message = "Last name must be at most 50 characters")
+        String lastName,
+
+        @NotBlank(message = "TCKN is required")
+        @ValidTckn
+        String tckn,
+
+        @NotBlank(message = "Email is required")
+        @Email(message = "Please provide a valid email address")
+        @Size(max = 100, message = "Email must be at most 100 characters")
+        String email,
+
+        @NotNull(message = "Birth date is required")
+        @MinAge(value = 18, message = "You must be at least 18 years old")
+        LocalDate birthDate,
+
+        @NotBlank(message = "Phone number is required")
+        @Pattern(regexp = "^\\+?[1-9]\\d{1,13}$", message = "Phone number must be in international format (e.g., +905...)")
+        String phoneNumber,
+
+        @NotNull(message = "Address information is missing")
+        @Valid
+        AddressDto address,
+
+        @NotNull(message = "Currency type is required")
+        CurrencyType currency,
+
+        @NotNull(message = "Daily limit is required")
+        @DecimalMin(value = "0.0", inclusive = false)
+        BigDecimal dailyLimit,
+
+        String iban
+) {}
@@ -0,0 +1,20 @@
+package com.batuhan.banking_service.dto.response;
+
+import java.util.List;
+
+public record BulkOnboardingResponse(
+
+        long totalRows,
+        long imported,
+        long rejected,
+        long elapsedMillis,
+        List<RowError> errors,
+        boolean errorsTruncated
+) {
+
+    /**
+     * Why a row was rejected; {@code row} is the 1-based position of the record in the file, not counting the CSV
+     * header, and {@code field} is null when the error concerns the whole row.
+     */
+    public record RowError(long row, String field, String message) {}
+}
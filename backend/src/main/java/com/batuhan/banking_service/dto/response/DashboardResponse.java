@@ -0,0 +1,15 @@
+package com.batuhan.banking_service.dto.response;
+
+import com.batuhan.banking_service.dto.common.TransactionCategoryDTO;
+import com.batuhan.banking_service.dto.common.TransactionSummaryDTO;
+import com.batuhan.banking_service.dto.common.WeeklyTrendDTO;
+
+import java.util.List;
+
+public record DashboardResponse(
+
+        TransactionSummaryDTO summary,
+        List<WeeklyTrendDTO> weeklyTrend,
+        List<TransactionCategoryDTO> categories,
+        List<String> unavailableSections
+) {}
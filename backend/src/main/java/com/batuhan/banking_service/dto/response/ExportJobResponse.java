@@ -0,0 +1,21 @@
+package com.batuhan.banking_service.dto.response;
+
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.entity.enums.ExportJobStatus;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ExportJobResponse(
+
+        UUID jobId,
+        String iban,
+        ExportFormat format,
+        ExportJobStatus status,
+        Long rowCount,
+        Long sizeBytes,
+        LocalDateTime submittedAt,
+        LocalDateTime completedAt,
+        LocalDateTime expiresAt,
+        String failureReason
+) {}
@@ -0,0 +1,29 @@
+package com.batuhan.banking_service.dto.response;
+
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.ScheduledTransferStatus;
+import com.batuhan.banking_service.entity.enums.TransferFrequency;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+public record ScheduledTransferResponse(
+
+        UUID externalId,
+        String senderIban,
+        String receiverIban,
+        BigDecimal amount,
+        CurrencyType currency,
+        String description,
+        TransferFrequency frequency,
+        LocalDateTime firstRunAt,
+        LocalDate endDate,
+        LocalDateTime nextRunAt,
+        ScheduledTransferStatus status,
+        int attempts,
+        String lastError,
+        String lastReferenceNumber,
+        LocalDateTime lastRunAt
+) {}
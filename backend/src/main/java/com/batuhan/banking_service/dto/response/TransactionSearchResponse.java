@@ -0,0 +1,9 @@
+package com.batuhan.banking_service.dto.response;
+
+import java.util.List;
+
+public record TransactionSearchResponse(
+
+        List<TransactionResponse> items,
+        String nextCursor
+) {}
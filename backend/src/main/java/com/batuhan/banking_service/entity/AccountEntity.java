@@ -5,6 +5,10 @@ import com.batuhan.banking_service.entity.enums.CurrencyType;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.math.BigDecimal;
 import java.util.UUID;
@@ -14,6 +18,8 @@ import java.util.UUID;
         @Index(name = "idx_account_iban", columnList = "iban"),
         @Index(name = "idx_account_external_id", columnList = "externalId")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "accounts")
+@NaturalIdCache(region = "accounts-by-iban")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -29,6 +35,7 @@ public class AccountEntity extends BaseEntity {
     @Column(unique = true, nullable = false, updatable = false)
     private UUID externalId = UUID.randomUUID();
 
+    @NaturalId
     @Column(unique = true, nullable = false, length = 34)
     private String iban;
 
@@ -54,7 +61,4 @@ public class AccountEntity extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
     private UserEntity user;
-
-    @OneToOne(mappedBy = "account", cascade = CascadeType.ALL, fetch = FetchType.LAZY)
-    private AccountLimitEntity dailyUsage;
 }
\ No newline at end of file
@@ -3,6 +3,8 @@ package com.batuhan.banking_service.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -14,6 +16,7 @@ import java.util.UUID;
         @Index(name = "idx_address_city", columnList = "city"),
         @Index(name = "idx_address_district", columnList = "district")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "addresses")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -0,0 +1,95 @@
+package com.batuhan.banking_service.entity;
+
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.ScheduledTransferStatus;
+import com.batuhan.banking_service.entity.enums.TransferFrequency;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * A standing order or future-dated transfer. Created and cancelled through JPA; runs are claimed and recorded by
+ * {@code ScheduledTransferStore} with plain SQL, which bumps {@code version} like Hibernate would.
+ */
+@Entity
+@Table(name = "scheduled_transfers", indexes = {
+        @Index(name = "idx_scheduled_transfer_due", columnList = "status, nextRunAt"),
+        @Index(name = "idx_scheduled_transfer_sender", columnList = "senderIban")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+public class ScheduledTransferEntity extends BaseEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Builder.Default
+    @Column(unique = true, nullable = false, updatable = false)
+    private UUID externalId = UUID.randomUUID();
+
+    @Column(nullable = false, length = 50)
+    private String senderIban;
+
+    @Column(nullable = false, length = 50)
+    private String receiverIban;
+
+    /** Holder of the sender account when the order was set up; every run is made as, and only for, this user. */
+    @Column(updatable = false)
+    private String ownerEmail;
+
+    @Column(nullable = false, precision = 19, scale = 4)
+    private BigDecimal amount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private CurrencyType currency;
+
+    private String description;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private TransferFrequency frequency;
+
+    @Column(nullable = false)
+    private LocalDateTime firstRunAt;
+
+    private LocalDate endDate;
+
+    @Column(nullable = false)
+    private LocalDateTime nextRunAt;
+
+    /** Index of the occurrence due at {@code nextRunAt}, 0 being the first run. */
+    @Builder.Default
+    @Column(nullable = false)
+    private int occurrence = 0;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private ScheduledTransferStatus status;
+
+    /** Failed attempts at the current occurrence. */
+    @Builder.Default
+    @Column(nullable = false)
+    private int attempts = 0;
+
+    private String lastError;
+
+    @Column(length = 50)
+    private String lastReferenceNumber;
+
+    private LocalDateTime lastRunAt;
+
+    @Column(length = 64)
+    private String claimedBy;
+
+    private LocalDateTime claimedUntil;
+}
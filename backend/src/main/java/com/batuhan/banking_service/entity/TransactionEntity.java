@@ -1,6 +1,7 @@
 package com.batuhan.banking_service.entity;
 
 import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.TransactionCategory;
 import com.batuhan.banking_service.entity.enums.TransactionStatus;
 import com.batuhan.banking_service.entity.enums.TransactionType;
 import jakarta.persistence.*;
@@ -15,7 +16,10 @@ import java.util.UUID;
         @Index(name = "idx_transaction_external_id", columnList = "externalId"),
         @Index(name = "idx_transaction_reference", columnList = "referenceNumber"),
         @Index(name = "idx_transaction_sender_acc", columnList = "sender_account_id"),
-        @Index(name = "idx_transaction_receiver_acc", columnList = "receiver_account_id")
+        @Index(name = "idx_transaction_receiver_acc", columnList = "receiver_account_id"),
+        @Index(name = "idx_transaction_sender_category", columnList = "sender_account_id, category"),
+        @Index(name = "idx_transaction_sender_created", columnList = "sender_account_id, createdAt"),
+        @Index(name = "idx_transaction_receiver_created", columnList = "receiver_account_id, createdAt")
 })
 @Getter
 @Setter
@@ -53,6 +57,10 @@ public class TransactionEntity extends BaseEntity {
     @Column(length = 255)
     private String description;
 
+    @Enumerated(EnumType.STRING)
+    @Column(length = 30)
+    private TransactionCategory category;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "sender_account_id", nullable = false)
     private AccountEntity senderAccount;
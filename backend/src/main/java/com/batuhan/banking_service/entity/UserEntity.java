@@ -4,6 +4,10 @@ import com.batuhan.banking_service.entity.enums.Role;
 import jakarta.persistence.*;
 import lombok.*;
 import lombok.experimental.SuperBuilder;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.util.ArrayList;
@@ -15,6 +19,8 @@ import java.util.List;
         @Index(name = "idx_user_email", columnList = "email"),
         @Index(name = "idx_user_customer_no", columnList = "customerNumber")
 })
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
+@NaturalIdCache(region = "users-by-customer-number")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -38,6 +44,7 @@ public class UserEntity extends BaseEntity {
     @Column(unique = true, nullable = false, length = 11)
     private String tckn;
 
+    @NaturalId
     @Column(unique = true, nullable = false, length = 10)
     private String customerNumber;
 
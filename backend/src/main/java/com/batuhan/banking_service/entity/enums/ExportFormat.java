@@ -0,0 +1,21 @@
+package com.batuhan.banking_service.entity.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ExportFormat {
+
+    EXCEL("xlsx", "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", false),
+    CSV("csv", "text/csv", true),
+    NDJSON("ndjson", "application/x-ndjson", true);
+
+    private final String fileExtension;
+    private final String mediaType;
+    private final boolean compressible;
+
+    ExportFormat(String fileExtension, String mediaType, boolean compressible) {
+        this.fileExtension = fileExtension;
+        this.mediaType = mediaType;
+        this.compressible = compressible;
+    }
+}
@@ -0,0 +1,8 @@
+package com.batuhan.banking_service.entity.enums;
+
+public enum ExportJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,18 @@
+package com.batuhan.banking_service.entity.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum ScheduledTransferStatus {
+
+    ACTIVE("Waiting for its next run"),
+    COMPLETED("Every occurrence has been paid"),
+    FAILED("A non-recurring transfer could not be paid after all retries"),
+    CANCELLED("Cancelled by the account owner");
+
+    private final String description;
+
+    ScheduledTransferStatus(String description) {
+        this.description = description;
+    }
+}
@@ -0,0 +1,21 @@
+package com.batuhan.banking_service.entity.enums;
+
+import lombok.Getter;
+
+@Getter
+public enum TransactionCategory {
+
+    RENT("Rent"),
+    SHOPPING("Shopping"),
+    BILLS("Bills"),
+    SALARY("Salary"),
+    DINING("Dining"),
+    TRANSFER("Transfer"),
+    OTHER("Other");
+
+    private final String label;
+
+    TransactionCategory(String label) {
+        this.label = label;
+    }
+}
@@ -0,0 +1,31 @@
+package com.batuhan.banking_service.entity.enums;
+
+import java.time.LocalDateTime;
+
+/**
+ * How often a scheduled transfer repeats. Occurrences are counted from the first run rather than from the previous
+ * one, so an order set up for the 31st is paid on the last day of shorter months and on the 31st again afterwards.
+ */
+public enum TransferFrequency {
+
+    ONCE,
+    DAILY,
+    WEEKLY,
+    MONTHLY;
+
+    /**
+     * Due time of the given occurrence, 0 being the first run.
+     */
+    public LocalDateTime occurrence(LocalDateTime firstRunAt, int occurrence) {
+        return switch (this) {
+            case ONCE -> firstRunAt;
+            case DAILY -> firstRunAt.plusDays(occurrence);
+            case WEEKLY -> firstRunAt.plusWeeks(occurrence);
+            case MONTHLY -> firstRunAt.plusMonths(occurrence);
+        };
+    }
+
+    public boolean isRecurring() {
+        return this != ONCE;
+    }
+}
@@ -1,20 +1,25 @@
 package com.batuhan.banking_service.exception;
 
+import com.batuhan.banking_service.constant.Messages;
 import com.batuhan.banking_service.dto.common.GlobalResponse;
 import io.github.resilience4j.bulkhead.BulkheadFullException;
 import io.github.resilience4j.circuitbreaker.CallNotPermittedException;
 import io.github.resilience4j.ratelimiter.RequestNotPermitted;
 import io.swagger.v3.oas.annotations.Hidden;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.PessimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authorization.AuthorizationDeniedException;
 import org.springframework.validation.FieldError;
 import org.springframework.web.bind.MethodArgumentNotValidException;
+import org.springframework.web.bind.MissingServletRequestParameterException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 
+import java.sql.SQLException;
 import java.util.Map;
 import java.util.stream.Collectors;
 
@@ -23,6 +28,9 @@ import java.util.stream.Collectors;
 @Hidden
 public class GlobalExceptionHandler {
 
+    private static final String DEADLOCK_SQL_STATE = "40P01";
+    private static final String UNIQUE_VIOLATION_SQL_STATE = "23505";
+
     @ExceptionHandler(BankingServiceException.class)
     ResponseEntity<GlobalResponse<Void>> handleBankingException(BankingServiceException ex) {
         log.warn("Business Logic Violation: {}", ex.getMessage());
@@ -62,6 +70,16 @@ public class GlobalExceptionHandler {
                 .body(GlobalResponse.error(message));
     }
 
+    @ExceptionHandler(MissingServletRequestParameterException.class)
+    ResponseEntity<GlobalResponse<Void>> handleMissingParameter(MissingServletRequestParameterException ex) {
+        String message = String.format("Required parameter '%s' is missing", ex.getParameterName());
+
+        log.warn("Missing parameter: {}", message);
+        return ResponseEntity
+                .status(HttpStatus.BAD_REQUEST)
+                .body(GlobalResponse.error(message));
+    }
+
     @ExceptionHandler(AuthorizationDeniedException.class)
     ResponseEntity<GlobalResponse<Void>> handleAccessDeniedException(AuthorizationDeniedException ex) {
         log.warn("Access denied: {}", ex.getMessage());
@@ -75,7 +93,7 @@ public class GlobalExceptionHandler {
         log.warn("Rate limit exceeded: {}", e.getMessage());
         return ResponseEntity
                 .status(HttpStatus.TOO_MANY_REQUESTS)
-                .body(GlobalResponse.error("Too many requests. Please wait a moment before trying again."));
+                .body(GlobalResponse.error(Messages.TOO_MANY_REQUESTS));
     }
 
     @ExceptionHandler(CallNotPermittedException.class)
@@ -94,6 +112,42 @@ public class GlobalExceptionHandler {
                 .body(GlobalResponse.error("Server is busy processing heavy tasks. Please try again shortly."));
     }
 
+    /**
+     * A transfer that lost a deadlock or ran into the lock timeout changed nothing and can simply be retried.
+     */
+    @ExceptionHandler(PessimisticLockingFailureException.class)
+    ResponseEntity<GlobalResponse<Void>> handleLockFailure(PessimisticLockingFailureException ex) {
+        boolean deadlock = DEADLOCK_SQL_STATE.equals(sqlState(ex));
+        log.warn("Pessimistic lock failure ({}): {}", deadlock ? "deadlock" : "lock timeout", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(GlobalResponse.error(deadlock ? Messages.LOCK_DEADLOCK : Messages.LOCK_TIMEOUT));
+    }
+
+    /**
+     * A duplicate that got past the uniqueness checks, for instance one written by another instance, is rejected by
+     * the unique index and reported like the checks would have.
+     */
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    ResponseEntity<GlobalResponse<Void>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (!UNIQUE_VIOLATION_SQL_STATE.equals(sqlState(ex))) {
+            return handleGeneralException(ex);
+        }
+        log.warn("Unique constraint violation: {}", ex.getMostSpecificCause().getMessage());
+        return ResponseEntity
+                .status(HttpStatus.CONFLICT)
+                .body(GlobalResponse.error(Messages.DUPLICATE_RECORD));
+    }
+
+    private static String sqlState(Throwable ex) {
+        for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+            if (cause instanceof SQLException sqlException && sqlException.getSQLState() != null) {
+                return sqlException.getSQLState();
+            }
+        }
+        return null;
+    }
+
     @ExceptionHandler(Exception.class)
     ResponseEntity<GlobalResponse<Void>> handleGeneralException(Exception ex) {
         log.error("Unexpected error occurred: ", ex);
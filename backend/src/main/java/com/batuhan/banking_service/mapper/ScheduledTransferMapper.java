@@ -0,0 +1,11 @@
+package com.batuhan.banking_service.mapper;
+
+import com.batuhan.banking_service.dto.response.ScheduledTransferResponse;
+import com.batuhan.banking_service.entity.ScheduledTransferEntity;
+import org.mapstruct.Mapper;
+
+@Mapper(componentModel = "spring")
+public interface ScheduledTransferMapper {
+
+    ScheduledTransferResponse toResponse(ScheduledTransferEntity scheduledTransfer);
+}
@@ -0,0 +1,15 @@
+package com.batuhan.banking_service.repository;
+
+import com.batuhan.banking_service.entity.AccountEntity;
+
+import java.util.Optional;
+
+/**
+ * IBAN lookups through Hibernate's natural-id API, which resolves the IBAN and the account from the second-level
+ * cache before falling back to SQL. Unlike {@link AccountRepository#findByIban}, the holder is not fetched with
+ * the account; it is a proxy that is itself served from the {@code users} region once warm.
+ */
+public interface AccountNaturalIdQueries {
+
+    Optional<AccountEntity> loadByIban(String iban);
+}
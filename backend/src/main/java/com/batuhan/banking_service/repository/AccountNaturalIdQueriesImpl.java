@@ -0,0 +1,21 @@
+package com.batuhan.banking_service.repository;
+
+import com.batuhan.banking_service.entity.AccountEntity;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+class AccountNaturalIdQueriesImpl implements AccountNaturalIdQueries {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Optional<AccountEntity> loadByIban(String iban) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(AccountEntity.class)
+                .loadOptional(iban);
+    }
+}
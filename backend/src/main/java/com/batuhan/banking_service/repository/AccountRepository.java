@@ -1,7 +1,9 @@
 package com.batuhan.banking_service.repository;
 
+import com.batuhan.banking_service.dto.common.StatementAccountDTO;
 import com.batuhan.banking_service.entity.AccountEntity;
 import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
@@ -12,7 +14,7 @@ import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface AccountRepository extends JpaRepository<AccountEntity, Long> {
+public interface AccountRepository extends JpaRepository<AccountEntity, Long>, AccountNaturalIdQueries {
 
     boolean existsByIban(String iban);
 
@@ -27,4 +29,14 @@ public interface AccountRepository extends JpaRepository<AccountEntity, Long> {
     Optional<AccountEntity> findByIbanWithLock(@Param("iban") String iban);
 
     List<AccountEntity> findByActiveTrue();
+
+    /**
+     * Keyset page of active accounts after {@code afterId}, so batch jobs can walk every account in bounded chunks.
+     */
+    @Query("SELECT new com.batuhan.banking_service.dto.common.StatementAccountDTO(" +
+            "a.id, a.iban, a.currency, a.balance, u.firstName, u.lastName) " +
+            "FROM AccountEntity a JOIN a.user u " +
+            "WHERE a.active = true AND a.id > :afterId " +
+            "ORDER BY a.id ASC")
+    List<StatementAccountDTO> findActiveStatementAccounts(@Param("afterId") Long afterId, Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,33 @@
+package com.batuhan.banking_service.repository;
+
+import com.batuhan.banking_service.entity.ScheduledTransferEntity;
+import com.batuhan.banking_service.entity.enums.ScheduledTransferStatus;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface ScheduledTransferRepository extends JpaRepository<ScheduledTransferEntity, Long> {
+
+    Optional<ScheduledTransferEntity> findByExternalId(UUID externalId);
+
+    Page<ScheduledTransferEntity> findBySenderIban(String senderIban, Pageable pageable);
+
+    /**
+     * Cancels only a still active transfer; a run in progress holds the row lock, so this waits for it to finish.
+     */
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE ScheduledTransferEntity s SET s.status = :cancelled, s.claimedBy = null, s.claimedUntil = null, " +
+            "s.updatedAt = CURRENT_TIMESTAMP, " +
+            "s.version = s.version + 1 WHERE s.externalId = :externalId AND s.status = :active")
+    int cancel(@Param("externalId") UUID externalId,
+               @Param("active") ScheduledTransferStatus active,
+               @Param("cancelled") ScheduledTransferStatus cancelled);
+}
@@ -1,25 +1,68 @@
 package com.batuhan.banking_service.repository;
 
+import com.batuhan.banking_service.dto.common.StatementLineDTO;
 import com.batuhan.banking_service.dto.common.TransactionSummaryDTO;
 import com.batuhan.banking_service.dto.common.WeeklyTrendDTO;
+import com.batuhan.banking_service.dto.response.TransactionResponse;
 import com.batuhan.banking_service.entity.TransactionEntity;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<TransactionEntity, Long>,
-        JpaSpecificationExecutor<TransactionEntity> {
+        JpaSpecificationExecutor<TransactionEntity>, TransactionResponseQueries {
+
+    /**
+     * Selects {@link TransactionResponse} rows with both account holders' names joined in, for list endpoints.
+     */
+    String SELECT_RESPONSE = "SELECT new com.batuhan.banking_service.dto.response.TransactionResponse(" +
+            "t.externalId, sa.iban, CONCAT(su.firstName, ' ', su.lastName), " +
+            "ra.iban, CONCAT(ru.firstName, ' ', ru.lastName), " +
+            "t.amount, t.transactionType, t.status, t.description, t.createdAt, t.referenceNumber) " +
+            "FROM TransactionEntity t " +
+            "JOIN t.senderAccount sa JOIN sa.user su " +
+            "JOIN t.receiverAccount ra JOIN ra.user ru ";
+
+    @Query(value = SELECT_RESPONSE + "WHERE sa.iban = :iban OR ra.iban = :iban",
+            countQuery = "SELECT COUNT(t) FROM TransactionEntity t " +
+                    "WHERE t.senderAccount.iban = :iban OR t.receiverAccount.iban = :iban")
+    Page<TransactionResponse> findResponsesByIban(@Param("iban") String iban, Pageable pageable);
+
+    /**
+     * Loads a transaction with both accounts and both account holders in a single query, so ownership checks and
+     * receipt rendering never trigger lazy loads.
+     */
+    @Query("SELECT t FROM TransactionEntity t " +
+            "JOIN FETCH t.senderAccount sa JOIN FETCH sa.user " +
+            "JOIN FETCH t.receiverAccount ra JOIN FETCH ra.user " +
+            "WHERE t.id = :id")
+    Optional<TransactionEntity> findReceiptById(@Param("id") Long id);
 
-    @Query("SELECT t FROM TransactionEntity t WHERE t.senderAccount.iban = :iban OR t.receiverAccount.iban = :iban")
-    Page<TransactionEntity> findAllByIban(@Param("iban") String iban, Pageable pageable);
+    /**
+     * Forward-only cursor over the full history of an account for exports. Rows are DTOs, so nothing is
+     * attached to the persistence context. Must be consumed inside a read-only transaction and closed by the caller.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "500"),
+            @QueryHint(name = HINT_CACHEABLE, value = "false")
+    })
+    @Query(SELECT_RESPONSE + "WHERE sa.iban = :iban OR ra.iban = :iban ORDER BY t.createdAt DESC, t.id DESC")
+    Stream<TransactionResponse> streamResponsesByIban(@Param("iban") String iban);
 
     @Query("SELECT new com.batuhan.banking_service.dto.common.TransactionSummaryDTO(" +
             "COALESCE(SUM(CASE WHEN t.senderAccount.iban = :iban THEN t.amount ELSE 0 END), 0), " +
@@ -35,9 +78,29 @@ public interface TransactionRepository extends JpaRepository<TransactionEntity,
             "ORDER BY t.createdAt ASC")
     List<WeeklyTrendDTO> getWeeklySpendingTrend(@Param("iban") String iban, @Param("startDate") LocalDateTime startDate);
 
+    @Query("SELECT t.category, SUM(t.amount) " +
+            "FROM TransactionEntity t " +
+            "WHERE t.senderAccount.iban = :iban AND t.category IS NOT NULL " +
+            "GROUP BY t.category")
+    List<Object[]> getCategoryTotals(@Param("iban") String iban);
+
     @Query("SELECT t.description, SUM(t.amount) " +
             "FROM TransactionEntity t " +
-            "WHERE t.senderAccount.iban = :iban " +
+            "WHERE t.senderAccount.iban = :iban AND t.category IS NULL " +
             "GROUP BY t.description")
     List<Object[]> getRawCategoryData(@Param("iban") String iban);
-}
\ No newline at end of file
+
+    /**
+     * Completed movements of one account within {@code [from, to)}, in booking order, for month-end statements.
+     */
+    @Query("SELECT new com.batuhan.banking_service.dto.common.StatementLineDTO(" +
+            "t.createdAt, t.referenceNumber, t.description, t.senderAccount.iban, t.receiverAccount.iban, t.amount) " +
+            "FROM TransactionEntity t " +
+            "WHERE (t.senderAccount.id = :accountId OR t.receiverAccount.id = :accountId) " +
+            "AND t.status = com.batuhan.banking_service.entity.enums.TransactionStatus.COMPLETED " +
+            "AND t.createdAt >= :from AND t.createdAt < :to " +
+            "ORDER BY t.createdAt ASC, t.id ASC")
+    List<StatementLineDTO> findStatementLines(@Param("accountId") Long accountId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+}
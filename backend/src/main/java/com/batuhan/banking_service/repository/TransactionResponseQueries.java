@@ -0,0 +1,32 @@
+package com.batuhan.banking_service.repository;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.TransactionEntity;
+import com.batuhan.banking_service.repository.specification.TransactionTextSearch;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Specification-based reads that select {@link TransactionResponse} rows directly, joining both accounts and
+ * their holders in the same statement instead of loading entities and resolving names lazily per row.
+ */
+public interface TransactionResponseQueries {
+
+    /**
+     * One select for the page, plus one count query when the total cannot be derived from the page itself.
+     */
+    Page<TransactionResponse> findResponses(Specification<TransactionEntity> spec, Pageable pageable);
+
+    List<TransactionResponse> findResponses(Specification<TransactionEntity> spec, Sort sort);
+
+    /**
+     * Up to {@code limit} rows matching {@code spec}, best {@link TransactionTextSearch#rank rank} first, then newest
+     * first, starting strictly after {@code after} (or from the top when it is {@code null}).
+     */
+    List<TransactionTextSearch.Hit> search(Specification<TransactionEntity> spec, TransactionTextSearch search,
+                                           TransactionTextSearch.Cursor after, int limit);
+}
@@ -0,0 +1,160 @@
+package com.batuhan.banking_service.repository;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.AccountEntity;
+import com.batuhan.banking_service.entity.TransactionEntity;
+import com.batuhan.banking_service.entity.UserEntity;
+import com.batuhan.banking_service.entity.enums.TransactionStatus;
+import com.batuhan.banking_service.entity.enums.TransactionType;
+import com.batuhan.banking_service.repository.specification.TransactionTextSearch;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+@RequiredArgsConstructor
+class TransactionResponseQueriesImpl implements TransactionResponseQueries {
+
+    private final EntityManager entityManager;
+
+    @Override
+    public Page<TransactionResponse> findResponses(Specification<TransactionEntity> spec, Pageable pageable) {
+        TypedQuery<TransactionResponse> query = entityManager.createQuery(selectResponses(spec, pageable.getSort()));
+        if (pageable.isPaged()) {
+            query.setFirstResult(Math.toIntExact(pageable.getOffset()));
+            query.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(query.getResultList(), pageable, () -> count(spec));
+    }
+
+    @Override
+    public List<TransactionResponse> findResponses(Specification<TransactionEntity> spec, Sort sort) {
+        return entityManager.createQuery(selectResponses(spec, sort)).getResultList();
+    }
+
+    @Override
+    public List<TransactionTextSearch.Hit> search(Specification<TransactionEntity> spec, TransactionTextSearch search,
+                                                  TransactionTextSearch.Cursor after, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<TransactionEntity> root = query.from(TransactionEntity.class);
+        Expression<Integer> rank = search.rank(root, cb);
+        Path<LocalDateTime> createdAt = root.get("createdAt");
+        Path<Long> id = root.get("id");
+
+        List<Selection<?>> selections = new ArrayList<>(List.of(id, rank));
+        selections.addAll(responseSelections(root, cb));
+        query.multiselect(selections);
+
+        List<Predicate> predicates = new ArrayList<>();
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            predicates.add(predicate);
+        }
+        if (after != null) {
+            predicates.add(cb.or(
+                    cb.lessThan(rank, after.score()),
+                    cb.and(cb.equal(rank, after.score()), cb.or(
+                            cb.lessThan(createdAt, after.createdAt()),
+                            cb.and(cb.equal(createdAt, after.createdAt()), cb.lessThan(id, after.id()))))));
+        }
+        query.where(predicates.toArray(Predicate[]::new));
+        query.orderBy(cb.desc(rank), cb.desc(createdAt), cb.desc(id));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList().stream()
+                .map(row -> {
+                    TransactionResponse transaction = toResponse(row, 2);
+                    return new TransactionTextSearch.Hit(transaction, new TransactionTextSearch.Cursor(
+                            row.get(1, Number.class).intValue(), transaction.createdAt(), row.get(0, Long.class)));
+                })
+                .toList();
+    }
+
+    private CriteriaQuery<TransactionResponse> selectResponses(Specification<TransactionEntity> spec, Sort sort) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<TransactionResponse> query = cb.createQuery(TransactionResponse.class);
+        Root<TransactionEntity> root = query.from(TransactionEntity.class);
+        query.select(cb.construct(TransactionResponse.class, responseSelections(root, cb).toArray(Selection[]::new)));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        if (sort.isSorted()) {
+            query.orderBy(QueryUtils.toOrders(sort, root, cb));
+        }
+        return query;
+    }
+
+    private long count(Specification<TransactionEntity> spec) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = cb.createQuery(Long.class);
+        Root<TransactionEntity> root = query.from(TransactionEntity.class);
+        query.select(cb.count(root));
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        return entityManager.createQuery(query).getSingleResult();
+    }
+
+    /**
+     * The {@link TransactionResponse} components in declaration order; {@link #toResponse} reads them back.
+     */
+    private static List<Selection<?>> responseSelections(Root<TransactionEntity> root, CriteriaBuilder cb) {
+        Join<TransactionEntity, AccountEntity> sender = root.join("senderAccount");
+        Join<TransactionEntity, AccountEntity> receiver = root.join("receiverAccount");
+        return List.of(
+                root.get("externalId"),
+                sender.get("iban"),
+                fullName(cb, sender.join("user")),
+                receiver.get("iban"),
+                fullName(cb, receiver.join("user")),
+                root.get("amount"),
+                root.get("transactionType"),
+                root.get("status"),
+                root.get("description"),
+                root.get("createdAt"),
+                root.get("referenceNumber"));
+    }
+
+    private static TransactionResponse toResponse(Tuple row, int offset) {
+        return new TransactionResponse(
+                row.get(offset, UUID.class),
+                row.get(offset + 1, String.class),
+                row.get(offset + 2, String.class),
+                row.get(offset + 3, String.class),
+                row.get(offset + 4, String.class),
+                row.get(offset + 5, BigDecimal.class),
+                row.get(offset + 6, TransactionType.class),
+                row.get(offset + 7, TransactionStatus.class),
+                row.get(offset + 8, String.class),
+                row.get(offset + 9, LocalDateTime.class),
+                row.get(offset + 10, String.class));
+    }
+
+    private static Expression<String> fullName(CriteriaBuilder cb, Join<AccountEntity, UserEntity> user) {
+        return cb.concat(cb.concat(user.get("firstName"), " "), user.get("lastName"));
+    }
+}
@@ -1,7 +1,10 @@
 package com.batuhan.banking_service.repository;
 
 import com.batuhan.banking_service.entity.UserEntity;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -10,7 +13,16 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<UserEntity, Long> {
 
+    /**
+     * Served from the {@code user-by-customer-number} query cache; the id it resolves is then loaded from the
+     * {@code users} entity region, so a warm lookup runs no SQL.
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = "user-by-customer-number")
+    })
     Optional<UserEntity> findByCustomerNumber(String customerNumber);
+
     Optional<UserEntity> findByEmail(String email);
     boolean existsByEmail(String email);
     boolean existsByTckn(String tckn);
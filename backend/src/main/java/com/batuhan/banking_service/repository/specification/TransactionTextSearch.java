@@ -0,0 +1,173 @@
+package com.batuhan.banking_service.repository.specification;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.AccountEntity;
+import com.batuhan.banking_service.entity.TransactionEntity;
+import jakarta.persistence.criteria.AbstractQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Text search over an account's history: every term must appear in the description or in the counterparty's
+ * first or last name. Matching uses {@code lower(column) LIKE '%term%'}, and terms shorter than three characters
+ * are ignored.
+ * <p>
+ * Each term becomes {@code id IN (... UNION ALL ...)} over three branches: the account's transactions whose
+ * description matches, its outgoing transactions whose receiver's name matches, and its incoming ones whose sender's
+ * name matches. Every branch filters a single table on an expression with a pg_trgm GIN index (changeset 004), so
+ * PostgreSQL answers the {@code LIKE} from the index; an OR across the joined tables could only be a filter.
+ * <p>
+ * Rows are ranked by a weighted score (description hit 2, description prefix hit +1, counterparty hit 2 per term)
+ * and paged with a keyset cursor on {@code (score, createdAt, id)}.
+ */
+public record TransactionTextSearch(String iban, List<String> terms) {
+
+    public static final int MIN_TERM_LENGTH = 3;
+    public static final int MAX_TERMS = 5;
+
+    private static final char ESCAPE = '\\';
+    private static final int DESCRIPTION_WEIGHT = 2;
+    private static final int PREFIX_WEIGHT = 1;
+    private static final int COUNTERPARTY_WEIGHT = 2;
+
+    /**
+     * Splits the query on whitespace, lower-cases it and keeps at most {@link #MAX_TERMS} distinct terms of at
+     * least {@link #MIN_TERM_LENGTH} characters. The result has no terms if nothing searchable is left.
+     */
+    public static TransactionTextSearch of(String iban, String query) {
+        List<String> terms = query == null ? List.of() : Arrays.stream(query.trim().toLowerCase(Locale.ROOT).split("\\s+"))
+                .filter(term -> term.length() >= MIN_TERM_LENGTH)
+                .distinct()
+                .limit(MAX_TERMS)
+                .toList();
+        return new TransactionTextSearch(iban, terms);
+    }
+
+    public boolean isEmpty() {
+        return terms.isEmpty();
+    }
+
+    public Specification<TransactionEntity> matches() {
+        return (root, query, cb) -> cb.and(terms.stream()
+                .map(term -> root.get("id").in(matchingIds(query, (HibernateCriteriaBuilder) cb, contains(term))))
+                .toArray(Predicate[]::new));
+    }
+
+    public Expression<Integer> rank(Root<TransactionEntity> root, CriteriaBuilder cb) {
+        Expression<Integer> score = cb.literal(0);
+        for (String term : terms) {
+            score = cb.sum(score, weight(cb, like(cb, root.get("description"), contains(term)), DESCRIPTION_WEIGHT));
+            score = cb.sum(score, weight(cb, like(cb, root.get("description"), escape(term) + "%"), PREFIX_WEIGHT));
+            score = cb.sum(score, weight(cb, counterpartyMatches(root, cb, contains(term)), COUNTERPARTY_WEIGHT));
+        }
+        return score;
+    }
+
+    private Subquery<Long> matchingIds(AbstractQuery<?> query, HibernateCriteriaBuilder cb, String pattern) {
+        Subquery<Long> description = query.subquery(Long.class);
+        Root<TransactionEntity> tx = description.from(TransactionEntity.class);
+        description.select(tx.get("id")).where(
+                like(cb, tx.get("description"), pattern),
+                cb.or(cb.equal(tx.get("senderAccount").get("id"), accountId(description, cb)),
+                        cb.equal(tx.get("receiverAccount").get("id"), accountId(description, cb))));
+
+        return cb.unionAll(description,
+                counterpartyIds(query, cb, "senderAccount", "receiverAccount", pattern),
+                counterpartyIds(query, cb, "receiverAccount", "senderAccount", pattern));
+    }
+
+    /**
+     * Ids of the account's transactions on the {@code own} side whose {@code counterparty} holder's name matches.
+     */
+    private Subquery<Long> counterpartyIds(AbstractQuery<?> query, CriteriaBuilder cb, String own, String counterparty,
+                                           String pattern) {
+        Subquery<Long> ids = query.subquery(Long.class);
+        Root<TransactionEntity> tx = ids.from(TransactionEntity.class);
+        ids.select(tx.get("id")).where(
+                cb.equal(tx.get(own).get("id"), accountId(ids, cb)),
+                nameMatches(cb, tx.join(counterparty).get("user"), pattern));
+        return ids;
+    }
+
+    /**
+     * Resolved once as an init plan, so the branches compare the indexed foreign keys with a constant.
+     */
+    private Subquery<Long> accountId(AbstractQuery<?> query, CriteriaBuilder cb) {
+        Subquery<Long> id = query.subquery(Long.class);
+        Root<AccountEntity> account = id.from(AccountEntity.class);
+        return id.select(account.get("id")).where(cb.equal(account.get("iban"), iban));
+    }
+
+    /**
+     * The counterparty is the receiver when the searched account sent the money, and the sender otherwise.
+     */
+    private Predicate counterpartyMatches(Root<TransactionEntity> root, CriteriaBuilder cb, String pattern) {
+        Path<Object> sender = root.get("senderAccount");
+        Path<Object> receiver = root.get("receiverAccount");
+        return cb.or(
+                cb.and(cb.equal(sender.get("iban"), iban), nameMatches(cb, receiver.get("user"), pattern)),
+                cb.and(cb.equal(receiver.get("iban"), iban), nameMatches(cb, sender.get("user"), pattern)));
+    }
+
+    private static Predicate nameMatches(CriteriaBuilder cb, Path<Object> user, String pattern) {
+        return cb.or(like(cb, user.get("firstName"), pattern), like(cb, user.get("lastName"), pattern));
+    }
+
+    private static Predicate like(CriteriaBuilder cb, Path<String> column, String pattern) {
+        return cb.like(cb.lower(column), pattern, ESCAPE);
+    }
+
+    private static Expression<Integer> weight(CriteriaBuilder cb, Predicate hit, int weight) {
+        return cb.<Integer>selectCase().when(hit, weight).otherwise(0);
+    }
+
+    private static String contains(String term) {
+        return "%" + escape(term) + "%";
+    }
+
+    private static String escape(String term) {
+        return term.replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+    }
+
+    /**
+     * Position of the last row of a page. Encoded as an opaque URL-safe token for clients.
+     */
+    public record Cursor(int score, LocalDateTime createdAt, long id) {
+
+        public String encode() {
+            String raw = score + "|" + createdAt + "|" + id;
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+        }
+
+        /**
+         * @throws IllegalArgumentException if the token was not produced by {@link #encode()}
+         */
+        public static Cursor decode(String token) {
+            try {
+                String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\\|");
+                if (parts.length != 3) {
+                    throw new IllegalArgumentException("Malformed search cursor");
+                }
+                return new Cursor(Integer.parseInt(parts[0]), LocalDateTime.parse(parts[1]), Long.parseLong(parts[2]));
+            } catch (RuntimeException e) {
+                throw new IllegalArgumentException("Malformed search cursor", e);
+            }
+        }
+    }
+
+    public record Hit(TransactionResponse transaction, Cursor position) {
+    }
+}
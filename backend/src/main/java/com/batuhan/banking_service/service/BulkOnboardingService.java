@@ -0,0 +1,11 @@
+package com.batuhan.banking_service.service;
+
+import com.batuhan.banking_service.dto.response.BulkOnboardingResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+
+import java.io.InputStream;
+
+public interface BulkOnboardingService {
+
+    BulkOnboardingResponse importCustomers(InputStream in, ExportFormat format);
+}
@@ -2,9 +2,13 @@ package com.batuhan.banking_service.service;
 
 import com.batuhan.banking_service.dto.response.TransactionResponse;
 import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
 import java.util.List;
+import java.util.stream.Stream;
 
 public interface ExcelService {
 
     ByteArrayInputStream transactionsToExcel(List<TransactionResponse> transactions);
-}
\ No newline at end of file
+
+    long writeTransactions(Stream<TransactionResponse> transactions, OutputStream out);
+}
@@ -0,0 +1,18 @@
+package com.batuhan.banking_service.service;
+
+import com.batuhan.banking_service.dto.response.ExportJobResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.service.export.ExportJobFile;
+
+import java.util.UUID;
+
+public interface ExportJobService {
+
+    ExportJobResponse submitExport(String iban, ExportFormat format);
+
+    ExportJobResponse getExportJob(UUID jobId);
+
+    ExportJobFile getExportFile(UUID jobId);
+
+    int cleanupExpiredExports();
+}
@@ -1,9 +1,28 @@
 package com.batuhan.banking_service.service;
 
+import com.batuhan.banking_service.dto.common.StatementAccountDTO;
+import com.batuhan.banking_service.dto.common.StatementLineDTO;
 import com.batuhan.banking_service.entity.TransactionEntity;
-import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.time.YearMonth;
+import java.util.List;
 
 public interface PdfService {
 
-    ByteArrayInputStream generateTransactionReceipt(TransactionEntity transaction);
-}
\ No newline at end of file
+    /**
+     * Part of every cached receipt's key. Increment it whenever the receipt layout changes so that
+     * previously rendered receipts are no longer served.
+     */
+    int RECEIPT_TEMPLATE_VERSION = 1;
+
+    /**
+     * Writes the receipt into {@code out} as it is rendered. The stream is flushed but not closed.
+     */
+    void writeTransactionReceipt(TransactionEntity transaction, OutputStream out);
+
+    /**
+     * Writes a multi-page month-end statement. Rows are flushed to {@code out} as pages fill up, so memory
+     * does not grow with the number of movements.
+     */
+    void generateAccountStatement(StatementAccountDTO account, YearMonth period, List<StatementLineDTO> lines, OutputStream out);
+}
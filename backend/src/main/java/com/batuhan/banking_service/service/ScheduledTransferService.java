@@ -0,0 +1,15 @@
+package com.batuhan.banking_service.service;
+
+import com.batuhan.banking_service.dto.request.ScheduledTransferRequest;
+import com.batuhan.banking_service.dto.response.ScheduledTransferResponse;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+import java.util.UUID;
+
+public interface ScheduledTransferService {
+
+    ScheduledTransferResponse createScheduledTransfer(ScheduledTransferRequest request);
+    Page<ScheduledTransferResponse> getScheduledTransfers(String senderIban, Pageable pageable);
+    ScheduledTransferResponse cancelScheduledTransfer(UUID externalId);
+}
@@ -0,0 +1,10 @@
+package com.batuhan.banking_service.service;
+
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+
+import java.io.OutputStream;
+
+public interface TransactionExportService {
+
+    long exportTransactions(String iban, ExportFormat format, OutputStream out);
+}
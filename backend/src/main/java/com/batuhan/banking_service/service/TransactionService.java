@@ -4,7 +4,10 @@ import com.batuhan.banking_service.dto.common.TransactionCategoryDTO;
 import com.batuhan.banking_service.dto.common.TransactionSummaryDTO;
 import com.batuhan.banking_service.dto.common.WeeklyTrendDTO;
 import com.batuhan.banking_service.dto.request.TransactionRequest;
+import com.batuhan.banking_service.dto.response.DashboardResponse;
 import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.dto.response.TransactionSearchResponse;
+import com.batuhan.banking_service.service.receipt.ReceiptDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 
@@ -20,7 +23,8 @@ public interface TransactionService {
     TransactionSummaryDTO getDashboardSummary(String iban);
     List<WeeklyTrendDTO> getWeeklyTrend(String iban);
     List<TransactionCategoryDTO> getCategoryAnalysis(String iban);
-    byte[] generateTransactionReceipt(Long id);
+    DashboardResponse getDashboard(String iban);
+    ReceiptDocument generateTransactionReceipt(Long id);
     Page<TransactionResponse> filterTransactions(
             String iban,
             BigDecimal minAmount,
@@ -29,4 +33,14 @@ public interface TransactionService {
             LocalDateTime endDate,
             Pageable pageable
     );
+    TransactionSearchResponse searchTransactions(
+            String iban,
+            String query,
+            BigDecimal minAmount,
+            BigDecimal maxAmount,
+            LocalDateTime startDate,
+            LocalDateTime endDate,
+            String cursor,
+            int size
+    );
 }
\ No newline at end of file
@@ -0,0 +1,317 @@
+package com.batuhan.banking_service.service.batch;
+
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadContext;
+import com.batuhan.banking_service.dto.common.StatementAccountDTO;
+import com.batuhan.banking_service.dto.common.StatementLineDTO;
+import com.batuhan.banking_service.repository.AccountRepository;
+import com.batuhan.banking_service.repository.TransactionRepository;
+import com.batuhan.banking_service.service.PdfService;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Renders month-end PDF statements for every active account into {@code <output-dir>/<yyyy-MM>/<iban>.pdf}.
+ * <p>
+ * Accounts are read in keyset chunks and rendered on a dedicated fork-join pool; a semaphore caps the number of
+ * statements in flight, so memory stays flat regardless of how many accounts exist. After each chunk has been
+ * fully written, its last account id is checkpointed; a restarted run resumes from there and skips statements
+ * that are already on disk. A chunk with failures freezes the checkpoint and leaves the period incomplete. Each
+ * scheduled run first resumes every incomplete period, oldest first, and then starts the previous month. All queries
+ * run on the reporting connection pool when workload pools are enabled.
+ * <p>
+ * The scheduled trigger only hands the run to the job's own thread, so Spring's shared scheduler thread is free
+ * again at once; a trigger that fires while a run is still going is skipped.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MonthlyStatementJob {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    private final AccountRepository accountRepository;
+    private final TransactionRepository transactionRepository;
+    private final PdfService pdfService;
+    private final StatementCheckpointStore checkpointStore;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${application.batch.monthly-statement.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${application.batch.monthly-statement.output-dir:data/statements}")
+    private Path outputDir = Path.of("data", "statements");
+
+    @Value("${application.batch.monthly-statement.chunk-size:500}")
+    private int chunkSize = 500;
+
+    @Value("${application.batch.monthly-statement.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${application.batch.monthly-statement.max-in-flight:16}")
+    private int maxInFlight = 16;
+
+    private final ExecutorService runner = Executors.newSingleThreadExecutor(task -> {
+        Thread thread = new Thread(task, "statement-job");
+        thread.setDaemon(true);
+        return thread;
+    });
+    private final AtomicBoolean running = new AtomicBoolean();
+    private volatile double lastThroughput;
+
+    @PostConstruct
+    void registerMetrics() {
+        Gauge.builder("banking.statements.throughput", this, job -> job.lastThroughput)
+                .description("Statements per second of the most recent statement run")
+                .baseUnit("statements/s")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    void stop() {
+        runner.shutdownNow();
+    }
+
+    @Scheduled(cron = "${application.batch.monthly-statement.cron:0 0 2 1 * *}")
+    public void generatePreviousMonth() {
+        if (!enabled) {
+            log.debug("Monthly statement generation is disabled");
+            return;
+        }
+        if (!running.compareAndSet(false, true)) {
+            log.warn("Monthly statements: the previous run is still going, skipping this trigger");
+            return;
+        }
+        YearMonth latest = YearMonth.now().minusMonths(1);
+        runner.execute(() -> {
+            try {
+                generatePendingPeriods(latest);
+            } finally {
+                running.set(false);
+            }
+        });
+    }
+
+    /**
+     * Resumes every incomplete period up to {@code latest}, oldest first, then generates {@code latest} itself.
+     */
+    public List<RunResult> generatePendingPeriods(YearMonth latest) {
+        SortedSet<YearMonth> periods = new TreeSet<>(checkpointStore.findIncompletePeriods());
+        periods.removeIf(period -> period.isAfter(latest));
+        periods.add(latest);
+
+        List<RunResult> results = new ArrayList<>(periods.size());
+        for (YearMonth period : periods) {
+            try {
+                results.add(generateStatements(period));
+            } catch (RuntimeException e) {
+                log.error("Monthly statements for {} failed; it is resumed on the next run: {}", period, e.getMessage(), e);
+            }
+        }
+        return results;
+    }
+
+    public RunResult generateStatements(YearMonth period) {
+        StatementCheckpointStore.Checkpoint checkpoint = checkpointStore.load(period);
+        if (checkpoint.completed()) {
+            log.info("Monthly statements for {} already completed ({} statements)", period, checkpoint.generatedCount());
+            return new RunResult(period, 0, 0, 0, Duration.ZERO);
+        }
+
+        log.info("Monthly statements for {}: starting after account id {} (parallelism {}, max in flight {})",
+                period, checkpoint.lastAccountId(), parallelism, maxInFlight);
+        ForkJoinPool pool = new ForkJoinPool(parallelism, MonthlyStatementJob::newWorkerThread, null, true);
+        try {
+            RunResult result = WorkloadContext.supply(Workload.REPORTING,
+                    () -> new StatementRun(period, checkpoint).execute(pool));
+            lastThroughput = result.statementsPerSecond();
+            log.info("Monthly statements for {}: {} generated, {} skipped, {} failed in {} ms ({} statements/s)",
+                    period, result.generated(), result.skipped(), result.failed(), result.elapsed().toMillis(),
+                    String.format("%.1f", result.statementsPerSecond()));
+            return result;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private Outcome generateStatement(StatementAccountDTO account, YearMonth period, Path periodDir,
+                                      LocalDateTime from, LocalDateTime to, RunCounters counters) {
+        Path target = periodDir.resolve(account.iban() + ".pdf");
+        if (Files.exists(target)) {
+            counters.skipped.incrementAndGet();
+            meterRegistry.counter("banking.statements", "outcome", "skipped").increment();
+            return Outcome.SKIPPED;
+        }
+
+        Path part = periodDir.resolve(target.getFileName() + PART_SUFFIX);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            List<StatementLineDTO> lines = transactionRepository.findStatementLines(account.accountId(), from, to);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), FILE_BUFFER_SIZE)) {
+                pdfService.generateAccountStatement(account, period, lines, out);
+            }
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            sample.stop(meterRegistry.timer("banking.statements.render"));
+            counters.generated.incrementAndGet();
+            meterRegistry.counter("banking.statements", "outcome", "generated").increment();
+            return Outcome.GENERATED;
+
+        } catch (Exception e) {
+            deleteQuietly(part);
+            counters.failed.incrementAndGet();
+            meterRegistry.counter("banking.statements", "outcome", "failed").increment();
+            log.error("Statement for account {} ({}) failed: {}", account.accountId(), period, e.getMessage(), e);
+            return Outcome.FAILED;
+        }
+    }
+
+    private static ForkJoinWorkerThread newWorkerThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName("statement-" + thread.getPoolIndex());
+        return thread;
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete partial statement {}: {}", file, e.getMessage());
+        }
+    }
+
+    public record RunResult(YearMonth period, long generated, long skipped, long failed, Duration elapsed) {
+
+        public double statementsPerSecond() {
+            long millis = elapsed.toMillis();
+            return millis > 0 ? generated * 1000.0 / millis : 0;
+        }
+    }
+
+    private static final class RunCounters {
+        private final AtomicLong generated = new AtomicLong();
+        private final AtomicLong skipped = new AtomicLong();
+        private final AtomicLong failed = new AtomicLong();
+    }
+
+    private enum Outcome { GENERATED, SKIPPED, FAILED }
+
+    private record Chunk(long lastAccountId, CompletableFuture<List<Outcome>> completion) {
+    }
+
+    /**
+     * State of one run: the producer (calling thread) pages through accounts while workers render, and chunks
+     * are checkpointed strictly in account order as they finish.
+     */
+    private final class StatementRun {
+
+        private final YearMonth period;
+        private final StatementCheckpointStore.Checkpoint checkpoint;
+        private final Path periodDir;
+        private final LocalDateTime from;
+        private final LocalDateTime to;
+        private final RunCounters counters = new RunCounters();
+        private final Semaphore inFlight = new Semaphore(maxInFlight);
+        private final Deque<Chunk> pendingChunks = new ArrayDeque<>();
+        private long checkpointedGenerated;
+        private boolean checkpointFrozen;
+
+        private StatementRun(YearMonth period, StatementCheckpointStore.Checkpoint checkpoint) {
+            this.period = period;
+            this.checkpoint = checkpoint;
+            this.checkpointedGenerated = checkpoint.generatedCount();
+            this.periodDir = outputDir.resolve(period.toString());
+            this.from = period.atDay(1).atStartOfDay();
+            this.to = period.plusMonths(1).atDay(1).atStartOfDay();
+        }
+
+        private RunResult execute(ForkJoinPool pool) {
+            long startedAt = System.nanoTime();
+            Executor workers = task -> pool.execute(WorkloadContext.propagate(task));
+            boolean finished = false;
+            try {
+                Files.createDirectories(periodDir);
+                long afterId = checkpoint.lastAccountId();
+                List<StatementAccountDTO> accounts;
+                while (!(accounts = accountRepository.findActiveStatementAccounts(afterId, Limit.of(chunkSize))).isEmpty()) {
+                    List<CompletableFuture<Outcome>> statements = new ArrayList<>(accounts.size());
+                    for (StatementAccountDTO account : accounts) {
+                        inFlight.acquire();
+                        statements.add(CompletableFuture
+                                .supplyAsync(() -> generateStatement(account, period, periodDir, from, to, counters), workers)
+                                .whenComplete((ok, ex) -> inFlight.release()));
+                    }
+                    afterId = accounts.get(accounts.size() - 1).accountId();
+                    pendingChunks.add(new Chunk(afterId, allOf(statements)));
+                    checkpointCompletedChunks(false);
+                }
+                checkpointCompletedChunks(true);
+                finished = true;
+
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                log.warn("Monthly statements for {} interrupted; the next run resumes from the last checkpoint", period);
+            } catch (IOException e) {
+                log.error("Monthly statements for {}: cannot create output directory {}: {}", period, periodDir, e.getMessage());
+            }
+
+            if (finished && counters.failed.get() == 0) {
+                checkpointStore.complete(period, checkpoint.generatedCount() + counters.generated.get());
+            }
+            return new RunResult(period, counters.generated.get(), counters.skipped.get(), counters.failed.get(),
+                    Duration.ofNanos(System.nanoTime() - startedAt));
+        }
+
+        private void checkpointCompletedChunks(boolean waitForAll) {
+            while (!pendingChunks.isEmpty() && (waitForAll || pendingChunks.peekFirst().completion().isDone())) {
+                Chunk chunk = pendingChunks.pollFirst();
+                List<Outcome> outcomes = chunk.completion().join();
+                checkpointFrozen |= outcomes.contains(Outcome.FAILED);
+                if (!checkpointFrozen) {
+                    checkpointedGenerated += outcomes.stream().filter(Outcome.GENERATED::equals).count();
+                    checkpointStore.advance(period, chunk.lastAccountId(), checkpointedGenerated);
+                }
+            }
+        }
+
+        private CompletableFuture<List<Outcome>> allOf(List<CompletableFuture<Outcome>> statements) {
+            return CompletableFuture.allOf(statements.toArray(CompletableFuture[]::new))
+                    .thenApply(ignored -> statements.stream().map(CompletableFuture::join).toList());
+        }
+    }
+}
@@ -0,0 +1,423 @@
+package com.batuhan.banking_service.service.batch;
+
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadContext;
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.enums.AccountStatus;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.service.TransactionService;
+import com.batuhan.banking_service.service.batch.ScheduledTransferStore.ScheduledRun;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.PessimisticLockingFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Makes the transfers of standing orders when they fall due, on every node at once.
+ * <p>
+ * Every {@code poll-interval} the node claims, in batches of {@code claim-size}, the orders due within
+ * {@code horizon} ({@link ScheduledTransferStore#claim}). Orders already due run at once. The rest wait in a
+ * {@link TimingWheel} that a single thread advances every {@code tick}. So a first-of-the-month wave is loaded
+ * in the minutes before midnight and starts on time, without the database being polled at a high rate. Polling has
+ * its own thread rather than a {@code @Scheduled} method, so long jobs on Spring's shared scheduler thread, such as
+ * the month-end statements, cannot hold back a payroll wave.
+ * <p>
+ * Runs are partitioned by sender account. Each sender's runs execute one after another, in due order, while
+ * different senders run in parallel on {@code parallelism} workers. A sender with thousands of payroll orders keeps
+ * one worker instead of making them all queue on its row lock.
+ * <p>
+ * Each run is one {@link TransactionService#transferMoney} call, made as the holder who set the order up, so it gets
+ * the same ownership, balance, status and daily limit checks and the same accounting, audit and notification. If the
+ * sender account has changed hands since, the ownership check refuses the run. The call shares one transaction with
+ * the locked order row and the update that moves it on. A rejected transfer is retried {@code max-attempts} times,
+ * after {@code retry-backoff} doubling each time. Then a one-off order fails and a recurring one skips to its next
+ * occurrence. A missing or closed account, or a sender that now belongs to someone else, fails the order at once.
+ * Transient database trouble (lock timeouts, no connection) leaves nothing behind and is retried after
+ * {@code transient-retry-delay} without using up an attempt. Any other error uses up an attempt like a rejection.
+ * <p>
+ * Runs use the transfer connection pool when workload pools are enabled. Keep {@code parallelism} below its size,
+ * so live transfers still get connections during a burst.
+ */
+@Slf4j
+@Component
+public class ScheduledTransferExecutor {
+
+    private static final String RUN_AUTHORITY = "ROLE_USER";
+    private static final Comparator<ScheduledRun> DUE_ORDER =
+            Comparator.comparing(ScheduledRun::dueAt).thenComparingLong(ScheduledRun::id);
+    private static final Set<HttpStatus> PERMANENT_FAILURES = Set.of(HttpStatus.FORBIDDEN, HttpStatus.NOT_FOUND, HttpStatus.GONE);
+
+    public enum Outcome { SUCCEEDED, RETRIED, SKIPPED_OCCURRENCE, FAILED, DEFERRED, LOST_CLAIM }
+
+    private final ScheduledTransferStore store;
+    private final TransactionService transactionService;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final Clock clock = Clock.systemDefaultZone();
+    private final String node = UUID.randomUUID().toString();
+
+    private final Map<String, SenderLane> lanes = new HashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private TimingWheel<ScheduledRun> wheel;
+    private ScheduledExecutorService ticker;
+    private ScheduledExecutorService poller;
+    private ExecutorService workers;
+
+    @Value("${application.scheduled-transfers.enabled:true}")
+    private boolean enabled = true;
+
+    @Value("${application.scheduled-transfers.poll-interval:30s}")
+    private Duration pollInterval = Duration.ofSeconds(30);
+
+    @Value("${application.scheduled-transfers.horizon:10m}")
+    private Duration horizon = Duration.ofMinutes(10);
+
+    @Value("${application.scheduled-transfers.lease:10m}")
+    private Duration lease = Duration.ofMinutes(10);
+
+    @Value("${application.scheduled-transfers.claim-size:1000}")
+    private int claimSize = 1000;
+
+    @Value("${application.scheduled-transfers.max-pending:500000}")
+    private int maxPending = 500_000;
+
+    @Value("${application.scheduled-transfers.tick:100ms}")
+    private Duration tick = Duration.ofMillis(100);
+
+    @Value("${application.scheduled-transfers.wheel-slots:64}")
+    private int wheelSlots = 64;
+
+    @Value("${application.scheduled-transfers.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${application.scheduled-transfers.max-attempts:4}")
+    private int maxAttempts = 4;
+
+    @Value("${application.scheduled-transfers.retry-backoff:15m}")
+    private Duration retryBackoff = Duration.ofMinutes(15);
+
+    @Value("${application.scheduled-transfers.transient-retry-delay:10s}")
+    private Duration transientRetryDelay = Duration.ofSeconds(10);
+
+    public ScheduledTransferExecutor(ScheduledTransferStore store, TransactionService transactionService,
+                                     PlatformTransactionManager transactionManager, MeterRegistry meterRegistry) {
+        this.store = store;
+        this.transactionService = transactionService;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Scheduled transfer execution is disabled on this node");
+            return;
+        }
+        wheel = new TimingWheel<>(tick.toMillis(), wheelSlots, clock.millis());
+        AtomicInteger workerCount = new AtomicInteger();
+        workers = Executors.newFixedThreadPool(parallelism, task -> {
+            Thread thread = new Thread(task, "scheduled-transfer-" + workerCount.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "scheduled-transfer-wheel");
+            thread.setDaemon(true);
+            return thread;
+        });
+        ticker.scheduleAtFixedRate(this::advanceWheel, tick.toMillis(), tick.toMillis(), TimeUnit.MILLISECONDS);
+        poller = Executors.newSingleThreadScheduledExecutor(task -> {
+            Thread thread = new Thread(task, "scheduled-transfer-poll");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::poll, 0, pollInterval.toMillis(), TimeUnit.MILLISECONDS);
+
+        Gauge.builder("banking.scheduled-transfers.pending", pending, AtomicInteger::get)
+                .description("Claimed scheduled transfers not yet run on this node")
+                .register(meterRegistry);
+        log.info("Scheduled transfers: node {} running with horizon {}, parallelism {}", node, horizon, parallelism);
+    }
+
+    @PreDestroy
+    void stop() {
+        if (ticker != null) {
+            poller.shutdownNow();
+            ticker.shutdownNow();
+            workers.shutdownNow();
+        }
+    }
+
+    private void poll() {
+        try {
+            claimDueTransfers();
+        } catch (RuntimeException e) {
+            // A failed poll must not cancel the schedule; the next one claims what this one missed
+            log.error("Scheduled transfers: claiming due runs failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void claimDueTransfers() {
+        int claimed = 0;
+        List<ScheduledRun> batch;
+        do {
+            int limit = Math.min(claimSize, maxPending - pending.get());
+            if (limit <= 0) {
+                log.warn("Scheduled transfers: {} runs pending on this node, not claiming more", pending.get());
+                break;
+            }
+            LocalDateTime now = LocalDateTime.now(clock);
+            batch = store.claim(node, now.plus(horizon), limit, lease, now);
+            pending.addAndGet(batch.size());
+            claimed += batch.size();
+            enqueue(batch);
+        } while (batch.size() == claimSize);
+
+        if (claimed > 0) {
+            log.info("Scheduled transfers: claimed {} runs due within {}", claimed, horizon);
+        }
+    }
+
+    private void enqueue(List<ScheduledRun> runs) {
+        List<ScheduledRun> due = new ArrayList<>();
+        synchronized (wheel) {
+            for (ScheduledRun run : runs) {
+                if (!wheel.schedule(toMillis(run.dueAt()), run)) {
+                    due.add(run);
+                }
+            }
+        }
+        dispatch(due);
+    }
+
+    private void advanceWheel() {
+        try {
+            List<ScheduledRun> due;
+            synchronized (wheel) {
+                due = wheel.advance(clock.millis());
+            }
+            dispatch(due);
+        } catch (RuntimeException e) {
+            log.error("Scheduled transfers: timing wheel tick failed: {}", e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Appends the runs to their sender's lane, starting a worker on each lane that was idle.
+     */
+    private void dispatch(List<ScheduledRun> runs) {
+        if (runs.isEmpty()) {
+            return;
+        }
+        Map<String, List<ScheduledRun>> bySender = new LinkedHashMap<>();
+        runs.stream().sorted(DUE_ORDER)
+                .forEach(run -> bySender.computeIfAbsent(run.senderIban(), sender -> new ArrayList<>()).add(run));
+
+        List<SenderLane> started = new ArrayList<>();
+        synchronized (lanes) {
+            bySender.forEach((senderIban, senderRuns) -> {
+                SenderLane lane = lanes.computeIfAbsent(senderIban, SenderLane::new);
+                lane.queue.addAll(senderRuns);
+                if (!lane.running) {
+                    lane.running = true;
+                    started.add(lane);
+                }
+            });
+        }
+        started.forEach(workers::execute);
+    }
+
+    /**
+     * Makes one run and records its outcome. Called by the lane workers; public for running a claimed batch
+     * synchronously.
+     */
+    public Outcome execute(ScheduledRun run) {
+        Duration lag = Duration.between(run.dueAt(), LocalDateTime.now(clock));
+        meterRegistry.timer("banking.scheduled-transfers.lag").record(lag.isNegative() ? Duration.ZERO : lag);
+        Outcome outcome;
+        try {
+            String referenceNumber = WorkloadContext.supply(Workload.TRANSFER, () -> transactionTemplate.execute(status -> transfer(run)));
+            outcome = referenceNumber != null ? Outcome.SUCCEEDED : Outcome.LOST_CLAIM;
+        } catch (BankingServiceException e) {
+            outcome = failedAttempt(run, e);
+        } catch (RuntimeException e) {
+            if (isTransient(e)) {
+                log.warn("Scheduled transfer {}: transient failure, retrying in {}: {}", run.id(), transientRetryDelay, e.getMessage());
+                LocalDateTime now = LocalDateTime.now(clock);
+                outcome = recorded(store.retry(run, node, run.attempts(), now.plus(transientRetryDelay), e.getMessage(), now), Outcome.DEFERRED);
+            } else {
+                log.error("Scheduled transfer {}: unexpected failure: {}", run.id(), e.getMessage(), e);
+                outcome = failedAttempt(run, e);
+            }
+        }
+        meterRegistry.counter("banking.scheduled-transfers.runs", "outcome", outcome.name().toLowerCase()).increment();
+        return outcome;
+    }
+
+    private String transfer(ScheduledRun run) {
+        if (!store.lockForRun(run, node)) {
+            log.info("Scheduled transfer {}: cancelled, already run or claimed by another node; skipping", run.id());
+            return null;
+        }
+        requireOpen(run.senderIban(), "Sender");
+        requireOpen(run.receiverIban(), "Receiver");
+        if (run.ownerEmail() == null) {
+            throw new BankingServiceException("Scheduled transfer has no recorded owner", HttpStatus.FORBIDDEN);
+        }
+
+        TransactionResponse response = runAs(run.ownerEmail(), () -> transactionService.transferMoney(run.toTransferRequest()));
+        store.advance(run, node, response.referenceNumber(), null, LocalDateTime.now(clock));
+        log.info("Scheduled transfer {}: occurrence {} paid, reference {}", run.id(), run.occurrence(), response.referenceNumber());
+        return response.referenceNumber();
+    }
+
+    /**
+     * A closed account never reopens, so unlike a suspended one it is not worth retrying.
+     */
+    private void requireOpen(String iban, String label) {
+        AccountStatus status = store.findAccountStatus(iban)
+                .orElseThrow(() -> new BankingServiceException(label + " account not found: " + iban, HttpStatus.NOT_FOUND));
+        if (status == AccountStatus.CLOSED) {
+            throw new BankingServiceException(label + " account is closed: " + iban, HttpStatus.GONE);
+        }
+    }
+
+    /**
+     * Lock timeouts and connection shortages pass once the load does; everything else may well fail again, so it
+     * must not be retried for free. Wrapped causes count, since the transaction manager wraps what it hits.
+     */
+    private static boolean isTransient(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TransientDataAccessException
+                    || cause instanceof PessimisticLockingFailureException
+                    || cause instanceof CannotGetJdbcConnectionException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private Outcome failedAttempt(ScheduledRun run, RuntimeException e) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        int attempts = run.attempts() + 1;
+        if (e instanceof BankingServiceException rejection && PERMANENT_FAILURES.contains(rejection.getStatus())) {
+            log.error("Scheduled transfer {} failed permanently: {}", run.id(), e.getMessage());
+            return recorded(store.fail(run, node, e.getMessage(), now), Outcome.FAILED);
+        }
+        if (attempts < maxAttempts) {
+            LocalDateTime retryAt = now.plus(retryBackoff.multipliedBy(1L << (attempts - 1)));
+            log.warn("Scheduled transfer {}: attempt {} failed, retrying at {}: {}", run.id(), attempts, retryAt, e.getMessage());
+            return recorded(store.retry(run, node, attempts, retryAt, e.getMessage(), now), Outcome.RETRIED);
+        }
+        if (run.frequency().isRecurring()) {
+            log.error("Scheduled transfer {}: occurrence {} given up after {} attempts: {}", run.id(), run.occurrence(), attempts, e.getMessage());
+            return recorded(store.advance(run, node, null, e.getMessage(), now), Outcome.SKIPPED_OCCURRENCE);
+        }
+        log.error("Scheduled transfer {} failed after {} attempts: {}", run.id(), attempts, e.getMessage());
+        return recorded(store.fail(run, node, e.getMessage(), now), Outcome.FAILED);
+    }
+
+    private static Outcome recorded(boolean updated, Outcome outcome) {
+        return updated ? outcome : Outcome.LOST_CLAIM;
+    }
+
+    /**
+     * Runs the action authenticated as the order's owner, as if the transfer had been made from their session.
+     */
+    private static <T> T runAs(String email, Supplier<T> action) {
+        SecurityContext previous = SecurityContextHolder.getContext();
+        SecurityContext context = SecurityContextHolder.createEmptyContext();
+        context.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                email, null, List.of(new SimpleGrantedAuthority(RUN_AUTHORITY))));
+        SecurityContextHolder.setContext(context);
+        try {
+            return action.get();
+        } finally {
+            SecurityContextHolder.setContext(previous);
+        }
+    }
+
+    /**
+     * Identity this node claims runs under.
+     */
+    String node() {
+        return node;
+    }
+
+    private long toMillis(LocalDateTime time) {
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
+    /**
+     * The queued runs of one sender account, drained by at most one worker at a time. Guarded by {@code lanes}.
+     */
+    private final class SenderLane implements Runnable {
+
+        private final String senderIban;
+        private final Deque<ScheduledRun> queue = new ArrayDeque<>();
+        private boolean running;
+
+        private SenderLane(String senderIban) {
+            this.senderIban = senderIban;
+        }
+
+        @Override
+        public void run() {
+            ScheduledRun run;
+            while ((run = next()) != null) {
+                try {
+                    execute(run);
+                } catch (RuntimeException e) {
+                    log.error("Scheduled transfer {}: run could not be recorded: {}", run.id(), e.getMessage(), e);
+                } finally {
+                    pending.decrementAndGet();
+                }
+            }
+        }
+
+        private ScheduledRun next() {
+            synchronized (lanes) {
+                ScheduledRun run = queue.poll();
+                if (run == null) {
+                    running = false;
+                    lanes.remove(senderIban);
+                }
+                return run;
+            }
+        }
+    }
+}
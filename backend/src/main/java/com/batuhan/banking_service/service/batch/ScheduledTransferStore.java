@@ -0,0 +1,172 @@
+package com.batuhan.banking_service.service.batch;
+
+import com.batuhan.banking_service.dto.request.TransactionRequest;
+import com.batuhan.banking_service.entity.enums.AccountStatus;
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.ScheduledTransferStatus;
+import com.batuhan.banking_service.entity.enums.TransferFrequency;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Claims and records runs of scheduled transfers with plain SQL, so replicas can share the work.
+ * <p>
+ * {@link #claim} takes due rows with {@code FOR UPDATE SKIP LOCKED}: replicas claiming at the same time lock
+ * disjoint rows instead of waiting for each other. It then leases them to this node until shortly after they are due.
+ * A run is fenced by claimant, occurrence and attempt count. If this node dies, or falls so far behind that its lease
+ * expires and another node claims the row, its run finds no row and is skipped. So each occurrence is paid exactly
+ * once.
+ */
+@Component
+@RequiredArgsConstructor
+public class ScheduledTransferStore {
+
+    private static final String ACTIVE = ScheduledTransferStatus.ACTIVE.name();
+
+    private static final String RUN_COLUMNS =
+            "id, sender_iban, receiver_iban, owner_email, amount, currency, description, frequency, first_run_at, " +
+                    "end_date, next_run_at, occurrence, attempts";
+    private static final String SELECT_DUE =
+            "SELECT " + RUN_COLUMNS + " FROM scheduled_transfers " +
+                    "WHERE status = ? AND next_run_at <= ? AND (claimed_until IS NULL OR claimed_until < ?) " +
+                    "ORDER BY next_run_at, id LIMIT ? FOR UPDATE SKIP LOCKED";
+    private static final String CLAIM =
+            "UPDATE scheduled_transfers SET claimed_by = ?, claimed_until = ?, version = COALESCE(version, 0) + 1 WHERE id = ?";
+    private static final String LOCK_RUN =
+            "SELECT id FROM scheduled_transfers " +
+                    "WHERE id = ? AND status = ? AND claimed_by = ? AND occurrence = ? AND attempts = ? FOR UPDATE";
+    private static final String SELECT_ACCOUNT_STATUS = "SELECT status FROM accounts WHERE iban = ?";
+    private static final String ADVANCE =
+            "UPDATE scheduled_transfers SET status = ?, occurrence = ?, next_run_at = ?, attempts = 0, last_error = ?, " +
+                    "last_reference_number = COALESCE(?, last_reference_number), last_run_at = ?, " +
+                    "claimed_by = NULL, claimed_until = NULL, updated_at = ?, version = COALESCE(version, 0) + 1 " +
+                    "WHERE id = ? AND status = ? AND claimed_by = ? AND occurrence = ? AND attempts = ?";
+    private static final String RETRY =
+            "UPDATE scheduled_transfers SET attempts = ?, next_run_at = ?, last_error = ?, last_run_at = ?, " +
+                    "claimed_by = NULL, claimed_until = NULL, updated_at = ?, version = COALESCE(version, 0) + 1 " +
+                    "WHERE id = ? AND status = ? AND claimed_by = ? AND occurrence = ? AND attempts = ?";
+    private static final String FAIL =
+            "UPDATE scheduled_transfers SET status = ?, last_error = ?, last_run_at = ?, " +
+                    "claimed_by = NULL, claimed_until = NULL, updated_at = ?, version = COALESCE(version, 0) + 1 " +
+                    "WHERE id = ? AND status = ? AND claimed_by = ? AND occurrence = ? AND attempts = ?";
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private static final RowMapper<ScheduledRun> RUN_MAPPER = (rs, rowNum) -> {
+        Date endDate = rs.getDate("end_date");
+        return new ScheduledRun(
+                rs.getLong("id"),
+                rs.getString("sender_iban"),
+                rs.getString("receiver_iban"),
+                rs.getString("owner_email"),
+                rs.getBigDecimal("amount"),
+                CurrencyType.valueOf(rs.getString("currency")),
+                rs.getString("description"),
+                TransferFrequency.valueOf(rs.getString("frequency")),
+                rs.getTimestamp("first_run_at").toLocalDateTime(),
+                endDate != null ? endDate.toLocalDate() : null,
+                rs.getTimestamp("next_run_at").toLocalDateTime(),
+                rs.getInt("occurrence"),
+                rs.getInt("attempts"));
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Claims up to {@code limit} active transfers due by {@code dueBy} that no other node holds, oldest first, and
+     * leases each one to {@code node} until {@code lease} after it is due.
+     */
+    @Transactional
+    public List<ScheduledRun> claim(String node, LocalDateTime dueBy, int limit, Duration lease, LocalDateTime now) {
+        List<ScheduledRun> runs = jdbcTemplate.query(SELECT_DUE, RUN_MAPPER,
+                ACTIVE, Timestamp.valueOf(dueBy), Timestamp.valueOf(now), limit);
+        jdbcTemplate.batchUpdate(CLAIM, runs, runs.size(), (ps, run) -> {
+            LocalDateTime from = run.dueAt().isAfter(now) ? run.dueAt() : now;
+            ps.setString(1, node);
+            ps.setTimestamp(2, Timestamp.valueOf(from.plus(lease)));
+            ps.setLong(3, run.id());
+        });
+        return runs;
+    }
+
+    /**
+     * Locks the row for the duration of the caller's transaction if the run is still this node's to make;
+     * {@code false} when the transfer was cancelled, already run or claimed by another node.
+     */
+    public boolean lockForRun(ScheduledRun run, String node) {
+        return !jdbcTemplate.queryForList(LOCK_RUN, Long.class,
+                run.id(), ACTIVE, node, run.occurrence(), run.attempts()).isEmpty();
+    }
+
+    /**
+     * Status of the account, or empty if it does not exist.
+     */
+    public Optional<AccountStatus> findAccountStatus(String iban) {
+        return jdbcTemplate.queryForList(SELECT_ACCOUNT_STATUS, String.class, iban).stream()
+                .findFirst()
+                .map(AccountStatus::valueOf);
+    }
+
+    /**
+     * Moves on to the next occurrence, or completes the transfer when there is none. {@code referenceNumber} is
+     * {@code null} and {@code error} set when the occurrence is given up rather than paid.
+     */
+    public boolean advance(ScheduledRun run, String node, String referenceNumber, String error, LocalDateTime now) {
+        int nextOccurrence = run.occurrence() + 1;
+        LocalDateTime nextRunAt = run.frequency().occurrence(run.firstRunAt(), nextOccurrence);
+        boolean finished = !run.frequency().isRecurring()
+                || (run.endDate() != null && nextRunAt.toLocalDate().isAfter(run.endDate()));
+        ScheduledTransferStatus status = finished ? ScheduledTransferStatus.COMPLETED : ScheduledTransferStatus.ACTIVE;
+
+        return jdbcTemplate.update(ADVANCE,
+                status.name(), finished ? run.occurrence() : nextOccurrence,
+                Timestamp.valueOf(finished ? run.dueAt() : nextRunAt), truncate(error), referenceNumber,
+                Timestamp.valueOf(now), Timestamp.valueOf(now),
+                run.id(), ACTIVE, node, run.occurrence(), run.attempts()) == 1;
+    }
+
+    /**
+     * Releases the claim and makes the same occurrence due again at {@code retryAt}.
+     */
+    public boolean retry(ScheduledRun run, String node, int attempts, LocalDateTime retryAt, String error, LocalDateTime now) {
+        return jdbcTemplate.update(RETRY,
+                attempts, Timestamp.valueOf(retryAt), truncate(error), Timestamp.valueOf(now), Timestamp.valueOf(now),
+                run.id(), ACTIVE, node, run.occurrence(), run.attempts()) == 1;
+    }
+
+    public boolean fail(ScheduledRun run, String node, String error, LocalDateTime now) {
+        return jdbcTemplate.update(FAIL,
+                ScheduledTransferStatus.FAILED.name(), truncate(error), Timestamp.valueOf(now), Timestamp.valueOf(now),
+                run.id(), ACTIVE, node, run.occurrence(), run.attempts()) == 1;
+    }
+
+    private static String truncate(String error) {
+        return error != null && error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error;
+    }
+
+    /**
+     * One claimed occurrence of a scheduled transfer; {@code occurrence} and {@code attempts} are its fencing token.
+     * {@code ownerEmail} is the holder who set the order up.
+     */
+    public record ScheduledRun(long id, String senderIban, String receiverIban, String ownerEmail, BigDecimal amount,
+                               CurrencyType currency, String description, TransferFrequency frequency,
+                               LocalDateTime firstRunAt, LocalDate endDate, LocalDateTime dueAt, int occurrence,
+                               int attempts) {
+
+        public TransactionRequest toTransferRequest() {
+            return new TransactionRequest(senderIban, receiverIban, amount, currency, description);
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.batuhan.banking_service.service.batch;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * Persists how far a statement run has got, so a restarted run continues after the last fully written chunk
+ * instead of walking every account again.
+ */
+@Component
+@RequiredArgsConstructor
+public class StatementCheckpointStore {
+
+    private static final String STATUS_RUNNING = "RUNNING";
+    private static final String STATUS_COMPLETED = "COMPLETED";
+
+    private static final String INSERT_CHECKPOINT_IF_ABSENT =
+            "INSERT INTO statement_checkpoints (period, last_account_id, generated_count, status, updated_at) " +
+                    "VALUES (?, 0, 0, ?, CURRENT_TIMESTAMP) ON CONFLICT (period) DO NOTHING";
+    private static final String SELECT_CHECKPOINT_FOR_UPDATE =
+            "SELECT last_account_id, generated_count, status FROM statement_checkpoints WHERE period = ? FOR UPDATE";
+    private static final String UPDATE_CHECKPOINT =
+            "UPDATE statement_checkpoints SET last_account_id = ?, generated_count = ?, updated_at = CURRENT_TIMESTAMP " +
+                    "WHERE period = ?";
+    private static final String SELECT_INCOMPLETE_PERIODS =
+            "SELECT period FROM statement_checkpoints WHERE status <> ? ORDER BY period";
+    private static final String COMPLETE_CHECKPOINT =
+            "UPDATE statement_checkpoints SET generated_count = ?, status = ?, updated_at = CURRENT_TIMESTAMP WHERE period = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Returns the checkpoint of {@code period}, creating it on the first run. The insert is a no-op when the row
+     * already exists, so two runs starting the same period at once cannot both insert it; the row is then read under
+     * a lock, so the caller never sees a checkpoint another run is still writing.
+     */
+    @Transactional
+    public Checkpoint load(YearMonth period) {
+        jdbcTemplate.update(INSERT_CHECKPOINT_IF_ABSENT, period.toString(), STATUS_RUNNING);
+        return jdbcTemplate.queryForObject(SELECT_CHECKPOINT_FOR_UPDATE,
+                (rs, rowNum) -> new Checkpoint(
+                        rs.getLong("last_account_id"),
+                        rs.getLong("generated_count"),
+                        STATUS_COMPLETED.equals(rs.getString("status"))),
+                period.toString());
+    }
+
+    /**
+     * Periods whose run started but never completed, oldest first.
+     */
+    public List<YearMonth> findIncompletePeriods() {
+        return jdbcTemplate.queryForList(SELECT_INCOMPLETE_PERIODS, String.class, STATUS_COMPLETED).stream()
+                .map(YearMonth::parse)
+                .toList();
+    }
+
+    public void advance(YearMonth period, long lastAccountId, long generatedCount) {
+        jdbcTemplate.update(UPDATE_CHECKPOINT, lastAccountId, generatedCount, period.toString());
+    }
+
+    public void complete(YearMonth period, long generatedCount) {
+        jdbcTemplate.update(COMPLETE_CHECKPOINT, generatedCount, STATUS_COMPLETED, period.toString());
+    }
+
+    public record Checkpoint(long lastAccountId, long generatedCount, boolean completed) {
+    }
+}
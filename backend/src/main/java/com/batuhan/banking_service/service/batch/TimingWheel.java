@@ -0,0 +1,129 @@
+package com.batuhan.banking_service.service.batch;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Hierarchical timing wheel holding items until their deadline, with constant-time insertion and expiry however
+ * many are pending; a priority queue would pay a logarithmic sift for each of them.
+ * <p>
+ * Time advances in ticks. Level 0 has one bucket per tick for the next {@code slots} ticks, and every level above
+ * has buckets {@code slots} times as wide as the one below. An item goes to the level of the highest base-{@code slots}
+ * digit in which its deadline tick differs from the current tick. When the digits below a level roll over to zero,
+ * that level's current bucket is re-filed one level down. Items are never sorted, and each one moves at most once per
+ * level. Levels are added when a deadline needs them. Deadlines are rounded up to the next tick, so an item expires up
+ * to one tick late, never early.
+ * <p>
+ * Not thread-safe; the owner synchronises.
+ */
+final class TimingWheel<T> {
+
+    private final long tickMillis;
+    private final int bits;
+    private final int mask;
+    private final List<List<List<Entry<T>>>> levels = new ArrayList<>();
+    private long currentTick;
+    private int size;
+
+    /**
+     * @param slots buckets per level, a power of two
+     */
+    TimingWheel(long tickMillis, int slots, long nowMillis) {
+        if (tickMillis < 1 || slots < 2 || Integer.bitCount(slots) != 1) {
+            throw new IllegalArgumentException("A timing wheel needs a positive tick and a power-of-two slot count");
+        }
+        this.tickMillis = tickMillis;
+        this.bits = Integer.numberOfTrailingZeros(slots);
+        this.mask = slots - 1;
+        this.currentTick = Math.floorDiv(nowMillis, tickMillis);
+    }
+
+    /**
+     * Files the item under its deadline. Returns {@code false} without keeping it when the deadline has passed by the
+     * wheel's current tick, so the caller can run it straight away.
+     */
+    boolean schedule(long deadlineMillis, T item) {
+        long deadlineTick = Math.floorDiv(deadlineMillis + tickMillis - 1, tickMillis);
+        if (deadlineTick <= currentTick) {
+            return false;
+        }
+        file(new Entry<>(deadlineTick, item));
+        size++;
+        return true;
+    }
+
+    /**
+     * Moves the wheel forward to the given time and returns every item whose deadline has been reached, earlier
+     * ticks first.
+     */
+    List<T> advance(long nowMillis) {
+        long targetTick = Math.floorDiv(nowMillis, tickMillis);
+        List<T> expired = new ArrayList<>();
+        while (size > 0 && currentTick < targetTick) {
+            currentTick++;
+            cascade();
+            List<Entry<T>> due = take(0, slot(0));
+            for (Entry<T> entry : due) {
+                expired.add(entry.item());
+            }
+            size -= due.size();
+        }
+        // Nothing pending: jump instead of stepping through empty ticks
+        currentTick = Math.max(currentTick, targetTick);
+        return expired;
+    }
+
+    int size() {
+        return size;
+    }
+
+    /**
+     * Re-files the current bucket of every level whose lower digits just rolled over, from the top down, so an item
+     * coming down two levels at once is not missed.
+     */
+    private void cascade() {
+        for (int level = levels.size() - 1; level > 0; level--) {
+            if ((currentTick & ((1L << (level * bits)) - 1)) == 0) {
+                for (Entry<T> entry : take(level, slot(level))) {
+                    file(entry);
+                }
+            }
+        }
+    }
+
+    private void file(Entry<T> entry) {
+        long differingBits = entry.deadlineTick() ^ currentTick;
+        int level = differingBits == 0 ? 0 : (63 - Long.numberOfLeadingZeros(differingBits)) / bits;
+        while (levels.size() <= level) {
+            List<List<Entry<T>>> buckets = new ArrayList<>(mask + 1);
+            for (int i = 0; i <= mask; i++) {
+                buckets.add(null);
+            }
+            levels.add(buckets);
+        }
+
+        List<List<Entry<T>>> buckets = levels.get(level);
+        int slot = (int) ((entry.deadlineTick() >>> (level * bits)) & mask);
+        List<Entry<T>> bucket = buckets.get(slot);
+        if (bucket == null) {
+            bucket = new ArrayList<>();
+            buckets.set(slot, bucket);
+        }
+        bucket.add(entry);
+    }
+
+    private int slot(int level) {
+        return (int) ((currentTick >>> (level * bits)) & mask);
+    }
+
+    private List<Entry<T>> take(int level, int slot) {
+        if (level >= levels.size()) {
+            return List.of();
+        }
+        List<Entry<T>> bucket = levels.get(level).set(slot, null);
+        return bucket != null ? bucket : List.of();
+    }
+
+    private record Entry<T>(long deadlineTick, T item) {
+    }
+}
@@ -0,0 +1,126 @@
+package com.batuhan.banking_service.service.batch;
+
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadContext;
+import com.batuhan.banking_service.service.impl.TransactionAnalysisServiceImpl;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TransactionCategoryBackfillJob {
+
+    private static final String SELECT_UNCATEGORIZED_RANGE =
+            "SELECT MIN(id) AS min_id, MAX(id) AS max_id FROM transactions WHERE category IS NULL";
+    private static final String SELECT_CHUNK =
+            "SELECT id, description FROM transactions WHERE category IS NULL AND id BETWEEN ? AND ?";
+    private static final String UPDATE_CATEGORY =
+            "UPDATE transactions SET category = ? WHERE id = ? AND category IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionAnalysisServiceImpl analysisService;
+
+    @Value("${application.batch.category-backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${application.batch.category-backfill.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${application.batch.category-backfill.parallelism:4}")
+    private int parallelism;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (!enabled) {
+            log.debug("Transaction category backfill is disabled");
+            return;
+        }
+        // The coordinator waits on the chunks, so it gets its own thread instead of taking a chunk worker
+        ExecutorService chunkWorkers = Executors.newFixedThreadPool(parallelism, daemonThreads("category-backfill-"));
+        ExecutorService coordinator = Executors.newSingleThreadExecutor(daemonThreads("category-backfill-coordinator-"));
+        CompletableFuture.supplyAsync(() -> WorkloadContext.supply(Workload.REPORTING, () -> backfill(chunkWorkers)), coordinator)
+                .whenComplete((updated, ex) -> {
+                    if (ex != null) {
+                        log.error("Transaction category backfill failed: {}", ex.getMessage(), ex);
+                    }
+                    chunkWorkers.shutdown();
+                    coordinator.shutdown();
+                });
+    }
+
+    public long backfill(ExecutorService executor) {
+        Map<String, Object> range = jdbcTemplate.queryForMap(SELECT_UNCATEGORIZED_RANGE);
+        Number minId = (Number) range.get("min_id");
+        Number maxId = (Number) range.get("max_id");
+
+        if (minId == null || maxId == null) {
+            log.info("Transaction category backfill: no uncategorized rows found");
+            return 0;
+        }
+
+        long startedAt = System.currentTimeMillis();
+        AtomicLong updated = new AtomicLong();
+        AtomicInteger completedChunks = new AtomicInteger();
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+
+        for (long from = minId.longValue(); from <= maxId.longValue(); from += chunkSize) {
+            long to = Math.min(from + chunkSize - 1, maxId.longValue());
+            long chunkFrom = from;
+            chunks.add(CompletableFuture.runAsync(WorkloadContext.propagate(() -> {
+                updated.addAndGet(processChunk(chunkFrom, to));
+                completedChunks.incrementAndGet();
+            }), executor));
+        }
+
+        CompletableFuture.allOf(chunks.toArray(CompletableFuture[]::new)).join();
+        log.info("Transaction category backfill completed: {} rows in {} chunks ({} ms)",
+                updated.get(), completedChunks.get(), System.currentTimeMillis() - startedAt);
+        return updated.get();
+    }
+
+    private static ThreadFactory daemonThreads(String namePrefix) {
+        AtomicInteger count = new AtomicInteger();
+        return task -> {
+            Thread thread = new Thread(task, namePrefix + count.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        };
+    }
+
+    private int processChunk(long fromId, long toId) {
+        Integer count = transactionTemplate.execute(status -> {
+            List<Object[]> batchArgs = jdbcTemplate.query(SELECT_CHUNK,
+                    (rs, rowNum) -> new Object[]{
+                            analysisService.determineCategory(rs.getString("description")).name(),
+                            rs.getLong("id")
+                    },
+                    fromId, toId);
+
+            if (!batchArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_CATEGORY, batchArgs);
+            }
+            return batchArgs.size();
+        });
+
+        log.debug("Backfilled categories for transaction ids [{} - {}]: {} rows", fromId, toId, count);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,185 @@
+package com.batuhan.banking_service.service.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+/**
+ * Keeps the Hibernate second-level cache coherent across instances. Every committed insert, update or delete of a
+ * cached entity is published on a Redis channel as {@code <node>|<op>|<entity>|<id>}; the other instances evict
+ * that entity, and on inserts and deletes also their natural-id and query regions, since a cached query result
+ * may now be missing a row or point at one that is gone. Updates leave those regions alone: IBANs and customer
+ * numbers are immutable, so the ids they resolve to cannot change.
+ * <p>
+ * Delivery is best effort, like Redis pub/sub itself. A lost message is bounded by the region TTLs in
+ * {@code hibernate-l2-cache.conf}, and Redis failures never fail the transaction that triggered them. Bulk HQL
+ * statements bypass entity events and are not broadcast.
+ */
+@Slf4j
+@Component
+public class EntityCacheInvalidator implements PostCommitInsertEventListener, PostCommitUpdateEventListener,
+        PostCommitDeleteEventListener, MessageListener {
+
+    private static final String SEPARATOR = "|";
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final StringRedisTemplate redisTemplate;
+    private final String channel;
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private RedisMessageListenerContainer listenerContainer;
+
+    @Autowired
+    public EntityCacheInvalidator(EntityManagerFactory entityManagerFactory,
+                                  @Value("${application.cache.l2.invalidation.enabled:false}") boolean enabled,
+                                  @Value("${application.cache.l2.invalidation.channel:banking:l2-invalidation}") String channel,
+                                  ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        this(entityManagerFactory.unwrap(SessionFactoryImplementor.class),
+                enabled ? createRedisTemplate(redisConnectionFactory.getIfAvailable()) : null, channel);
+    }
+
+    EntityCacheInvalidator(SessionFactoryImplementor sessionFactory, StringRedisTemplate redisTemplate, String channel) {
+        this.sessionFactory = sessionFactory;
+        this.redisTemplate = redisTemplate;
+        this.channel = channel;
+    }
+
+    @PostConstruct
+    void start() {
+        if (redisTemplate == null) {
+            log.info("Second-level cache invalidation broadcast disabled; remote changes are picked up on TTL expiry");
+            return;
+        }
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        listeners.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        listeners.appendListeners(EventType.POST_COMMIT_DELETE, this);
+
+        listenerContainer = new RedisMessageListenerContainer();
+        listenerContainer.setConnectionFactory(redisTemplate.getRequiredConnectionFactory());
+        listenerContainer.addMessageListener(this, new ChannelTopic(channel));
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+        log.info("Second-level cache invalidation broadcast enabled on channel {} (node {})", channel, nodeId);
+    }
+
+    @PreDestroy
+    void stop() throws Exception {
+        if (listenerContainer != null) {
+            listenerContainer.destroy();
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return persister.canWriteToCache();
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        publish(Operation.INSERT, event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(Operation.UPDATE, event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(Operation.DELETE, event.getPersister(), event.getId());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        // Rolled back: nothing was cached and nothing changed
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // Rolled back: the local cache was unlocked by Hibernate and other nodes never saw the change
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        // Rolled back: the row still exists
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\" + SEPARATOR, 4);
+        if (parts.length != 4 || nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            evict(Operation.valueOf(parts[1]), parts[2], Long.valueOf(parts[3]));
+        } catch (RuntimeException e) {
+            log.warn("Second-level cache: ignoring invalid invalidation message '{}': {}", body, e.getMessage());
+        }
+    }
+
+    String nodeId() {
+        return nodeId;
+    }
+
+    private void publish(Operation operation, EntityPersister persister, Object id) {
+        if (redisTemplate == null || !persister.canWriteToCache() || !(id instanceof Long)) {
+            return;
+        }
+        String message = String.join(SEPARATOR, nodeId, operation.name(), persister.getEntityName(), id.toString());
+        try {
+            redisTemplate.convertAndSend(channel, message);
+        } catch (RuntimeException e) {
+            log.warn("Second-level cache: could not broadcast {} of {}#{}: {}",
+                    operation, persister.getEntityName(), id, e.getMessage());
+        }
+    }
+
+    private void evict(Operation operation, String entityName, Long id) {
+        Cache cache = sessionFactory.getCache();
+        cache.evictEntityData(entityName, id);
+        if (operation != Operation.UPDATE) {
+            cache.evictNaturalIdData(entityName);
+            cache.evictQueryRegions();
+        }
+        log.debug("Second-level cache: evicted {}#{} after remote {}", entityName, id, operation);
+    }
+
+    private static StringRedisTemplate createRedisTemplate(RedisConnectionFactory connectionFactory) {
+        if (connectionFactory == null) {
+            log.warn("Second-level cache: invalidation enabled but no RedisConnectionFactory is available");
+            return null;
+        }
+        StringRedisTemplate template = new StringRedisTemplate(connectionFactory);
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    enum Operation { INSERT, UPDATE, DELETE }
+}
@@ -0,0 +1,136 @@
+package com.batuhan.banking_service.service.export;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * RFC 4180 CSV writer. Text cells that a spreadsheet would evaluate as a formula are prefixed
+ * with a quote so user-supplied descriptions cannot inject formulas into the opened file.
+ */
+@Slf4j
+@Component
+public class CsvTransactionExportWriter implements TransactionExportWriter {
+
+    private static final String HEADER = "reference_number,external_id,sender_name,sender_iban,receiver_name,receiver_iban,amount,transaction_type,status,description,created_at";
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int LINE_CAPACITY = 512;
+    private static final char SEPARATOR = ',';
+    private static final String LINE_END = "\r\n";
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.CSV;
+    }
+
+    @Override
+    public long write(Stream<TransactionResponse> transactions, OutputStream out) {
+        long rowCount = 0;
+        try {
+            Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+            writer.write(HEADER);
+            writer.write(LINE_END);
+
+            // One reusable line buffer: a single write per row instead of one per cell
+            StringBuilder line = new StringBuilder(LINE_CAPACITY);
+            Iterator<TransactionResponse> rows = transactions.iterator();
+            while (rows.hasNext()) {
+                line.setLength(0);
+                appendRow(line, rows.next());
+                writer.append(line);
+                rowCount++;
+            }
+            writer.flush();
+            log.info("CSV export streamed successfully with {} rows", rowCount);
+            return rowCount;
+
+        } catch (IOException e) {
+            log.error("CSV export failed after {} transactions: {}", rowCount, e.getMessage());
+            throw new BankingServiceException("Failed to generate CSV export", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void appendRow(StringBuilder line, TransactionResponse dto) {
+        appendText(line, dto.referenceNumber());
+        line.append(SEPARATOR);
+        appendRaw(line, dto.externalId());
+        line.append(SEPARATOR);
+        appendText(line, dto.senderName());
+        line.append(SEPARATOR);
+        appendText(line, dto.senderIban());
+        line.append(SEPARATOR);
+        appendText(line, dto.receiverName());
+        line.append(SEPARATOR);
+        appendText(line, dto.receiverIban());
+        line.append(SEPARATOR);
+        if (dto.amount() != null) {
+            line.append(dto.amount().toPlainString());
+        }
+        line.append(SEPARATOR);
+        appendRaw(line, dto.transactionType());
+        line.append(SEPARATOR);
+        appendRaw(line, dto.status());
+        line.append(SEPARATOR);
+        appendText(line, dto.description());
+        line.append(SEPARATOR);
+        appendRaw(line, dto.createdAt());
+        line.append(LINE_END);
+    }
+
+    private void appendRaw(StringBuilder line, Object value) {
+        if (value != null) {
+            line.append(value);
+        }
+    }
+
+    private void appendText(StringBuilder line, String value) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        boolean formulaLike = isFormulaTrigger(value.charAt(0));
+        if (!formulaLike && !needsQuoting(value)) {
+            line.append(value);
+            return;
+        }
+
+        line.append('"');
+        if (formulaLike) {
+            line.append('\'');
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == '"') {
+                line.append('"');
+            }
+            line.append(c);
+        }
+        line.append('"');
+    }
+
+    private boolean needsQuoting(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            if (c == SEPARATOR || c == '"' || c == '\n' || c == '\r') {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private boolean isFormulaTrigger(char first) {
+        return first == '=' || first == '+' || first == '-' || first == '@' || first == '\t' || first == '\r';
+    }
+}
@@ -0,0 +1,21 @@
+package com.batuhan.banking_service.service.export;
+
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+
+import java.io.Closeable;
+import java.nio.file.Path;
+
+/**
+ * A finished export staged on local disk, ready to be served. The file is not cleaned up until it is closed.
+ */
+public record ExportJobFile(Path path, String filename, ExportFormat format, long sizeBytes, Runnable release)
+        implements Closeable {
+
+    /**
+     * Ends this download. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        release.run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.batuhan.banking_service.service.export;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * Newline-delimited JSON writer: one {@link TransactionResponse} object per line, serialized with the
+ * application's {@link ObjectMapper} so field names and date formats match the REST API.
+ * A single generator is reused for all rows and only flushed once at the end.
+ */
+@Slf4j
+@Component
+public class NdjsonTransactionExportWriter implements TransactionExportWriter {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectWriter rowWriter;
+
+    public NdjsonTransactionExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.rowWriter = objectMapper.writerFor(TransactionResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+    }
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.NDJSON;
+    }
+
+    @Override
+    public long write(Stream<TransactionResponse> transactions, OutputStream out) {
+        long rowCount = 0;
+        try {
+            JsonGenerator generator = objectMapper.getFactory().createGenerator(out);
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<TransactionResponse> rows = transactions.iterator();
+            while (rows.hasNext()) {
+                rowWriter.writeValue(generator, rows.next());
+                generator.writeRaw('\n');
+                rowCount++;
+            }
+            generator.close();
+            log.info("NDJSON export streamed successfully with {} rows", rowCount);
+            return rowCount;
+
+        } catch (IOException e) {
+            log.error("NDJSON export failed after {} transactions: {}", rowCount, e.getMessage());
+            throw new BankingServiceException("Failed to generate NDJSON export", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+}
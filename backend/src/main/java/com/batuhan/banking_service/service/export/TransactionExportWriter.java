@@ -0,0 +1,19 @@
+package com.batuhan.banking_service.service.export;
+
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+
+import java.io.OutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Serializes a stream of transactions into one export format.
+ * Implementations write rows as they are pulled, must not buffer the whole stream,
+ * and leave {@code out} open so callers can wrap or finish it.
+ */
+public interface TransactionExportWriter {
+
+    ExportFormat format();
+
+    long write(Stream<TransactionResponse> transactions, OutputStream out);
+}
@@ -22,6 +22,7 @@ public class AccountingManager {
 
     private final AccountRepository accountRepository;
     private final AccountLimitRepository limitRepository;
+    private final TransferMetrics transferMetrics;
 
     @Transactional(propagation = Propagation.REQUIRED, rollbackFor = Exception.class)
     public void processAccounting(AccountEntity sender, AccountEntity receiver, BigDecimal amount) {
@@ -36,7 +37,7 @@ public class AccountingManager {
         sender.setBalance(sender.getBalance().subtract(amount));
         receiver.setBalance(receiver.getBalance().add(amount));
 
-        updateDailyLimitUsage(sender, amount);
+        transferMetrics.time(TransferMetrics.Phase.LIMIT_UPDATE, () -> updateDailyLimitUsage(sender, amount));
 
         accountRepository.save(sender);
         accountRepository.save(receiver);
@@ -2,6 +2,7 @@ package com.batuhan.banking_service.service.helper;
 
 import com.batuhan.banking_service.entity.AccountEntity;
 import com.batuhan.banking_service.entity.AccountLimitEntity;
+import com.batuhan.banking_service.entity.TransactionEntity;
 import com.batuhan.banking_service.entity.UserEntity;
 import com.batuhan.banking_service.entity.enums.AccountStatus;
 import com.batuhan.banking_service.exception.BankingServiceException;
@@ -49,7 +50,11 @@ public class BankingBusinessValidator {
         }
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * The ownership lookups are read-write transactions on purpose: read-only ones may be served by a lagging
+     * replica, which would deny a freshly created account or still grant one that was just closed.
+     */
+    @Transactional
     public boolean isOwner(String customerNumber) {
         if (isAdmin()) return true;
 
@@ -59,28 +64,40 @@ public class BankingBusinessValidator {
                 .orElse(false);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * Runs on nearly every account-scoped request, so it resolves the account and its holder through the
+     * second-level cache instead of querying both. On a miss it reads the primary, like {@link #isOwner}.
+     */
+    @Transactional
     public boolean isAccountOwner(String iban) {
         if (isAdmin()) return true;
 
         String currentUserEmail = getAuthenticatedUserEmail();
-        return accountRepository.findByIban(Objects.requireNonNull(iban).trim())
+        return accountRepository.loadByIban(Objects.requireNonNull(iban).trim())
                 .map(account -> account.getUser().getEmail().equalsIgnoreCase(currentUserEmail))
                 .orElse(false);
     }
 
-    @Transactional(readOnly = true)
+    @Transactional
     public boolean isTransactionOwner(Long transactionId) {
         if (isAdmin()) return true;
 
-        String currentUserEmail = getAuthenticatedUserEmail();
-        return transactionRepository.findById(transactionId)
-                .map(transaction ->
-                        transaction.getSenderAccount().getUser().getEmail().equalsIgnoreCase(currentUserEmail) ||
-                                transaction.getReceiverAccount().getUser().getEmail().equalsIgnoreCase(currentUserEmail))
+        return transactionRepository.findReceiptById(transactionId)
+                .map(this::isTransactionOwner)
                 .orElse(false);
     }
 
+    /**
+     * Ownership check on an already loaded transaction; both account holders must be initialized.
+     */
+    public boolean isTransactionOwner(TransactionEntity transaction) {
+        if (isAdmin()) return true;
+
+        String currentUserEmail = getAuthenticatedUserEmail();
+        return transaction.getSenderAccount().getUser().getEmail().equalsIgnoreCase(currentUserEmail) ||
+                transaction.getReceiverAccount().getUser().getEmail().equalsIgnoreCase(currentUserEmail);
+    }
+
     public void validateOwnership(UserEntity targetUser) {
         if (isAdmin()) return;
 
@@ -0,0 +1,120 @@
+package com.batuhan.banking_service.service.helper;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A fixed-size Bloom filter over strings, safe for concurrent adds and lookups without locks.
+ * <p>
+ * Sized for an expected number of elements {@code n} and false-positive rate {@code p}: {@code m = -n ln p / (ln 2)^2}
+ * bits and {@code k = m / n ln 2} probes. The probes are {@code h1 + i * h2} over one 64-bit hash of the string
+ * (Kirsch and Mitzenmacher), so a lookup reads the string once. Bits are only ever set: a value that was added is
+ * always reported, one that was not is reported with about probability {@code p} up to {@code n} elements and more
+ * often beyond. Removal is not supported.
+ */
+public final class BloomFilter {
+
+    private static final double LN2 = Math.log(2);
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray words;
+    private final long bits;
+    private final int probes;
+    private final AtomicLong setBits = new AtomicLong();
+
+    private BloomFilter(long bits, int probes) {
+        long wordCount = (bits + 63) >>> 6;
+        if (wordCount > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Bloom filter too large: " + bits + " bits");
+        }
+        this.words = new AtomicLongArray((int) wordCount);
+        this.bits = wordCount << 6;
+        this.probes = probes;
+    }
+
+    public static BloomFilter create(long expectedElements, double falsePositiveRate) {
+        if (expectedElements < 1 || falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("Expected elements must be positive and the false-positive rate in (0, 1)");
+        }
+        long bits = (long) Math.ceil(-expectedElements * Math.log(falsePositiveRate) / (LN2 * LN2));
+        int probes = Math.max(1, (int) Math.round((double) bits / expectedElements * LN2));
+        return new BloomFilter(bits, probes);
+    }
+
+    /**
+     * Adds the value; {@code true} if this changed the filter, so the value cannot have been added before.
+     */
+    public boolean add(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 + GOLDEN_GAMMA) | 1;
+        boolean changed = false;
+        for (int i = 0; i < probes; i++) {
+            changed |= set(Long.remainderUnsigned(h1 + i * h2, bits));
+        }
+        return changed;
+    }
+
+    public boolean mightContain(String value) {
+        long h1 = hash(value);
+        long h2 = mix(h1 + GOLDEN_GAMMA) | 1;
+        for (int i = 0; i < probes; i++) {
+            long bit = Long.remainderUnsigned(h1 + i * h2, bits);
+            if ((words.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    public long sizeInBytes() {
+        return bits >>> 3;
+    }
+
+    /**
+     * Estimated number of distinct values added, from the share of bits set (Swamidass and Baldi).
+     */
+    public long approximateElements() {
+        double fill = (double) setBits.get() / bits;
+        return fill >= 1 ? Long.MAX_VALUE : Math.round(-(double) bits / probes * Math.log1p(-fill));
+    }
+
+    /**
+     * The chance that a value never added is reported now, {@code fill^k}; grows as values are added.
+     */
+    public double expectedFalsePositiveRate() {
+        return Math.pow((double) setBits.get() / bits, probes);
+    }
+
+    private boolean set(long bit) {
+        int index = (int) (bit >>> 6);
+        long mask = 1L << bit;
+        while (true) {
+            long word = words.get(index);
+            if ((word & mask) != 0) {
+                return false;
+            }
+            if (words.compareAndSet(index, word, word | mask)) {
+                setBits.incrementAndGet();
+                return true;
+            }
+        }
+    }
+
+    /**
+     * FNV-1a over the UTF-16 code units, finished with the SplitMix64 mixer so every output bit depends on every
+     * input bit.
+     */
+    private static long hash(String value) {
+        long hash = 0xCBF29CE484222325L;
+        for (int i = 0; i < value.length(); i++) {
+            hash = (hash ^ value.charAt(i)) * 0x100000001B3L;
+        }
+        return mix(hash);
+    }
+
+    private static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
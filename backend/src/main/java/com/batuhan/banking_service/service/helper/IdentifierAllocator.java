@@ -0,0 +1,194 @@
+package com.batuhan.banking_service.service.helper;
+
+import com.batuhan.banking_service.validator.IbanCodec;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Hands out IBANs and customer numbers without existence checks.
+ * <p>
+ * Numbers come from database sequences that step by a block size, so one {@code nextval} reserves a whole block for
+ * this node and the rest are served from memory. The block size is read from the sequence itself, so it cannot drift
+ * from the migration. Numbers lost to a restart are skipped, never reused.
+ * <p>
+ * With a non-zero {@code application.identifiers.scramble-key} each number is passed through a keyed decimal Feistel
+ * permutation, so consecutive accounts do not get consecutive numbers. The permutation is a bijection, so uniqueness
+ * still follows from the sequence. It obfuscates rather than encrypts. The key must never change once numbers have
+ * been issued, because a new key maps later sequence values onto numbers that are already taken.
+ */
+@Slf4j
+@Component
+public class IdentifierAllocator {
+
+    static final String ACCOUNT_SEQUENCE = "account_number_seq";
+    static final String CUSTOMER_SEQUENCE = "customer_number_seq";
+
+    private static final String COUNTRY_CODE = "TR";
+    private static final String BANK_CODE = "00062";
+    private static final char RESERVED_DIGIT = '0';
+
+    private static final int ACCOUNT_NUMBER_DIGITS = 16;
+    private static final long ACCOUNT_NUMBERS = 10_000_000_000_000_000L;
+    private static final long CUSTOMER_NUMBER_MIN = 1_000_000_000L;
+    private static final long CUSTOMER_NUMBER_BOUND = 10_000_000_000L;
+
+    private final SequenceBlock accountNumbers;
+    private final SequenceBlock customerNumbers;
+    private final FeistelPermutation accountScramble;
+    private final FeistelPermutation customerScramble;
+
+    public IdentifierAllocator(JdbcTemplate jdbcTemplate,
+                               @Value("${application.identifiers.scramble-key:0}") long scrambleKey) {
+        this.accountNumbers = new SequenceBlock(jdbcTemplate, ACCOUNT_SEQUENCE);
+        this.customerNumbers = new SequenceBlock(jdbcTemplate, CUSTOMER_SEQUENCE);
+        this.accountScramble = scrambleKey == 0 ? null : new FeistelPermutation(ACCOUNT_NUMBER_DIGITS / 2, scrambleKey);
+        this.customerScramble = scrambleKey == 0 ? null : new FeistelPermutation(5, ~scrambleKey);
+        if (scrambleKey == 0) {
+            log.warn("Identifier scrambling is disabled, account and customer numbers are issued in sequence");
+        }
+    }
+
+    /**
+     * A new TR IBAN: bank code, reserved digit and a 16-digit account number.
+     */
+    public String nextIban() {
+        long number = accountNumbers.next();
+        if (number >= ACCOUNT_NUMBERS) {
+            throw new IllegalStateException("Account number sequence is exhausted");
+        }
+        if (accountScramble != null) {
+            number = accountScramble.permute(number);
+        }
+
+        StringBuilder bban = new StringBuilder(BANK_CODE.length() + 1 + ACCOUNT_NUMBER_DIGITS)
+                .append(BANK_CODE)
+                .append(RESERVED_DIGIT);
+        int padding = ACCOUNT_NUMBER_DIGITS - digits(number);
+        for (int i = 0; i < padding; i++) {
+            bban.append('0');
+        }
+        return IbanCodec.build(COUNTRY_CODE, bban.append(number));
+    }
+
+    /**
+     * A new ten-digit customer number, never starting with 0.
+     */
+    public String nextCustomerNumber() {
+        long number = CUSTOMER_NUMBER_MIN + customerNumbers.next();
+        if (number >= CUSTOMER_NUMBER_BOUND) {
+            throw new IllegalStateException("Customer number sequence is exhausted");
+        }
+        if (customerScramble != null) {
+            // Cycle-walk: permute within [0, 10^10) until the result lands back in the ten-digit range
+            do {
+                number = customerScramble.permute(number);
+            } while (number < CUSTOMER_NUMBER_MIN);
+        }
+        return Long.toString(number);
+    }
+
+    /**
+     * Whether an IBAN, in electronic form, carries this bank's code and so belongs to the range {@link #nextIban()}
+     * issues from. IBANs from that range must never be assigned any other way, or a later allocation collides.
+     */
+    public boolean isInAllocatedRange(String iban) {
+        return iban.startsWith(COUNTRY_CODE) && iban.regionMatches(4, BANK_CODE, 0, BANK_CODE.length());
+    }
+
+    private static int digits(long number) {
+        int digits = 1;
+        while (number >= 10) {
+            number /= 10;
+            digits++;
+        }
+        return digits;
+    }
+
+    /**
+     * A block of sequence values reserved by one {@code nextval}; the sequence's increment is the block size.
+     */
+    private static final class SequenceBlock {
+
+        private static final String INCREMENT_QUERY =
+                "SELECT increment FROM information_schema.sequences WHERE lower(sequence_name) = ?";
+
+        private final JdbcTemplate jdbcTemplate;
+        private final String name;
+        private final String nextValQuery;
+        private final ReentrantLock lock = new ReentrantLock();
+        private long blockSize;
+        private long next;
+        private long limit;
+
+        private SequenceBlock(JdbcTemplate jdbcTemplate, String name) {
+            this.jdbcTemplate = jdbcTemplate;
+            this.name = name;
+            this.nextValQuery = "SELECT nextval('" + name + "')";
+        }
+
+        // A lock rather than a monitor: the refill queries the database, which would pin a virtual thread
+        private long next() {
+            lock.lock();
+            try {
+                if (next == limit) {
+                    if (blockSize == 0) {
+                        blockSize = Long.parseLong(jdbcTemplate.queryForObject(INCREMENT_QUERY, String.class, name).trim());
+                    }
+                    next = jdbcTemplate.queryForObject(nextValQuery, Long.class);
+                    limit = next + blockSize;
+                }
+                return next++;
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    /**
+     * A keyed permutation of [0, 10^(2 * halfDigits)): four balanced Feistel rounds over the decimal halves, each
+     * adding a mixed round key modulo 10^halfDigits, which keeps every round invertible.
+     */
+    private static final class FeistelPermutation {
+
+        private static final int ROUNDS = 4;
+
+        private final long half;
+        private final long[] roundKeys = new long[ROUNDS];
+
+        private FeistelPermutation(int halfDigits, long key) {
+            long half = 1;
+            for (int i = 0; i < halfDigits; i++) {
+                half *= 10;
+            }
+            this.half = half;
+            for (int i = 0; i < ROUNDS; i++) {
+                roundKeys[i] = mix(key + i * 0x9E3779B97F4A7C15L);
+            }
+        }
+
+        private long permute(long value) {
+            long left = value / half;
+            long right = value % half;
+            for (long roundKey : roundKeys) {
+                long mixed = Math.floorMod(mix(right ^ roundKey), half);
+                long nextRight = (left + mixed) % half;
+                left = right;
+                right = nextRight;
+            }
+            return left * half + right;
+        }
+
+        /**
+         * SplitMix64 finalizer.
+         */
+        private static long mix(long z) {
+            z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+            z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+            return z ^ (z >>> 31);
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.batuhan.banking_service.service.helper;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.LongSupplier;
+
+/**
+ * Remembers which users have just written, so their reads stay on the primary until replicas have caught up.
+ * <p>
+ * The window opens when the writing transaction commits, never before, and is tracked per instance: with
+ * several instances behind a load balancer it holds only for requests that land on the same one.
+ */
+@Component
+public class ReadYourWritesWindow {
+
+    private static final int PURGE_THRESHOLD = 10_000;
+
+    private final long windowNanos;
+    private final LongSupplier nanoClock;
+    private final Map<String, Long> deadlines = new ConcurrentHashMap<>();
+
+    @Autowired
+    public ReadYourWritesWindow(@Value("${application.datasource.replicas.read-your-writes-window:5s}") Duration window) {
+        this(window, System::nanoTime);
+    }
+
+    ReadYourWritesWindow(Duration window, LongSupplier nanoClock) {
+        this.windowNanos = window.toNanos();
+        this.nanoClock = nanoClock;
+    }
+
+    /**
+     * Opens the window for the authenticated user once the current transaction commits, or immediately when
+     * there is no transaction.
+     */
+    public void openForCurrentUser() {
+        String user = currentUser();
+        if (user == null || windowNanos <= 0) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    open(user);
+                }
+            });
+        } else {
+            open(user);
+        }
+    }
+
+    public boolean isOpenForCurrentUser() {
+        String user = currentUser();
+        if (user == null) {
+            return false;
+        }
+        Long deadline = deadlines.get(user);
+        if (deadline == null) {
+            return false;
+        }
+        if (nanoClock.getAsLong() - deadline < 0) {
+            return true;
+        }
+        deadlines.remove(user, deadline);
+        return false;
+    }
+
+    private void open(String user) {
+        long now = nanoClock.getAsLong();
+        deadlines.put(user, now + windowNanos);
+        if (deadlines.size() > PURGE_THRESHOLD) {
+            deadlines.values().removeIf(deadline -> now - deadline >= 0);
+        }
+    }
+
+    private static String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        return authentication != null && authentication.isAuthenticated() ? authentication.getName() : null;
+    }
+}
@@ -0,0 +1,226 @@
+package com.batuhan.banking_service.service.helper;
+
+import com.batuhan.banking_service.exception.BankingServiceException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.persistence.EntityManager;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionEventListener;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Times the phases of a money transfer, so a latency regression can be traced to lock contention, SQL, or broker I/O.
+ * <p>
+ * Every timer is tagged with {@code outcome} (success/failure) and a bounded {@code reason}: the HTTP status of a
+ * {@link BankingServiceException}, or the simple class name of any other exception. Percentiles and SLO buckets are
+ * configured under {@code management.metrics.distribution} for the {@value #TRANSFER} prefix.
+ * <ul>
+ *   <li>{@value #PHASE}{phase}: one timer per {@link Phase}. {@code accounting} includes {@code limit_update}.</li>
+ *   <li>{@value #LOCK_WAIT}: time the {@code SELECT ... FOR UPDATE} statements spent executing, which is row-lock
+ *       wait under contention. The rest of the {@code lock} phase is connection checkout and entity loading.</li>
+ *   <li>{@value #TRANSFER}: the whole transfer up to the end of the commit.</li>
+ * </ul>
+ */
+@Component
+@RequiredArgsConstructor
+public class TransferMetrics {
+
+    public static final String TRANSFER = "banking.transfer";
+    public static final String PHASE = "banking.transfer.phase";
+    public static final String LOCK_WAIT = "banking.transfer.lock.wait";
+
+    static final String SUCCESS = "success";
+    static final String FAILURE = "failure";
+    static final String NONE = "none";
+    static final String ROLLBACK = "rollback";
+
+    private final MeterRegistry meterRegistry;
+    private final EntityManager entityManager;
+
+    @Getter
+    public enum Phase {
+        SELF_TRANSFER_CHECK("self_transfer_check"),
+        LOCK("lock"),
+        VALIDATION("validation"),
+        ACCOUNTING("accounting"),
+        LIMIT_UPDATE("limit_update"),
+        RECORD_INSERT("record_insert"),
+        AUDIT_ENQUEUE("audit_enqueue"),
+        NOTIFICATION_PUBLISH("notification_publish"),
+        COMMIT("commit");
+
+        private final String tag;
+
+        Phase(String tag) {
+            this.tag = tag;
+        }
+    }
+
+    /**
+     * Starts timing a transfer. Inside a transaction the commit phase and the total are recorded when it completes,
+     * otherwise the total is recorded by {@link Transfer#succeeded()} or {@link Transfer#failed(RuntimeException)}.
+     */
+    public Transfer begin() {
+        Transfer transfer = new Transfer();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(transfer);
+        }
+        return transfer;
+    }
+
+    public void time(Phase phase, Runnable action) {
+        time(phase, () -> {
+            action.run();
+            return null;
+        });
+    }
+
+    public <T> T time(Phase phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            T result = action.get();
+            record(PHASE, phase, System.nanoTime() - start, null);
+            return result;
+        } catch (RuntimeException e) {
+            record(PHASE, phase, System.nanoTime() - start, e);
+            throw e;
+        }
+    }
+
+    /**
+     * Times the {@link Phase#LOCK} phase and, separately, the JDBC execution time of its locking statements.
+     */
+    public <T> T timeLockAcquisition(Supplier<T> lock) {
+        StatementClock statements = attachStatementClock();
+        long start = System.nanoTime();
+        RuntimeException failure = null;
+        try {
+            return lock.get();
+        } catch (RuntimeException e) {
+            failure = e;
+            throw e;
+        } finally {
+            record(PHASE, Phase.LOCK, System.nanoTime() - start, failure);
+            if (statements != null) {
+                statements.stop();
+                record(LOCK_WAIT, null, statements.elapsedNanos, failure);
+            }
+        }
+    }
+
+    static String reason(Throwable failure) {
+        if (failure == null) {
+            return NONE;
+        }
+        if (failure instanceof BankingServiceException e) {
+            return e.getStatus().name().toLowerCase(Locale.ROOT);
+        }
+        return failure.getClass().getSimpleName();
+    }
+
+    private StatementClock attachStatementClock() {
+        if (entityManager == null || !TransactionSynchronizationManager.isActualTransactionActive()) {
+            return null;
+        }
+        StatementClock clock = new StatementClock();
+        entityManager.unwrap(SessionImplementor.class).getEventListenerManager().addListener(clock);
+        return clock;
+    }
+
+    private void record(String name, Phase phase, long nanos, Throwable failure) {
+        record(name, phase, nanos, failure == null ? SUCCESS : FAILURE, reason(failure));
+    }
+
+    private void record(String name, Phase phase, long nanos, String outcome, String reason) {
+        Timer.Builder timer = Timer.builder(name)
+                .tag("outcome", outcome)
+                .tag("reason", reason);
+        if (phase != null) {
+            timer.tag("phase", phase.getTag());
+        }
+        timer.register(meterRegistry).record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    /**
+     * One transfer's total and commit timing; registered as a synchronization on the transfer's transaction.
+     */
+    public final class Transfer implements TransactionSynchronization {
+
+        private final long start = System.nanoTime();
+        private long commitStart;
+        private RuntimeException failure;
+
+        private Transfer() {
+        }
+
+        public void succeeded() {
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                record(TRANSFER, null, System.nanoTime() - start, null);
+            }
+        }
+
+        public void failed(RuntimeException e) {
+            failure = e;
+            if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+                record(TRANSFER, null, System.nanoTime() - start, e);
+            }
+        }
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            commitStart = System.nanoTime();
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            long now = System.nanoTime();
+            boolean committed = status == STATUS_COMMITTED;
+            if (commitStart != 0) {
+                record(PHASE, Phase.COMMIT, now - commitStart,
+                        committed ? SUCCESS : FAILURE, committed ? NONE : ROLLBACK);
+            }
+            if (committed) {
+                record(TRANSFER, null, now - start, SUCCESS, NONE);
+            } else {
+                record(TRANSFER, null, now - start, FAILURE, failure != null ? reason(failure) : ROLLBACK);
+            }
+        }
+    }
+
+    /**
+     * Sums the execution time of the JDBC statements a session runs until it is stopped.
+     */
+    private static final class StatementClock implements SessionEventListener {
+
+        private boolean running = true;
+        private long statementStart;
+        private long elapsedNanos;
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            if (running) {
+                statementStart = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            if (running && statementStart != 0) {
+                elapsedNanos += System.nanoTime() - statementStart;
+                statementStart = 0;
+            }
+        }
+
+        private void stop() {
+            running = false;
+        }
+    }
+}
@@ -0,0 +1,322 @@
+package com.batuhan.banking_service.service.helper;
+
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadContext;
+import com.batuhan.banking_service.entity.AccountEntity;
+import com.batuhan.banking_service.entity.UserEntity;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostInsertEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * In-memory Bloom filters over the unique emails, TCKNs and IBANs, so most lookups of a value that is not taken
+ * skip the database.
+ * <p>
+ * Each filter is filled by a streaming scan of its column once the application is ready, and rebuilt every
+ * {@code application.uniqueness-filters.rebuild-interval}. The rebuild resizes it to twice the rows found and drops
+ * values that have since changed. Every user and account inserted through Hibernate, and every user update, is
+ * added when it is flushed, before commit; a value that is rolled back only costs an extra query later. A "maybe"
+ * from a filter is confirmed with the caller's query, a "no" is trusted.
+ * <p>
+ * A filter misses rows written by other instances or over plain JDBC elsewhere until its next rebuild, and a row
+ * committed just as a scan starts. Such a duplicate is still stopped by the unique index and answered with 409.
+ * Until the first scan completes, every lookup goes to the database.
+ * <p>
+ * Meters, tagged with {@code key}: {@value #SIZE} in bytes, {@value #ELEMENTS} (estimated distinct values),
+ * {@value #FALSE_POSITIVE_RATE} (expected at the current fill) and {@value #LOOKUPS} by {@code result}:
+ * {@code skipped} (answered without a query), {@code confirmed}, {@code false_positive} or {@code unavailable}.
+ */
+@Slf4j
+@Component
+public class UniquenessFilters implements PostInsertEventListener, PostUpdateEventListener {
+
+    public static final String SIZE = "banking.uniqueness.filter.size";
+    public static final String ELEMENTS = "banking.uniqueness.filter.elements";
+    public static final String FALSE_POSITIVE_RATE = "banking.uniqueness.filter.fpp";
+    public static final String LOOKUPS = "banking.uniqueness.filter.lookups";
+
+    public enum Key {
+        EMAIL("users", "email"),
+        TCKN("users", "tckn"),
+        IBAN("accounts", "iban");
+
+        private final String countQuery;
+        private final String scanQuery;
+
+        Key(String table, String column) {
+            this.countQuery = "SELECT COUNT(*) FROM " + table;
+            this.scanQuery = "SELECT " + column + " FROM " + table;
+        }
+
+        private String tag() {
+            return name().toLowerCase();
+        }
+    }
+
+    private enum Result {
+        SKIPPED, CONFIRMED, FALSE_POSITIVE, UNAVAILABLE
+    }
+
+    private final SessionFactoryImplementor sessionFactory;
+    private final JdbcTemplate scanner;
+    private final TransactionTemplate transactionTemplate;
+    private final boolean enabled;
+    private final double falsePositiveRate;
+    private final long minExpectedElements;
+    private final Map<Key, Slot> slots = new EnumMap<>(Key.class);
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    public UniquenessFilters(EntityManagerFactory entityManagerFactory,
+                             JdbcTemplate jdbcTemplate,
+                             TransactionTemplate transactionTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${application.uniqueness-filters.enabled:true}") boolean enabled,
+                             @Value("${application.uniqueness-filters.false-positive-rate:0.01}") double falsePositiveRate,
+                             @Value("${application.uniqueness-filters.min-expected-elements:100000}") long minExpectedElements,
+                             @Value("${application.uniqueness-filters.fetch-size:10000}") int fetchSize) {
+        this.sessionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+        this.scanner = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.scanner.setFetchSize(fetchSize);
+        this.transactionTemplate = transactionTemplate;
+        this.enabled = enabled;
+        this.falsePositiveRate = falsePositiveRate;
+        this.minExpectedElements = minExpectedElements;
+
+        for (Key key : Key.values()) {
+            Slot slot = new Slot(key, meterRegistry);
+            slots.put(key, slot);
+            Gauge.builder(SIZE, slot, s -> s.active == null ? 0 : s.active.sizeInBytes())
+                    .tag("key", key.tag()).baseUnit("bytes").register(meterRegistry);
+            Gauge.builder(ELEMENTS, slot, s -> s.active == null ? 0 : s.active.approximateElements())
+                    .tag("key", key.tag()).register(meterRegistry);
+            Gauge.builder(FALSE_POSITIVE_RATE, slot, s -> s.active == null ? Double.NaN : s.active.expectedFalsePositiveRate())
+                    .tag("key", key.tag()).register(meterRegistry);
+        }
+    }
+
+    @PostConstruct
+    void start() {
+        if (!enabled) {
+            log.info("Uniqueness filters disabled; every uniqueness check queries the database");
+            return;
+        }
+        EventListenerRegistry listeners = sessionFactory.getServiceRegistry().getService(EventListenerRegistry.class);
+        listeners.appendListeners(EventType.POST_INSERT, this);
+        listeners.appendListeners(EventType.POST_UPDATE, this);
+    }
+
+    /**
+     * Whether the value is taken: {@code false} straight from the filter when it has never seen the value, the
+     * database's answer otherwise.
+     */
+    public boolean exists(Key key, String value, Predicate<String> database) {
+        Slot slot = slots.get(key);
+        BloomFilter filter = slot.active;
+        if (filter == null) {
+            slot.count(Result.UNAVAILABLE, 1);
+            return database.test(value);
+        }
+        if (!filter.mightContain(value)) {
+            slot.count(Result.SKIPPED, 1);
+            return false;
+        }
+        boolean exists = database.test(value);
+        slot.count(exists ? Result.CONFIRMED : Result.FALSE_POSITIVE, 1);
+        return exists;
+    }
+
+    /**
+     * The values that are taken, asking the database only about those the filter may have seen.
+     */
+    public Set<String> existing(Key key, Collection<String> values, Function<Collection<String>, Set<String>> database) {
+        Slot slot = slots.get(key);
+        BloomFilter filter = slot.active;
+        if (filter == null) {
+            slot.count(Result.UNAVAILABLE, values.size());
+            return database.apply(values);
+        }
+        List<String> candidates = new ArrayList<>();
+        for (String value : values) {
+            if (filter.mightContain(value)) {
+                candidates.add(value);
+            }
+        }
+        slot.count(Result.SKIPPED, values.size() - candidates.size());
+        if (candidates.isEmpty()) {
+            return Set.of();
+        }
+        Set<String> existing = database.apply(candidates);
+        slot.count(Result.CONFIRMED, existing.size());
+        slot.count(Result.FALSE_POSITIVE, candidates.size() - existing.size());
+        return existing;
+    }
+
+    /**
+     * Adds a value written outside Hibernate, such as by a JDBC batch insert.
+     */
+    public void record(Key key, String value) {
+        if (value != null) {
+            slots.get(key).add(value);
+        }
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildInBackground();
+    }
+
+    @Scheduled(fixedDelayString = "${application.uniqueness-filters.rebuild-interval:6h}",
+            initialDelayString = "${application.uniqueness-filters.rebuild-interval:6h}")
+    public void scheduledRebuild() {
+        rebuildInBackground();
+    }
+
+    /**
+     * Scans every unique column into a fresh filter and swaps it in; values written meanwhile go to both filters.
+     * Does nothing while another rebuild runs. A failed scan keeps the previous filter.
+     */
+    public void rebuild() {
+        if (!enabled || !rebuilding.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            WorkloadContext.run(Workload.REPORTING, () -> {
+                for (Key key : Key.values()) {
+                    rebuild(slots.get(key));
+                }
+            });
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void rebuildInBackground() {
+        if (!enabled) {
+            return;
+        }
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        CompletableFuture.runAsync(this::rebuild, executor)
+                .whenComplete((ignored, ex) -> {
+                    if (ex != null) {
+                        log.error("Uniqueness filter rebuild failed: {}", ex.getMessage(), ex);
+                    }
+                    executor.shutdown();
+                });
+    }
+
+    private void rebuild(Slot slot) {
+        long startedAt = System.currentTimeMillis();
+        try {
+            long rows = scanner.queryForObject(slot.key.countQuery, Long.class);
+            BloomFilter filter = BloomFilter.create(Math.max(minExpectedElements, rows * 2), falsePositiveRate);
+            slot.building = filter;
+            // Inside a transaction, so the driver streams the scan with a cursor instead of buffering every row
+            transactionTemplate.executeWithoutResult(status -> scanner.query(slot.key.scanQuery, (RowCallbackHandler) rs -> {
+                String value = rs.getString(1);
+                if (value != null) {
+                    filter.add(value);
+                }
+            }));
+            slot.active = filter;
+            log.info("Uniqueness filter {} rebuilt: {} rows, {} KB ({} ms)",
+                    slot.key.tag(), rows, filter.sizeInBytes() / 1024, System.currentTimeMillis() - startedAt);
+        } catch (DataAccessException e) {
+            log.error("Uniqueness filter {} rebuild failed, keeping the previous one: {}", slot.key.tag(), e.getMessage());
+        } finally {
+            slot.building = null;
+        }
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        if (event.getEntity() instanceof UserEntity user) {
+            record(Key.EMAIL, user.getEmail());
+            record(Key.TCKN, user.getTckn());
+        } else if (event.getEntity() instanceof AccountEntity account) {
+            record(Key.IBAN, account.getIban());
+        }
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getEntity() instanceof UserEntity user) {
+            record(Key.EMAIL, user.getEmail());
+        }
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    /**
+     * The filter in use for one key, {@code null} until the first scan completes, and the one being rebuilt.
+     */
+    private static final class Slot {
+
+        private final Key key;
+        private final Map<Result, Counter> lookups = new EnumMap<>(Result.class);
+        private volatile BloomFilter active;
+        private volatile BloomFilter building;
+
+        private Slot(Key key, MeterRegistry meterRegistry) {
+            this.key = key;
+            for (Result result : Result.values()) {
+                lookups.put(result, Counter.builder(LOOKUPS)
+                        .tag("key", key.tag())
+                        .tag("result", result.name().toLowerCase())
+                        .register(meterRegistry));
+            }
+        }
+
+        private void add(String value) {
+            BloomFilter current = active;
+            BloomFilter next = building;
+            if (current != null) {
+                current.add(value);
+            }
+            if (next != null) {
+                next.add(value);
+            }
+        }
+
+        private void count(Result result, long amount) {
+            if (amount > 0) {
+                lookups.get(result).increment(amount);
+            }
+        }
+    }
+}
@@ -10,6 +10,8 @@ import com.batuhan.banking_service.mapper.AccountMapper;
 import com.batuhan.banking_service.repository.AccountRepository;
 import com.batuhan.banking_service.service.AccountService;
 import com.batuhan.banking_service.service.helper.BankingBusinessValidator;
+import com.batuhan.banking_service.service.helper.IdentifierAllocator;
+import com.batuhan.banking_service.service.helper.ReadYourWritesWindow;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -18,8 +20,6 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
-import java.math.BigInteger;
-import java.security.SecureRandom;
 import java.util.List;
 
 @Service
@@ -30,9 +30,8 @@ public class AccountServiceImpl implements AccountService {
     private final AccountRepository accountRepository;
     private final AccountMapper accountMapper;
     private final BankingBusinessValidator businessValidator;
-    private final SecureRandom secureRandom = new SecureRandom();
-
-    private static final String IBAN_ALREADY_EXISTS = "Could not generate a unique IBAN after 10 attempts";
+    private final IdentifierAllocator identifierAllocator;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
     @Override
     @Transactional
@@ -47,6 +46,7 @@ public class AccountServiceImpl implements AccountService {
 
         log.info("Successfully created account. IBAN: {}, Currency: {}",
                 savedAccount.getIban(), savedAccount.getCurrency());
+        readYourWritesWindow.openForCurrentUser();
         return accountMapper.toResponse(savedAccount);
     }
 
@@ -87,6 +87,7 @@ public class AccountServiceImpl implements AccountService {
         account.setActive(false);
 
         accountRepository.save(account);
+        readYourWritesWindow.openForCurrentUser();
         log.info("Account {} successfully closed", cleanIban);
     }
 
@@ -109,7 +110,7 @@ public class AccountServiceImpl implements AccountService {
     private AccountEntity prepareNewAccount(AccountCreateRequest request, UserEntity user) {
         AccountEntity account = accountMapper.toEntity(request);
         account.setUser(user);
-        account.setIban(generateUniqueIban());
+        account.setIban(identifierAllocator.nextIban());
         account.setStatus(AccountStatus.ACTIVE);
         account.setActive(true);
         account.setBalance(BigDecimal.ZERO);
@@ -120,33 +121,4 @@ public class AccountServiceImpl implements AccountService {
 
         return account;
     }
-
-    private String generateUniqueIban() {
-        String iban;
-        int attempts = 0;
-        do {
-            iban = buildIbanString();
-            attempts++;
-            if (attempts > 10) {
-                throw new BankingServiceException(IBAN_ALREADY_EXISTS, HttpStatus.INTERNAL_SERVER_ERROR);
-            }
-        } while (accountRepository.existsByIban(iban));
-        return iban;
-    }
-
-    private String buildIbanString() {
-        String countryCode = "TR";
-        String bankCode = "00062";
-
-        StringBuilder accountPart = new StringBuilder();
-        for (int i = 0; i < 17; i++) {
-            accountPart.append(secureRandom.nextInt(10));
-        }
-
-        String forCheck = bankCode + accountPart + "292700";
-        BigInteger checkNum = new BigInteger(forCheck);
-        int checkDigit = 98 - checkNum.mod(BigInteger.valueOf(97)).intValue();
-
-        return countryCode + String.format("%02d", checkDigit) + bankCode + accountPart;
-    }
 }
\ No newline at end of file
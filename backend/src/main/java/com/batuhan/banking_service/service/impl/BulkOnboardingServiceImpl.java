@@ -0,0 +1,343 @@
+package com.batuhan.banking_service.service.impl;
+
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadPool;
+import com.batuhan.banking_service.dto.request.OnboardingRow;
+import com.batuhan.banking_service.dto.response.BulkOnboardingResponse;
+import com.batuhan.banking_service.dto.response.BulkOnboardingResponse.RowError;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.service.AuditService;
+import com.batuhan.banking_service.service.BulkOnboardingService;
+import com.batuhan.banking_service.service.helper.BankingBusinessValidator;
+import com.batuhan.banking_service.service.helper.IdentifierAllocator;
+import com.batuhan.banking_service.service.onboarding.OnboardingFileReader;
+import com.batuhan.banking_service.service.onboarding.OnboardingRecord;
+import com.batuhan.banking_service.service.onboarding.OnboardingStore;
+import com.batuhan.banking_service.service.onboarding.OnboardingStore.NewCustomer;
+import com.batuhan.banking_service.service.onboarding.OnboardingStore.UniqueKey;
+import com.batuhan.banking_service.validator.IbanCodec;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+
+/**
+ * Imports customers, each with an address and one account, from a CSV or NDJSON file in a single request.
+ * <p>
+ * The file is read as a stream in chunks. Chunks are validated on a worker pool while the calling thread saves the
+ * chunks before them, in file order. Saving a chunk is one transaction: a set-based uniqueness check per key, then
+ * one JDBC batch per table. A row that fails validation or uniqueness is reported and skipped; the rest of the file
+ * is still imported. When the same TCKN, email, phone number or IBAN appears twice in the file, the first valid row
+ * wins. Chunks that were saved stay saved if a later chunk fails.
+ */
+@Slf4j
+@Service
+public class BulkOnboardingServiceImpl implements BulkOnboardingService {
+
+    private static final Comparator<ConstraintViolation<OnboardingRow>> VIOLATION_ORDER =
+            Comparator.comparing((ConstraintViolation<OnboardingRow> violation) -> violation.getPropertyPath().toString())
+                    .thenComparing(ConstraintViolation::getMessage);
+
+    private final OnboardingStore onboardingStore;
+    private final IdentifierAllocator identifierAllocator;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final AuditService auditService;
+    private final BankingBusinessValidator businessValidator;
+    private final EntityManagerFactory entityManagerFactory;
+    private final Map<ExportFormat, OnboardingFileReader> readers = new EnumMap<>(ExportFormat.class);
+
+    @Value("${application.batch.onboarding.chunk-size:1000}")
+    private int chunkSize = 1000;
+
+    @Value("${application.batch.onboarding.parallelism:4}")
+    private int parallelism = 4;
+
+    @Value("${application.batch.onboarding.max-in-flight:8}")
+    private int maxInFlight = 8;
+
+    @Value("${application.batch.onboarding.max-rows:200000}")
+    private long maxRows = 200_000;
+
+    @Value("${application.batch.onboarding.max-reported-errors:1000}")
+    private int maxReportedErrors = 1000;
+
+    public BulkOnboardingServiceImpl(OnboardingStore onboardingStore,
+                                     IdentifierAllocator identifierAllocator,
+                                     Validator validator,
+                                     TransactionTemplate transactionTemplate,
+                                     AuditService auditService,
+                                     BankingBusinessValidator businessValidator,
+                                     EntityManagerFactory entityManagerFactory,
+                                     List<OnboardingFileReader> fileReaders) {
+        this.onboardingStore = onboardingStore;
+        this.identifierAllocator = identifierAllocator;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.auditService = auditService;
+        this.businessValidator = businessValidator;
+        this.entityManagerFactory = entityManagerFactory;
+        fileReaders.forEach(reader -> readers.put(reader.format(), reader));
+    }
+
+    @Override
+    @WorkloadPool(Workload.REPORTING)
+    public BulkOnboardingResponse importCustomers(InputStream in, ExportFormat format) {
+        OnboardingFileReader reader = readers.get(format);
+        if (reader == null) {
+            throw new BankingServiceException("Unsupported onboarding file format: " + format, HttpStatus.UNSUPPORTED_MEDIA_TYPE);
+        }
+        log.info("Bulk onboarding started from a {} file (chunk size {}, parallelism {})", format, chunkSize, parallelism);
+
+        long startedAt = System.currentTimeMillis();
+        ImportRun run = new ImportRun();
+        ExecutorService executor = Executors.newFixedThreadPool(parallelism);
+        try {
+            run.execute(reader.read(in), executor);
+        } finally {
+            executor.shutdownNow();
+            if (run.imported > 0) {
+                // JDBC inserts do not touch Hibernate's table timestamps, so cached queries would not see the new rows
+                entityManagerFactory.unwrap(SessionFactory.class).getCache().evictQueryRegions();
+            }
+        }
+        long elapsedMillis = System.currentTimeMillis() - startedAt;
+
+        String summary = String.format("%d of %d rows imported, %d rejected in %d ms (%s)",
+                run.imported, run.totalRows, run.rejected, elapsedMillis, format);
+        log.info("Bulk onboarding completed: {}", summary);
+        auditService.log("BULK_ONBOARDING", businessValidator.getAuthenticatedUserEmail(), summary);
+
+        return new BulkOnboardingResponse(run.totalRows, run.imported, run.rejected, elapsedMillis,
+                run.errors, run.errorsTruncated);
+    }
+
+    private ValidatedChunk validate(List<OnboardingRecord> records) {
+        List<OnboardingRecord> valid = new ArrayList<>(records.size());
+        List<RowError> errors = new ArrayList<>();
+        int rejected = 0;
+
+        for (OnboardingRecord record : records) {
+            if (record.parseError() != null) {
+                errors.add(record.parseError());
+                rejected++;
+                continue;
+            }
+            int errorsBefore = errors.size();
+            validator.validate(record.data()).stream()
+                    .sorted(VIOLATION_ORDER)
+                    .forEach(violation -> errors.add(new RowError(
+                            record.row(), violation.getPropertyPath().toString(), violation.getMessage())));
+
+            String iban = normalizeIban(record.data().iban());
+            if (iban != null && !IbanCodec.isValid(iban)) {
+                errors.add(new RowError(record.row(), "iban", "Invalid IBAN format"));
+            } else if (iban != null && identifierAllocator.isInAllocatedRange(iban)) {
+                errors.add(new RowError(record.row(), "iban", "IBANs of this bank are allocated on import, leave the column empty"));
+            }
+
+            if (errors.size() > errorsBefore) {
+                rejected++;
+            } else {
+                valid.add(record);
+            }
+        }
+        return new ValidatedChunk(valid, errors, rejected);
+    }
+
+    private ChunkResult saveChunk(List<OnboardingRecord> candidates) {
+        Set<String> takenTckns = onboardingStore.findExisting(UniqueKey.TCKN, values(candidates, OnboardingRow::tckn));
+        Set<String> takenEmails = onboardingStore.findExisting(UniqueKey.EMAIL, values(candidates, OnboardingRow::email));
+        Set<String> takenPhones = onboardingStore.findExisting(UniqueKey.PHONE_NUMBER, values(candidates, OnboardingRow::phoneNumber));
+        Set<String> takenIbans = onboardingStore.findExisting(UniqueKey.IBAN, values(candidates, row -> normalizeIban(row.iban())));
+
+        List<NewCustomer> customers = new ArrayList<>(candidates.size());
+        List<RowError> conflicts = new ArrayList<>();
+        for (OnboardingRecord record : candidates) {
+            OnboardingRow row = record.data();
+            String iban = normalizeIban(row.iban());
+            if (takenTckns.contains(row.tckn())) {
+                conflicts.add(new RowError(record.row(), "tckn", "TCKN is already in use"));
+            } else if (takenEmails.contains(row.email())) {
+                conflicts.add(new RowError(record.row(), "email", "Email is already in use"));
+            } else if (takenPhones.contains(row.phoneNumber())) {
+                conflicts.add(new RowError(record.row(), "phoneNumber", "Phone number is already in use"));
+            } else if (iban != null && takenIbans.contains(iban)) {
+                conflicts.add(new RowError(record.row(), "iban", "IBAN is already in use"));
+            } else {
+                customers.add(new NewCustomer(row, identifierAllocator.nextCustomerNumber(),
+                        iban != null ? iban : identifierAllocator.nextIban()));
+            }
+        }
+
+        onboardingStore.insert(customers);
+        return new ChunkResult(customers.size(), conflicts);
+    }
+
+    private static List<String> values(List<OnboardingRecord> records, Function<OnboardingRow, String> field) {
+        List<String> values = new ArrayList<>(records.size());
+        for (OnboardingRecord record : records) {
+            String value = field.apply(record.data());
+            if (value != null) {
+                values.add(value);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * The electronic form of an IBAN: no spaces, upper case. Null for a missing IBAN.
+     */
+    private static String normalizeIban(String iban) {
+        if (iban == null || iban.isBlank()) {
+            return null;
+        }
+        return iban.replace(" ", "").toUpperCase(Locale.ROOT);
+    }
+
+    private record ValidatedChunk(List<OnboardingRecord> valid, List<RowError> errors, int rejected) {
+    }
+
+    private record ChunkResult(int imported, List<RowError> conflicts) {
+    }
+
+    /**
+     * State of one import: the calling thread reads chunks and hands them to the workers for validation, then saves
+     * the validated chunks strictly in file order, keeping at most {@code maxInFlight} chunks read ahead.
+     */
+    private final class ImportRun {
+
+        private final Set<String> seenTckns = new HashSet<>();
+        private final Set<String> seenEmails = new HashSet<>();
+        private final Set<String> seenPhones = new HashSet<>();
+        private final Set<String> seenIbans = new HashSet<>();
+        private final List<RowError> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+        private long totalRows;
+        private long imported;
+        private long rejected;
+
+        private void execute(Iterator<OnboardingRecord> records, ExecutorService executor) {
+            Deque<CompletableFuture<ValidatedChunk>> pending = new ArrayDeque<>();
+            List<OnboardingRecord> chunk = new ArrayList<>(chunkSize);
+
+            while (records.hasNext()) {
+                if (totalRows == maxRows) {
+                    report(new RowError(totalRows + 1, null,
+                            "File exceeds the limit of " + maxRows + " rows, this and the following rows were not read"));
+                    break;
+                }
+                chunk.add(records.next());
+                totalRows++;
+                if (chunk.size() == chunkSize) {
+                    pending.add(validateAsync(chunk, executor));
+                    chunk = new ArrayList<>(chunkSize);
+                    if (pending.size() >= maxInFlight) {
+                        save(pending.poll().join());
+                    }
+                }
+            }
+            if (!chunk.isEmpty()) {
+                pending.add(validateAsync(chunk, executor));
+            }
+            while (!pending.isEmpty()) {
+                save(pending.poll().join());
+            }
+        }
+
+        private CompletableFuture<ValidatedChunk> validateAsync(List<OnboardingRecord> chunk, ExecutorService executor) {
+            return CompletableFuture.supplyAsync(() -> validate(chunk), executor);
+        }
+
+        private void save(ValidatedChunk chunk) {
+            chunk.errors().forEach(this::report);
+            rejected += chunk.rejected();
+
+            List<OnboardingRecord> candidates = new ArrayList<>(chunk.valid().size());
+            for (OnboardingRecord record : chunk.valid()) {
+                RowError duplicate = findDuplicateInFile(record);
+                if (duplicate != null) {
+                    report(duplicate);
+                    rejected++;
+                } else {
+                    candidates.add(record);
+                }
+            }
+            if (candidates.isEmpty()) {
+                return;
+            }
+
+            try {
+                ChunkResult result = transactionTemplate.execute(status -> saveChunk(candidates));
+                imported += result.imported();
+                rejected += result.conflicts().size();
+                result.conflicts().forEach(this::report);
+            } catch (DataAccessException e) {
+                log.error("Bulk onboarding: saving rows {}-{} failed: {}",
+                        candidates.get(0).row(), candidates.get(candidates.size() - 1).row(), e.getMessage());
+                rejected += candidates.size();
+                candidates.forEach(record -> report(new RowError(record.row(), null, "Row could not be saved, please retry it")));
+            }
+        }
+
+        /**
+         * Claims the row's unique values, unless an earlier row of the file already did.
+         */
+        private RowError findDuplicateInFile(OnboardingRecord record) {
+            OnboardingRow row = record.data();
+            String email = row.email().toLowerCase(Locale.ROOT);
+            String iban = normalizeIban(row.iban());
+            if (seenTckns.contains(row.tckn())) {
+                return new RowError(record.row(), "tckn", "Duplicate TCKN within the file");
+            }
+            if (seenEmails.contains(email)) {
+                return new RowError(record.row(), "email", "Duplicate email within the file");
+            }
+            if (seenPhones.contains(row.phoneNumber())) {
+                return new RowError(record.row(), "phoneNumber", "Duplicate phone number within the file");
+            }
+            if (iban != null && seenIbans.contains(iban)) {
+                return new RowError(record.row(), "iban", "Duplicate IBAN within the file");
+            }
+            seenTckns.add(row.tckn());
+            seenEmails.add(email);
+            seenPhones.add(row.phoneNumber());
+            if (iban != null) {
+                seenIbans.add(iban);
+            }
+            return null;
+        }
+
+        private void report(RowError error) {
+            if (errors.size() < maxReportedErrors) {
+                errors.add(error);
+            } else {
+                errorsTruncated = true;
+            }
+        }
+    }
+}
@@ -1,31 +1,50 @@
 package com.batuhan.banking_service.service.impl;
 
 import com.batuhan.banking_service.service.EmailService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.mail.SimpleMailMessage;
 import org.springframework.mail.javamail.JavaMailSender;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @Service
-@RequiredArgsConstructor
 public class EmailServiceImpl implements EmailService {
 
     private final JavaMailSender mailSender;
+    private final Semaphore sendPermits;
     private static final String FROM_EMAIL = "no-reply@batuhanbanking.com";
     private static final String SUBJECT_PREFIX = "Transfer Notification - Ref: ";
 
+    /**
+     * Jakarta Mail's SMTP transport blocks inside {@code synchronized} methods, which pins a virtual thread
+     * to its carrier. Bounding concurrent sends keeps pinned carriers well below the carrier pool size.
+     */
+    public EmailServiceImpl(JavaMailSender mailSender,
+                            @Value("${application.mail.max-concurrent-sends:4}") int maxConcurrentSends) {
+        this.mailSender = mailSender;
+        this.sendPermits = new Semaphore(maxConcurrentSends, true);
+    }
+
     @Override
     public void sendTransferEmail(String toEmail, String name, BigDecimal amount, String receiverIban, String referenceNumber) {
         log.info("Preparing to send notification email for Ref: {}", referenceNumber);
 
         try {
             SimpleMailMessage message = prepareTransferMessage(toEmail, name, amount, receiverIban, referenceNumber);
-            mailSender.send(message);
+            sendPermits.acquire();
+            try {
+                mailSender.send(message);
+            } finally {
+                sendPermits.release();
+            }
             log.info("Notification email successfully sent to: {} for Ref: {}", toEmail, referenceNumber);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.error("CRITICAL: Interrupted while waiting to send notification email for Ref {}", referenceNumber);
         } catch (Exception e) {
             log.error("CRITICAL: Failed to send notification email for Ref {}. Reason: {}", referenceNumber, e.getMessage(), e);
         }
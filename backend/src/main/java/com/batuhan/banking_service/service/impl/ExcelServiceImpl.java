@@ -1,53 +1,97 @@
 package com.batuhan.banking_service.service.impl;
 
 import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
 import com.batuhan.banking_service.exception.BankingServiceException;
 import com.batuhan.banking_service.service.ExcelService;
+import com.batuhan.banking_service.service.export.TransactionExportWriter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.poi.ss.usermodel.*;
-import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
 import java.io.ByteArrayInputStream;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.time.format.DateTimeFormatter;
+import java.util.Iterator;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Slf4j
 @Service
-public class ExcelServiceImpl implements ExcelService {
+public class ExcelServiceImpl implements ExcelService, TransactionExportWriter {
 
     private static final String[] COLUMNS = {"Reference Number", "Sender Name", "Sender IBAN", "Receiver Name", "Receiver IBAN", "Amount", "Date", "Status"};
+    private static final int[] COLUMN_WIDTHS_IN_CHARS = {24, 28, 32, 28, 32, 18, 18, 12};
     private static final String SHEET_NAME = "Transaction Report";
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("dd.MM.yyyy HH:mm");
+    private static final int ROW_ACCESS_WINDOW = 100;
+    private static final int MAX_DATA_ROWS_PER_SHEET = SpreadsheetVersion.EXCEL2007.getLastRowIndex();
 
     @Override
     public ByteArrayInputStream transactionsToExcel(List<TransactionResponse> transactions) {
-        try (Workbook workbook = new XSSFWorkbook();
-             ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        writeTransactions(transactions.stream(), out);
+        return new ByteArrayInputStream(out.toByteArray());
+    }
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.EXCEL;
+    }
+
+    @Override
+    public long write(Stream<TransactionResponse> transactions, OutputStream out) {
+        return writeTransactions(transactions, out);
+    }
 
-            Sheet sheet = workbook.createSheet(SHEET_NAME);
+    /**
+     * Writes the report through a streaming workbook: only {@value #ROW_ACCESS_WINDOW} rows are kept in memory,
+     * older rows are flushed to a compressed temp file and the zipped workbook is written straight to {@code out}.
+     * Column widths are fixed up front because auto-sizing needs every row in memory.
+     */
+    @Override
+    public long writeTransactions(Stream<TransactionResponse> transactions, OutputStream out) {
+        SXSSFWorkbook workbook = new SXSSFWorkbook(ROW_ACCESS_WINDOW);
+        workbook.setCompressTempFiles(true);
+        long rowCount = 0;
 
+        try {
             CellStyle headerStyle = createHeaderStyle(workbook);
             CellStyle dataStyle = createDataStyle(workbook);
             CellStyle amountStyle = createAmountStyle(workbook);
 
-            createHeaderRow(sheet, headerStyle);
-            fillTransactionData(sheet, transactions, dataStyle, amountStyle);
-            autoSizeColumns(sheet);
+            Iterator<TransactionResponse> rows = transactions.iterator();
+            int sheetCount = 0;
+            do {
+                Sheet sheet = createReportSheet(workbook, ++sheetCount, headerStyle);
+                rowCount += fillTransactionData(sheet, rows, dataStyle, amountStyle);
+            } while (rows.hasNext());
 
             workbook.write(out);
-            log.info("Excel report generated successfully with {} rows", transactions.size());
-            return new ByteArrayInputStream(out.toByteArray());
+            log.info("Excel report streamed successfully with {} rows", rowCount);
+            return rowCount;
 
         } catch (IOException e) {
-            log.error("Excel generation failed for {} transactions: {}", transactions.size(), e.getMessage());
+            log.error("Excel generation failed after {} transactions: {}", rowCount, e.getMessage());
             throw new BankingServiceException("Failed to generate Excel report", HttpStatus.INTERNAL_SERVER_ERROR);
+        } finally {
+            workbook.dispose();
         }
     }
 
+    private Sheet createReportSheet(Workbook workbook, int sheetNumber, CellStyle headerStyle) {
+        String sheetName = sheetNumber == 1 ? SHEET_NAME : SHEET_NAME + " (" + sheetNumber + ")";
+        Sheet sheet = workbook.createSheet(sheetName);
+        applyColumnWidths(sheet);
+        createHeaderRow(sheet, headerStyle);
+        return sheet;
+    }
+
     private CellStyle createHeaderStyle(Workbook workbook) {
         Font headerFont = workbook.createFont();
         headerFont.setBold(true);
@@ -87,9 +131,10 @@ public class ExcelServiceImpl implements ExcelService {
         }
     }
 
-    private void fillTransactionData(Sheet sheet, List<TransactionResponse> transactions, CellStyle dataStyle, CellStyle amountStyle) {
+    private int fillTransactionData(Sheet sheet, Iterator<TransactionResponse> transactions, CellStyle dataStyle, CellStyle amountStyle) {
         int rowIdx = 1;
-        for (TransactionResponse dto : transactions) {
+        while (rowIdx <= MAX_DATA_ROWS_PER_SHEET && transactions.hasNext()) {
+            TransactionResponse dto = transactions.next();
             Row row = sheet.createRow(rowIdx++);
 
             createCell(row, 0, dto.referenceNumber(), dataStyle);
@@ -107,6 +152,7 @@ public class ExcelServiceImpl implements ExcelService {
 
             createCell(row, 7, dto.status() != null ? dto.status().toString() : "-", dataStyle);
         }
+        return rowIdx - 1;
     }
 
     private void createCell(Row row, int column, String value, CellStyle style) {
@@ -115,9 +161,9 @@ public class ExcelServiceImpl implements ExcelService {
         cell.setCellStyle(style);
     }
 
-    private void autoSizeColumns(Sheet sheet) {
+    private void applyColumnWidths(Sheet sheet) {
         for (int i = 0; i < COLUMNS.length; i++) {
-            sheet.autoSizeColumn(i);
+            sheet.setColumnWidth(i, COLUMN_WIDTHS_IN_CHARS[i] * 256);
         }
     }
 }
\ No newline at end of file
@@ -0,0 +1,313 @@
+package com.batuhan.banking_service.service.impl;
+
+import com.batuhan.banking_service.dto.response.ExportJobResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.entity.enums.ExportJobStatus;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.service.ExportJobService;
+import com.batuhan.banking_service.service.TransactionExportService;
+import com.batuhan.banking_service.service.export.ExportJobFile;
+import com.batuhan.banking_service.service.helper.BankingBusinessValidator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Runs large exports in the background instead of on a request thread.
+ * <p>
+ * Jobs execute on the bounded {@code exportTaskExecutor} under the submitter's security context, so the
+ * export service applies the same ownership checks as the synchronous endpoints. Output is written to a
+ * {@code .part} file and atomically renamed once complete, so a download never sees a half-written file.
+ * Job state is kept in memory; files and entries are removed after the configured TTL, but never while a download
+ * holds the file or within {@code download-release-grace} of the last one finishing.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportJobServiceImpl implements ExportJobService {
+
+    private static final String PART_SUFFIX = ".part";
+    private static final int FILE_BUFFER_SIZE = 64 * 1024;
+
+    private final TransactionExportService transactionExportService;
+    private final BankingBusinessValidator businessValidator;
+    private final Executor exportTaskExecutor;
+
+    private final Map<UUID, ExportJob> jobs = new ConcurrentHashMap<>();
+    // Queued and running jobs per lower-cased owner; check and increment happen in one compute() call
+    private final Map<String, Integer> activeJobsByOwner = new ConcurrentHashMap<>();
+
+    @Value("${application.export.jobs.staging-dir:${java.io.tmpdir}/banking-exports}")
+    private Path stagingDir = Path.of(System.getProperty("java.io.tmpdir"), "banking-exports");
+
+    @Value("${application.export.jobs.ttl:1h}")
+    private Duration ttl = Duration.ofHours(1);
+
+    @Value("${application.export.jobs.max-active-per-user:2}")
+    private int maxActiveJobsPerUser = 2;
+
+    // Tomcat opens a sendfile download's file only once the request has ended
+    @Value("${application.export.jobs.download-release-grace:30s}")
+    private Duration downloadReleaseGrace = Duration.ofSeconds(30);
+
+    @Override
+    public ExportJobResponse submitExport(String iban, ExportFormat format) {
+        String cleanIban = iban.trim();
+        if (!businessValidator.isAccountOwner(cleanIban)) {
+            throw new BankingServiceException("Access Denied for IBAN: " + cleanIban, HttpStatus.FORBIDDEN);
+        }
+
+        String owner = businessValidator.getAuthenticatedUserEmail();
+        ExportJob job = new ExportJob(UUID.randomUUID(), cleanIban, format, owner);
+        activeJobsByOwner.compute(job.ownerKey(), (key, active) -> {
+            int count = active == null ? 0 : active;
+            if (count >= maxActiveJobsPerUser) {
+                throw new BankingServiceException("Too many exports in progress. Please wait for a running export to finish.",
+                        HttpStatus.TOO_MANY_REQUESTS);
+            }
+            return count + 1;
+        });
+        jobs.put(job.id, job);
+
+        try {
+            exportTaskExecutor.execute(new DelegatingSecurityContextRunnable(() -> runExport(job)));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.id);
+            finishActive(job);
+            log.warn("Export queue full, rejecting {} export for IBAN: {}", format, cleanIban);
+            throw new BankingServiceException("Export queue is full. Please try again shortly.", HttpStatus.SERVICE_UNAVAILABLE);
+        }
+
+        log.info("Export job {} queued: {} for IBAN: {}", job.id, format, cleanIban);
+        return toResponse(job);
+    }
+
+    @Override
+    public ExportJobResponse getExportJob(UUID jobId) {
+        return toResponse(findAccessibleJob(jobId));
+    }
+
+    @Override
+    public ExportJobFile getExportFile(UUID jobId) {
+        ExportJob job = findAccessibleJob(jobId);
+        synchronized (job) {
+            if (job.deleted || job.status != ExportJobStatus.COMPLETED || job.file == null || !Files.isReadable(job.file)) {
+                throw new BankingServiceException("Export " + jobId + " is not ready for download (status: " + job.status + ")",
+                        HttpStatus.CONFLICT);
+            }
+            job.downloads++;
+        }
+        AtomicBoolean released = new AtomicBoolean();
+        return new ExportJobFile(job.file, buildFilename(job), job.format, job.sizeBytes, () -> {
+            if (released.compareAndSet(false, true)) {
+                job.endDownload();
+            }
+        });
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${application.export.jobs.cleanup-interval:5m}")
+    public int cleanupExpiredExports() {
+        LocalDateTime now = LocalDateTime.now();
+        int removed = 0;
+
+        for (ExportJob job : jobs.values()) {
+            if (job.completedAt != null && job.completedAt.plus(ttl).isBefore(now)) {
+                // A file still being downloaded is left for a later run
+                if (!job.markDeleted(downloadReleaseGrace)) {
+                    continue;
+                }
+                jobs.remove(job.id);
+                deleteQuietly(job.file);
+                removed++;
+            }
+        }
+        removed += deleteOrphanedFiles();
+
+        if (removed > 0) {
+            log.info("Export cleanup removed {} expired exports", removed);
+        }
+        return removed;
+    }
+
+    private void runExport(ExportJob job) {
+        job.status = ExportJobStatus.RUNNING;
+        Path target = stagingDir.resolve(job.id + "." + job.format.getFileExtension());
+        Path part = stagingDir.resolve(target.getFileName() + PART_SUFFIX);
+
+        try {
+            Files.createDirectories(stagingDir);
+            try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(part), FILE_BUFFER_SIZE)) {
+                job.rowCount = transactionExportService.exportTransactions(job.iban, job.format, out);
+            }
+            Files.move(part, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+
+            job.file = target;
+            job.sizeBytes = Files.size(target);
+            job.status = ExportJobStatus.COMPLETED;
+            log.info("Export job {} completed: {} rows, {} bytes", job.id, job.rowCount, job.sizeBytes);
+
+        } catch (Exception e) {
+            deleteQuietly(part);
+            job.failureReason = e instanceof BankingServiceException ? e.getMessage() : "Export could not be generated";
+            job.status = ExportJobStatus.FAILED;
+            log.error("Export job {} failed: {}", job.id, e.getMessage(), e);
+        } finally {
+            job.completedAt = LocalDateTime.now();
+            finishActive(job);
+        }
+    }
+
+    private void finishActive(ExportJob job) {
+        activeJobsByOwner.computeIfPresent(job.ownerKey(), (key, active) -> active > 1 ? active - 1 : null);
+    }
+
+    private ExportJob findAccessibleJob(UUID jobId) {
+        ExportJob job = jobs.get(jobId);
+        // Jobs of other users are reported as missing so that job ids cannot be probed
+        if (job == null || !(businessValidator.isAdmin() || job.ownedBy(businessValidator.getAuthenticatedUserEmail()))) {
+            throw new BankingServiceException("Export job not found: " + jobId, HttpStatus.NOT_FOUND);
+        }
+        return job;
+    }
+
+    private int deleteOrphanedFiles() {
+        if (!Files.isDirectory(stagingDir)) {
+            return 0;
+        }
+
+        Instant cutoff = Instant.now().minus(ttl);
+        int deleted = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stagingDir)) {
+            for (Path file : files) {
+                if (!isTrackedFile(file) && Files.getLastModifiedTime(file).toInstant().isBefore(cutoff)) {
+                    deleteQuietly(file);
+                    deleted++;
+                }
+            }
+        } catch (IOException e) {
+            log.warn("Could not scan export staging directory {}: {}", stagingDir, e.getMessage());
+        }
+        return deleted;
+    }
+
+    private boolean isTrackedFile(Path file) {
+        String name = file.getFileName().toString();
+        int dot = name.indexOf('.');
+        if (dot <= 0) {
+            return false;
+        }
+        try {
+            return jobs.containsKey(UUID.fromString(name.substring(0, dot)));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Could not delete export file {}: {}", file, e.getMessage());
+        }
+    }
+
+    private String buildFilename(ExportJob job) {
+        return "transactions_" + job.iban + "." + job.format.getFileExtension();
+    }
+
+    private ExportJobResponse toResponse(ExportJob job) {
+        LocalDateTime completedAt = job.completedAt;
+        return new ExportJobResponse(
+                job.id,
+                job.iban,
+                job.format,
+                job.status,
+                job.rowCount,
+                job.sizeBytes,
+                job.submittedAt,
+                completedAt,
+                completedAt != null ? completedAt.plus(ttl) : null,
+                job.failureReason
+        );
+    }
+
+    private static final class ExportJob {
+
+        private final UUID id;
+        private final String iban;
+        private final ExportFormat format;
+        private final String ownerEmail;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+
+        private volatile ExportJobStatus status = ExportJobStatus.QUEUED;
+        private volatile Path file;
+        private volatile Long rowCount;
+        private volatile Long sizeBytes;
+        private volatile LocalDateTime completedAt;
+        private volatile String failureReason;
+
+        // Guarded by the job's monitor
+        private int downloads;
+        private boolean downloaded;
+        private long lastDownloadEndedAt;
+        private boolean deleted;
+
+        private ExportJob(UUID id, String iban, ExportFormat format, String ownerEmail) {
+            this.id = id;
+            this.iban = iban;
+            this.format = format;
+            this.ownerEmail = ownerEmail;
+        }
+
+        private boolean ownedBy(String email) {
+            return ownerEmail != null && ownerEmail.equalsIgnoreCase(email);
+        }
+
+        private String ownerKey() {
+            return ownerEmail == null ? "" : ownerEmail.toLowerCase(Locale.ROOT);
+        }
+
+        private synchronized void endDownload() {
+            downloads--;
+            downloaded = true;
+            lastDownloadEndedAt = System.nanoTime();
+        }
+
+        /**
+         * Claims the file for deletion unless a download holds it or the last one ended less than {@code grace} ago.
+         */
+        private synchronized boolean markDeleted(Duration grace) {
+            if (downloads > 0 || (downloaded && System.nanoTime() - lastDownloadEndedAt < grace.toNanos())) {
+                return false;
+            }
+            deleted = true;
+            return true;
+        }
+    }
+}
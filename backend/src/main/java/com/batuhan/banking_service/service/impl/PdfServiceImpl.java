@@ -1,5 +1,7 @@
 package com.batuhan.banking_service.service.impl;
 
+import com.batuhan.banking_service.dto.common.StatementAccountDTO;
+import com.batuhan.banking_service.dto.common.StatementLineDTO;
 import com.batuhan.banking_service.entity.TransactionEntity;
 import com.batuhan.banking_service.exception.BankingServiceException;
 import com.batuhan.banking_service.service.PdfService;
@@ -11,9 +13,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 
-import java.io.ByteArrayInputStream;
-import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Locale;
 
 @Slf4j
 @Service
@@ -24,12 +29,21 @@ public class PdfServiceImpl implements PdfService {
     private static final Font TITLE_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 18);
     private static final Font HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 12);
     private static final Font BODY_FONT = FontFactory.getFont(FontFactory.HELVETICA, 12);
+    private static final Font TABLE_HEADER_FONT = FontFactory.getFont(FontFactory.HELVETICA_BOLD, 9);
+    private static final Font TABLE_FONT = FontFactory.getFont(FontFactory.HELVETICA, 9);
+    private static final Font SMALL_FONT = FontFactory.getFont(FontFactory.HELVETICA, 8, java.awt.Color.GRAY);
+
+    private static final DateTimeFormatter PERIOD_FORMATTER = DateTimeFormatter.ofPattern("MMMM yyyy", Locale.ENGLISH);
+    private static final float[] STATEMENT_COLUMN_WIDTHS = {2.4f, 3.2f, 4.4f, 4.6f, 2.6f};
+    // Completed rows are handed to the writer in batches instead of holding the whole table until the end
+    private static final int STATEMENT_ROWS_PER_FLUSH = 100;
 
     @Override
-    public ByteArrayInputStream generateTransactionReceipt(TransactionEntity transaction) {
-        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
-            Document document = new Document(PageSize.A4);
-            PdfWriter.getInstance(document, out);
+    public void writeTransactionReceipt(TransactionEntity transaction, OutputStream out) {
+        Document document = new Document(PageSize.A4);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
 
             document.open();
             addTitle(document);
@@ -37,14 +51,122 @@ public class PdfServiceImpl implements PdfService {
             addFooter(document);
             document.close();
 
-            return new ByteArrayInputStream(out.toByteArray());
-
         } catch (Exception e) {
             log.error("PDF generation failed for TX {}: {}", transaction.getReferenceNumber(), e.getMessage());
             throw new BankingServiceException("Failed to generate PDF receipt", HttpStatus.INTERNAL_SERVER_ERROR);
         }
     }
 
+    @Override
+    public void generateAccountStatement(StatementAccountDTO account, YearMonth period, List<StatementLineDTO> lines, OutputStream out) {
+        Document document = new Document(PageSize.A4, 36, 36, 48, 48);
+        try {
+            PdfWriter writer = PdfWriter.getInstance(document, out);
+            writer.setCloseStream(false);
+            HeaderFooter footer = new HeaderFooter(new Phrase(account.iban() + "  |  Page ", SMALL_FONT), true);
+            footer.setAlignment(Element.ALIGN_CENTER);
+            footer.setBorder(Rectangle.NO_BORDER);
+            document.setFooter(footer);
+
+            document.open();
+            addStatementHeader(document, account, period);
+            addStatementSummary(document, account, lines);
+            addStatementLines(document, account.iban(), lines);
+            addStatementFooter(document);
+            document.close();
+
+        } catch (Exception e) {
+            log.error("Statement generation failed for IBAN {} ({}): {}", account.iban(), period, e.getMessage());
+            throw new BankingServiceException("Failed to generate account statement", HttpStatus.INTERNAL_SERVER_ERROR);
+        }
+    }
+
+    private void addStatementHeader(Document document, StatementAccountDTO account, YearMonth period) {
+        Paragraph title = new Paragraph("ACCOUNT STATEMENT - " + period.format(PERIOD_FORMATTER).toUpperCase(Locale.ENGLISH), TITLE_FONT);
+        title.setAlignment(Element.ALIGN_CENTER);
+        title.setSpacingAfter(15);
+        document.add(title);
+
+        PdfPTable table = new PdfPTable(2);
+        table.setWidthPercentage(100);
+        addCellToTable(table, "Account Holder", account.firstName() + " " + account.lastName());
+        addCellToTable(table, "IBAN", account.iban());
+        addCellToTable(table, "Period", period.atDay(1) + " - " + period.atEndOfMonth());
+        document.add(table);
+    }
+
+    private void addStatementSummary(Document document, StatementAccountDTO account, List<StatementLineDTO> lines) {
+        BigDecimal totalIn = BigDecimal.ZERO;
+        BigDecimal totalOut = BigDecimal.ZERO;
+        for (StatementLineDTO line : lines) {
+            if (account.iban().equals(line.receiverIban())) {
+                totalIn = totalIn.add(line.amount());
+            } else {
+                totalOut = totalOut.add(line.amount());
+            }
+        }
+
+        String currency = " " + account.currency().name();
+        PdfPTable table = new PdfPTable(2);
+        table.setWidthPercentage(100);
+        table.setSpacingBefore(10f);
+        table.setSpacingAfter(15f);
+        addCellToTable(table, "Transactions", String.valueOf(lines.size()));
+        addCellToTable(table, "Total In", totalIn.toPlainString() + currency);
+        addCellToTable(table, "Total Out", totalOut.toPlainString() + currency);
+        addCellToTable(table, "Net Change", totalIn.subtract(totalOut).toPlainString() + currency);
+        addCellToTable(table, "Balance at Issue", account.balance().toPlainString() + currency);
+        document.add(table);
+    }
+
+    private void addStatementLines(Document document, String iban, List<StatementLineDTO> lines) {
+        if (lines.isEmpty()) {
+            document.add(new Paragraph("No transactions in this period.", BODY_FONT));
+            return;
+        }
+
+        PdfPTable table = new PdfPTable(STATEMENT_COLUMN_WIDTHS);
+        table.setWidthPercentage(100);
+        table.setHeaderRows(1);
+        table.setComplete(false);
+        for (String header : new String[]{"Date", "Reference", "Description", "Counterparty IBAN", "Amount"}) {
+            PdfPCell cell = new PdfPCell(new Phrase(header, TABLE_HEADER_FONT));
+            cell.setBackgroundColor(java.awt.Color.LIGHT_GRAY);
+            cell.setPadding(4);
+            table.addCell(cell);
+        }
+
+        int rows = 0;
+        for (StatementLineDTO line : lines) {
+            boolean incoming = iban.equals(line.receiverIban());
+            addStatementCell(table, line.createdAt().format(DATE_FORMATTER), Element.ALIGN_LEFT);
+            addStatementCell(table, line.referenceNumber(), Element.ALIGN_LEFT);
+            addStatementCell(table, line.description(), Element.ALIGN_LEFT);
+            addStatementCell(table, incoming ? line.senderIban() : line.receiverIban(), Element.ALIGN_LEFT);
+            addStatementCell(table, (incoming ? "+" : "-") + line.amount().toPlainString(), Element.ALIGN_RIGHT);
+
+            if (++rows % STATEMENT_ROWS_PER_FLUSH == 0) {
+                document.add(table);
+            }
+        }
+        table.setComplete(true);
+        document.add(table);
+    }
+
+    private void addStatementCell(PdfPTable table, String value, int alignment) {
+        PdfPCell cell = new PdfPCell(new Phrase(value != null ? value : "-", TABLE_FONT));
+        cell.setPadding(4);
+        cell.setHorizontalAlignment(alignment);
+        table.addCell(cell);
+    }
+
+    private void addStatementFooter(Document document) {
+        Paragraph footer = new Paragraph("\nThis statement lists completed transactions only and does not require a physical signature.",
+                SMALL_FONT);
+        footer.setAlignment(Element.ALIGN_CENTER);
+        document.add(footer);
+    }
+
     private void addTitle(Document document) {
         Paragraph title = new Paragraph("BANK TRANSACTION RECEIPT", TITLE_FONT);
         title.setAlignment(Element.ALIGN_CENTER);
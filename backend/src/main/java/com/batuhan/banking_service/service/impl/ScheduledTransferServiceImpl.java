@@ -0,0 +1,118 @@
+package com.batuhan.banking_service.service.impl;
+
+import com.batuhan.banking_service.dto.request.ScheduledTransferRequest;
+import com.batuhan.banking_service.dto.response.ScheduledTransferResponse;
+import com.batuhan.banking_service.entity.AccountEntity;
+import com.batuhan.banking_service.entity.ScheduledTransferEntity;
+import com.batuhan.banking_service.entity.enums.ScheduledTransferStatus;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.mapper.ScheduledTransferMapper;
+import com.batuhan.banking_service.repository.AccountRepository;
+import com.batuhan.banking_service.repository.ScheduledTransferRepository;
+import com.batuhan.banking_service.service.ScheduledTransferService;
+import com.batuhan.banking_service.service.helper.BankingBusinessValidator;
+import com.batuhan.banking_service.service.helper.ReadYourWritesWindow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.UUID;
+
+/**
+ * Creates, lists and cancels standing orders. The transfers themselves are made by
+ * {@code ScheduledTransferExecutor} through the regular transfer path, which validates balance, limits and account
+ * state again at run time; the checks here only reject orders that could never succeed.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ScheduledTransferServiceImpl implements ScheduledTransferService {
+
+    private final ScheduledTransferRepository scheduledTransferRepository;
+    private final AccountRepository accountRepository;
+    private final ScheduledTransferMapper scheduledTransferMapper;
+    private final BankingBusinessValidator businessValidator;
+    private final ReadYourWritesWindow readYourWritesWindow;
+
+    @Override
+    @Transactional
+    public ScheduledTransferResponse createScheduledTransfer(ScheduledTransferRequest request) {
+        String senderIban = request.senderIban().trim();
+        String receiverIban = request.receiverIban().trim();
+        log.info("Scheduling {} transfer from {} to {} starting {}", request.frequency(), senderIban, receiverIban, request.firstRunAt());
+
+        AccountEntity sender = findAccount(senderIban);
+        businessValidator.validateOwnership(sender.getUser());
+        validateRequest(request, sender, findAccount(receiverIban));
+
+        ScheduledTransferEntity scheduledTransfer = scheduledTransferRepository.save(ScheduledTransferEntity.builder()
+                .senderIban(senderIban)
+                .receiverIban(receiverIban)
+                .ownerEmail(sender.getUser().getEmail())
+                .amount(request.amount())
+                .currency(request.currency())
+                .description(request.description())
+                .frequency(request.frequency())
+                .firstRunAt(request.firstRunAt())
+                .endDate(request.endDate())
+                .nextRunAt(request.firstRunAt())
+                .status(ScheduledTransferStatus.ACTIVE)
+                .build());
+
+        log.info("Scheduled transfer {} created, first run at {}", scheduledTransfer.getExternalId(), scheduledTransfer.getNextRunAt());
+        readYourWritesWindow.openForCurrentUser();
+        return scheduledTransferMapper.toResponse(scheduledTransfer);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<ScheduledTransferResponse> getScheduledTransfers(String senderIban, Pageable pageable) {
+        return scheduledTransferRepository.findBySenderIban(senderIban.trim(), pageable)
+                .map(scheduledTransferMapper::toResponse);
+    }
+
+    @Override
+    @Transactional
+    public ScheduledTransferResponse cancelScheduledTransfer(UUID externalId) {
+        ScheduledTransferEntity scheduledTransfer = findScheduledTransfer(externalId);
+        if (!businessValidator.isAccountOwner(scheduledTransfer.getSenderIban())) {
+            throw new BankingServiceException("Access Denied for scheduled transfer: " + externalId, HttpStatus.FORBIDDEN);
+        }
+
+        if (scheduledTransferRepository.cancel(externalId, ScheduledTransferStatus.ACTIVE, ScheduledTransferStatus.CANCELLED) == 0) {
+            throw new BankingServiceException("Scheduled transfer is no longer active: " + externalId, HttpStatus.CONFLICT);
+        }
+        log.warn("Scheduled transfer {} cancelled", externalId);
+        readYourWritesWindow.openForCurrentUser();
+        return scheduledTransferMapper.toResponse(findScheduledTransfer(externalId));
+    }
+
+    private void validateRequest(ScheduledTransferRequest request, AccountEntity sender, AccountEntity receiver) {
+        if (sender.getIban().equalsIgnoreCase(receiver.getIban())) {
+            throw new BankingServiceException("Self-transfer within the same IBAN is not allowed.", HttpStatus.BAD_REQUEST);
+        }
+        businessValidator.validateAccountStatus(sender, "Sender");
+        businessValidator.validateAccountStatus(receiver, "Receiver");
+
+        if (request.currency() != sender.getCurrency() || sender.getCurrency() != receiver.getCurrency()) {
+            throw new BankingServiceException("Cross-currency transfers are not yet supported.", HttpStatus.BAD_REQUEST);
+        }
+        if (request.endDate() != null && request.endDate().isBefore(request.firstRunAt().toLocalDate())) {
+            throw new BankingServiceException("End date cannot be before the first run.", HttpStatus.BAD_REQUEST);
+        }
+    }
+
+    private AccountEntity findAccount(String iban) {
+        return accountRepository.findByIban(iban)
+                .orElseThrow(() -> new BankingServiceException("Account not found with IBAN: " + iban, HttpStatus.NOT_FOUND));
+    }
+
+    private ScheduledTransferEntity findScheduledTransfer(UUID externalId) {
+        return scheduledTransferRepository.findByExternalId(externalId)
+                .orElseThrow(() -> new BankingServiceException("Scheduled transfer not found: " + externalId, HttpStatus.NOT_FOUND));
+    }
+}
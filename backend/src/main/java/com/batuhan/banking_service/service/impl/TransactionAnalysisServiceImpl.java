@@ -1,6 +1,7 @@
 package com.batuhan.banking_service.service.impl;
 
 import com.batuhan.banking_service.dto.common.TransactionCategoryDTO;
+import com.batuhan.banking_service.entity.enums.TransactionCategory;
 import com.batuhan.banking_service.repository.TransactionRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -9,7 +10,7 @@ import org.springframework.stereotype.Service;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.ArrayList;
-import java.util.HashMap;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -22,35 +23,50 @@ public class TransactionAnalysisServiceImpl {
 
     public List<TransactionCategoryDTO> calculateCategoryAnalysis(String iban) {
         log.info("Analyzing transaction categories for IBAN: {}", iban);
-        List<Object[]> rawData = transactionRepository.getRawCategoryData(iban);
+        Map<TransactionCategory, BigDecimal> categoryMap = new EnumMap<>(TransactionCategory.class);
 
-        if (rawData == null || rawData.isEmpty()) {
-            return List.of();
+        for (Object[] row : nullSafe(transactionRepository.getCategoryTotals(iban))) {
+            TransactionCategory category = (TransactionCategory) row[0];
+            categoryMap.merge(category, toAmount(row[1]), BigDecimal::add);
         }
 
-        BigDecimal totalAmount = BigDecimal.ZERO;
-        Map<String, BigDecimal> categoryMap = new HashMap<>();
-
-        for (Object[] row : rawData) {
+        for (Object[] row : nullSafe(transactionRepository.getRawCategoryData(iban))) {
             String description = (row[0] != null) ? (String) row[0] : "";
-            BigDecimal amount = (row[1] != null) ? (BigDecimal) row[1] : BigDecimal.ZERO;
-
-            totalAmount = totalAmount.add(amount);
+            categoryMap.merge(determineCategory(description), toAmount(row[1]), BigDecimal::add);
+        }
 
-            String category = determineCategory(description);
-            categoryMap.merge(category, amount, BigDecimal::add);
+        if (categoryMap.isEmpty()) {
+            return List.of();
         }
 
+        BigDecimal totalAmount = categoryMap.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
         return convertToTransactionCategoryDTOs(categoryMap, totalAmount);
     }
 
-    private List<TransactionCategoryDTO> convertToTransactionCategoryDTOs(Map<String, BigDecimal> categoryMap, BigDecimal totalAmount) {
+    public TransactionCategory determineCategory(String description) {
+        if (description == null || description.isBlank()) {
+            return TransactionCategory.OTHER;
+        }
+
+        String lowerDesc = description.toLowerCase();
+
+        if (lowerDesc.contains("rent") || lowerDesc.contains("housing") || lowerDesc.contains("kira")) return TransactionCategory.RENT;
+        if (lowerDesc.contains("market") || lowerDesc.contains("grocery") || lowerDesc.contains("shop") || lowerDesc.contains("migros")) return TransactionCategory.SHOPPING;
+        if (lowerDesc.contains("bill") || lowerDesc.contains("utility") || lowerDesc.contains("invoice") || lowerDesc.contains("fatura")) return TransactionCategory.BILLS;
+        if (lowerDesc.contains("salary") || lowerDesc.contains("maaş")) return TransactionCategory.SALARY;
+        if (lowerDesc.contains("restaurant") || lowerDesc.contains("food") || lowerDesc.contains("cafe") || lowerDesc.contains("yemek")) return TransactionCategory.DINING;
+        if (lowerDesc.contains("transfer") || lowerDesc.contains("eft") || lowerDesc.contains("fast")) return TransactionCategory.TRANSFER;
+
+        return TransactionCategory.OTHER;
+    }
+
+    private List<TransactionCategoryDTO> convertToTransactionCategoryDTOs(Map<TransactionCategory, BigDecimal> categoryMap, BigDecimal totalAmount) {
         if (totalAmount.compareTo(BigDecimal.ZERO) == 0) return List.of();
 
         List<TransactionCategoryDTO> dtos = new ArrayList<>();
-        for (Map.Entry<String, BigDecimal> entry : categoryMap.entrySet()) {
+        for (Map.Entry<TransactionCategory, BigDecimal> entry : categoryMap.entrySet()) {
             double percentage = calculatePercentage(entry.getValue(), totalAmount);
-            dtos.add(new TransactionCategoryDTO(entry.getKey(), entry.getValue(), percentage));
+            dtos.add(new TransactionCategoryDTO(entry.getKey().getLabel(), entry.getValue(), percentage));
         }
         return dtos;
     }
@@ -62,20 +78,11 @@ public class TransactionAnalysisServiceImpl {
                 .doubleValue();
     }
 
-    private String determineCategory(String description) {
-        if (description == null || description.isBlank()) {
-            return "Other";
-        }
-
-        String lowerDesc = description.toLowerCase();
-
-        if (lowerDesc.contains("rent") || lowerDesc.contains("housing") || lowerDesc.contains("kira")) return "Rent";
-        if (lowerDesc.contains("market") || lowerDesc.contains("grocery") || lowerDesc.contains("shop") || lowerDesc.contains("migros")) return "Shopping";
-        if (lowerDesc.contains("bill") || lowerDesc.contains("utility") || lowerDesc.contains("invoice") || lowerDesc.contains("fatura")) return "Bills";
-        if (lowerDesc.contains("salary") || lowerDesc.contains("maaş")) return "Salary";
-        if (lowerDesc.contains("restaurant") || lowerDesc.contains("food") || lowerDesc.contains("cafe") || lowerDesc.contains("yemek")) return "Dining";
-        if (lowerDesc.contains("transfer") || lowerDesc.contains("eft") || lowerDesc.contains("fast")) return "Transfer";
+    private BigDecimal toAmount(Object value) {
+        return (value != null) ? (BigDecimal) value : BigDecimal.ZERO;
+    }
 
-        return "Other";
+    private List<Object[]> nullSafe(List<Object[]> rows) {
+        return (rows != null) ? rows : List.of();
     }
-}
\ No newline at end of file
+}
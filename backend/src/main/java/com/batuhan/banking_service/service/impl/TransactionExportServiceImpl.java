@@ -0,0 +1,65 @@
+package com.batuhan.banking_service.service.impl;
+
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadPool;
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.repository.TransactionRepository;
+import com.batuhan.banking_service.service.TransactionExportService;
+import com.batuhan.banking_service.service.export.TransactionExportWriter;
+import com.batuhan.banking_service.service.helper.BankingBusinessValidator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.OutputStream;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+/**
+ * Streams an account's full history into export writers without materializing it.
+ * Rows come from a forward-only cursor of {@link TransactionResponse} projections, so no entity is ever
+ * attached to the persistence context and no account or user is loaded lazily.
+ */
+@Slf4j
+@Service
+public class TransactionExportServiceImpl implements TransactionExportService {
+
+    private final TransactionRepository transactionRepository;
+    private final BankingBusinessValidator businessValidator;
+    private final Map<ExportFormat, TransactionExportWriter> writers = new EnumMap<>(ExportFormat.class);
+
+    public TransactionExportServiceImpl(TransactionRepository transactionRepository,
+                                        BankingBusinessValidator businessValidator,
+                                        List<TransactionExportWriter> exportWriters) {
+        this.transactionRepository = transactionRepository;
+        this.businessValidator = businessValidator;
+        exportWriters.forEach(writer -> writers.put(writer.format(), writer));
+    }
+
+    @Override
+    @WorkloadPool(Workload.REPORTING)
+    @Transactional(readOnly = true)
+    public long exportTransactions(String iban, ExportFormat format, OutputStream out) {
+        validateAccountAccess(iban);
+        TransactionExportWriter writer = writers.get(format);
+        if (writer == null) {
+            throw new BankingServiceException("Unsupported export format: " + format, HttpStatus.BAD_REQUEST);
+        }
+        log.info("Streaming {} export started for IBAN: {}", format, iban);
+
+        try (Stream<TransactionResponse> rows = transactionRepository.streamResponsesByIban(iban)) {
+            return writer.write(rows, out);
+        }
+    }
+
+    private void validateAccountAccess(String iban) {
+        if (!businessValidator.isAccountOwner(iban)) {
+            throw new BankingServiceException("Access Denied for IBAN: " + iban, HttpStatus.FORBIDDEN);
+        }
+    }
+}
@@ -1,11 +1,15 @@
 package com.batuhan.banking_service.service.impl;
 
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadPool;
 import com.batuhan.banking_service.dto.common.TransactionCategoryDTO;
 import com.batuhan.banking_service.dto.common.TransactionSummaryDTO;
 import com.batuhan.banking_service.dto.common.WeeklyTrendDTO;
 import com.batuhan.banking_service.dto.event.TransferEvent;
 import com.batuhan.banking_service.dto.request.TransactionRequest;
+import com.batuhan.banking_service.dto.response.DashboardResponse;
 import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.dto.response.TransactionSearchResponse;
 import com.batuhan.banking_service.entity.AccountEntity;
 import com.batuhan.banking_service.entity.TransactionEntity;
 import com.batuhan.banking_service.entity.enums.TransactionStatus;
@@ -15,66 +19,106 @@ import com.batuhan.banking_service.mapper.TransactionMapper;
 import com.batuhan.banking_service.repository.AccountRepository;
 import com.batuhan.banking_service.repository.TransactionRepository;
 import com.batuhan.banking_service.repository.specification.TransactionSpecifications;
+import com.batuhan.banking_service.repository.specification.TransactionTextSearch;
 import com.batuhan.banking_service.service.*;
 import com.batuhan.banking_service.service.helper.AccountingManager;
 import com.batuhan.banking_service.service.helper.BankingBusinessValidator;
-import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
-import io.github.resilience4j.retry.annotation.Retry;
+import com.batuhan.banking_service.service.helper.ReadYourWritesWindow;
+import com.batuhan.banking_service.service.helper.ReferenceNumberGenerator;
+import com.batuhan.banking_service.service.helper.TransferMetrics;
+import com.batuhan.banking_service.service.helper.TransferMetrics.Phase;
+import com.batuhan.banking_service.service.receipt.ReceiptDocument;
+import com.batuhan.banking_service.service.receipt.ReceiptRenderer;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 import java.math.BigDecimal;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class TransactionServiceImpl implements TransactionService {
 
+    private static final int MAX_SEARCH_PAGE_SIZE = 100;
+
     private final TransactionRepository transactionRepository;
     private final AccountRepository accountRepository;
     private final TransactionMapper transactionMapper;
-    private final PdfService pdfService;
     private final RabbitMQProducer rabbitMQProducer;
     private final AuditService auditService;
     private final BankingBusinessValidator businessValidator;
     private final AccountingManager accountingManager;
     private final TransactionAnalysisServiceImpl analysisService;
+    private final Executor dashboardTaskExecutor;
+    private final ReceiptRenderer receiptRenderer;
+    private final ReadYourWritesWindow readYourWritesWindow;
+    private final TransferMetrics transferMetrics;
+    private final ReferenceNumberGenerator referenceNumberGenerator;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${application.dashboard.part-timeout:2s}")
+    private Duration dashboardPartTimeout = Duration.ofSeconds(2);
 
     @Override
+    @WorkloadPool(Workload.TRANSFER)
     @Transactional(rollbackFor = Exception.class)
     @CacheEvict(value = "accounts", allEntries = true)
     public TransactionResponse transferMoney(TransactionRequest request) {
+        TransferMetrics.Transfer timing = transferMetrics.begin();
+        try {
+            TransactionResponse response = executeTransfer(request);
+            timing.succeeded();
+            return response;
+        } catch (RuntimeException e) {
+            timing.failed(e);
+            throw e;
+        }
+    }
+
+    private TransactionResponse executeTransfer(TransactionRequest request) {
         log.info("Processing transfer: {} to {} amount: {}", request.senderIban(), request.receiverIban(), request.amount());
-        validateSelfTransfer(request);
+        transferMetrics.time(Phase.SELF_TRANSFER_CHECK, () -> validateSelfTransfer(request));
 
-        List<AccountEntity> lockedAccounts = lockAccountsAlphabetically(request.senderIban(), request.receiverIban());
+        List<AccountEntity> lockedAccounts = transferMetrics.timeLockAcquisition(
+                () -> lockAccountsAlphabetically(request.senderIban(), request.receiverIban()));
 
         AccountEntity sender = findAccountInList(lockedAccounts, request.senderIban());
         AccountEntity receiver = findAccountInList(lockedAccounts, request.receiverIban());
 
-        businessValidator.validateTransferRules(sender, receiver, request.amount());
-        accountingManager.processAccounting(sender, receiver, request.amount());
+        transferMetrics.time(Phase.VALIDATION, () -> businessValidator.validateTransferRules(sender, receiver, request.amount()));
+        transferMetrics.time(Phase.ACCOUNTING, () -> accountingManager.processAccounting(sender, receiver, request.amount()));
 
-        TransactionEntity transaction = saveTransactionRecord(request, sender, receiver);
+        TransactionEntity transaction = transferMetrics.time(Phase.RECORD_INSERT, () -> saveTransactionRecord(request, sender, receiver));
         finalizeTransaction(sender, receiver, transaction);
+        readYourWritesWindow.openForCurrentUser();
         return transactionMapper.toResponse(transaction);
     }
 
     private void finalizeTransaction(AccountEntity sender, AccountEntity receiver, TransactionEntity transaction) {
-        auditService.log("MONEY_TRANSFER", getAuthenticatedUserEmail(), "Reference: " + transaction.getReferenceNumber());
+        transferMetrics.time(Phase.AUDIT_ENQUEUE, () -> auditService.log("MONEY_TRANSFER", getAuthenticatedUserEmail(),
+                "Reference: " + transaction.getReferenceNumber()));
 
         try {
-            sendNotification(sender, receiver, transaction);
+            transferMetrics.time(Phase.NOTIFICATION_PUBLISH, () -> sendNotification(sender, receiver, transaction));
         } catch (Exception e) {
             log.error("Notification could not be sent for Reference: {}. Error: {}",
                     transaction.getReferenceNumber(), e.getMessage(), e);
@@ -93,63 +137,47 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private TransactionEntity saveTransactionRecord(TransactionRequest request, AccountEntity sender, AccountEntity receiver) {
-        String ref = "TX-%d-%s".formatted(
-                System.currentTimeMillis(),
-                UUID.randomUUID().toString().substring(0, 5).toUpperCase()
-        );
-
         return transactionRepository.save(TransactionEntity.builder()
-                .referenceNumber(ref)
+                .referenceNumber(referenceNumberGenerator.next())
                 .senderAccount(sender)
                 .receiverAccount(receiver)
                 .amount(request.amount())
+                .currency(sender.getCurrency())
                 .transactionType(TransactionType.TRANSFER)
                 .status(TransactionStatus.COMPLETED)
                 .description(request.description())
+                .category(analysisService.determineCategory(request.description()))
                 .build());
     }
 
     @Override
     @Transactional(readOnly = true)
-    @CircuitBreaker(name = "receiptService", fallbackMethod = "receiptFallback")
-    @Retry(name = "receiptService")
-    public byte[] generateTransactionReceipt(Long id) {
-        TransactionEntity transaction = transactionRepository.findById(id)
+    public ReceiptDocument generateTransactionReceipt(Long id) {
+        // One query for the transaction, both accounts and both holders; shared by the ownership check and the renderer
+        TransactionEntity transaction = transactionRepository.findReceiptById(id)
                 .orElseThrow(() -> new BankingServiceException("Transaction not found", HttpStatus.NOT_FOUND));
 
         authorizeReceiptAccess(transaction);
-
-        try {
-            return pdfService.generateTransactionReceipt(transaction).readAllBytes();
-        } catch (Exception e) {
-            log.error("Receipt generation error for TX {}: {}", id, e.getMessage(), e);
-            throw new BankingServiceException("Could not generate PDF receipt", HttpStatus.INTERNAL_SERVER_ERROR);
-        }
-    }
-
-    public byte[] receiptFallback(Long id, Exception e) {
-        log.error("Receipt fallback triggered for TX: {}. Reason: {}", id, e.getMessage());
-        throw new BankingServiceException("PDF service is busy, please try again later.", HttpStatus.SERVICE_UNAVAILABLE);
+        return receiptRenderer.render(transaction);
     }
 
     @Override
     @Transactional(readOnly = true)
     public Page<TransactionResponse> getTransactionHistory(String iban, Pageable pageable) {
         validateAccountAccess(iban);
-        return transactionRepository.findAllByIban(iban, pageable).map(transactionMapper::toResponse);
+        return transactionRepository.findResponsesByIban(iban, pageable);
     }
 
     @Override
+    @WorkloadPool(Workload.REPORTING)
     @Transactional(readOnly = true)
     public List<TransactionResponse> getAllTransactionsByIban(String iban) {
         validateAccountAccess(iban);
-        return transactionRepository.findAll(TransactionSpecifications.hasIban(iban))
-                .stream()
-                .map(transactionMapper::toResponse)
-                .toList();
+        return transactionRepository.findResponses(TransactionSpecifications.hasIban(iban), Sort.unsorted());
     }
 
     @Override
+    @WorkloadPool(Workload.REPORTING)
     @Transactional(readOnly = true)
     public TransactionSummaryDTO getDashboardSummary(String iban) {
         validateAccountAccess(iban);
@@ -157,6 +185,7 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @WorkloadPool(Workload.REPORTING)
     @Transactional(readOnly = true)
     public List<WeeklyTrendDTO> getWeeklyTrend(String iban) {
         validateAccountAccess(iban);
@@ -165,12 +194,53 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
+    @WorkloadPool(Workload.REPORTING)
     @Transactional(readOnly = true)
     public List<TransactionCategoryDTO> getCategoryAnalysis(String iban) {
         validateAccountAccess(iban);
         return analysisService.calculateCategoryAnalysis(iban);
     }
 
+    @Override
+    @WorkloadPool(Workload.REPORTING)
+    public DashboardResponse getDashboard(String iban) {
+        validateAccountAccess(iban);
+        List<String> unavailableSections = new CopyOnWriteArrayList<>();
+        TransactionTemplate section = dashboardSectionTransaction();
+
+        CompletableFuture<TransactionSummaryDTO> summary = fetchDashboardPart("summary",
+                () -> section.execute(status -> transactionRepository.getTransactionSummary(iban)), unavailableSections);
+        CompletableFuture<List<WeeklyTrendDTO>> trend = fetchDashboardPart("weeklyTrend",
+                () -> section.execute(status -> transactionRepository.getWeeklySpendingTrend(iban, LocalDateTime.now().minusDays(7))),
+                unavailableSections);
+        CompletableFuture<List<TransactionCategoryDTO>> categories = fetchDashboardPart("categories",
+                () -> section.execute(status -> analysisService.calculateCategoryAnalysis(iban)), unavailableSections);
+
+        CompletableFuture.allOf(summary, trend, categories).join();
+        return new DashboardResponse(summary.join(), trend.join(), categories.join(), List.copyOf(unavailableSections));
+    }
+
+    /**
+     * A dropped section's query would otherwise run on and hold its connection. The transaction timeout becomes the
+     * statement timeout of every query in the section, so the database cancels it and the connection is returned.
+     */
+    private TransactionTemplate dashboardSectionTransaction() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(true);
+        template.setTimeout((int) Math.max(1, (dashboardPartTimeout.toMillis() + 999) / 1000));
+        return template;
+    }
+
+    private <T> CompletableFuture<T> fetchDashboardPart(String section, Supplier<T> query, List<String> unavailableSections) {
+        return CompletableFuture.supplyAsync(query, dashboardTaskExecutor)
+                .orTimeout(dashboardPartTimeout.toMillis(), TimeUnit.MILLISECONDS)
+                .exceptionally(ex -> {
+                    log.warn("Dashboard section '{}' is unavailable: {}", section, ex.getMessage());
+                    unavailableSections.add(section);
+                    return null;
+                });
+    }
+
     @Override
     @Transactional(readOnly = true)
     public Page<TransactionResponse> filterTransactions(
@@ -178,6 +248,36 @@ public class TransactionServiceImpl implements TransactionService {
             LocalDateTime startDate, LocalDateTime endDate, Pageable pageable) {
 
         validateAccountAccess(iban);
+        return transactionRepository.findResponses(filterSpecification(iban, minAmount, maxAmount, startDate, endDate), pageable);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public TransactionSearchResponse searchTransactions(
+            String iban, String query, BigDecimal minAmount, BigDecimal maxAmount,
+            LocalDateTime startDate, LocalDateTime endDate, String cursor, int size) {
+
+        validateAccountAccess(iban);
+        TransactionTextSearch search = TransactionTextSearch.of(iban, query);
+        if (search.isEmpty()) {
+            throw new BankingServiceException("Search query needs at least one term of "
+                    + TransactionTextSearch.MIN_TERM_LENGTH + " or more characters", HttpStatus.BAD_REQUEST);
+        }
+        int limit = Math.max(1, Math.min(size, MAX_SEARCH_PAGE_SIZE));
+
+        Specification<TransactionEntity> spec = filterSpecification(iban, minAmount, maxAmount, startDate, endDate)
+                .and(search.matches());
+        List<TransactionTextSearch.Hit> hits = transactionRepository.search(spec, search, decodeCursor(cursor), limit + 1);
+
+        boolean hasMore = hits.size() > limit;
+        List<TransactionTextSearch.Hit> page = hasMore ? hits.subList(0, limit) : hits;
+        String nextCursor = hasMore ? page.get(limit - 1).position().encode() : null;
+        return new TransactionSearchResponse(page.stream().map(TransactionTextSearch.Hit::transaction).toList(), nextCursor);
+    }
+
+    private Specification<TransactionEntity> filterSpecification(
+            String iban, BigDecimal minAmount, BigDecimal maxAmount, LocalDateTime startDate, LocalDateTime endDate) {
+
         Specification<TransactionEntity> spec = Specification.where(TransactionSpecifications.hasIban(iban));
 
         if (minAmount != null || maxAmount != null) {
@@ -186,8 +286,18 @@ public class TransactionServiceImpl implements TransactionService {
         if (startDate != null || endDate != null) {
             spec = spec.and(TransactionSpecifications.dateBetween(startDate, endDate));
         }
+        return spec;
+    }
 
-        return transactionRepository.findAll(spec, pageable).map(transactionMapper::toResponse);
+    private TransactionTextSearch.Cursor decodeCursor(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            return TransactionTextSearch.Cursor.decode(cursor);
+        } catch (IllegalArgumentException e) {
+            throw new BankingServiceException("Invalid search cursor", HttpStatus.BAD_REQUEST);
+        }
     }
 
     private void validateAccountAccess(String iban) {
@@ -197,7 +307,7 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private void authorizeReceiptAccess(TransactionEntity transaction) {
-        if (!businessValidator.isTransactionOwner(transaction.getId())) {
+        if (!businessValidator.isTransactionOwner(transaction)) {
             throw new BankingServiceException("You are not authorized to view this receipt", HttpStatus.FORBIDDEN);
         }
     }
@@ -9,6 +9,9 @@ import com.batuhan.banking_service.mapper.UserMapper;
 import com.batuhan.banking_service.repository.UserRepository;
 import com.batuhan.banking_service.service.UserService;
 import com.batuhan.banking_service.service.helper.BankingBusinessValidator;
+import com.batuhan.banking_service.service.helper.IdentifierAllocator;
+import com.batuhan.banking_service.service.helper.ReadYourWritesWindow;
+import com.batuhan.banking_service.service.helper.UniquenessFilters;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.cache.annotation.CacheEvict;
@@ -19,8 +22,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.security.SecureRandom;
-
 @Service
 @RequiredArgsConstructor
 @Slf4j
@@ -29,7 +30,9 @@ public class UserServiceImpl implements UserService {
     private final UserRepository userRepository;
     private final UserMapper userMapper;
     private final BankingBusinessValidator businessValidator;
-    private final SecureRandom secureRandom = new SecureRandom();
+    private final IdentifierAllocator identifierAllocator;
+    private final UniquenessFilters uniquenessFilters;
+    private final ReadYourWritesWindow readYourWritesWindow;
 
     @Override
     @Transactional
@@ -38,10 +41,11 @@ public class UserServiceImpl implements UserService {
         validateUserUniqueness(request);
 
         UserEntity userEntity = userMapper.toEntity(request);
-        userEntity.setCustomerNumber(generateUniqueCustomerNumber());
+        userEntity.setCustomerNumber(identifierAllocator.nextCustomerNumber());
         userEntity.setActive(true);
 
         UserEntity savedUser = userRepository.save(userEntity);
+        readYourWritesWindow.openForCurrentUser();
         log.info("User created successfully with Customer No: {}", savedUser.getCustomerNumber());
         return userMapper.toResponse(savedUser);
     }
@@ -59,6 +63,7 @@ public class UserServiceImpl implements UserService {
         userMapper.updateEntityFromDto(request, userEntity);
 
         UserEntity updatedUser = userRepository.save(userEntity);
+        readYourWritesWindow.openForCurrentUser();
         return userMapper.toResponse(updatedUser);
     }
 
@@ -89,6 +94,7 @@ public class UserServiceImpl implements UserService {
 
         user.setActive(false);
         userRepository.save(user);
+        readYourWritesWindow.openForCurrentUser();
         log.info("Customer {} successfully deactivated", customerNumber);
     }
 
@@ -98,33 +104,18 @@ public class UserServiceImpl implements UserService {
     }
 
     private void validateUserUniqueness(UserCreateRequest request) {
-        if (userRepository.existsByEmail(request.email())) {
+        if (uniquenessFilters.exists(UniquenessFilters.Key.EMAIL, request.email(), userRepository::existsByEmail)) {
             throw new BankingServiceException("Email is already in use: " + request.email(), HttpStatus.CONFLICT);
         }
-        if (userRepository.existsByTckn(request.tckn())) {
+        if (uniquenessFilters.exists(UniquenessFilters.Key.TCKN, request.tckn(), userRepository::existsByTckn)) {
             throw new BankingServiceException("TCKN is already in use", HttpStatus.CONFLICT);
         }
     }
 
     private void validateEmailForUpdate(UserEntity user, String newEmail) {
-        if (newEmail != null && !user.getEmail().equalsIgnoreCase(newEmail) && userRepository.existsByEmail(newEmail)) {
+        if (newEmail != null && !user.getEmail().equalsIgnoreCase(newEmail)
+                && uniquenessFilters.exists(UniquenessFilters.Key.EMAIL, newEmail, userRepository::existsByEmail)) {
             throw new BankingServiceException("New email is already taken by another user", HttpStatus.CONFLICT);
         }
     }
-
-    private String generateUniqueCustomerNumber() {
-        String customerNumber;
-        boolean exists;
-        do {
-            long min = 1000000000L;
-            long max = 9999999999L;
-            long range = max - min + 1;
-            long randomValue = min + (long) (secureRandom.nextDouble() * range);
-
-            customerNumber = String.valueOf(randomValue);
-            exists = userRepository.existsByCustomerNumber(customerNumber);
-        } while (exists);
-
-        return customerNumber;
-    }
 }
\ No newline at end of file
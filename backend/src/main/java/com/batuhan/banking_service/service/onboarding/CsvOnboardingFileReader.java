@@ -0,0 +1,253 @@
+package com.batuhan.banking_service.service.onboarding;
+
+import com.batuhan.banking_service.dto.common.AddressDto;
+import com.batuhan.banking_service.dto.request.OnboardingRow;
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.NoSuchElementException;
+
+/**
+ * RFC 4180 CSV reader. The header row names the columns, in any order and case; every column except {@code iban}
+ * is required. Quoted cells may contain separators, doubled quotes and line breaks. Dates are ISO
+ * {@code yyyy-MM-dd} and blank cells are read as missing values.
+ */
+@Slf4j
+@Component
+public class CsvOnboardingFileReader implements OnboardingFileReader {
+
+    private static final String[] COLUMNS = {"first_name", "last_name", "tckn", "email", "birth_date", "phone_number",
+            "country", "city", "district", "street", "address_detail", "zip_code", "currency", "daily_limit", "iban"};
+    private static final int FIRST_NAME = 0, LAST_NAME = 1, TCKN = 2, EMAIL = 3, BIRTH_DATE = 4, PHONE_NUMBER = 5,
+            COUNTRY = 6, CITY = 7, DISTRICT = 8, STREET = 9, ADDRESS_DETAIL = 10, ZIP_CODE = 11, CURRENCY = 12,
+            DAILY_LIMIT = 13, IBAN = 14;
+    private static final int REQUIRED_COLUMNS = IBAN;
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.CSV;
+    }
+
+    @Override
+    public Iterator<OnboardingRecord> read(InputStream in) {
+        CsvParser parser = new CsvParser(new InputStreamReader(in, StandardCharsets.UTF_8));
+        List<String> header = parser.nextRecord();
+        if (header == null) {
+            throw new BankingServiceException("Onboarding file is empty", HttpStatus.BAD_REQUEST);
+        }
+        int[] positions = resolveColumns(header);
+        int width = header.size();
+
+        return new Iterator<>() {
+            private List<String> pending = parser.nextRecord();
+            private long row;
+
+            @Override
+            public boolean hasNext() {
+                while (pending != null && pending.size() == 1 && pending.get(0).isBlank()) {
+                    pending = parser.nextRecord();
+                }
+                return pending != null;
+            }
+
+            @Override
+            public OnboardingRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                List<String> cells = pending;
+                pending = parser.nextRecord();
+                return toRecord(++row, cells, positions, width);
+            }
+        };
+    }
+
+    private static int[] resolveColumns(List<String> header) {
+        int[] positions = new int[COLUMNS.length];
+        Arrays.fill(positions, -1);
+        for (int i = 0; i < header.size(); i++) {
+            String name = header.get(i).trim().toLowerCase(Locale.ROOT);
+            for (int column = 0; column < COLUMNS.length; column++) {
+                if (COLUMNS[column].equals(name)) {
+                    positions[column] = i;
+                }
+            }
+        }
+
+        List<String> missing = new ArrayList<>();
+        for (int column = 0; column < REQUIRED_COLUMNS; column++) {
+            if (positions[column] < 0) {
+                missing.add(COLUMNS[column]);
+            }
+        }
+        if (!missing.isEmpty()) {
+            throw new BankingServiceException("Missing CSV columns: " + String.join(", ", missing), HttpStatus.BAD_REQUEST);
+        }
+        return positions;
+    }
+
+    private static OnboardingRecord toRecord(long row, List<String> cells, int[] positions, int width) {
+        if (cells.size() != width) {
+            return OnboardingRecord.unreadable(row, null, "Expected " + width + " fields but found " + cells.size());
+        }
+
+        LocalDate birthDate;
+        String value = cell(cells, positions, BIRTH_DATE);
+        try {
+            birthDate = value != null ? LocalDate.parse(value) : null;
+        } catch (DateTimeParseException e) {
+            return OnboardingRecord.unreadable(row, "birthDate", "Birth date must be in yyyy-MM-dd format");
+        }
+
+        CurrencyType currency;
+        value = cell(cells, positions, CURRENCY);
+        try {
+            currency = value != null ? CurrencyType.valueOf(value.toUpperCase(Locale.ROOT)) : null;
+        } catch (IllegalArgumentException e) {
+            return OnboardingRecord.unreadable(row, "currency", "Unsupported currency: " + value);
+        }
+
+        BigDecimal dailyLimit;
+        value = cell(cells, positions, DAILY_LIMIT);
+        try {
+            dailyLimit = value != null ? new BigDecimal(value) : null;
+        } catch (NumberFormatException e) {
+            return OnboardingRecord.unreadable(row, "dailyLimit", "Daily limit must be a number");
+        }
+
+        AddressDto address = new AddressDto(
+                cell(cells, positions, COUNTRY),
+                cell(cells, positions, CITY),
+                cell(cells, positions, DISTRICT),
+                cell(cells, positions, STREET),
+                cell(cells, positions, ADDRESS_DETAIL),
+                cell(cells, positions, ZIP_CODE));
+
+        return OnboardingRecord.parsed(row, new OnboardingRow(
+                cell(cells, positions, FIRST_NAME),
+                cell(cells, positions, LAST_NAME),
+                cell(cells, positions, TCKN),
+                cell(cells, positions, EMAIL),
+                birthDate,
+                cell(cells, positions, PHONE_NUMBER),
+                address,
+                currency,
+                dailyLimit,
+                cell(cells, positions, IBAN)));
+    }
+
+    private static String cell(List<String> cells, int[] positions, int column) {
+        int position = positions[column];
+        if (position < 0) {
+            return null;
+        }
+        String value = cells.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * Splits the character stream into records of cells. Line breaks inside quotes belong to the cell; outside
+     * quotes, CR is dropped and LF ends the record. A leading byte order mark, as spreadsheets write it, is skipped.
+     */
+    private static final class CsvParser {
+
+        private final Reader reader;
+        private final char[] buffer = new char[BUFFER_SIZE];
+        private final StringBuilder cell = new StringBuilder(64);
+        private int position;
+        private int limit;
+        private boolean started;
+
+        private CsvParser(Reader reader) {
+            this.reader = reader;
+        }
+
+        private List<String> nextRecord() {
+            int c = read();
+            if (c < 0) {
+                return null;
+            }
+            List<String> cells = new ArrayList<>(COLUMNS.length);
+            cell.setLength(0);
+            boolean quoted = false;
+            boolean cellStarted = false;
+
+            while (true) {
+                if (quoted) {
+                    if (c < 0) {
+                        cells.add(cell.toString());
+                        return cells;
+                    }
+                    if (c == QUOTE) {
+                        c = read();
+                        if (c != QUOTE) {
+                            quoted = false;
+                            continue;
+                        }
+                    }
+                    cell.append((char) c);
+                } else if (c == QUOTE && !cellStarted) {
+                    quoted = true;
+                    cellStarted = true;
+                } else if (c == SEPARATOR) {
+                    cells.add(cell.toString());
+                    cell.setLength(0);
+                    cellStarted = false;
+                } else if (c == '\n' || c < 0) {
+                    cells.add(cell.toString());
+                    return cells;
+                } else if (c != '\r') {
+                    cell.append((char) c);
+                    cellStarted = true;
+                }
+                c = read();
+            }
+        }
+
+        private int read() {
+            if (position == limit) {
+                try {
+                    limit = reader.read(buffer, 0, buffer.length);
+                } catch (IOException e) {
+                    log.error("Reading onboarding CSV failed: {}", e.getMessage());
+                    throw new BankingServiceException("Failed to read onboarding file", HttpStatus.BAD_REQUEST);
+                }
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return -1;
+                }
+                if (!started) {
+                    started = true;
+                    if (buffer[0] == BYTE_ORDER_MARK) {
+                        position = 1;
+                        return read();
+                    }
+                }
+            }
+            return buffer[position++];
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.batuhan.banking_service.service.onboarding;
+
+import com.batuhan.banking_service.dto.request.OnboardingRow;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.exc.MismatchedInputException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.stream.Collectors;
+
+/**
+ * Newline-delimited JSON reader: one {@link OnboardingRow} object per line, with the address as a nested object,
+ * read with the application's {@link ObjectMapper} so field names and date formats match the REST API.
+ * Blank lines are skipped.
+ */
+@Slf4j
+@Component
+public class NdjsonOnboardingFileReader implements OnboardingFileReader {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectReader rowReader;
+
+    public NdjsonOnboardingFileReader(ObjectMapper objectMapper) {
+        this.rowReader = objectMapper.readerFor(OnboardingRow.class);
+    }
+
+    @Override
+    public ExportFormat format() {
+        return ExportFormat.NDJSON;
+    }
+
+    @Override
+    public Iterator<OnboardingRecord> read(InputStream in) {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        return new Iterator<>() {
+            private String pending;
+            private long row;
+
+            @Override
+            public boolean hasNext() {
+                while (pending == null) {
+                    String line = readLine(reader);
+                    if (line == null) {
+                        return false;
+                    }
+                    if (!line.isBlank()) {
+                        pending = line;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public OnboardingRecord next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                String line = pending;
+                pending = null;
+                return toRecord(++row, line);
+            }
+        };
+    }
+
+    private OnboardingRecord toRecord(long row, String line) {
+        try {
+            OnboardingRow data = rowReader.readValue(line);
+            if (data == null) {
+                return OnboardingRecord.unreadable(row, null, "Row must be a JSON object");
+            }
+            return OnboardingRecord.parsed(row, data);
+        } catch (MismatchedInputException e) {
+            String field = path(e);
+            return OnboardingRecord.unreadable(row, field.isEmpty() ? null : field, "Invalid value");
+        } catch (JsonProcessingException e) {
+            return OnboardingRecord.unreadable(row, null, "Malformed JSON");
+        }
+    }
+
+    private static String path(JsonMappingException e) {
+        return e.getPath().stream()
+                .map(JsonMappingException.Reference::getFieldName)
+                .filter(Objects::nonNull)
+                .collect(Collectors.joining("."));
+    }
+
+    private static String readLine(BufferedReader reader) {
+        try {
+            return reader.readLine();
+        } catch (IOException e) {
+            log.error("Reading onboarding NDJSON failed: {}", e.getMessage());
+            throw new BankingServiceException("Failed to read onboarding file", HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.batuhan.banking_service.service.onboarding;
+
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+
+import java.io.InputStream;
+import java.util.Iterator;
+
+/**
+ * Parses one onboarding file format. Records are parsed as the iterator advances, so the file is never held in
+ * memory; a row that cannot be parsed becomes a record with a parse error instead of failing the file.
+ */
+public interface OnboardingFileReader {
+
+    ExportFormat format();
+
+    Iterator<OnboardingRecord> read(InputStream in);
+}
@@ -0,0 +1,18 @@
+package com.batuhan.banking_service.service.onboarding;
+
+import com.batuhan.banking_service.dto.request.OnboardingRow;
+import com.batuhan.banking_service.dto.response.BulkOnboardingResponse.RowError;
+
+/**
+ * One record of an onboarding file: the parsed row, or the reason it could not be parsed.
+ */
+public record OnboardingRecord(long row, OnboardingRow data, RowError parseError) {
+
+    static OnboardingRecord parsed(long row, OnboardingRow data) {
+        return new OnboardingRecord(row, data, null);
+    }
+
+    static OnboardingRecord unreadable(long row, String field, String message) {
+        return new OnboardingRecord(row, null, new RowError(row, field, message));
+    }
+}
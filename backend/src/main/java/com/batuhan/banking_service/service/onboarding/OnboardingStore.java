@@ -0,0 +1,211 @@
+package com.batuhan.banking_service.service.onboarding;
+
+import com.batuhan.banking_service.dto.common.AddressDto;
+import com.batuhan.banking_service.dto.request.OnboardingRow;
+import com.batuhan.banking_service.entity.enums.AccountStatus;
+import com.batuhan.banking_service.entity.enums.Role;
+import com.batuhan.banking_service.service.helper.UniquenessFilters;
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.IncorrectResultSizeDataAccessException;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Set-based reads and batched writes for bulk onboarding, bypassing the entity layer.
+ * <p>
+ * Uniqueness is checked with one {@code IN} query per key and chunk instead of one {@code exists} query per key and
+ * row. Customers are written with one JDBC batch per table: addresses, users, accounts and daily limits. Each batch
+ * returns its generated ids, which become the foreign keys of the next, so a chunk costs four round trips whatever
+ * its size. Runs in the caller's transaction. TCKNs, emails and IBANs go through {@link UniquenessFilters} first, so
+ * only values that may be taken reach the {@code IN} query, and the written ones are recorded there.
+ */
+@Component
+@RequiredArgsConstructor
+public class OnboardingStore {
+
+    private static final String[] ID_COLUMN = {"id"};
+
+    private static final String INSERT_ADDRESS = """
+            INSERT INTO addresses (external_id, country, city, district, street, address_detail, zip_code, is_active,
+                                   created_at, updated_at, last_modified_by, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?, ?, 0)""";
+    private static final String INSERT_USER = """
+            INSERT INTO users (external_id, first_name, last_name, tckn, customer_number, email, birth_date, phone_number,
+                               is_active, role, address_id, created_at, updated_at, last_modified_by, version)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, TRUE, ?, ?, ?, ?, ?, 0)""";
+    private static final String INSERT_ACCOUNT = """
+            INSERT INTO accounts (external_id, iban, balance, currency, status, daily_limit, active, user_id,
+                                  created_at, updated_at, last_modified_by, version)
+            VALUES (?, ?, ?, ?, ?, ?, TRUE, ?, ?, ?, ?, 0)""";
+    private static final String INSERT_LIMIT = """
+            INSERT INTO account_limits (external_id, account_id, used_amount, daily_limit, limit_date, active,
+                                        created_at, updated_at, last_modified_by, version)
+            VALUES (?, ?, ?, ?, ?, TRUE, ?, ?, ?, 0)""";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+    private final UniquenessFilters uniquenessFilters;
+
+    /**
+     * Columns that must be unique across all customers.
+     */
+    public enum UniqueKey {
+        TCKN("SELECT tckn FROM users WHERE tckn IN (:values)", UniquenessFilters.Key.TCKN),
+        EMAIL("SELECT email FROM users WHERE email IN (:values)", UniquenessFilters.Key.EMAIL),
+        PHONE_NUMBER("SELECT phone_number FROM users WHERE phone_number IN (:values)", null),
+        IBAN("SELECT iban FROM accounts WHERE iban IN (:values)", UniquenessFilters.Key.IBAN);
+
+        private final String query;
+        private final UniquenessFilters.Key filter;
+
+        UniqueKey(String query, UniquenessFilters.Key filter) {
+            this.query = query;
+            this.filter = filter;
+        }
+    }
+
+    /**
+     * A validated row with the identifiers allocated for it.
+     */
+    public record NewCustomer(OnboardingRow row, String customerNumber, String iban) {}
+
+    /**
+     * The given values that are already taken.
+     */
+    public Set<String> findExisting(UniqueKey key, Collection<String> values) {
+        if (values.isEmpty()) {
+            return Set.of();
+        }
+        if (key.filter == null) {
+            return query(key, values);
+        }
+        return uniquenessFilters.existing(key.filter, values, candidates -> query(key, candidates));
+    }
+
+    public void insert(List<NewCustomer> customers) {
+        if (customers.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        LocalDate today = now.toLocalDate();
+        String auditor = auditorAware.getCurrentAuditor().orElse(null);
+
+        long[] addressIds = insertReturningIds(INSERT_ADDRESS, customers, (statement, customer, index) -> {
+            AddressDto address = customer.row().address();
+            statement.setObject(1, UUID.randomUUID());
+            statement.setString(2, address.country());
+            statement.setString(3, address.city());
+            statement.setString(4, address.district());
+            statement.setString(5, address.street());
+            statement.setString(6, address.addressDetail());
+            statement.setString(7, address.zipCode());
+            bindAudit(statement, 8, now, auditor);
+        });
+
+        long[] userIds = insertReturningIds(INSERT_USER, customers, (statement, customer, index) -> {
+            OnboardingRow row = customer.row();
+            statement.setString(1, UUID.randomUUID().toString());
+            statement.setString(2, row.firstName());
+            statement.setString(3, row.lastName());
+            statement.setString(4, row.tckn());
+            statement.setString(5, customer.customerNumber());
+            statement.setString(6, row.email());
+            statement.setObject(7, row.birthDate());
+            statement.setString(8, row.phoneNumber());
+            statement.setString(9, Role.USER.name());
+            statement.setLong(10, addressIds[index]);
+            bindAudit(statement, 11, now, auditor);
+        });
+
+        long[] accountIds = insertReturningIds(INSERT_ACCOUNT, customers, (statement, customer, index) -> {
+            statement.setObject(1, UUID.randomUUID());
+            statement.setString(2, customer.iban());
+            statement.setBigDecimal(3, BigDecimal.ZERO);
+            statement.setString(4, customer.row().currency().name());
+            statement.setString(5, AccountStatus.ACTIVE.name());
+            statement.setBigDecimal(6, customer.row().dailyLimit());
+            statement.setLong(7, userIds[index]);
+            bindAudit(statement, 8, now, auditor);
+        });
+
+        jdbcTemplate.batchUpdate(INSERT_LIMIT, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement statement, int index) throws SQLException {
+                statement.setObject(1, UUID.randomUUID());
+                statement.setLong(2, accountIds[index]);
+                statement.setBigDecimal(3, BigDecimal.ZERO);
+                statement.setBigDecimal(4, customers.get(index).row().dailyLimit());
+                statement.setObject(5, today);
+                bindAudit(statement, 6, now, auditor);
+            }
+
+            @Override
+            public int getBatchSize() {
+                return customers.size();
+            }
+        });
+
+        for (NewCustomer customer : customers) {
+            uniquenessFilters.record(UniquenessFilters.Key.TCKN, customer.row().tckn());
+            uniquenessFilters.record(UniquenessFilters.Key.EMAIL, customer.row().email());
+            uniquenessFilters.record(UniquenessFilters.Key.IBAN, customer.iban());
+        }
+    }
+
+    private Set<String> query(UniqueKey key, Collection<String> values) {
+        return new HashSet<>(new NamedParameterJdbcTemplate(jdbcTemplate)
+                .queryForList(key.query, Map.of("values", values), String.class));
+    }
+
+    private long[] insertReturningIds(String sql, List<NewCustomer> customers, RowBinder binder) {
+        return jdbcTemplate.execute((ConnectionCallback<long[]>) connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql, ID_COLUMN)) {
+                for (int i = 0; i < customers.size(); i++) {
+                    binder.bind(statement, customers.get(i), i);
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+
+                long[] ids = new long[customers.size()];
+                int count = 0;
+                try (ResultSet keys = statement.getGeneratedKeys()) {
+                    while (keys.next() && count < ids.length) {
+                        ids[count++] = keys.getLong(1);
+                    }
+                }
+                if (count != ids.length) {
+                    throw new IncorrectResultSizeDataAccessException("Batch insert returned too few generated ids", ids.length, count);
+                }
+                return ids;
+            }
+        });
+    }
+
+    private static void bindAudit(PreparedStatement statement, int from, LocalDateTime now, String auditor) throws SQLException {
+        statement.setObject(from, now);
+        statement.setObject(from + 1, now);
+        statement.setString(from + 2, auditor);
+    }
+
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, NewCustomer customer, int index) throws SQLException;
+    }
+}
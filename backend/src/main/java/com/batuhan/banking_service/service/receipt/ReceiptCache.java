@@ -0,0 +1,397 @@
+package com.batuhan.banking_service.service.receipt;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Cache for receipts that can no longer change, keyed by transaction external id and template version.
+ * <p>
+ * The local tier is a directory of PDF files capped at {@code application.receipt.cache.max-size}; the least
+ * recently served receipts are deleted first. Files are named {@code <key>.<sha256>.pdf}, so the index, including
+ * each entry's ETag, is rebuilt from the directory listing on startup. When the Redis tier is enabled, a local
+ * miss is filled from Redis before rendering, and freshly rendered receipts are published with {@code SETNX}:
+ * the first instance to render a receipt decides its bytes, so every instance serves the same ETag.
+ * Redis failures only cost a render; they never fail the request.
+ * <p>
+ * A served receipt is pinned until its {@link ReceiptDocument} is closed: evicting a pinned entry drops it from the
+ * index, but its file stays on disk until the last response releases it and {@code release-grace} has passed. The
+ * grace covers the container's sendfile, which opens the file only after the request has completed. A file removed
+ * from outside the cache, for example by a tmp cleaner, is dropped from the index on the next request and rendered
+ * again.
+ */
+@Slf4j
+@Component
+public class ReceiptCache {
+
+    private static final String FILE_SUFFIX = ".pdf";
+    private static final String PART_SUFFIX = ".part";
+    private static final String REDIS_KEY_PREFIX = "receipt:";
+    private static final int FILE_BUFFER_SIZE = 16 * 1024;
+    private static final Pattern CACHE_FILE = Pattern.compile("(.+)\\.([0-9a-f]{64})\\.pdf");
+
+    private final Path cacheDir;
+    private final long maxBytes;
+    private final Duration redisTtl;
+    private final long releaseGraceNanos;
+    private final RedisTemplate<String, byte[]> redisTemplate;
+
+    // Access-ordered: iteration starts at the least recently used receipt
+    private final LinkedHashMap<String, Entry> index = new LinkedHashMap<>(256, 0.75f, true);
+    // Files handed to responses, guarded by the index lock; an entry outlives its last release by the grace period
+    private final Map<Path, Pin> pins = new HashMap<>();
+    private long totalBytes;
+
+    @Autowired
+    public ReceiptCache(@Value("${application.receipt.cache.dir:${java.io.tmpdir}/banking-receipts}") Path cacheDir,
+                        @Value("${application.receipt.cache.max-size:256MB}") DataSize maxSize,
+                        @Value("${application.receipt.cache.redis.enabled:false}") boolean redisEnabled,
+                        @Value("${application.receipt.cache.redis.ttl:7d}") Duration redisTtl,
+                        @Value("${application.receipt.cache.release-grace:30s}") Duration releaseGrace,
+                        ObjectProvider<RedisConnectionFactory> redisConnectionFactory) {
+        this(cacheDir, maxSize, redisTtl, releaseGrace,
+                redisEnabled ? createRedisTemplate(redisConnectionFactory.getIfAvailable()) : null);
+    }
+
+    ReceiptCache(Path cacheDir, DataSize maxSize, Duration redisTtl, Duration releaseGrace,
+                 RedisTemplate<String, byte[]> redisTemplate) {
+        this.cacheDir = cacheDir;
+        this.maxBytes = maxSize.toBytes();
+        this.redisTtl = redisTtl;
+        this.releaseGraceNanos = releaseGrace.toNanos();
+        this.redisTemplate = redisTemplate;
+    }
+
+    @PostConstruct
+    void loadIndex() throws IOException {
+        Files.createDirectories(cacheDir);
+
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(cacheDir)) {
+            for (Path file : stream) {
+                if (file.getFileName().toString().endsWith(PART_SUFFIX)) {
+                    deleteQuietly(file);
+                } else if (CACHE_FILE.matcher(file.getFileName().toString()).matches()) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(Comparator.comparing(ReceiptCache::lastModified));
+
+        Map<String, Entry> found = new LinkedHashMap<>();
+        for (Path file : files) {
+            Matcher name = CACHE_FILE.matcher(file.getFileName().toString());
+            if (name.matches()) {
+                found.put(name.group(1), new Entry(file, quote(name.group(2)), Files.size(file)));
+            }
+        }
+
+        List<Path> evicted;
+        synchronized (index) {
+            found.forEach((key, entry) -> {
+                index.put(key, entry);
+                totalBytes += entry.sizeBytes;
+            });
+            evicted = evictOverflow();
+        }
+        evicted.forEach(ReceiptCache::deleteQuietly);
+
+        log.info("Receipt cache ready at {}: {} receipts, {} bytes (limit {}), Redis tier {}",
+                cacheDir, files.size() - evicted.size(), sizeInBytes(), maxBytes, redisTemplate != null ? "enabled" : "disabled");
+    }
+
+    /**
+     * Returns the cached receipt for {@code key}, rendering it straight to disk on a miss, pinned until the returned
+     * document is closed. If the disk tier cannot be written, the receipt is streamed to the client without caching
+     * instead.
+     */
+    public ReceiptDocument getOrRender(String key, String filename, ReceiptDocument.ContentWriter renderer) {
+        Entry entry;
+        List<Path> expired;
+        synchronized (index) {
+            entry = index.get(key);
+            if (entry != null) {
+                pin(entry.path);
+            }
+            expired = expirePins();
+        }
+        expired.forEach(ReceiptCache::deleteQuietly);
+        if (entry != null) {
+            if (Files.isReadable(entry.path)) {
+                return serve(filename, entry);
+            }
+            log.warn("Receipt cache: {} was deleted outside the cache, rendering it again", entry.path);
+            release(entry.path);
+            forget(key, entry);
+        }
+
+        try {
+            byte[] shared = fetchFromRedis(key);
+            Staged staged = stage(key, shared != null ? out -> out.write(shared) : renderer);
+            if (shared == null && redisTemplate != null) {
+                byte[] winner = publishToRedis(key, staged.part());
+                if (winner != null) {
+                    deleteQuietly(staged.part());
+                    staged = stage(key, out -> out.write(winner));
+                }
+            }
+            entry = commit(key, staged);
+            return serve(filename, entry);
+        } catch (IOException e) {
+            log.warn("Receipt cache: could not write {} to disk: {}", key, e.getMessage());
+            return ReceiptDocument.streamed(filename, renderer);
+        }
+    }
+
+    public long sizeInBytes() {
+        synchronized (index) {
+            return totalBytes;
+        }
+    }
+
+    public int size() {
+        synchronized (index) {
+            return index.size();
+        }
+    }
+
+    /**
+     * Must be called with the entry pinned; closing the document releases the pin once.
+     */
+    private ReceiptDocument serve(String filename, Entry entry) {
+        AtomicBoolean released = new AtomicBoolean();
+        return ReceiptDocument.cached(filename, entry.etag, entry.path, entry.sizeBytes, () -> {
+            if (released.compareAndSet(false, true)) {
+                release(entry.path);
+            }
+        });
+    }
+
+    /**
+     * Must hold the index lock.
+     */
+    private void pin(Path path) {
+        pins.computeIfAbsent(path, ignored -> new Pin()).holders++;
+    }
+
+    private void release(Path path) {
+        synchronized (index) {
+            Pin pin = pins.get(path);
+            if (pin != null) {
+                pin.holders--;
+                pin.releasedAt = System.nanoTime();
+            }
+        }
+    }
+
+    /**
+     * Must hold the index lock. Forgets pins whose grace period is over and returns the evicted files among them.
+     */
+    private List<Path> expirePins() {
+        List<Path> expired = new ArrayList<>();
+        long now = System.nanoTime();
+        Iterator<Map.Entry<Path, Pin>> iterator = pins.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Path, Pin> candidate = iterator.next();
+            Pin pin = candidate.getValue();
+            if (pin.holders == 0 && now - pin.releasedAt >= releaseGraceNanos) {
+                iterator.remove();
+                if (pin.evicted) {
+                    expired.add(candidate.getKey());
+                }
+            }
+        }
+        return expired;
+    }
+
+    private void forget(String key, Entry entry) {
+        synchronized (index) {
+            if (index.remove(key, entry)) {
+                totalBytes -= entry.sizeBytes;
+            }
+        }
+    }
+
+    /**
+     * Writes the receipt to a {@code .part} file, hashing it on the way so the bytes are never buffered in memory.
+     */
+    private Staged stage(String key, ReceiptDocument.ContentWriter writer) throws IOException {
+        Files.createDirectories(cacheDir);
+        Path part = Files.createTempFile(cacheDir, key + ".", PART_SUFFIX);
+        MessageDigest digest = sha256();
+        try (DigestOutputStream out = new DigestOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(part), FILE_BUFFER_SIZE), digest)) {
+            writer.writeTo(out);
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(part);
+            throw e;
+        }
+        return new Staged(part, HexFormat.of().formatHex(digest.digest()), Files.size(part));
+    }
+
+    private Entry commit(String key, Staged staged) throws IOException {
+        Path target = cacheDir.resolve(key + "." + staged.hash() + FILE_SUFFIX);
+        try {
+            Files.move(staged.part(), target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException e) {
+            deleteQuietly(staged.part());
+            throw e;
+        }
+
+        Entry stored = new Entry(target, quote(staged.hash()), staged.sizeBytes());
+        Entry winner;
+        boolean discard;
+        List<Path> evicted;
+        synchronized (index) {
+            winner = index.putIfAbsent(key, stored);
+            Entry served = winner != null ? winner : stored;
+            if (winner == null) {
+                totalBytes += stored.sizeBytes;
+            }
+            pin(served.path);
+            // Back in the index: an earlier eviction of the same bytes must no longer delete the file
+            pins.get(served.path).evicted = false;
+            discard = winner != null && !winner.path.equals(target) && !pins.containsKey(target);
+            evicted = evictOverflow();
+            evicted.addAll(expirePins());
+        }
+        // A concurrent render of the same receipt got there first; keep its bytes so the ETag stays stable
+        if (discard) {
+            deleteQuietly(target);
+        }
+        evicted.forEach(ReceiptCache::deleteQuietly);
+        return winner != null ? winner : stored;
+    }
+
+    /**
+     * Must hold the index lock. Always keeps the most recent entry, even if it alone exceeds the limit. Files still
+     * pinned by a response are left on disk for {@link #expirePins} to delete later.
+     */
+    private List<Path> evictOverflow() {
+        List<Path> evicted = new ArrayList<>();
+        Iterator<Map.Entry<String, Entry>> eldest = index.entrySet().iterator();
+        while (totalBytes > maxBytes && index.size() > 1 && eldest.hasNext()) {
+            Entry entry = eldest.next().getValue();
+            eldest.remove();
+            totalBytes -= entry.sizeBytes;
+            Pin pin = pins.get(entry.path);
+            if (pin != null) {
+                pin.evicted = true;
+            } else {
+                evicted.add(entry.path);
+            }
+        }
+        return evicted;
+    }
+
+    private byte[] fetchFromRedis(String key) {
+        if (redisTemplate == null) {
+            return null;
+        }
+        try {
+            return redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+        } catch (RuntimeException e) {
+            log.warn("Receipt cache: Redis lookup failed for {}: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Publishes the rendered file unless another instance already did; returns that instance's bytes in that case.
+     */
+    private byte[] publishToRedis(String key, Path rendered) {
+        try {
+            Boolean stored = redisTemplate.opsForValue().setIfAbsent(REDIS_KEY_PREFIX + key, Files.readAllBytes(rendered), redisTtl);
+            if (Boolean.FALSE.equals(stored)) {
+                return redisTemplate.opsForValue().get(REDIS_KEY_PREFIX + key);
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("Receipt cache: Redis write failed for {}: {}", key, e.getMessage());
+        }
+        return null;
+    }
+
+    private static RedisTemplate<String, byte[]> createRedisTemplate(RedisConnectionFactory connectionFactory) {
+        if (connectionFactory == null) {
+            log.warn("Receipt cache: Redis tier enabled but no RedisConnectionFactory is available, using disk only");
+            return null;
+        }
+        RedisTemplate<String, byte[]> template = new RedisTemplate<>();
+        template.setConnectionFactory(connectionFactory);
+        template.setKeySerializer(RedisSerializer.string());
+        template.setValueSerializer(RedisSerializer.byteArray());
+        template.afterPropertiesSet();
+        return template;
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static String quote(String hash) {
+        return "\"" + hash + "\"";
+    }
+
+    private static FileTime lastModified(Path file) {
+        try {
+            return Files.getLastModifiedTime(file);
+        } catch (IOException e) {
+            return FileTime.fromMillis(0);
+        }
+    }
+
+    private static void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Receipt cache: could not delete {}: {}", file, e.getMessage());
+        }
+    }
+
+    private record Entry(Path path, String etag, long sizeBytes) {
+    }
+
+    private record Staged(Path part, String hash, long sizeBytes) {
+    }
+
+    private static final class Pin {
+
+        private int holders;
+        private long releasedAt;
+        private boolean evicted;
+    }
+}
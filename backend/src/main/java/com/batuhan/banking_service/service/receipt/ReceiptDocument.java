@@ -0,0 +1,45 @@
+package com.batuhan.banking_service.service.receipt;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+
+/**
+ * A receipt ready to be served: either a file held by the disk cache ({@code path}), or a renderer that writes the
+ * PDF straight into the response ({@code writer}).
+ * <p>
+ * {@code etag} is the quoted SHA-256 of the cached PDF bytes. Streamed receipts have no ETag and an unknown
+ * size ({@code -1}), since they are rendered on every request. A cached file is pinned against eviction until the
+ * document is closed, so it must be closed once the response no longer needs the file.
+ */
+public record ReceiptDocument(String filename, String etag, Path path, ContentWriter writer, long sizeBytes,
+                              Runnable release) implements Closeable {
+
+    public static ReceiptDocument cached(String filename, String etag, Path path, long sizeBytes, Runnable release) {
+        return new ReceiptDocument(filename, etag, path, null, sizeBytes, release);
+    }
+
+    public static ReceiptDocument streamed(String filename, ContentWriter writer) {
+        return new ReceiptDocument(filename, null, null, writer, -1, null);
+    }
+
+    public boolean isOnDisk() {
+        return path != null;
+    }
+
+    /**
+     * Unpins the cached file. Safe to call more than once.
+     */
+    @Override
+    public void close() {
+        if (release != null) {
+            release.run();
+        }
+    }
+
+    @FunctionalInterface
+    public interface ContentWriter {
+        void writeTo(OutputStream out) throws IOException;
+    }
+}
@@ -0,0 +1,47 @@
+package com.batuhan.banking_service.service.receipt;
+
+import com.batuhan.banking_service.entity.TransactionEntity;
+import com.batuhan.banking_service.entity.enums.TransactionStatus;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.service.PdfService;
+import io.github.resilience4j.circuitbreaker.annotation.CircuitBreaker;
+import io.github.resilience4j.retry.annotation.Retry;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+/**
+ * Turns an already loaded and authorized transaction into a {@link ReceiptDocument}.
+ * <p>
+ * Only this step sits behind the {@code receiptService} retry and circuit breaker. The lookup and the ownership
+ * check stay outside it, so a denied or unknown receipt is answered with 403/404 at once and never counts as a
+ * rendering failure.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ReceiptRenderer {
+
+    private final PdfService pdfService;
+    private final ReceiptCache receiptCache;
+
+    @CircuitBreaker(name = "receiptService", fallbackMethod = "renderFallback")
+    @Retry(name = "receiptService")
+    public ReceiptDocument render(TransactionEntity transaction) {
+        String filename = "receipt_" + transaction.getId() + ".pdf";
+        ReceiptDocument.ContentWriter renderer = out -> pdfService.writeTransactionReceipt(transaction, out);
+        // Only a completed transaction's receipt is final; pending ones are rendered into the response on every request
+        if (transaction.getStatus() != TransactionStatus.COMPLETED) {
+            return ReceiptDocument.streamed(filename, renderer);
+        }
+
+        String cacheKey = transaction.getExternalId() + "-v" + PdfService.RECEIPT_TEMPLATE_VERSION;
+        return receiptCache.getOrRender(cacheKey, filename, renderer);
+    }
+
+    public ReceiptDocument renderFallback(TransactionEntity transaction, Exception e) {
+        log.error("Receipt fallback triggered for TX: {}. Reason: {}", transaction.getId(), e.getMessage());
+        throw new BankingServiceException("PDF service is busy, please try again later.", HttpStatus.SERVICE_UNAVAILABLE);
+    }
+}
@@ -0,0 +1,262 @@
+package com.batuhan.banking_service.validator;
+
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * ISO 13616 IBAN validation and check-digit computation, shared by {@link IbanValidator}, account creation and the
+ * data generators.
+ * <p>
+ * The mod-97 checksum is computed on the fly over the characters, in rearranged order, without building the numeric
+ * string or a {@code BigInteger}; validation allocates nothing. Spaces are ignored and lower-case letters are accepted.
+ * <p>
+ * Countries in the registry table must match their IBAN length and BBAN format ({@code n} digits, {@code a} upper-case
+ * letters, {@code c} alphanumerics). Other countries only need two letters, two check digits, an alphanumeric BBAN,
+ * a total of {@value #MIN_LENGTH} to {@value #MAX_LENGTH} characters and a valid checksum.
+ */
+public final class IbanCodec {
+
+    public static final int MIN_LENGTH = 15;
+    public static final int MAX_LENGTH = 34;
+
+    private static final byte DIGIT = 1;
+    private static final byte LETTER = 2;
+    private static final byte ALPHANUMERIC = 3;
+
+    /**
+     * Remainders are folded back under 97 once they pass this bound, which leaves room for two more decimal digits.
+     */
+    private static final long FOLD_THRESHOLD = 10_000_000_000_000_000L;
+
+    /**
+     * The country code and check digits contribute six decimal digits at the end of the rearranged IBAN.
+     */
+    private static final int HEAD_SCALE = 1_000_000;
+
+    /**
+     * Country code, IBAN length and BBAN format, as published in the SWIFT IBAN registry.
+     */
+    private static final String[] REGISTRY = {
+            "AD24 4n4n12c", "AE23 3n16n", "AL28 8n16c", "AT20 5n11n", "AZ28 4a20c", "BA20 3n3n8n2n", "BE16 3n7n2n",
+            "BG22 4a4n2n8c", "BH22 4a14c", "BR29 8n5n10n1a1c", "CH21 5n12c", "CR22 4n14n", "CY28 3n5n16c",
+            "CZ24 4n6n10n", "DE22 8n10n", "DK18 4n9n1n", "DO28 4c20n", "EE20 2n2n11n1n", "EG29 4n4n17n",
+            "ES24 4n4n1n1n10n", "FI18 3n11n", "FO18 4n9n1n", "FR27 5n5n11c2n", "GB22 4a6n8n", "GE22 2a16n",
+            "GI23 4a15c", "GL18 4n9n1n", "GR27 3n4n16c", "GT28 4c20c", "HR21 7n10n", "HU28 3n4n1n15n1n",
+            "IE22 4a6n8n", "IL23 3n3n13n", "IQ23 4a3n12n", "IS26 4n2n6n10n", "IT27 1a5n5n12c", "JO30 4a4n18c",
+            "KW30 4a22c", "KZ20 3n13c", "LB28 4n20c", "LC32 4a24c", "LI21 5n12c", "LT20 5n11n", "LU20 3n13c",
+            "LV21 4a13c", "MC27 5n5n11c2n", "MD24 2c18c", "ME22 3n13n2n", "MK19 3n10c2n", "MR27 5n5n11n2n",
+            "MT31 4a5n18c", "MU30 4a2n2n12n3n3a", "NL18 4a10n", "NO15 4n6n1n", "PK24 4a16c", "PL28 8n16n",
+            "PS29 4a21c", "PT25 4n4n11n2n", "QA29 4a21c", "RO24 4a16c", "RS22 3n13n2n", "SA24 2n18c",
+            "SC31 4a2n2n16n3a", "SE24 3n16n1n", "SI19 5n8n2n", "SK24 4n6n10n", "SM27 1a5n5n12c", "TN24 2n3n13n2n",
+            "TR26 5n1n16c", "UA29 6n19c", "VA22 3n15n", "VG24 4a16n", "XK20 4n10n2n"
+    };
+
+    /**
+     * Per country, indexed by {@link #countryIndex}: the character class of each BBAN position, or null if unknown.
+     */
+    private static final byte[][] FORMATS = new byte[26 * 26][];
+
+    static {
+        for (String entry : REGISTRY) {
+            register(entry);
+        }
+    }
+
+    private IbanCodec() {
+        throw new UnsupportedOperationException("This is a utility class and cannot be instantiated");
+    }
+
+    public static boolean isValid(CharSequence iban) {
+        if (iban == null) {
+            return false;
+        }
+        byte[] format = null;
+        int length = 0;
+        int head = 0;
+        long remainder = 0;
+
+        for (int i = 0, n = iban.length(); i < n; i++) {
+            char c = iban.charAt(i);
+            if (c == ' ') {
+                continue;
+            }
+            int value = value(c);
+            if (value < 0 || length == MAX_LENGTH) {
+                return false;
+            }
+            if (length < 2) {
+                if (value < 10) {
+                    return false;
+                }
+                head = head * 100 + value;
+                if (length == 1) {
+                    format = FORMATS[countryIndex(head / 100, value)];
+                }
+            } else if (length < 4) {
+                if (value >= 10) {
+                    return false;
+                }
+                head = head * 10 + value;
+            } else {
+                if (format != null && (length - 4 >= format.length || !matches(format[length - 4], value))) {
+                    return false;
+                }
+                remainder = append(remainder, value);
+            }
+            length++;
+        }
+
+        if (length < MIN_LENGTH || (format != null && length - 4 != format.length)) {
+            return false;
+        }
+        return ((remainder % 97) * HEAD_SCALE + head) % 97 == 1;
+    }
+
+    /**
+     * Validates a batch of IBANs and returns the positions of the invalid ones; an empty set means all are valid.
+     */
+    public static BitSet findInvalid(List<? extends CharSequence> ibans) {
+        BitSet invalid = new BitSet(ibans.size());
+        for (int i = 0; i < ibans.size(); i++) {
+            if (!isValid(ibans.get(i))) {
+                invalid.set(i);
+            }
+        }
+        return invalid;
+    }
+
+    /**
+     * The two check digits (2 to 98) for the given country code and BBAN.
+     *
+     * @throws IllegalArgumentException if the country code is not two letters or the BBAN is not alphanumeric
+     */
+    public static int checkDigits(CharSequence countryCode, CharSequence bban) {
+        if (countryCode.length() != 2) {
+            throw new IllegalArgumentException("Country code must be two letters");
+        }
+        int first = value(countryCode.charAt(0));
+        int second = value(countryCode.charAt(1));
+        if (first < 10 || second < 10) {
+            throw new IllegalArgumentException("Country code must be two letters");
+        }
+        long remainder = 0;
+        for (int i = 0, n = bban.length(); i < n; i++) {
+            int value = value(bban.charAt(i));
+            if (value < 0) {
+                throw new IllegalArgumentException("BBAN must be alphanumeric");
+            }
+            remainder = append(remainder, value);
+        }
+        int head = (first * 100 + second) * 100;
+        return (int) (98 - ((remainder % 97) * HEAD_SCALE + head) % 97);
+    }
+
+    /**
+     * Builds the electronic form of an IBAN from an upper-case country code and BBAN.
+     *
+     * @throws IllegalArgumentException if the BBAN does not match the country's registered format
+     */
+    public static String build(String countryCode, CharSequence bban) {
+        int checkDigits = checkDigits(countryCode, bban);
+        byte[] format = FORMATS[countryIndex(value(countryCode.charAt(0)), value(countryCode.charAt(1)))];
+        if (format != null && format.length != bban.length()) {
+            throw new IllegalArgumentException("BBAN for " + countryCode + " must be " + format.length + " characters");
+        }
+
+        char[] iban = new char[4 + bban.length()];
+        iban[0] = countryCode.charAt(0);
+        iban[1] = countryCode.charAt(1);
+        iban[2] = (char) ('0' + checkDigits / 10);
+        iban[3] = (char) ('0' + checkDigits % 10);
+        for (int i = 0; i < bban.length(); i++) {
+            char c = bban.charAt(i);
+            if (format != null && !matches(format[i], value(c))) {
+                throw new IllegalArgumentException("BBAN does not match the format for " + countryCode);
+            }
+            iban[4 + i] = c;
+        }
+        return new String(iban);
+    }
+
+    /**
+     * Registered IBAN length for a country, or -1 if the country is not in the registry table.
+     */
+    public static int lengthOf(String countryCode) {
+        if (countryCode == null || countryCode.length() != 2) {
+            return -1;
+        }
+        int first = value(countryCode.charAt(0));
+        int second = value(countryCode.charAt(1));
+        if (first < 10 || second < 10) {
+            return -1;
+        }
+        byte[] format = FORMATS[countryIndex(first, second)];
+        return format == null ? -1 : format.length + 4;
+    }
+
+    /**
+     * 0-9 for digits, 10-35 for letters of either case, -1 for anything else.
+     */
+    private static int value(char c) {
+        if (c >= '0' && c <= '9') {
+            return c - '0';
+        }
+        if (c >= 'A' && c <= 'Z') {
+            return c - 'A' + 10;
+        }
+        if (c >= 'a' && c <= 'z') {
+            return c - 'a' + 10;
+        }
+        return -1;
+    }
+
+    /**
+     * Appends one character's decimal expansion (one digit for 0-9, two for letters) to the running remainder.
+     */
+    private static long append(long remainder, int value) {
+        if (remainder >= FOLD_THRESHOLD) {
+            remainder %= 97;
+        }
+        return value < 10 ? remainder * 10 + value : remainder * 100 + value;
+    }
+
+    private static boolean matches(byte characterClass, int value) {
+        return switch (characterClass) {
+            case DIGIT -> value < 10;
+            case LETTER -> value >= 10;
+            default -> true;
+        };
+    }
+
+    private static int countryIndex(int first, int second) {
+        return (first - 10) * 26 + (second - 10);
+    }
+
+    private static void register(String entry) {
+        int length = Integer.parseInt(entry.substring(2, 4));
+        byte[] format = new byte[length - 4];
+        int position = 0;
+        int count = 0;
+        for (int i = 5; i < entry.length(); i++) {
+            char c = entry.charAt(i);
+            if (c >= '0' && c <= '9') {
+                count = count * 10 + (c - '0');
+                continue;
+            }
+            byte characterClass = switch (c) {
+                case 'n' -> DIGIT;
+                case 'a' -> LETTER;
+                case 'c' -> ALPHANUMERIC;
+                default -> throw new IllegalStateException("Unknown character class in IBAN format " + entry);
+            };
+            for (int j = 0; j < count; j++) {
+                format[position++] = characterClass;
+            }
+            count = 0;
+        }
+        if (position != format.length) {
+            throw new IllegalStateException("IBAN format does not add up to its length: " + entry);
+        }
+        FORMATS[countryIndex(value(entry.charAt(0)), value(entry.charAt(1)))] = format;
+    }
+}
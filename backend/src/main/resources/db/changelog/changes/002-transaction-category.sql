@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset batuhan:2
+--comment: Persist transaction category at write time so category analysis can aggregate in SQL
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT count(*) FROM information_schema.columns WHERE table_schema = 'public' AND table_name = 'transactions' AND column_name = 'category'
+ALTER TABLE transactions ADD COLUMN category VARCHAR(30);
+CREATE INDEX idx_transaction_sender_category ON transactions (sender_account_id, category);
@@ -0,0 +1,16 @@
+--liquibase formatted sql
+
+--changeset batuhan:3
+--comment: Per-account period lookups for month-end statements and a restart checkpoint per statement run
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT count(*) FROM information_schema.tables WHERE table_schema = 'public' AND table_name = 'statement_checkpoints'
+CREATE INDEX idx_transaction_sender_created ON transactions (sender_account_id, created_at);
+CREATE INDEX idx_transaction_receiver_created ON transactions (receiver_account_id, created_at);
+
+CREATE TABLE statement_checkpoints (
+                                       period VARCHAR(7) PRIMARY KEY,
+                                       last_account_id BIGINT NOT NULL DEFAULT 0,
+                                       generated_count BIGINT NOT NULL DEFAULT 0,
+                                       status VARCHAR(20) NOT NULL,
+                                       updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
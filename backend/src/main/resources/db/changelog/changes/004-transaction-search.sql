@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset batuhan:4 dbms:postgresql
+--comment: Trigram indexes so transaction text search (description, counterparty name) never falls back to a sequential scan
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+CREATE INDEX IF NOT EXISTS idx_transaction_description_trgm ON transactions USING gin (lower(description) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_first_name_trgm ON users USING gin (lower(first_name) gin_trgm_ops);
+CREATE INDEX IF NOT EXISTS idx_user_last_name_trgm ON users USING gin (lower(last_name) gin_trgm_ops);
@@ -0,0 +1,6 @@
+--liquibase formatted sql
+
+--changeset batuhan:5
+--comment: Account and customer numbers are drawn from sequences, each node reserving a block of 100 per call
+CREATE SEQUENCE IF NOT EXISTS account_number_seq START WITH 1 INCREMENT BY 100;
+CREATE SEQUENCE IF NOT EXISTS customer_number_seq START WITH 1 INCREMENT BY 100;
@@ -0,0 +1,34 @@
+--liquibase formatted sql
+
+--changeset batuhan:6
+--comment: Standing orders and future-dated transfers, claimed by the executor of any node through a lease
+--preconditions onFail:MARK_RAN
+--precondition-sql-check expectedResult:0 SELECT count(*) FROM information_schema.tables WHERE table_schema = 'public' AND table_name = 'scheduled_transfers'
+CREATE TABLE scheduled_transfers (
+                                     id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                                     external_id UUID NOT NULL UNIQUE,
+                                     sender_iban VARCHAR(50) NOT NULL,
+                                     receiver_iban VARCHAR(50) NOT NULL,
+                                     amount DECIMAL(19, 4) NOT NULL,
+                                     currency VARCHAR(20) NOT NULL,
+                                     description VARCHAR(255),
+                                     frequency VARCHAR(20) NOT NULL,
+                                     first_run_at TIMESTAMP(6) NOT NULL,
+                                     end_date DATE,
+                                     next_run_at TIMESTAMP(6) NOT NULL,
+                                     occurrence INT NOT NULL DEFAULT 0,
+                                     status VARCHAR(20) NOT NULL,
+                                     attempts INT NOT NULL DEFAULT 0,
+                                     last_error VARCHAR(255),
+                                     last_reference_number VARCHAR(50),
+                                     last_run_at TIMESTAMP(6),
+                                     claimed_by VARCHAR(64),
+                                     claimed_until TIMESTAMP(6),
+                                     created_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                     updated_at TIMESTAMP(6) NOT NULL DEFAULT CURRENT_TIMESTAMP,
+                                     last_modified_by VARCHAR(255),
+                                     version BIGINT
+);
+
+CREATE INDEX idx_scheduled_transfer_due ON scheduled_transfers (status, next_run_at);
+CREATE INDEX idx_scheduled_transfer_sender ON scheduled_transfers (sender_iban);
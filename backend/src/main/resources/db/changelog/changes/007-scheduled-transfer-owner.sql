@@ -0,0 +1,8 @@
+--liquibase formatted sql
+
+--changeset batuhan:7
+--comment: Standing orders run as the holder who set them up, recorded when the order is created; existing orders take the sender's current holder
+ALTER TABLE scheduled_transfers ADD COLUMN owner_email VARCHAR(255);
+UPDATE scheduled_transfers SET owner_email = (
+    SELECT u.email FROM accounts a JOIN users u ON u.id = a.user_id WHERE a.iban = scheduled_transfers.sender_iban);
+UPDATE scheduled_transfers SET status = 'FAILED', last_error = 'Sender account not found' WHERE owner_email IS NULL AND status = 'ACTIVE';
@@ -0,0 +1,66 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadContext;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Async Config Tests
+ * - Builds the dashboard executor as the application does, on platform threads.
+ * - Verifies that a section submitted from a request thread runs with that request's authentication and workload,
+ *   and that the worker thread is left clean afterwards.
+ */
+@DisplayName("Config - Async Executor Tests")
+class AsyncConfigTest {
+
+    private final AsyncConfig asyncConfig = new AsyncConfig(new MockEnvironment());
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Dashboard: Sections run with the caller's authentication and workload")
+    void dashboardTaskExecutor_PropagatesCallerContext() throws Exception {
+        // Given
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) asyncConfig.dashboardTaskExecutor(1);
+        Authentication caller = new UsernamePasswordAuthenticationToken("owner@test.com", null,
+                List.of(new SimpleGrantedAuthority("ROLE_USER")));
+        SecurityContextHolder.getContext().setAuthentication(caller);
+
+        try {
+            // When
+            CompletableFuture<Authentication> section = WorkloadContext.supply(Workload.REPORTING,
+                    () -> CompletableFuture.supplyAsync(() -> {
+                        assertThat(WorkloadContext.current()).isEqualTo(Workload.REPORTING);
+                        return SecurityContextHolder.getContext().getAuthentication();
+                    }, executor));
+            Authentication seen = section.get(5, TimeUnit.SECONDS);
+            SecurityContextHolder.clearContext();
+            Authentication afterwards = CompletableFuture
+                    .supplyAsync(() -> SecurityContextHolder.getContext().getAuthentication(), executor)
+                    .get(5, TimeUnit.SECONDS);
+
+            // Then
+            assertThat(seen).isSameAs(caller);
+            assertThat(afterwards).isNull();
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
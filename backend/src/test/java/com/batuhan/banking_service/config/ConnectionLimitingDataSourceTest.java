@@ -0,0 +1,74 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.ConnectionLimitingDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+/**
+ * Connection Limiting DataSource Unit Tests
+ * - Verifies that checked-out connections are capped by the permit count.
+ * - Ensures permits are returned exactly once on close and on acquisition failures.
+ */
+@DisplayName("Config - Connection Limiting DataSource Unit Tests")
+class ConnectionLimitingDataSourceTest {
+
+    private DataSource target;
+    private ConnectionLimitingDataSource dataSource;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        target = mock(DataSource.class);
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+        dataSource = new ConnectionLimitingDataSource(target, 2, Duration.ofMillis(50));
+    }
+
+    @Test
+    @DisplayName("Success: Closing a connection returns its permit exactly once")
+    void getConnection_CloseReleasesPermitOnce() throws SQLException {
+        // GIVEN
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.availablePermits()).isEqualTo(1);
+
+        // WHEN
+        connection.close();
+        connection.close();
+
+        // THEN
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("Failure: Exceeding the limit fails with a transient error after the timeout")
+    void getConnection_LimitReached_ThrowsTransientException() throws SQLException {
+        // GIVEN
+        dataSource.getConnection();
+        dataSource.getConnection();
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> dataSource.getConnection())
+                .isInstanceOf(SQLTransientConnectionException.class);
+        verify(target, times(2)).getConnection();
+    }
+
+    @Test
+    @DisplayName("Failure: Permit is released when the underlying pool throws")
+    void getConnection_TargetFails_ReleasesPermit() throws SQLException {
+        // GIVEN
+        when(target.getConnection()).thenThrow(new SQLException("Pool exhausted"));
+
+        // WHEN & THEN
+        assertThatThrownBy(() -> dataSource.getConnection()).isInstanceOf(SQLException.class);
+        assertThat(dataSource.availablePermits()).isEqualTo(2);
+    }
+}
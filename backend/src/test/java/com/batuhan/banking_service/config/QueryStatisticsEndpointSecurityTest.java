@@ -0,0 +1,45 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.repository.BaseIntegrationTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query Statistics Endpoint Security Tests
+ * - Calls {@code /actuator/queries} through the real security filter chain.
+ * - Verifies that only administrators can read query timings and slow statements.
+ */
+@DisplayName("Config - Query Statistics Endpoint Security Tests")
+class QueryStatisticsEndpointSecurityTest extends BaseIntegrationTest {
+
+    @Test
+    @DisplayName("Failure: Anonymous callers are asked to authenticate")
+    void queries_Anonymous_Unauthorized() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/queries"))
+                .andExpect(status().isUnauthorized());
+    }
+
+    @Test
+    @DisplayName("Failure: Regular users are denied")
+    void queries_User_Forbidden() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/queries").with(jwt().authorities(new SimpleGrantedAuthority("ROLE_USER"))))
+                .andExpect(status().isForbidden());
+    }
+
+    @Test
+    @DisplayName("Success: Administrators get the query statistics")
+    void queries_Admin_Ok() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/actuator/queries").with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.topByTotalTime").isArray());
+    }
+}
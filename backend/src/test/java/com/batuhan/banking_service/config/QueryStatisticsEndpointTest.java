@@ -0,0 +1,81 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.SlowQueryLog;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Query Statistics Endpoint Tests
+ * - Feeds repository timers into a simple meter registry, as Boot's Spring Data metrics would.
+ * - Verifies ranking by total time, aggregation across outcomes and the limit parameter.
+ */
+@DisplayName("Config - Query Statistics Endpoint Tests")
+class QueryStatisticsEndpointTest {
+
+    private static final String METRIC = "spring.data.repository.invocations";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ofMillis(500), 10);
+    private final QueryStatisticsEndpoint endpoint = new QueryStatisticsEndpoint(meterRegistry, slowQueryLog, METRIC);
+
+    @Test
+    @DisplayName("Success: Methods are ranked by total time, summed over successful and failed calls")
+    void queries_RankedByTotalTime() {
+        // Given
+        record("TransactionRepository", "getTransactionSummary", "SUCCESS", 3, 200);
+        record("TransactionRepository", "getTransactionSummary", "ERROR", 1, 400);
+        record("AccountRepository", "findByIbanWithLock", "SUCCESS", 50, 10);
+        record("UserRepository", "findByEmail", "SUCCESS", 2, 5);
+
+        // When
+        List<QueryStatisticsEndpoint.MethodTime> top = endpoint.queries(null).topByTotalTime();
+
+        // Then
+        assertThat(top).extracting(QueryStatisticsEndpoint.MethodTime::method)
+                .containsExactly("getTransactionSummary", "findByIbanWithLock", "findByEmail");
+        QueryStatisticsEndpoint.MethodTime summary = top.get(0);
+        assertThat(summary.calls()).isEqualTo(4);
+        assertThat(summary.failures()).isEqualTo(1);
+        assertThat(summary.totalMillis()).isEqualTo(1000);
+        assertThat(summary.meanMillis()).isEqualTo(250);
+        assertThat(summary.maxMillis()).isEqualTo(400);
+    }
+
+    @Test
+    @DisplayName("Success: The limit caps the number of methods and slow queries are reported alongside")
+    void queries_LimitAndSlowQueries() {
+        // Given
+        record("TransactionRepository", "findAllByIban", "SUCCESS", 1, 900);
+        record("AccountRepository", "findByIban", "SUCCESS", 1, 100);
+        slowQueryLog.record("SELECT * FROM transactions WHERE sender_account_id = ?", List.of("Long"), 0, 900_000_000L);
+
+        // When
+        QueryStatisticsEndpoint.QueryStatistics statistics = endpoint.queries(1);
+
+        // Then
+        assertThat(statistics.topByTotalTime()).extracting(QueryStatisticsEndpoint.MethodTime::method)
+                .containsExactly("findAllByIban");
+        assertThat(statistics.slowQueryThresholdMillis()).isEqualTo(500);
+        assertThat(statistics.slowQueries()).isEqualTo(1);
+        assertThat(statistics.recentSlowQueries().get(0).elapsedMillis()).isEqualTo(900);
+    }
+
+    private void record(String repository, String method, String state, int calls, long millis) {
+        Timer timer = Timer.builder(METRIC)
+                .tag("repository", repository)
+                .tag("method", method)
+                .tag("state", state)
+                .tag("exception", "None")
+                .register(meterRegistry);
+        for (int i = 0; i < calls; i++) {
+            timer.record(Duration.ofMillis(millis));
+        }
+    }
+}
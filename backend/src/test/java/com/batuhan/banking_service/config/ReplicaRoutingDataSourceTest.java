@@ -0,0 +1,137 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.ReplicaRoutingDataSource;
+import com.batuhan.banking_service.service.helper.ReadYourWritesWindow;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Replica Routing DataSource Tests
+ * - Runs against two in-memory H2 databases, each of which reports its own name, as primary and replica.
+ * - Verifies read-only routing, lag- and failure-based fallback to the primary, and the read-your-writes window.
+ */
+@DisplayName("Config - Replica Routing DataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+    private static final String HEALTHY_LAG_QUERY = "SELECT 0";
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ReadYourWritesWindow readYourWrites = new ReadYourWritesWindow(Duration.ofMinutes(1));
+    private ReplicaRoutingDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Success: Read-only transactions go to the replica, read-write transactions to the primary")
+    void routesByTransactionReadOnlyFlag() {
+        // Given
+        dataSource = routing(HEALTHY_LAG_QUERY, Duration.ofSeconds(5));
+
+        // When
+        String readOnly = nodeName(true);
+        String readWrite = nodeName(false);
+
+        // Then
+        assertThat(readOnly).isEqualTo("replica");
+        assertThat(readWrite).isEqualTo("primary");
+        assertThat(meterRegistry.get("banking.datasource.reads").tag("target", "replica-1").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("banking.datasource.replica.healthy").tag("replica", "replica-1").gauge().value()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Failure: A replica lagging beyond max-lag is taken out of rotation")
+    void laggingReplica_FallsBackToPrimary() {
+        // Given
+        dataSource = routing("SELECT 12.5", Duration.ofSeconds(5));
+
+        // When
+        String readOnly = nodeName(true);
+
+        // Then
+        assertThat(readOnly).isEqualTo("primary");
+        assertThat(dataSource.healthyReplicas()).isEmpty();
+        assertThat(meterRegistry.get("banking.datasource.replica.lag").tag("replica", "replica-1").gauge().value()).isEqualTo(12.5);
+    }
+
+    @Test
+    @DisplayName("Failure: An unreachable replica is skipped until its health check succeeds again")
+    void failingHealthCheck_FallsBackToPrimary() {
+        // Given
+        dataSource = routing("SELECT no_such_column FROM node", Duration.ofSeconds(5));
+
+        // When
+        String readOnly = nodeName(true);
+
+        // Then
+        assertThat(readOnly).isEqualTo("primary");
+        assertThat(meterRegistry.get("banking.datasource.replica.lag").tag("replica", "replica-1").gauge().value()).isNaN();
+    }
+
+    @Test
+    @DisplayName("Success: A user's reads stay on the primary after their own committed write, other users still use the replica")
+    void readYourWrites_PinsWriterToPrimary() {
+        // Given
+        dataSource = routing(HEALTHY_LAG_QUERY, Duration.ofSeconds(5));
+        authenticate("writer@test.com");
+        TransactionTemplate readWrite = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+
+        // When
+        String beforeCommit = readWrite.execute(status -> {
+            readYourWrites.openForCurrentUser();
+            return readYourWrites.isOpenForCurrentUser() ? "open" : "closed";
+        });
+        String writer = nodeName(true);
+        authenticate("someone-else@test.com");
+        String otherUser = nodeName(true);
+
+        // Then
+        assertThat(beforeCommit).isEqualTo("closed");
+        assertThat(writer).isEqualTo("primary");
+        assertThat(otherUser).isEqualTo("replica");
+    }
+
+    private ReplicaRoutingDataSource routing(String lagQuery, Duration maxLag) {
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(database("primary"),
+                Map.of("replica-1", database("replica")), maxLag, lagQuery, readYourWrites, meterRegistry);
+        routing.checkReplicas();
+        return routing;
+    }
+
+    private String nodeName(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        template.setReadOnly(readOnly);
+        return template.execute(status -> new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private static DataSource database(String name) {
+        JdbcDataSource database = new JdbcDataSource();
+        database.setURL("jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return database;
+    }
+
+    private static void authenticate(String user) {
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken(user, null, "ROLE_USER"));
+    }
+}
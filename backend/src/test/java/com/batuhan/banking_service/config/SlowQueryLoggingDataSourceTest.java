@@ -0,0 +1,117 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.SlowQueryLog;
+import com.batuhan.banking_service.config.util.SlowQueryLoggingDataSource;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Slow Query Logging DataSource Tests
+ * - Runs statements through the proxy against an in-memory H2 database.
+ * - Verifies that only statements over the threshold are recorded, with masked SQL and parameter types instead of
+ *   values.
+ */
+@DisplayName("Config - Slow Query Logging DataSource Tests")
+class SlowQueryLoggingDataSourceTest {
+
+    @Test
+    @DisplayName("Success: A slow prepared statement is recorded with its SQL and parameter types, never its values")
+    void slowPreparedStatement_RecordsShapesOnly() {
+        // Given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ZERO, 10);
+        JdbcTemplate jdbc = new JdbcTemplate(new SlowQueryLoggingDataSource(database(), slowQueryLog));
+
+        // When
+        jdbc.queryForList("SELECT iban FROM accounts WHERE iban = ? AND opened_at < ?",
+                String.class, "TR330006100519786457841326", LocalDateTime.now());
+
+        // Then
+        SlowQueryLog.SlowQuery query = slowQueryLog.recent().get(0);
+        assertThat(query.sql()).isEqualTo("SELECT iban FROM accounts WHERE iban = ? AND opened_at < ?");
+        assertThat(query.parameterShapes()).containsExactly("String", "LocalDateTime");
+        assertThat(query.toString()).doesNotContain("TR330006100519786457841326");
+    }
+
+    @Test
+    @DisplayName("Success: String literals inlined into the SQL are masked, batches report their size")
+    void literalsAndBatches_AreMasked() {
+        // Given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ZERO, 10);
+        JdbcTemplate jdbc = new JdbcTemplate(new SlowQueryLoggingDataSource(database(), slowQueryLog));
+
+        // When
+        jdbc.update("INSERT INTO accounts (iban, opened_at) VALUES ('TR330006100519786457841326', CURRENT_TIMESTAMP)");
+        jdbc.batchUpdate("UPDATE accounts SET opened_at = ? WHERE iban = ?",
+                List.of(new Object[]{LocalDateTime.now(), "A"}, new Object[]{LocalDateTime.now(), "B"}));
+
+        // Then
+        List<SlowQueryLog.SlowQuery> recent = slowQueryLog.recent();
+        assertThat(recent.get(1).sql()).isEqualTo("INSERT INTO accounts (iban, opened_at) VALUES ('?', CURRENT_TIMESTAMP)");
+        assertThat(recent.get(0).batchSize()).isEqualTo(2);
+        assertThat(recent.get(0).parameterShapes()).containsExactly("LocalDateTime", "String");
+    }
+
+    @Test
+    @DisplayName("Success: Numeric literals are masked, digits inside identifiers are kept")
+    void numericLiterals_AreMasked() {
+        // Given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ZERO, 10);
+        JdbcTemplate jdbc = new JdbcTemplate(new SlowQueryLoggingDataSource(database(), slowQueryLog));
+
+        // When
+        jdbc.queryForList("SELECT a1_0.iban FROM accounts a1_0 WHERE 10050 > 2.5 AND a1_0.iban <> '42' LIMIT 20", String.class);
+
+        // Then
+        assertThat(slowQueryLog.recent().get(0).sql())
+                .isEqualTo("SELECT a1_0.iban FROM accounts a1_0 WHERE ? > ? AND a1_0.iban <> '?' LIMIT ?");
+    }
+
+    @Test
+    @DisplayName("Success: Statements under the threshold are not recorded")
+    void fastStatement_NotRecorded() {
+        // Given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ofMinutes(1), 10);
+        JdbcTemplate jdbc = new JdbcTemplate(new SlowQueryLoggingDataSource(database(), slowQueryLog));
+
+        // When
+        jdbc.queryForList("SELECT iban FROM accounts", String.class);
+
+        // Then
+        assertThat(slowQueryLog.count()).isZero();
+        assertThat(slowQueryLog.recent()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("Success: Only the most recent slow statements are retained")
+    void recent_IsBounded() {
+        // Given
+        SlowQueryLog slowQueryLog = new SlowQueryLog(Duration.ZERO, 2);
+        JdbcTemplate jdbc = new JdbcTemplate(new SlowQueryLoggingDataSource(database(), slowQueryLog));
+
+        // When
+        for (int i = 0; i < 5; i++) {
+            jdbc.queryForList("SELECT iban AS iban_" + i + " FROM accounts", String.class);
+        }
+
+        // Then
+        assertThat(slowQueryLog.count()).isEqualTo(5);
+        assertThat(slowQueryLog.recent()).extracting(SlowQueryLog.SlowQuery::sql)
+                .containsExactly("SELECT iban AS iban_4 FROM accounts", "SELECT iban AS iban_3 FROM accounts");
+    }
+
+    private static JdbcDataSource database() {
+        JdbcDataSource database = new JdbcDataSource();
+        database.setURL("jdbc:h2:mem:slow_query_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(database).execute("CREATE TABLE accounts (iban VARCHAR(34), opened_at TIMESTAMP)");
+        return database;
+    }
+}
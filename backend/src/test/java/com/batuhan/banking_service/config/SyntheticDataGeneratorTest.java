@@ -0,0 +1,167 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.SyntheticDataGenerator;
+import com.batuhan.banking_service.validator.IbanCodec;
+import com.batuhan.banking_service.validator.TcknValidator;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Synthetic Data Generator Tests
+ * - Generates small datasets into fresh in-memory H2 databases through the JDBC batch path.
+ * - Verifies row counts and references, identifier validity, identity columns, determinism across thread counts
+ *   and batch sizes, and the power-law skew of transfer activity.
+ */
+@DisplayName("Config - Synthetic Data Generator Tests")
+class SyntheticDataGeneratorTest {
+
+    private static final LocalDate END_DATE = LocalDate.of(2026, 6, 30);
+
+    @Test
+    @DisplayName("Success: Every user gets an address, accounts with limits and valid identifiers; ids continue after the data")
+    void generate_WritesConsistentCustomers() throws SQLException {
+        // Given
+        DataSource dataSource = database();
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(dataSource, settings(42, 300, 2_000, 1.1, 3, 64));
+
+        // When
+        SyntheticDataGenerator.Summary summary = generator.generate();
+
+        // Then
+        assertThat(summary.users()).isEqualTo(300);
+        assertThat(count(jdbc, "users")).isEqualTo(300);
+        assertThat(count(jdbc, "addresses")).isEqualTo(300);
+        assertThat(count(jdbc, "accounts")).isEqualTo(summary.accounts()).isBetween(300L, 1_200L);
+        assertThat(count(jdbc, "account_limits")).isEqualTo(summary.accounts());
+        assertThat(count(jdbc, "transactions")).isEqualTo(2_000);
+        assertThat(jdbc.queryForObject("""
+                SELECT COUNT(*) FROM transactions t
+                JOIN accounts s ON s.id = t.sender_account_id
+                JOIN accounts r ON r.id = t.receiver_account_id
+                WHERE s.id <> r.id AND t.currency = s.currency""", Long.class)).isEqualTo(2_000);
+
+        TcknValidator tcknValidator = new TcknValidator();
+        assertThat(jdbc.queryForList("SELECT tckn FROM users", String.class))
+                .allMatch(tckn -> tcknValidator.isValid(tckn, null));
+        assertThat(jdbc.queryForList("SELECT iban FROM accounts", String.class)).allMatch(IbanCodec::isValid);
+
+        Map<String, Object> window = jdbc.queryForMap("SELECT MIN(created_at) AS first, MAX(created_at) AS last FROM transactions");
+        assertThat(((Timestamp) window.get("first")).toLocalDateTime()).isAfter(END_DATE.minusDays(365).atStartOfDay());
+        assertThat(((Timestamp) window.get("last")).toLocalDateTime()).isBefore(END_DATE.plusDays(1).atStartOfDay());
+
+        jdbc.update("INSERT INTO addresses (external_id, country, city, district, street, zip_code, is_active, created_at, updated_at) "
+                + "VALUES (?, 'Turkey', 'Izmir', 'Konak', 'Street 1', '35210', TRUE, ?, ?)", UUID.randomUUID(), LocalDateTime.now(), LocalDateTime.now());
+        assertThat(jdbc.queryForObject("SELECT MAX(id) FROM addresses", Long.class)).isEqualTo(301);
+        assertThat(generator.alreadyGenerated()).isTrue();
+    }
+
+    @Test
+    @DisplayName("Success: The same seed produces the same rows whatever the thread count and batch size")
+    void generate_SameSeed_SameRows() throws SQLException {
+        // Given
+        DataSource first = database();
+        DataSource second = database();
+
+        // When
+        new SyntheticDataGenerator(first, settings(7, 120, 800, 1.0, 1, 1_000)).generate();
+        new SyntheticDataGenerator(second, settings(7, 120, 800, 1.0, 4, 7)).generate();
+
+        // Then
+        assertThat(fingerprint(second)).isEqualTo(fingerprint(first));
+    }
+
+    @Test
+    @DisplayName("Success: A higher activity exponent concentrates transfers on fewer accounts")
+    void generate_ActivityExponent_SkewsTransfers() throws SQLException {
+        // Given
+        DataSource uniform = database();
+        DataSource skewed = database();
+
+        // When
+        new SyntheticDataGenerator(uniform, settings(3, 500, 5_000, 0, 2, 500)).generate();
+        new SyntheticDataGenerator(skewed, settings(3, 500, 5_000, 1.2, 2, 500)).generate();
+
+        // Then
+        assertThat(shareOfTopSenders(uniform)).isLessThan(0.3);
+        assertThat(shareOfTopSenders(skewed)).isGreaterThan(0.6);
+    }
+
+    private static SyntheticDataGenerator.Settings settings(long seed, int users, long transactions, double exponent,
+                                                            int threads, int batchSize) {
+        return new SyntheticDataGenerator.Settings(seed, users, 3, transactions, 365, END_DATE, exponent, threads, batchSize);
+    }
+
+    /**
+     * Share of all transfers sent by the busiest tenth of the accounts.
+     */
+    private static double shareOfTopSenders(DataSource dataSource) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        long accounts = count(jdbc, "accounts");
+        List<Long> sent = jdbc.queryForList(
+                "SELECT COUNT(*) FROM transactions GROUP BY sender_account_id ORDER BY COUNT(*) DESC", Long.class);
+        long top = sent.stream().limit(accounts / 10).mapToLong(Long::longValue).sum();
+        return (double) top / count(jdbc, "transactions");
+    }
+
+    private static List<Map<String, Object>> fingerprint(DataSource dataSource) {
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        List<Map<String, Object>> rows = new ArrayList<>();
+        rows.addAll(jdbc.queryForList("SELECT * FROM addresses ORDER BY id"));
+        rows.addAll(jdbc.queryForList("SELECT * FROM users ORDER BY id"));
+        rows.addAll(jdbc.queryForList("SELECT * FROM accounts ORDER BY id"));
+        rows.addAll(jdbc.queryForList("SELECT external_id, account_id, daily_limit FROM account_limits ORDER BY account_id"));
+        rows.addAll(jdbc.queryForList("SELECT external_id, reference_number, amount, currency, status, description, category, "
+                + "sender_account_id, receiver_account_id, created_at FROM transactions ORDER BY reference_number"));
+        return rows;
+    }
+
+    private static long count(JdbcTemplate jdbc, String table) {
+        return jdbc.queryForObject("SELECT COUNT(*) FROM " + table, Long.class);
+    }
+
+    /**
+     * The columns the generator writes, as Liquibase and Hibernate create them.
+     */
+    private static DataSource database() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:synthetic_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE");
+        String audit = "created_at TIMESTAMP(6) NOT NULL, updated_at TIMESTAMP(6) NOT NULL, last_modified_by VARCHAR(255), version BIGINT";
+        JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+        jdbc.execute("CREATE TABLE addresses (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, external_id UUID NOT NULL UNIQUE, "
+                + "country VARCHAR(50) NOT NULL, city VARCHAR(50) NOT NULL, district VARCHAR(50) NOT NULL, street VARCHAR(100) NOT NULL, "
+                + "address_detail VARCHAR(255), zip_code VARCHAR(20) NOT NULL, is_active BOOLEAN NOT NULL, " + audit + ")");
+        jdbc.execute("CREATE TABLE users (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, external_id VARCHAR(255) NOT NULL UNIQUE, "
+                + "first_name VARCHAR(50) NOT NULL, last_name VARCHAR(50) NOT NULL, tckn VARCHAR(11) NOT NULL UNIQUE, "
+                + "customer_number VARCHAR(10) NOT NULL UNIQUE, email VARCHAR(100) NOT NULL UNIQUE, birth_date DATE NOT NULL, "
+                + "phone_number VARCHAR(15) NOT NULL UNIQUE, is_active BOOLEAN NOT NULL, role VARCHAR(50) NOT NULL, "
+                + "address_id BIGINT REFERENCES addresses(id), " + audit + ")");
+        jdbc.execute("CREATE TABLE accounts (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, external_id UUID NOT NULL UNIQUE, "
+                + "iban VARCHAR(34) NOT NULL UNIQUE, balance DECIMAL(19, 2) NOT NULL, currency VARCHAR(20) NOT NULL, "
+                + "status VARCHAR(20) NOT NULL, daily_limit DECIMAL(19, 4) NOT NULL, active BOOLEAN NOT NULL, "
+                + "user_id BIGINT NOT NULL REFERENCES users(id), " + audit + ")");
+        jdbc.execute("CREATE TABLE account_limits (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, external_id UUID NOT NULL UNIQUE, "
+                + "account_id BIGINT NOT NULL UNIQUE REFERENCES accounts(id), used_amount DECIMAL(19, 4) NOT NULL, "
+                + "daily_limit DECIMAL(19, 4) NOT NULL, limit_date DATE NOT NULL, active BOOLEAN NOT NULL, " + audit + ")");
+        jdbc.execute("CREATE TABLE transactions (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, external_id UUID NOT NULL UNIQUE, "
+                + "reference_number VARCHAR(50) NOT NULL UNIQUE, amount DECIMAL(19, 4) NOT NULL, currency VARCHAR(20) NOT NULL, "
+                + "transaction_type VARCHAR(50) NOT NULL, status VARCHAR(50) NOT NULL, description VARCHAR(255), category VARCHAR(30), "
+                + "sender_account_id BIGINT NOT NULL REFERENCES accounts(id), receiver_account_id BIGINT NOT NULL REFERENCES accounts(id), "
+                + audit + ")");
+        return dataSource;
+    }
+}
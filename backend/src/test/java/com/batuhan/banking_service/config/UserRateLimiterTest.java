@@ -0,0 +1,229 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.UserRateLimit;
+import com.batuhan.banking_service.config.util.UserRateLimitInterceptor;
+import com.batuhan.banking_service.config.util.UserRateLimiter;
+import com.batuhan.banking_service.config.util.UserRateLimiter.Decision;
+import com.batuhan.banking_service.config.util.UserRateLimiter.Limit;
+import com.batuhan.banking_service.exception.GlobalExceptionHandler;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.convert.ApplicationConversionService;
+import org.springframework.boot.test.context.runner.WebApplicationContextRunner;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.security.authentication.TestingAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * User Rate Limiter Tests
+ * - Runs the in-memory GCRA on a manual clock, and the Redis path against a mocked template returning script replies.
+ * - Verifies burst and steady rate, leases and cached rejections saving Redis calls, fallback when Redis fails, the
+ *   RateLimit-* headers and 429 of the interceptor, and binding of the configured limits.
+ */
+@DisplayName("Config - User Rate Limiter Tests")
+class UserRateLimiterTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final ManualClock clock = new ManualClock();
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Success: A full burst passes, the next request waits one emission interval")
+    void acquire_Local_BurstThenSteadyRate() {
+        // Given
+        UserRateLimiter limiter = limiter(Map.of("export", new Limit(3, Duration.ofMinutes(1), 0)), null);
+
+        // When
+        List<Decision> burst = List.of(limiter.acquire("export", "user:a"), limiter.acquire("export", "user:a"),
+                limiter.acquire("export", "user:a"));
+        Decision rejected = limiter.acquire("export", "user:a");
+        Decision otherCaller = limiter.acquire("export", "user:b");
+        clock.advance(Duration.ofSeconds(20));
+        Decision afterInterval = limiter.acquire("export", "user:a");
+
+        // Then
+        assertThat(burst).allMatch(Decision::allowed).extracting(Decision::remaining).containsExactly(2L, 1L, 0L);
+        assertThat(burst.get(2).resetAfter()).isEqualTo(Duration.ofMinutes(1));
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofSeconds(20));
+        assertThat(otherCaller.allowed()).isTrue();
+        assertThat(afterInterval.allowed()).isTrue();
+        assertThat(afterInterval.remaining()).isZero();
+        assertThat(decisions("rejected", "rejection")).isZero();
+        assertThat(decisions("allowed", "local")).isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("Success: One Redis call leases several requests, a rejection is answered locally until Retry-After")
+    void acquire_Redis_LeasesAndCachesRejections() {
+        // Given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenReturn(List.of(2L, 18L, 0L, 6_000_000L))
+                .thenReturn(List.of(0L, 0L, 3_000_000L, 60_000_000L));
+        UserRateLimiter limiter = limiter(Map.of("receipt", new Limit(20, Duration.ofMinutes(1), 0)), redisTemplate);
+
+        // When
+        Decision first = limiter.acquire("receipt", "user:a");
+        Decision leased = limiter.acquire("receipt", "user:a");
+        Decision rejected = limiter.acquire("receipt", "user:a");
+        clock.advance(Duration.ofSeconds(1));
+        Decision stillRejected = limiter.acquire("receipt", "user:a");
+
+        // Then
+        assertThat(first.allowed()).isTrue();
+        assertThat(first.remaining()).isEqualTo(19);
+        assertThat(leased.allowed()).isTrue();
+        assertThat(leased.remaining()).isEqualTo(18);
+        assertThat(rejected.allowed()).isFalse();
+        assertThat(rejected.retryAfter()).isEqualTo(Duration.ofSeconds(3));
+        assertThat(stillRejected.allowed()).isFalse();
+        assertThat(stillRejected.retryAfter()).isEqualTo(Duration.ofSeconds(2));
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), eq(List.of("test:receipt:user:a")), eq("3000000"), eq("60000000"), eq("2"));
+        assertThat(decisions("allowed", "lease")).isEqualTo(1);
+        assertThat(decisions("rejected", "rejection")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Failure: When Redis is unreachable the limit is enforced on this instance")
+    void acquire_RedisDown_FallsBackToLocalLimit() {
+        // Given
+        StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any(), any()))
+                .thenThrow(new RedisConnectionFailureException("Connection refused"));
+        UserRateLimiter limiter = limiter(Map.of("excel", new Limit(1, Duration.ofMinutes(1), 0)), redisTemplate);
+
+        // When
+        Decision first = limiter.acquire("excel", "user:a");
+        Decision second = limiter.acquire("excel", "user:a");
+
+        // Then
+        assertThat(first.allowed()).isTrue();
+        assertThat(second.allowed()).isFalse();
+        assertThat(decisions("allowed", "local")).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Success: The interceptor reports RateLimit headers and answers 429 with Retry-After, per user")
+    void interceptor_LimitsEachUser() throws Exception {
+        // Given
+        UserRateLimiter limiter = limiter(Map.of("probe", new Limit(2, Duration.ofSeconds(10), 0)), null);
+        MockMvc mockMvc = MockMvcBuilders.standaloneSetup(new ProbeController())
+                .addInterceptors(new UserRateLimitInterceptor(limiter))
+                .setControllerAdvice(new GlobalExceptionHandler())
+                .build();
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("alice@banking.com", null, "ROLE_USER"));
+
+        // When & Then
+        mockMvc.perform(get("/probe")).andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Limit", "2"))
+                .andExpect(header().string("RateLimit-Remaining", "1"))
+                .andExpect(header().string("RateLimit-Reset", "5"));
+        mockMvc.perform(get("/probe")).andExpect(status().isOk())
+                .andExpect(header().string("RateLimit-Remaining", "0"));
+        mockMvc.perform(get("/probe")).andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "5"))
+                .andExpect(header().string("RateLimit-Remaining", "0"));
+        mockMvc.perform(get("/unlimited")).andExpect(status().isOk())
+                .andExpect(header().doesNotExist("RateLimit-Limit"));
+
+        SecurityContextHolder.getContext().setAuthentication(new TestingAuthenticationToken("bob@banking.com", null, "ROLE_USER"));
+        mockMvc.perform(get("/probe")).andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Success: Limits are bound from configuration, the burst defaulting to the limit")
+    void config_BindsLimits() {
+        new WebApplicationContextRunner()
+                .withInitializer(context -> context.getBeanFactory().setConversionService(ApplicationConversionService.getSharedInstance()))
+                .withUserConfiguration(RateLimitConfig.class)
+                .withBean(SimpleMeterRegistry.class)
+                .withPropertyValues(
+                        "application.rate-limits.limits.receipt.limit=30",
+                        "application.rate-limits.limits.receipt.period=1m",
+                        "application.rate-limits.limits.receipt.burst=10",
+                        "application.rate-limits.limits.excel.limit=2",
+                        "application.rate-limits.limits.excel.period=1m")
+                .run(context -> {
+                    UserRateLimiter limiter = context.getBean(UserRateLimiter.class);
+                    assertThat(limiter.acquire("receipt", "user:a").limit()).isEqualTo(10);
+                    assertThat(limiter.acquire("excel", "user:a").limit()).isEqualTo(2);
+                });
+    }
+
+    private UserRateLimiter limiter(Map<String, Limit> limits, StringRedisTemplate redisTemplate) {
+        return new UserRateLimiter(limits, redisTemplate, "test", 0.1, Duration.ofSeconds(1), meterRegistry, clock);
+    }
+
+    private double decisions(String outcome, String source) {
+        var counter = meterRegistry.find(UserRateLimiter.DECISIONS).tag("outcome", outcome).tag("source", source).counter();
+        return counter == null ? 0 : counter.count();
+    }
+
+    @RestController
+    static class ProbeController {
+
+        @GetMapping("/probe")
+        @UserRateLimit("probe")
+        String probe() {
+            return "ok";
+        }
+
+        @GetMapping("/unlimited")
+        String unlimited() {
+            return "ok";
+        }
+    }
+
+    private static final class ManualClock extends Clock {
+
+        private Instant now = Instant.parse("2026-06-30T12:00:00Z");
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,199 @@
+package com.batuhan.banking_service.config;
+
+import com.batuhan.banking_service.config.util.Workload;
+import com.batuhan.banking_service.config.util.WorkloadContext;
+import com.batuhan.banking_service.config.util.WorkloadPool;
+import com.batuhan.banking_service.config.util.WorkloadPoolAspect;
+import com.batuhan.banking_service.config.util.WorkloadRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.aop.aspectj.annotation.AspectJProxyFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Workload Routing DataSource Tests
+ * - Runs one single-connection Hikari pool per workload, each against its own in-memory H2 database that reports
+ *   the pool's name.
+ * - Verifies that {@code @WorkloadPool} picks the pool, that an exhausted pool leaves the others untouched, and
+ *   that the workload follows tasks handed to executors.
+ */
+@DisplayName("Config - Workload Routing DataSource Tests")
+class WorkloadRoutingDataSourceTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private WorkloadRoutingDataSource dataSource;
+    private PoolClient client;
+
+    @BeforeEach
+    void setUp() {
+        Map<Workload, DataSource> pools = new EnumMap<>(Workload.class);
+        for (Workload workload : Workload.values()) {
+            pools.put(workload, pool(workload.getPoolName()));
+        }
+        dataSource = new WorkloadRoutingDataSource(pools);
+
+        AspectJProxyFactory factory = new AspectJProxyFactory(new PoolClient(dataSource));
+        factory.addAspect(new WorkloadPoolAspect());
+        client = factory.getProxy();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dataSource.close();
+    }
+
+    @Test
+    @DisplayName("Success: Annotated methods use their workload's pool, everything else the interactive pool")
+    void annotatedMethods_UseTheirPool() throws SQLException {
+        // Given
+        long transferAcquisitions = transferAcquisitions();
+
+        // When
+        String transfer = client.transfer();
+        String report = client.report();
+        String unannotated = client.unannotated();
+
+        // Then
+        assertThat(transfer).isEqualTo("transfer");
+        assertThat(report).isEqualTo("reporting");
+        assertThat(unannotated).isEqualTo("interactive");
+        assertThat(WorkloadContext.current()).isEqualTo(Workload.INTERACTIVE);
+        assertThat(transferAcquisitions()).isEqualTo(transferAcquisitions + 1);
+    }
+
+    @Test
+    @DisplayName("Success: An exhausted reporting pool times out reports while transfers still get a connection")
+    void exhaustedReportingPool_DoesNotStarveTransfers() throws SQLException {
+        // Given
+        try (Connection held = WorkloadContext.supply(Workload.REPORTING, this::connection)) {
+
+            // When & Then
+            assertThatThrownBy(() -> client.report()).isInstanceOf(SQLTransientConnectionException.class);
+            assertThat(client.transfer()).isEqualTo("transfer");
+        }
+        assertThat(meterRegistry.get("hikaricp.connections.timeout").tag("pool", "reporting").counter().count()).isEqualTo(1);
+        assertThat(meterRegistry.get("hikaricp.connections.timeout").tag("pool", "transfer").counter().count()).isZero();
+        assertThat(meterRegistry.get("hikaricp.connections.pending").tag("pool", "transfer").gauge().value()).isZero();
+    }
+
+    @Test
+    @DisplayName("Success: The workload is restored after an annotated method fails")
+    void failingMethod_RestoresWorkload() {
+        // When & Then
+        assertThatThrownBy(() -> client.failingReport()).isInstanceOf(IllegalStateException.class);
+        assertThat(WorkloadContext.current()).isEqualTo(Workload.INTERACTIVE);
+    }
+
+    @Test
+    @DisplayName("Success: Propagated tasks run under the submitter's workload on executor threads")
+    void propagate_CarriesWorkloadToExecutorThread() throws Exception {
+        // Given
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            // When
+            AtomicReference<String> propagated = new AtomicReference<>();
+            AtomicReference<String> plain = new AtomicReference<>();
+            WorkloadContext.run(Workload.REPORTING, () -> submit(executor, WorkloadContext.propagate(() -> propagated.set(nodeName()))));
+            submit(executor, () -> plain.set(nodeName()));
+
+            // Then
+            assertThat(propagated).hasValue("reporting");
+            assertThat(plain).hasValue("interactive");
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void submit(ExecutorService executor, Runnable task) {
+        try {
+            executor.submit(task).get();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private long transferAcquisitions() {
+        return meterRegistry.get("hikaricp.connections.acquire").tag("pool", "transfer").timer().count();
+    }
+
+    private String nodeName() {
+        return new JdbcTemplate(dataSource).queryForObject("SELECT name FROM node", String.class);
+    }
+
+    private Connection connection() {
+        try {
+            return dataSource.getConnection();
+        } catch (SQLException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private DataSource pool(String name) {
+        String url = "jdbc:h2:mem:" + name + "_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+        HikariDataSource pool = new HikariDataSource();
+        pool.setJdbcUrl(url);
+        pool.setPoolName(name);
+        pool.setMaximumPoolSize(1);
+        pool.setConnectionTimeout(250);
+        pool.setMetricRegistry(meterRegistry);
+        JdbcTemplate jdbc = new JdbcTemplate(pool);
+        jdbc.execute("CREATE TABLE node (name VARCHAR(20))");
+        jdbc.update("INSERT INTO node (name) VALUES (?)", name);
+        return pool;
+    }
+
+    static class PoolClient {
+
+        private final DataSource dataSource;
+
+        PoolClient(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        @WorkloadPool(Workload.TRANSFER)
+        public String transfer() throws SQLException {
+            return nodeName();
+        }
+
+        @WorkloadPool(Workload.REPORTING)
+        public String report() throws SQLException {
+            return nodeName();
+        }
+
+        @WorkloadPool(Workload.REPORTING)
+        public String failingReport() {
+            throw new IllegalStateException("Report failed");
+        }
+
+        public String unannotated() throws SQLException {
+            return nodeName();
+        }
+
+        private String nodeName() throws SQLException {
+            try (Connection connection = dataSource.getConnection();
+                 var statement = connection.createStatement();
+                 var result = statement.executeQuery("SELECT name FROM node")) {
+                result.next();
+                return result.getString(1);
+            }
+        }
+    }
+}
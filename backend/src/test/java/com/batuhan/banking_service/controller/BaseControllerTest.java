@@ -48,6 +48,15 @@ public abstract class BaseControllerTest {
     @MockitoBean
     protected ExcelService excelService;
 
+    @MockitoBean
+    protected TransactionExportService transactionExportService;
+
+    @MockitoBean
+    protected ExportJobService exportJobService;
+
+    @MockitoBean
+    protected BulkOnboardingService bulkOnboardingService;
+
     // --- RESILIENCE4J MOCKS ---
     @MockitoBean
     protected RateLimiterRegistry rateLimiterRegistry;
@@ -4,19 +4,40 @@ import com.batuhan.banking_service.TestDataFactory;
 import com.batuhan.banking_service.config.SecurityConfig;
 import com.batuhan.banking_service.controller.BaseControllerTest;
 import com.batuhan.banking_service.controller.TransactionController;
+import com.batuhan.banking_service.dto.response.DashboardResponse;
+import com.batuhan.banking_service.dto.response.ExportJobResponse;
+import com.batuhan.banking_service.dto.response.TransactionSearchResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.entity.enums.ExportJobStatus;
+import com.batuhan.banking_service.service.export.ExportJobFile;
+import org.apache.catalina.Globals;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
 import org.springframework.security.test.context.support.WithMockUser;
 
 import java.io.ByteArrayInputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
-import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 /**
@@ -57,20 +78,240 @@ class TransactionAnalyticsTest extends BaseControllerTest {
     }
 
     @Test
-    @DisplayName("Export Excel - Success")
+    @DisplayName("Composite Dashboard - Success")
+    void getDashboard_Success() throws Exception {
+        // Given
+        String iban = TestDataFactory.VALID_IBAN;
+        DashboardResponse dashboard = new DashboardResponse(
+                TestDataFactory.createTransactionSummaryDTO(), List.of(), List.of(), List.of("categories"));
+
+        // When
+        when(transactionService.getDashboard(iban)).thenReturn(dashboard);
+
+        // Then
+        mockMvc.perform(get(BASE_PATH + "/dashboard/{iban}", iban))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.summary.transactionCount").value(5))
+                .andExpect(jsonPath("$.data.unavailableSections[0]").value("categories"));
+    }
+
+    @Test
+    @DisplayName("Export Excel - Streams workbook and releases bulkhead permit")
     void exportExcel_Success() throws Exception {
         // Given
         String iban = TestDataFactory.VALID_IBAN;
         byte[] mockContent = "data".getBytes();
+        Bulkhead bulkhead = Bulkhead.of("excelBulkhead", BulkheadConfig.custom().maxConcurrentCalls(1).build());
 
         // When
-        when(bankingBusinessValidator.isAccountOwner(anyString())).thenReturn(true);
-        when(excelService.transactionsToExcel(any())).thenReturn(new ByteArrayInputStream(mockContent));
+        when(bulkheadRegistry.bulkhead("excelBulkhead")).thenReturn(bulkhead);
+        when(transactionExportService.exportTransactions(eq(iban), eq(ExportFormat.EXCEL), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(2, OutputStream.class).write(mockContent);
+                    return 1L;
+                });
+
+        var result = mockMvc.perform(get(BASE_PATH + "/download/excel").param("iban", iban))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().exists(HttpHeaders.CONTENT_DISPOSITION))
+                .andExpect(content().bytes(mockContent));
+        verify(transactionExportService).exportTransactions(eq(iban), eq(ExportFormat.EXCEL), any(OutputStream.class));
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Export CSV - Gzip encoded when accepted")
+    void exportCsv_Gzip_Success() throws Exception {
+        // Given
+        String iban = TestDataFactory.VALID_IBAN;
+        byte[] csv = "reference_number\r\nREF-1\r\n".getBytes();
+
+        // When
+        when(bulkheadRegistry.bulkhead("exportBulkhead")).thenReturn(Bulkhead.ofDefaults("exportBulkhead"));
+        when(transactionExportService.exportTransactions(eq(iban), eq(ExportFormat.CSV), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(2, OutputStream.class).write(csv);
+                    return 1L;
+                });
+
+        var result = mockMvc.perform(get(BASE_PATH + "/download/csv").param("iban", iban)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "br;q=1.0, gzip;q=0.8"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        byte[] body = mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.CONTENT_TYPE, "text/csv"))
+                .andReturn().getResponse().getContentAsByteArray();
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            assertThat(in.readAllBytes()).isEqualTo(csv);
+        }
+    }
+
+    @Test
+    @DisplayName("Export NDJSON - Identity encoding when gzip is refused")
+    void exportNdjson_Identity_Success() throws Exception {
+        // Given
+        String iban = TestDataFactory.VALID_IBAN;
+        byte[] ndjson = "{\"referenceNumber\":\"REF-1\"}\n".getBytes();
+
+        // When
+        when(bulkheadRegistry.bulkhead("exportBulkhead")).thenReturn(Bulkhead.ofDefaults("exportBulkhead"));
+        when(transactionExportService.exportTransactions(eq(iban), eq(ExportFormat.NDJSON), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(2, OutputStream.class).write(ndjson);
+                    return 1L;
+                });
+
+        var result = mockMvc.perform(get(BASE_PATH + "/download/ndjson").param("iban", iban)
+                        .header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().bytes(ndjson));
+    }
+
+    @Test
+    @DisplayName("Export Excel - Failed export still releases bulkhead permit")
+    void exportExcel_Failure_ReleasesPermit() throws Exception {
+        // Given
+        String iban = TestDataFactory.VALID_IBAN;
+        Bulkhead bulkhead = Bulkhead.of("excelBulkhead", BulkheadConfig.custom().maxConcurrentCalls(1).build());
+
+        // When
+        when(bulkheadRegistry.bulkhead("excelBulkhead")).thenReturn(bulkhead);
+        when(transactionExportService.exportTransactions(eq(iban), eq(ExportFormat.EXCEL), any(OutputStream.class)))
+                .thenThrow(new IllegalStateException("Connection reset"));
+
+        var result = mockMvc.perform(get(BASE_PATH + "/download/excel").param("iban", iban))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        mockMvc.perform(asyncDispatch(result));
+
+        // Then
+        assertThat(bulkhead.getMetrics().getAvailableConcurrentCalls()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Export Excel - Bulkhead Full (503)")
+    void exportExcel_BulkheadFull() throws Exception {
+        // Given
+        String iban = TestDataFactory.VALID_IBAN;
+        Bulkhead bulkhead = Bulkhead.of("excelBulkhead", BulkheadConfig.custom()
+                .maxConcurrentCalls(1).maxWaitDuration(Duration.ZERO).build());
+        bulkhead.acquirePermission();
+
+        // When
+        when(bulkheadRegistry.bulkhead("excelBulkhead")).thenReturn(bulkhead);
 
         // Then
         mockMvc.perform(get(BASE_PATH + "/download/excel").param("iban", iban))
+                .andExpect(status().isServiceUnavailable());
+        verifyNoInteractions(transactionExportService);
+    }
+
+    @Test
+    @DisplayName("Export Job - Submit returns 202 with status location")
+    void submitExportJob_Accepted() throws Exception {
+        // Given
+        String iban = TestDataFactory.VALID_IBAN;
+        UUID jobId = UUID.randomUUID();
+        ExportJobResponse job = new ExportJobResponse(jobId, iban, ExportFormat.NDJSON, ExportJobStatus.QUEUED,
+                null, null, LocalDateTime.now(), null, null, null);
+
+        // When
+        when(exportJobService.submitExport(iban, ExportFormat.NDJSON)).thenReturn(job);
+
+        // Then
+        mockMvc.perform(post(BASE_PATH + "/export-jobs").param("iban", iban).param("format", "NDJSON"))
+                .andExpect(status().isAccepted())
+                .andExpect(header().string(HttpHeaders.LOCATION, BASE_PATH + "/export-jobs/" + jobId))
+                .andExpect(jsonPath("$.data.status").value("QUEUED"));
+    }
+
+    @Test
+    @DisplayName("Export Job - Download copies the staged file via transferTo")
+    void downloadExportJob_TransferTo(@TempDir Path dir) throws Exception {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        byte[] content = "reference_number\r\nREF-1\r\n".getBytes();
+        Path staged = Files.write(dir.resolve(jobId + ".csv"), content);
+        Runnable release = mock(Runnable.class);
+
+        // When
+        when(exportJobService.getExportFile(jobId))
+                .thenReturn(new ExportJobFile(staged, "transactions.csv", ExportFormat.CSV, content.length, release));
+
+        var result = mockMvc.perform(get(BASE_PATH + "/export-jobs/{jobId}/download", jobId))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, content.length))
+                .andExpect(content().bytes(content));
+        verify(release).run();
+    }
+
+    @Test
+    @DisplayName("Export Job - Download delegates to container sendfile when supported")
+    void downloadExportJob_Sendfile(@TempDir Path dir) throws Exception {
+        // Given
+        UUID jobId = UUID.randomUUID();
+        Path staged = Files.write(dir.resolve(jobId + ".csv"), new byte[128]);
+
+        // When
+        when(exportJobService.getExportFile(jobId))
+                .thenReturn(new ExportJobFile(staged, "transactions.csv", ExportFormat.CSV, 128, () -> { }));
+
+        // Then
+        mockMvc.perform(get(BASE_PATH + "/export-jobs/{jobId}/download", jobId)
+                        .requestAttr(Globals.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE))
+                .andExpect(status().isOk())
+                .andExpect(request().attribute(Globals.SENDFILE_FILENAME_ATTR, staged.toAbsolutePath().toString()))
+                .andExpect(request().attribute(Globals.SENDFILE_FILE_END_ATTR, 128L))
+                .andExpect(header().longValue(HttpHeaders.CONTENT_LENGTH, 128));
+    }
+
+    @Test
+    @DisplayName("GET /search - Returns ranked items and the next cursor")
+    void searchTransactions_Success() throws Exception {
+        // Given
+        String iban = TestDataFactory.VALID_IBAN;
+        var hit = TestDataFactory.createTransactionResponse();
+
+        // When
+        when(transactionService.searchTransactions(iban, "rent", null, null, null, null, null, 20))
+                .thenReturn(new TransactionSearchResponse(List.of(hit), "next-token"));
+
+        // Then
+        mockMvc.perform(get(BASE_PATH + "/search")
+                        .param("iban", iban)
+                        .param("q", "rent"))
                 .andExpect(status().isOk())
-                .andExpect(header().exists(HttpHeaders.CONTENT_DISPOSITION));
+                .andExpect(jsonPath("$.data.items[0].referenceNumber").value(hit.referenceNumber()))
+                .andExpect(jsonPath("$.data.nextCursor").value("next-token"));
+    }
+
+    @Test
+    @DisplayName("GET /search - Missing query parameter (400)")
+    void searchTransactions_MissingQuery() throws Exception {
+        // When & Then
+        mockMvc.perform(get(BASE_PATH + "/search")
+                        .param("iban", TestDataFactory.VALID_IBAN))
+                .andExpect(status().isBadRequest());
     }
 
     @Test
@@ -2,6 +2,7 @@ package com.batuhan.banking_service.controller.transaction;
 
 import com.batuhan.banking_service.TestDataFactory;
 import com.batuhan.banking_service.config.SecurityConfig;
+import com.batuhan.banking_service.constant.Messages;
 import com.batuhan.banking_service.controller.BaseControllerTest;
 import com.batuhan.banking_service.controller.TransactionController;
 import com.batuhan.banking_service.dto.request.TransactionRequest;
@@ -14,12 +15,14 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
+import org.springframework.dao.CannotAcquireLockException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.math.BigDecimal;
+import java.sql.SQLException;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.*;
@@ -125,6 +128,54 @@ class TransactionCoreTest extends BaseControllerTest {
                 .andExpect(jsonPath("$.message").value("Insufficient balance"));
     }
 
+    @Test
+    @DisplayName("POST /transfer - Deadlock Victim (409)")
+    void transferMoney_Deadlock() throws Exception {
+        // Given
+        TransactionRequest request = TestDataFactory.createTransactionRequest(
+                TestDataFactory.VALID_IBAN,
+                TestDataFactory.OTHER_VALID_IBAN,
+                BigDecimal.TEN
+        );
+
+        // When
+        when(transactionService.transferMoney(any())).thenThrow(new CannotAcquireLockException("could not execute statement",
+                new SQLException("deadlock detected", "40P01")));
+
+        // Then
+        mockMvc.perform(post(BASE_PATH + "/transfer")
+                        .with(csrf())
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_USER")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(Messages.LOCK_DEADLOCK));
+    }
+
+    @Test
+    @DisplayName("POST /transfer - Lock Timeout (409)")
+    void transferMoney_LockTimeout() throws Exception {
+        // Given
+        TransactionRequest request = TestDataFactory.createTransactionRequest(
+                TestDataFactory.VALID_IBAN,
+                TestDataFactory.OTHER_VALID_IBAN,
+                BigDecimal.TEN
+        );
+
+        // When
+        when(transactionService.transferMoney(any())).thenThrow(new CannotAcquireLockException("could not execute statement",
+                new SQLException("canceling statement due to lock timeout", "55P03")));
+
+        // Then
+        mockMvc.perform(post(BASE_PATH + "/transfer")
+                        .with(csrf())
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_USER")))
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(request)))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message").value(Messages.LOCK_TIMEOUT));
+    }
+
     @Test
     @DisplayName("Get History - Success")
     void getHistory_Success() throws Exception {
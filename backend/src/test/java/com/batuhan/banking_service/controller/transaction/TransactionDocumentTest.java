@@ -4,9 +4,12 @@ import com.batuhan.banking_service.config.SecurityConfig;
 import com.batuhan.banking_service.controller.BaseControllerTest;
 import com.batuhan.banking_service.controller.TransactionController;
 import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.service.receipt.ReceiptDocument;
+import org.apache.catalina.Globals;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.context.annotation.Import;
 import org.springframework.http.HttpHeaders;
@@ -14,11 +17,18 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.web.servlet.MvcResult;
 
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -33,6 +43,8 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 @DisplayName("Transaction - Document Operations")
 class TransactionDocumentTest extends BaseControllerTest {
 
+    private static final String RECEIPT_ETAG = "\"5d41402abc4b2a76b9719d911017c592\"";
+
     @BeforeEach
     void setUp() {
         // Given
@@ -50,15 +62,95 @@ class TransactionDocumentTest extends BaseControllerTest {
         byte[] content = "PDF_CONTENT".getBytes();
 
         // When
-        when(transactionService.generateTransactionReceipt(transactionId)).thenReturn(content);
+        when(transactionService.generateTransactionReceipt(transactionId))
+                .thenReturn(ReceiptDocument.streamed("receipt_1.pdf", out -> out.write(content)));
 
-        // Then
-        mockMvc.perform(get("/api/v1/transactions/receipt/{id}", transactionId)
+        MvcResult result = mockMvc.perform(get("/api/v1/transactions/receipt/{id}", transactionId)
                         .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
                         .accept(MediaType.APPLICATION_PDF))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
                 .andExpect(status().isOk())
                 .andExpect(header().string(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_PDF_VALUE))
+                .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+                .andExpect(content().bytes(content));
+    }
+
+    @Test
+    @DisplayName("GET /receipt/{id} - Cached receipt is served from disk with a strong ETag and released when done")
+    void downloadReceipt_Cached_Success(@TempDir Path tempDir) throws Exception {
+        // Given
+        Long transactionId = 2L;
+        byte[] content = "CACHED_PDF".getBytes();
+        Path file = Files.write(tempDir.resolve("receipt.pdf"), content);
+        AtomicInteger releases = new AtomicInteger();
+
+        // When
+        when(transactionService.generateTransactionReceipt(transactionId))
+                .thenReturn(ReceiptDocument.cached("receipt_2.pdf", RECEIPT_ETAG, file, content.length, releases::incrementAndGet));
+
+        MvcResult result = mockMvc.perform(get("/api/v1/transactions/receipt/{id}", transactionId)
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, RECEIPT_ETAG))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, private"))
+                .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(content.length)))
                 .andExpect(content().bytes(content));
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("GET /receipt/{id} - Cached receipt is handed to the container's sendfile and released with the request")
+    void downloadReceipt_Cached_Sendfile(@TempDir Path tempDir) throws Exception {
+        // Given
+        Long transactionId = 2L;
+        Path file = Files.write(tempDir.resolve("receipt.pdf"), "CACHED_PDF".getBytes());
+        AtomicInteger releases = new AtomicInteger();
+
+        // When
+        when(transactionService.generateTransactionReceipt(transactionId))
+                .thenReturn(ReceiptDocument.cached("receipt_2.pdf", RECEIPT_ETAG, file, 10, releases::incrementAndGet));
+
+        // Then
+        mockMvc.perform(get("/api/v1/transactions/receipt/{id}", transactionId)
+                        .requestAttr(Globals.SENDFILE_SUPPORTED_ATTR, Boolean.TRUE)
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(request().asyncNotStarted())
+                .andExpect(status().isOk())
+                .andExpect(request().attribute(Globals.SENDFILE_FILENAME_ATTR, file.toAbsolutePath().toString()))
+                .andExpect(request().attribute(Globals.SENDFILE_FILE_END_ATTR, 10L))
+                .andExpect(header().string(HttpHeaders.ETAG, RECEIPT_ETAG));
+        assertThat(releases).hasValue(1);
+    }
+
+    @Test
+    @DisplayName("GET /receipt/{id} - Not Modified (304) when If-None-Match matches")
+    void downloadReceipt_NotModified() throws Exception {
+        // Given
+        Long transactionId = 2L;
+
+        AtomicInteger releases = new AtomicInteger();
+
+        // When
+        when(transactionService.generateTransactionReceipt(transactionId))
+                .thenReturn(ReceiptDocument.cached("receipt_2.pdf", RECEIPT_ETAG, Path.of("unused.pdf"), 10, releases::incrementAndGet));
+
+        // Then
+        mockMvc.perform(get("/api/v1/transactions/receipt/{id}", transactionId)
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                        .header(HttpHeaders.IF_NONE_MATCH, RECEIPT_ETAG))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, RECEIPT_ETAG))
+                .andExpect(content().bytes(new byte[0]));
+        assertThat(releases).hasValue(1);
     }
 
     @Test
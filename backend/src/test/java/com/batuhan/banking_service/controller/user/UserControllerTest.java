@@ -6,7 +6,9 @@ import com.batuhan.banking_service.controller.BaseControllerTest;
 import com.batuhan.banking_service.controller.UserController;
 import com.batuhan.banking_service.dto.request.UserCreateRequest;
 import com.batuhan.banking_service.dto.request.UserUpdateRequest;
+import com.batuhan.banking_service.dto.response.BulkOnboardingResponse;
 import com.batuhan.banking_service.dto.response.UserResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
 import io.github.resilience4j.ratelimiter.RateLimiter;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -190,4 +192,44 @@ class UserControllerTest extends BaseControllerTest {
                     .andExpect(status().isOk());
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("5. Bulk Onboarding (POST /import)")
+    class BulkOnboardingTests {
+
+        @Test
+        @DisplayName("Success: Admin can import an NDJSON file and gets the row report")
+        void importUsers_AsAdmin_ReturnsReport() throws Exception {
+            // Given
+            BulkOnboardingResponse report = new BulkOnboardingResponse(2, 1, 1, 5,
+                    List.of(new BulkOnboardingResponse.RowError(2, "tckn", "Invalid TCKN")), false);
+
+            // When
+            when(bulkOnboardingService.importCustomers(any(), eq(ExportFormat.NDJSON))).thenReturn(report);
+
+            // Then
+            mockMvc.perform(post(BASE_URL + "/import")
+                            .with(csrf())
+                            .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN")))
+                            .contentType("application/x-ndjson")
+                            .content("{}\n{}\n"))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data.imported").value(1))
+                    .andExpect(jsonPath("$.data.errors[0].field").value("tckn"));
+        }
+
+        @Test
+        @DisplayName("Failure: Regular user cannot bulk import users (403)")
+        void importUsers_AsUser_ReturnsForbidden() throws Exception {
+            // Then
+            mockMvc.perform(post(BASE_URL + "/import")
+                            .with(csrf())
+                            .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_USER")))
+                            .contentType("text/csv")
+                            .content("first_name\r\n"))
+                    .andExpect(status().isForbidden());
+
+            verifyNoInteractions(bulkOnboardingService);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.batuhan.banking_service.repository;
+
+import com.batuhan.banking_service.entity.UserEntity;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.function.Supplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Integration tests for the Hibernate second-level cache, which the shared test configuration switches off.
+ * Every repository call commits in its own transaction here, so the cache is populated exactly as in production.
+ */
+@DisplayName("Second-Level Cache - Integration Tests")
+@TestPropertySource(properties = {
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=true"
+})
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class SecondLevelCacheIntegrationTest extends BaseIntegrationTest {
+
+    private static final String IBAN = "TR330006100519786457841326";
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        clearDatabase();
+    }
+
+    @Test
+    @DisplayName("Success: A warm customer number lookup is served from the query and entity caches without SQL")
+    void findByCustomerNumber_Warm_RunsNoSql() {
+        // Given
+        UserEntity user = saveTestUser();
+        userRepository.findByCustomerNumber(user.getCustomerNumber());
+
+        // When
+        long statements = countStatements(() -> userRepository.findByCustomerNumber(user.getCustomerNumber()))
+                .statements();
+        String email = userRepository.findByCustomerNumber(user.getCustomerNumber()).orElseThrow().getEmail();
+
+        // Then
+        assertThat(statements).isZero();
+        assertThat(email).isEqualTo(user.getEmail());
+        assertThat(statistics.getQueryRegionStatistics("user-by-customer-number").getHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Success: A warm IBAN lookup resolves the account and its holder without SQL")
+    void loadByIban_Warm_RunsNoSql() {
+        // Given
+        UserEntity user = createAndSaveAccount(IBAN, "250.00").getUser();
+        holderEmail(IBAN);
+
+        // When
+        Counted<String> email = countStatements(() -> holderEmail(IBAN));
+
+        // Then
+        assertThat(email.result()).isEqualTo(user.getEmail());
+        assertThat(email.statements()).isZero();
+        assertThat(statistics.getNaturalIdStatistics(
+                "com.batuhan.banking_service.entity.AccountEntity").getCacheHitCount()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Success: A committed update replaces the cached entry instead of serving stale data")
+    void update_ReplacesCachedEntity() {
+        // Given
+        UserEntity user = saveTestUser();
+        userRepository.findById(user.getId());
+
+        // When
+        transactionTemplate.executeWithoutResult(status ->
+                userRepository.findById(user.getId()).orElseThrow().setFirstName("Renamed"));
+        Counted<String> firstName = countStatements(() -> userRepository.findById(user.getId()).orElseThrow().getFirstName());
+
+        // Then
+        assertThat(firstName.result()).isEqualTo("Renamed");
+        assertThat(firstName.statements()).isZero();
+    }
+
+    @Test
+    @DisplayName("Success: Per-region hit and miss counts are exported to Micrometer")
+    void metrics_ExposeRegionHitsAndMisses() {
+        // Given
+        UserEntity user = saveTestUser();
+        entityManagerFactory.getCache().evictAll();
+
+        // When
+        userRepository.findById(user.getId());
+        userRepository.findById(user.getId());
+
+        // Then
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "users").tag("result", "miss").functionCounter().count()).isPositive();
+        assertThat(meterRegistry.get("hibernate.second.level.cache.requests")
+                .tag("region", "users").tag("result", "hit").functionCounter().count()).isPositive();
+    }
+
+    private String holderEmail(String iban) {
+        return transactionTemplate.execute(status -> accountRepository.loadByIban(iban)
+                .map(account -> account.getUser().getEmail())
+                .orElseThrow());
+    }
+
+    private <T> Counted<T> countStatements(Supplier<T> work) {
+        statistics.clear();
+        T result = work.get();
+        return new Counted<>(result, statistics.getPrepareStatementCount());
+    }
+
+    private record Counted<T>(T result, long statements) {
+    }
+}
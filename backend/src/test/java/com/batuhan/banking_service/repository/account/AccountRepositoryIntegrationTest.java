@@ -1,9 +1,11 @@
 package com.batuhan.banking_service.repository.account;
 
+import com.batuhan.banking_service.dto.common.StatementAccountDTO;
 import com.batuhan.banking_service.entity.AccountEntity;
 import com.batuhan.banking_service.repository.BaseIntegrationTest;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Limit;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
@@ -84,4 +86,25 @@ class AccountRepositoryIntegrationTest extends BaseIntegrationTest {
         assertThat(accounts).isNotEmpty();
         assertThat(accounts.get(0).getUser().getCustomerNumber()).isEqualTo(customerNo);
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("Should page through active accounts by id for batch jobs")
+    void findActiveStatementAccounts_KeysetPaging() {
+        // Given
+        AccountEntity first = createAndSaveAccount("TR-STMT-TEST-1", "100.00");
+        AccountEntity closed = createAndSaveAccount("TR-STMT-TEST-2", "0.00");
+        closed.setActive(false);
+        AccountEntity third = createAndSaveAccount("TR-STMT-TEST-3", "300.00");
+        accountRepository.flush();
+
+        // When
+        List<StatementAccountDTO> firstPage = accountRepository.findActiveStatementAccounts(first.getId() - 1, Limit.of(1));
+        List<StatementAccountDTO> secondPage = accountRepository.findActiveStatementAccounts(
+                firstPage.get(0).accountId(), Limit.of(10));
+
+        // Then
+        assertThat(firstPage).extracting(StatementAccountDTO::iban).containsExactly("TR-STMT-TEST-1");
+        assertThat(firstPage.get(0).firstName()).isEqualTo(first.getUser().getFirstName());
+        assertThat(secondPage).extracting(StatementAccountDTO::accountId).containsExactly(third.getId());
+    }
+}
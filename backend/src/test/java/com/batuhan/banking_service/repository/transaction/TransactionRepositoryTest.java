@@ -1,22 +1,37 @@
 package com.batuhan.banking_service.repository.transaction;
 
 import com.batuhan.banking_service.TestDataFactory;
+import com.batuhan.banking_service.dto.common.StatementLineDTO;
 import com.batuhan.banking_service.dto.common.TransactionSummaryDTO;
 import com.batuhan.banking_service.dto.common.WeeklyTrendDTO;
+import com.batuhan.banking_service.dto.response.TransactionResponse;
 import com.batuhan.banking_service.entity.AccountEntity;
 import com.batuhan.banking_service.entity.TransactionEntity;
+import com.batuhan.banking_service.entity.enums.TransactionCategory;
 import com.batuhan.banking_service.repository.BaseIntegrationTest;
 import com.batuhan.banking_service.repository.specification.TransactionSpecifications;
+import com.batuhan.banking_service.repository.specification.TransactionTextSearch;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Hibernate;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.stream.Stream;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -28,6 +43,9 @@ import static org.assertj.core.api.Assertions.assertThat;
 @DisplayName("Transaction Repository & Specification Integration Tests")
 class TransactionRepositoryTest extends BaseIntegrationTest {
 
+    @Autowired
+    private EntityManager entityManager;
+
     private AccountEntity senderAccount;
     private AccountEntity receiverAccount;
     private final LocalDateTime now = LocalDateTime.now().withNano(0);
@@ -46,6 +64,7 @@ class TransactionRepositoryTest extends BaseIntegrationTest {
     private void prepareTestData() {
         TransactionEntity t1 = TestDataFactory.createTransactionEntity(senderAccount, receiverAccount, new BigDecimal("200.00"));
         t1.setDescription("Market");
+        t1.setCategory(TransactionCategory.SHOPPING);
 
         TransactionEntity t2 = TestDataFactory.createTransactionEntity(receiverAccount, senderAccount, new BigDecimal("150.00"));
         t2.setDescription("Refund");
@@ -94,6 +113,232 @@ class TransactionRepositoryTest extends BaseIntegrationTest {
             assertThat(summary.totalReceived()).isEqualByComparingTo(new BigDecimal("150.00"));
             assertThat(summary.transactionCount()).isEqualTo(3L);
         }
+
+        @Test
+        @DisplayName("Category: Totals grouped by stored category, uncategorized rows kept apart")
+        @Transactional(readOnly = true)
+        void shouldGroupTotalsByStoredCategory() {
+            // When
+            List<Object[]> categorized = transactionRepository.getCategoryTotals(senderAccount.getIban());
+            List<Object[]> uncategorized = transactionRepository.getRawCategoryData(senderAccount.getIban());
+
+            // Then
+            assertThat(categorized).hasSize(1);
+            assertThat(categorized.get(0)[0]).isEqualTo(TransactionCategory.SHOPPING);
+            assertThat((BigDecimal) categorized.get(0)[1]).isEqualByComparingTo(new BigDecimal("200.00"));
+
+            assertThat(uncategorized).hasSize(1);
+            assertThat(uncategorized.get(0)[0]).isEqualTo("OldRent");
+        }
+
+        @Test
+        @DisplayName("Export Cursor: Streams projected rows newest first in a single statement")
+        @Transactional(readOnly = true)
+        void shouldStreamAllTransactionsForExport() {
+            // When
+            List<TransactionResponse> streamed = new ArrayList<>();
+            long statements = countStatements(() -> {
+                try (Stream<TransactionResponse> rows = transactionRepository.streamResponsesByIban(senderAccount.getIban())) {
+                    rows.forEach(streamed::add);
+                }
+            });
+
+            // Then
+            assertThat(streamed).extracting(TransactionResponse::description)
+                    .containsExactly("Market", "Refund", "OldRent");
+            assertThat(streamed.get(0).receiverName()).isEqualTo(fullName(receiverAccount));
+            assertThat(statements).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Statement: Lists both directions inside the period in booking order")
+        @Transactional(readOnly = true)
+        void shouldListStatementLinesForPeriod() {
+            // Given
+            LocalDateTime from = now.minusDays(7);
+            LocalDateTime to = now.plusDays(1);
+
+            // When
+            List<StatementLineDTO> lines = transactionRepository.findStatementLines(senderAccount.getId(), from, to);
+
+            // Then
+            assertThat(lines).extracting(StatementLineDTO::description).containsExactly("Refund", "Market");
+            assertThat(lines.get(0).receiverIban()).isEqualTo(senderAccount.getIban());
+            assertThat(lines.get(1).senderIban()).isEqualTo(senderAccount.getIban());
+        }
+
+        @Test
+        @DisplayName("Receipt: Loads the transaction with both accounts and owners in one query")
+        @Transactional(readOnly = true)
+        void shouldFetchReceiptGraphInOneQuery() {
+            // Given
+            Long id = transactionRepository.findAll().get(0).getId();
+            entityManager.clear();
+
+            // When
+            TransactionEntity receipt = transactionRepository.findReceiptById(id).orElseThrow();
+
+            // Then
+            assertThat(Hibernate.isInitialized(receipt.getSenderAccount().getUser())).isTrue();
+            assertThat(Hibernate.isInitialized(receipt.getReceiverAccount().getUser())).isTrue();
+            assertThat(transactionRepository.findReceiptById(-1L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("Projection Query Tests")
+    class ProjectionTests {
+
+        @Test
+        @DisplayName("History: A page costs one select and one count, with holder names joined in")
+        @Transactional(readOnly = true)
+        void shouldProjectHistoryPageWithoutLazyLoads() {
+            // Given
+            Pageable pageable = PageRequest.of(0, 2, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+            // When
+            List<Page<TransactionResponse>> pages = new ArrayList<>();
+            long statements = countStatements(() ->
+                    pages.add(transactionRepository.findResponsesByIban(senderAccount.getIban(), pageable)));
+
+            // Then
+            Page<TransactionResponse> page = pages.get(0);
+            assertThat(page.getTotalElements()).isEqualTo(3);
+            assertThat(page.getContent()).extracting(TransactionResponse::description).containsExactly("Market", "Refund");
+            assertThat(page.getContent().get(0).senderName()).isEqualTo(fullName(senderAccount));
+            assertThat(page.getContent().get(1).senderIban()).isEqualTo(receiverAccount.getIban());
+            assertThat(statements).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("Filter: Specifications are honored and a page costs one select and one count")
+        @Transactional(readOnly = true)
+        void shouldProjectFilteredPageWithoutLazyLoads() {
+            // Given
+            Specification<TransactionEntity> spec = Specification.where(TransactionSpecifications.hasIban(senderAccount.getIban()))
+                    .and(TransactionSpecifications.amountBetween(new BigDecimal("100.00"), new BigDecimal("300.00")));
+            Pageable pageable = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+            // When
+            List<Page<TransactionResponse>> pages = new ArrayList<>();
+            long statements = countStatements(() -> pages.add(transactionRepository.findResponses(spec, pageable)));
+
+            // Then
+            Page<TransactionResponse> page = pages.get(0);
+            assertThat(page.getTotalElements()).isEqualTo(2);
+            assertThat(page.getContent()).singleElement().satisfies(row -> {
+                assertThat(row.description()).isEqualTo("Market");
+                assertThat(row.senderName()).isEqualTo(fullName(senderAccount));
+                assertThat(row.receiverName()).isEqualTo(fullName(receiverAccount));
+            });
+            assertThat(statements).isEqualTo(2);
+        }
+
+        @Test
+        @DisplayName("List: Unpaged specification reads run as a single statement")
+        @Transactional(readOnly = true)
+        void shouldProjectFullListInOneStatement() {
+            // When
+            List<TransactionResponse> rows = new ArrayList<>();
+            long statements = countStatements(() -> rows.addAll(transactionRepository.findResponses(
+                    TransactionSpecifications.hasIban(receiverAccount.getIban()), Sort.by("amount"))));
+
+            // Then
+            assertThat(rows).extracting(TransactionResponse::amount)
+                    .usingElementComparator(BigDecimal::compareTo)
+                    .containsExactly(new BigDecimal("150.00"), new BigDecimal("200.00"), new BigDecimal("500.00"));
+            assertThat(statements).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("Text Search Tests")
+    class TextSearchTests {
+
+        @Test
+        @DisplayName("Search: Description prefix hits rank above plain substring hits")
+        @Transactional(readOnly = true)
+        void shouldRankDescriptionPrefixFirst() {
+            // Given
+            TransactionEntity rent = TestDataFactory.createTransactionEntity(senderAccount, receiverAccount, new BigDecimal("900.00"));
+            rent.setDescription("Rent October");
+            transactionRepository.saveAndFlush(rent);
+            updateCreatedAt("transactions", "Rent October", now.minusDays(20));
+            TransactionTextSearch search = TransactionTextSearch.of(senderAccount.getIban(), "RENT");
+
+            // When
+            List<TransactionTextSearch.Hit> hits = transactionRepository.search(searchSpec(search), search, null, 10);
+
+            // Then
+            assertThat(hits).extracting(hit -> hit.transaction().description()).containsExactly("Rent October", "OldRent");
+            assertThat(hits.get(0).position().score()).isGreaterThan(hits.get(1).position().score());
+        }
+
+        @Test
+        @DisplayName("Search: Matches the counterparty's name, never the searching account holder's own")
+        @Transactional(readOnly = true)
+        void shouldMatchCounterpartyName() {
+            // Given
+            renameReceiverHolder("Mehmet");
+
+            // When
+            TransactionTextSearch fromSender = TransactionTextSearch.of(senderAccount.getIban(), "mehmet");
+            TransactionTextSearch fromReceiver = TransactionTextSearch.of(receiverAccount.getIban(), "mehmet");
+
+            // Then
+            assertThat(transactionRepository.search(searchSpec(fromSender), fromSender, null, 10))
+                    .extracting(hit -> hit.transaction().description())
+                    .containsExactly("Market", "Refund", "OldRent");
+            assertThat(transactionRepository.search(searchSpec(fromReceiver), fromReceiver, null, 10)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("Search: Keyset cursor continues after the last row, one statement per page")
+        @Transactional(readOnly = true)
+        void shouldPageWithCursor() {
+            // Given
+            renameReceiverHolder("Mehmet");
+            TransactionTextSearch search = TransactionTextSearch.of(senderAccount.getIban(), "mehmet");
+
+            // When
+            List<TransactionTextSearch.Hit> firstPage = new ArrayList<>();
+            long statements = countStatements(() -> firstPage.addAll(transactionRepository.search(searchSpec(search), search, null, 2)));
+            TransactionTextSearch.Cursor cursor = TransactionTextSearch.Cursor.decode(firstPage.get(1).position().encode());
+            List<TransactionTextSearch.Hit> secondPage = transactionRepository.search(searchSpec(search), search, cursor, 2);
+
+            // Then
+            assertThat(firstPage).extracting(hit -> hit.transaction().description()).containsExactly("Market", "Refund");
+            assertThat(secondPage).extracting(hit -> hit.transaction().description()).containsExactly("OldRent");
+            assertThat(statements).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Search: Composes with the amount and date specifications")
+        @Transactional(readOnly = true)
+        void shouldComposeWithFilters() {
+            // Given
+            renameReceiverHolder("Mehmet");
+            TransactionTextSearch search = TransactionTextSearch.of(senderAccount.getIban(), "mehmet");
+            Specification<TransactionEntity> spec = searchSpec(search)
+                    .and(TransactionSpecifications.amountBetween(new BigDecimal("100.00"), new BigDecimal("300.00")))
+                    .and(TransactionSpecifications.dateBetween(now.minusDays(1).minusHours(1), null));
+
+            // When
+            List<TransactionTextSearch.Hit> hits = transactionRepository.search(spec, search, null, 10);
+
+            // Then
+            assertThat(hits).extracting(hit -> hit.transaction().description()).containsExactly("Market");
+            assertThat(hits.get(0).transaction().receiverName()).isEqualTo("Mehmet Test");
+        }
+
+        private Specification<TransactionEntity> searchSpec(TransactionTextSearch search) {
+            return Specification.where(TransactionSpecifications.hasIban(search.iban())).and(search.matches());
+        }
+
+        private void renameReceiverHolder(String firstName) {
+            receiverAccount.getUser().setFirstName(firstName);
+            userRepository.saveAndFlush(receiverAccount.getUser());
+        }
     }
 
     @Nested
@@ -118,4 +363,25 @@ class TransactionRepositoryTest extends BaseIntegrationTest {
                     .containsExactlyInAnyOrder("Market", "Refund");
         }
     }
-}
\ No newline at end of file
+
+    /**
+     * Runs {@code work} against a cleared persistence context and returns the number of JDBC statements it prepared.
+     */
+    private long countStatements(Runnable work) {
+        entityManager.clear();
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        boolean wasEnabled = statistics.isStatisticsEnabled();
+        statistics.setStatisticsEnabled(true);
+        statistics.clear();
+        try {
+            work.run();
+            return statistics.getPrepareStatementCount();
+        } finally {
+            statistics.setStatisticsEnabled(wasEnabled);
+        }
+    }
+
+    private static String fullName(AccountEntity account) {
+        return account.getUser().getFirstName() + " " + account.getUser().getLastName();
+    }
+}
@@ -15,25 +15,38 @@ import com.batuhan.banking_service.repository.TransactionRepository;
 import com.batuhan.banking_service.repository.UserRepository;
 import com.batuhan.banking_service.service.helper.AccountingManager;
 import com.batuhan.banking_service.service.helper.BankingBusinessValidator;
+import com.batuhan.banking_service.service.helper.IdentifierAllocator;
+import com.batuhan.banking_service.service.helper.ReadYourWritesWindow;
+import com.batuhan.banking_service.service.helper.ReferenceNumberGenerator;
+import com.batuhan.banking_service.service.helper.TransferMetrics;
+import com.batuhan.banking_service.service.helper.UniquenessFilters;
 import com.batuhan.banking_service.service.impl.TransactionAnalysisServiceImpl;
+import com.batuhan.banking_service.service.receipt.ReceiptRenderer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.core.task.SyncTaskExecutor;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.PlatformTransactionManager;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.function.Predicate;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
@@ -69,6 +82,25 @@ public abstract class BaseServiceTest {
     @Mock protected AuditService auditService;
     @Mock protected PdfService pdfService;
     @Mock protected RabbitMQProducer rabbitMQProducer;
+    @Mock protected ReceiptRenderer receiptRenderer;
+    @Mock protected ReadYourWritesWindow readYourWritesWindow;
+    @Mock protected IdentifierAllocator identifierAllocator;
+    @Mock protected UniquenessFilters uniquenessFilters;
+    @Spy protected ReferenceNumberGenerator referenceNumberGenerator = new ReferenceNumberGenerator();
+
+    // --- (METRICS) ---
+    protected final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    @Spy protected TransferMetrics transferMetrics = new TransferMetrics(meterRegistry, null);
+
+    // --- (EXECUTORS & TRANSACTIONS) ---
+    @Spy protected Executor dashboardTaskExecutor = new SyncTaskExecutor();
+    @Mock protected PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void passUniquenessChecksThrough() {
+        lenient().when(uniquenessFilters.exists(any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Predicate<String>>getArgument(2).test(invocation.getArgument(1)));
+    }
 
     @AfterEach
     void tearDown() {
@@ -115,7 +147,7 @@ public abstract class BaseServiceTest {
     }
 
     protected <T> void mockEmptyPage() {
-        lenient().when(transactionRepository.findAllByIban(anyString(), any(Pageable.class)))
+        lenient().when(transactionRepository.findResponsesByIban(anyString(), any(Pageable.class)))
                 .thenReturn(new PageImpl<>(Collections.emptyList()));
     }
 
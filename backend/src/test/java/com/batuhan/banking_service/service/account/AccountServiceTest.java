@@ -60,6 +60,7 @@ class AccountServiceTest extends BaseServiceTest {
             // When
             when(bankingBusinessValidator.validateAndGetCustomer(request.customerNumber())).thenReturn(user);
             when(accountMapper.toEntity(any())).thenReturn(accountEntity);
+            when(identifierAllocator.nextIban()).thenReturn(TestDataFactory.VALID_IBAN);
             when(accountRepository.save(any(AccountEntity.class))).thenReturn(accountEntity);
             when(accountMapper.toResponse(any())).thenReturn(mockResponse);
 
@@ -70,7 +71,9 @@ class AccountServiceTest extends BaseServiceTest {
                     () -> assertThat(response).isNotNull(),
                     () -> assertThat(response.iban()).isEqualTo("TR-MOCK-IBAN"),
                     () -> verify(accountRepository).save(any(AccountEntity.class)),
-                    () -> verify(bankingBusinessValidator).validateMaxAccountCount(user)
+                    () -> verify(bankingBusinessValidator).validateMaxAccountCount(user),
+                    () -> assertThat(accountEntity.getIban()).isEqualTo(TestDataFactory.VALID_IBAN),
+                    () -> verify(accountRepository, never()).existsByIban(anyString())
             );
         }
 
@@ -0,0 +1,137 @@
+package com.batuhan.banking_service.service.account;
+
+import com.batuhan.banking_service.service.helper.IdentifierAllocator;
+import com.batuhan.banking_service.validator.IbanCodec;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Identifier Allocator Tests
+ * - Runs the allocator against the real sequences of an in-memory H2 database, created as in the migration.
+ * - Verifies that numbers are unique and well-formed, and that one sequence call serves a whole block.
+ */
+@DisplayName("Service - Identifier Allocator Tests")
+class IdentifierAllocatorTest {
+
+    private static final int BLOCK_SIZE = 100;
+    private static final long SCRAMBLE_KEY = 7046029254386353131L;
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:identifiers_" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1;DATABASE_TO_LOWER=TRUE");
+        jdbcTemplate = spy(new JdbcTemplate(dataSource));
+        jdbcTemplate.execute("CREATE SEQUENCE account_number_seq START WITH 1 INCREMENT BY " + BLOCK_SIZE);
+        jdbcTemplate.execute("CREATE SEQUENCE customer_number_seq START WITH 1 INCREMENT BY " + BLOCK_SIZE);
+    }
+
+    @Test
+    @DisplayName("Success: Scrambled IBANs are valid, unique and cost one sequence call per block")
+    void nextIban_UniqueValidIbans_OneSequenceCallPerBlock() {
+        // Given
+        IdentifierAllocator allocator = new IdentifierAllocator(jdbcTemplate, SCRAMBLE_KEY);
+        int count = 20 * BLOCK_SIZE;
+
+        // When
+        Set<String> ibans = new HashSet<>();
+        for (int i = 0; i < count; i++) {
+            ibans.add(allocator.nextIban());
+        }
+
+        // Then
+        assertThat(ibans).hasSize(count);
+        assertThat(ibans).allSatisfy(iban -> {
+            assertThat(IbanCodec.isValid(iban)).as(iban).isTrue();
+            assertThat(iban).startsWith("TR").hasSize(26).contains("000620");
+        });
+        verify(jdbcTemplate, times(20)).queryForObject(contains("nextval('account_number_seq')"), eq(Long.class));
+        verify(jdbcTemplate, never()).queryForObject(contains("customer_number_seq"), eq(Long.class));
+    }
+
+    @Test
+    @DisplayName("Success: Scrambled customer numbers are unique, ten digits and never start with 0")
+    void nextCustomerNumber_UniqueTenDigitNumbers() {
+        // Given
+        IdentifierAllocator allocator = new IdentifierAllocator(jdbcTemplate, SCRAMBLE_KEY);
+        int count = 20 * BLOCK_SIZE;
+
+        // When
+        List<String> numbers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            numbers.add(allocator.nextCustomerNumber());
+        }
+
+        // Then
+        assertThat(numbers).doesNotHaveDuplicates();
+        assertThat(numbers).allMatch(number -> number.length() == 10 && number.charAt(0) != '0');
+        assertThat(numbers.subList(0, 3)).isNotEqualTo(List.of("1000000001", "1000000002", "1000000003"));
+    }
+
+    @Test
+    @DisplayName("Success: Without a scramble key numbers are issued in sequence order")
+    void zeroKey_IssuesSequentialNumbers() {
+        // Given
+        IdentifierAllocator allocator = new IdentifierAllocator(jdbcTemplate, 0);
+
+        // When
+        String firstIban = allocator.nextIban();
+        String secondIban = allocator.nextIban();
+        String customerNumber = allocator.nextCustomerNumber();
+
+        // Then
+        assertThat(firstIban).endsWith("0006200000000000000001");
+        assertThat(secondIban).endsWith("0006200000000000000002");
+        assertThat(customerNumber).isEqualTo("1000000001");
+    }
+
+    @Test
+    @DisplayName("Success: Nodes sharing the sequence and threads sharing a node never get the same number")
+    void concurrentNodes_NeverOverlap() throws Exception {
+        // Given
+        IdentifierAllocator nodeA = new IdentifierAllocator(jdbcTemplate, SCRAMBLE_KEY);
+        IdentifierAllocator nodeB = new IdentifierAllocator(jdbcTemplate, SCRAMBLE_KEY);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        List<Callable<List<String>>> workers = new ArrayList<>();
+        for (IdentifierAllocator node : List.of(nodeA, nodeA, nodeB, nodeB)) {
+            workers.add(() -> {
+                List<String> issued = new ArrayList<>();
+                for (int i = 0; i < 1_000; i++) {
+                    issued.add(node.nextCustomerNumber());
+                }
+                return issued;
+            });
+        }
+
+        // When
+        List<String> all = new ArrayList<>();
+        try {
+            for (Future<List<String>> result : executor.invokeAll(workers)) {
+                all.addAll(result.get());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        // Then
+        assertThat(all).hasSize(4_000).doesNotHaveDuplicates();
+    }
+}
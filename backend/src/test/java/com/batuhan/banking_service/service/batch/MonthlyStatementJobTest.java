@@ -0,0 +1,186 @@
+package com.batuhan.banking_service.service.batch;
+
+import com.batuhan.banking_service.dto.common.StatementAccountDTO;
+import com.batuhan.banking_service.dto.common.StatementLineDTO;
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.service.BaseServiceTest;
+import com.batuhan.banking_service.service.impl.PdfServiceImpl;
+import com.lowagie.text.pdf.PdfReader;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.domain.Limit;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Batch - Monthly Statement Generation")
+class MonthlyStatementJobTest extends BaseServiceTest {
+
+    private static final YearMonth PERIOD = YearMonth.of(2026, 9);
+    private static final LocalDateTime FROM = LocalDateTime.of(2026, 9, 1, 0, 0);
+    private static final LocalDateTime TO = LocalDateTime.of(2026, 10, 1, 0, 0);
+
+    @Mock
+    private StatementCheckpointStore checkpointStore;
+
+    @TempDir
+    Path outputDir;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private MonthlyStatementJob job;
+
+    @BeforeEach
+    void setUp() {
+        job = new MonthlyStatementJob(accountRepository, transactionRepository, new PdfServiceImpl(), checkpointStore, meterRegistry);
+        ReflectionTestUtils.setField(job, "outputDir", outputDir);
+        ReflectionTestUtils.setField(job, "chunkSize", 2);
+        ReflectionTestUtils.setField(job, "parallelism", 2);
+        ReflectionTestUtils.setField(job, "maxInFlight", 2);
+        job.registerMetrics();
+    }
+
+    @Test
+    @DisplayName("Success: Render every active account chunk by chunk and checkpoint each chunk")
+    void generateStatements_AllAccounts_Success() throws Exception {
+        // Given
+        when(checkpointStore.load(PERIOD)).thenReturn(new StatementCheckpointStore.Checkpoint(0, 0, false));
+        mockAccounts(1, 2, 3);
+        when(transactionRepository.findStatementLines(anyLong(), eq(FROM), eq(TO))).thenReturn(List.of());
+        when(transactionRepository.findStatementLines(1L, FROM, TO)).thenReturn(lines("TR01", 120));
+
+        // When
+        MonthlyStatementJob.RunResult result = job.generateStatements(PERIOD);
+
+        // Then
+        assertThat(result.generated()).isEqualTo(3);
+        assertThat(result.failed()).isZero();
+        Path statement = outputDir.resolve("2026-09").resolve("TR01.pdf");
+        assertThat(statement).exists();
+        assertThat(outputDir.resolve("2026-09").resolve("TR03.pdf")).exists();
+        PdfReader reader = new PdfReader(Files.readAllBytes(statement));
+        assertThat(reader.getNumberOfPages()).isGreaterThan(1);
+        reader.close();
+
+        verify(checkpointStore).advance(PERIOD, 2, 2);
+        verify(checkpointStore).advance(PERIOD, 3, 3);
+        verify(checkpointStore).complete(PERIOD, 3);
+        assertThat(meterRegistry.get("banking.statements").tag("outcome", "generated").counter().count()).isEqualTo(3);
+        assertThat(meterRegistry.get("banking.statements.render").timer().count()).isEqualTo(3);
+    }
+
+    @Test
+    @DisplayName("Success: Resume after the checkpoint and skip statements already on disk")
+    void generateStatements_ResumeFromCheckpoint() throws Exception {
+        // Given
+        Path periodDir = Files.createDirectories(outputDir.resolve("2026-09"));
+        Files.writeString(periodDir.resolve("TR03.pdf"), "already written");
+        when(checkpointStore.load(PERIOD)).thenReturn(new StatementCheckpointStore.Checkpoint(2, 2, false));
+        mockAccounts(3, 4);
+        when(transactionRepository.findStatementLines(4L, FROM, TO)).thenReturn(List.of());
+
+        // When
+        MonthlyStatementJob.RunResult result = job.generateStatements(PERIOD);
+
+        // Then
+        assertThat(result.generated()).isEqualTo(1);
+        assertThat(result.skipped()).isEqualTo(1);
+        verify(accountRepository, never()).findActiveStatementAccounts(eq(0L), any());
+        verify(transactionRepository, never()).findStatementLines(eq(3L), any(), any());
+        verify(checkpointStore).complete(PERIOD, 3);
+    }
+
+    @Test
+    @DisplayName("Failure: A failed statement freezes the checkpoint and leaves the run incomplete")
+    void generateStatements_Failure_FreezesCheckpoint() {
+        // Given
+        when(checkpointStore.load(PERIOD)).thenReturn(new StatementCheckpointStore.Checkpoint(0, 0, false));
+        mockAccounts(1, 2, 3);
+        when(transactionRepository.findStatementLines(anyLong(), eq(FROM), eq(TO))).thenReturn(List.of());
+        when(transactionRepository.findStatementLines(2L, FROM, TO)).thenThrow(new QueryTimeoutException("timeout"));
+
+        // When
+        MonthlyStatementJob.RunResult result = job.generateStatements(PERIOD);
+
+        // Then
+        assertThat(result.generated()).isEqualTo(2);
+        assertThat(result.failed()).isEqualTo(1);
+        assertThat(outputDir.resolve("2026-09").resolve("TR02.pdf")).doesNotExist();
+        assertThat(outputDir.resolve("2026-09").resolve("TR02.pdf.part")).doesNotExist();
+        verify(checkpointStore, never()).advance(eq(PERIOD), anyLong(), anyLong());
+        verify(checkpointStore, never()).complete(any(), anyLong());
+    }
+
+    @Test
+    @DisplayName("Success: A completed period is not generated again")
+    void generateStatements_AlreadyCompleted() {
+        // Given
+        when(checkpointStore.load(PERIOD)).thenReturn(new StatementCheckpointStore.Checkpoint(3, 3, true));
+
+        // When
+        MonthlyStatementJob.RunResult result = job.generateStatements(PERIOD);
+
+        // Then
+        assertThat(result.generated()).isZero();
+        verifyNoInteractions(accountRepository, transactionRepository);
+    }
+
+    @Test
+    @DisplayName("Success: An earlier incomplete period is resumed before the previous month is started")
+    void generatePendingPeriods_ResumesIncompletePeriodsFirst() {
+        // Given
+        YearMonth unfinished = PERIOD.minusMonths(2);
+        when(checkpointStore.findIncompletePeriods()).thenReturn(List.of(PERIOD, unfinished, PERIOD.plusMonths(1)));
+        when(checkpointStore.load(any())).thenReturn(new StatementCheckpointStore.Checkpoint(3, 3, true));
+
+        // When
+        List<MonthlyStatementJob.RunResult> results = job.generatePendingPeriods(PERIOD);
+
+        // Then
+        assertThat(results).extracting(MonthlyStatementJob.RunResult::period).containsExactly(unfinished, PERIOD);
+        InOrder order = inOrder(checkpointStore);
+        order.verify(checkpointStore).load(unfinished);
+        order.verify(checkpointStore).load(PERIOD);
+        verify(checkpointStore, never()).load(PERIOD.plusMonths(1));
+    }
+
+    private void mockAccounts(long... ids) {
+        List<StatementAccountDTO> accounts = LongStream.of(ids).mapToObj(this::account).toList();
+        lenient().when(accountRepository.findActiveStatementAccounts(anyLong(), eq(Limit.of(2)))).thenAnswer(invocation -> {
+            long afterId = invocation.getArgument(0);
+            return accounts.stream().filter(a -> a.accountId() > afterId).limit(2).toList();
+        });
+    }
+
+    private StatementAccountDTO account(long id) {
+        return new StatementAccountDTO(id, String.format("TR%02d", id), CurrencyType.TRY, new BigDecimal("1000.00"), "Jane", "Doe");
+    }
+
+    private List<StatementLineDTO> lines(String iban, int count) {
+        List<StatementLineDTO> lines = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean incoming = i % 2 == 0;
+            lines.add(new StatementLineDTO(FROM.plusHours(i), "REF-" + i, "Transfer " + i,
+                    incoming ? "TR99" : iban, incoming ? iban : "TR99", new BigDecimal("10.00")));
+        }
+        return lines;
+    }
+}
@@ -0,0 +1,117 @@
+package com.batuhan.banking_service.service.batch;
+
+import com.batuhan.banking_service.TestDataFactory;
+import com.batuhan.banking_service.entity.enums.AccountStatus;
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.TransferFrequency;
+import com.batuhan.banking_service.service.BaseServiceTest;
+import com.batuhan.banking_service.service.TransactionService;
+import com.batuhan.banking_service.service.batch.ScheduledTransferExecutor.Outcome;
+import com.batuhan.banking_service.service.batch.ScheduledTransferStore.ScheduledRun;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.CannotGetJdbcConnectionException;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Batch - Scheduled Transfer Failure Classification")
+class ScheduledTransferExecutorTest extends BaseServiceTest {
+
+    @Mock
+    private ScheduledTransferStore store;
+
+    @Mock
+    private TransactionService transactionService;
+
+    private ScheduledTransferExecutor executor;
+
+    @BeforeEach
+    void setUp() {
+        executor = new ScheduledTransferExecutor(store, transactionService, transactionManager, new SimpleMeterRegistry());
+        when(store.lockForRun(any(), anyString())).thenReturn(true);
+        when(store.findAccountStatus(anyString())).thenReturn(Optional.of(AccountStatus.ACTIVE));
+        lenient().when(store.retry(any(), anyString(), anyInt(), any(), any(), any())).thenReturn(true);
+        lenient().when(store.fail(any(), anyString(), any(), any())).thenReturn(true);
+    }
+
+    private ScheduledRun run(int attempts) {
+        LocalDateTime dueAt = LocalDateTime.now().minusMinutes(1);
+        return new ScheduledRun(1L, TestDataFactory.VALID_IBAN, TestDataFactory.OTHER_VALID_IBAN, "owner@test.com",
+                new BigDecimal("10.00"), CurrencyType.TRY, "Rent", TransferFrequency.ONCE, dueAt, null, dueAt, 0, attempts);
+    }
+
+    @Test
+    @DisplayName("Transient: A lock timeout is deferred without using up an attempt")
+    void execute_LockTimeout_Deferred() {
+        // Given
+        ScheduledRun run = run(1);
+        when(transactionService.transferMoney(any())).thenThrow(new CannotAcquireLockException("lock timeout"));
+
+        // When
+        Outcome outcome = executor.execute(run);
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.DEFERRED);
+        verify(store).retry(eq(run), anyString(), eq(1), any(), eq("lock timeout"), any());
+    }
+
+    @Test
+    @DisplayName("Transient: A connection shortage wrapped by the transaction manager is deferred")
+    void execute_NoConnection_Deferred() {
+        // Given
+        ScheduledRun run = run(0);
+        when(transactionService.transferMoney(any())).thenThrow(new CannotCreateTransactionException("begin failed",
+                new CannotGetJdbcConnectionException("pool exhausted")));
+
+        // When
+        Outcome outcome = executor.execute(run);
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.DEFERRED);
+        verify(store).retry(eq(run), anyString(), eq(0), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Failure: An unexpected error uses up an attempt and is retried with backoff")
+    void execute_UnexpectedError_CountsAttempt() {
+        // Given
+        ScheduledRun run = run(0);
+        when(transactionService.transferMoney(any())).thenThrow(new IllegalStateException("mapper bug"));
+
+        // When
+        Outcome outcome = executor.execute(run);
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.RETRIED);
+        verify(store).retry(eq(run), anyString(), eq(1), any(), eq("mapper bug"), any());
+    }
+
+    @Test
+    @DisplayName("Failure: An unexpected error on the last attempt fails the order")
+    void execute_UnexpectedErrorOnLastAttempt_Fails() {
+        // Given
+        ScheduledRun run = run(3);
+        when(transactionService.transferMoney(any())).thenThrow(new NullPointerException("no amount"));
+
+        // When
+        Outcome outcome = executor.execute(run);
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.FAILED);
+        verify(store).fail(eq(run), anyString(), eq("no amount"), any());
+        verify(store, never()).retry(any(), anyString(), anyInt(), any(), any(), any());
+    }
+}
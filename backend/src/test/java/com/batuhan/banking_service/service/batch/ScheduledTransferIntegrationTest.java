@@ -0,0 +1,265 @@
+package com.batuhan.banking_service.service.batch;
+
+import com.batuhan.banking_service.TestDataFactory;
+import com.batuhan.banking_service.dto.request.ScheduledTransferRequest;
+import com.batuhan.banking_service.entity.ScheduledTransferEntity;
+import com.batuhan.banking_service.entity.UserEntity;
+import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.ScheduledTransferStatus;
+import com.batuhan.banking_service.entity.enums.TransferFrequency;
+import com.batuhan.banking_service.repository.BaseIntegrationTest;
+import com.batuhan.banking_service.repository.ScheduledTransferRepository;
+import com.batuhan.banking_service.service.batch.ScheduledTransferExecutor.Outcome;
+import com.batuhan.banking_service.service.batch.ScheduledTransferStore.ScheduledRun;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Scheduled Transfer Integration Tests
+ * - Claims with FOR UPDATE SKIP LOCKED and leases against H2, then makes runs through the real transfer path. Every
+ *   step commits on its own, as on a running node.
+ * - Verifies that claims are exclusive until the lease expires, that a paid run moves the order to its next
+ *   occurrence, that rejected runs are retried and then fail, that closed or re-assigned sender accounts fail at
+ *   once, that a run whose claim was taken over moves no money, and creation and cancellation through the API.
+ */
+@DisplayName("Batch - Scheduled Transfer Integration Tests")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class ScheduledTransferIntegrationTest extends BaseIntegrationTest {
+
+    private static final String SENDER_IBAN = TestDataFactory.VALID_IBAN;
+    private static final String RECEIVER_IBAN = TestDataFactory.OTHER_VALID_IBAN;
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    @Autowired
+    private ScheduledTransferExecutor executor;
+
+    @Autowired
+    private ScheduledTransferStore store;
+
+    @Autowired
+    private ScheduledTransferRepository scheduledTransferRepository;
+
+    private String ownerEmail;
+
+    // The seed data of DataInitializer uses the same IBANs
+    @BeforeEach
+    @AfterEach
+    void cleanUp() {
+        scheduledTransferRepository.deleteAllInBatch();
+        clearDatabase();
+    }
+
+    @Test
+    @DisplayName("Success: Due orders are claimed once, oldest first, and claimable again after the lease expires")
+    void claim_ExclusiveUntilLeaseExpires() {
+        // Given
+        saveAccounts("1000.00");
+        LocalDateTime now = LocalDateTime.now();
+        ScheduledTransferEntity older = saveOrder(TransferFrequency.ONCE, now.minusMinutes(5), "10.00");
+        ScheduledTransferEntity newer = saveOrder(TransferFrequency.ONCE, now.minusMinutes(1), "10.00");
+        saveOrder(TransferFrequency.ONCE, now.plusHours(1), "10.00");
+
+        // When
+        List<ScheduledRun> first = store.claim("node-a", now, 10, LEASE, now);
+        List<ScheduledRun> second = store.claim("node-b", now, 10, LEASE, now);
+        List<ScheduledRun> afterLease = store.claim("node-b", now, 10, LEASE, now.plus(LEASE).plusMinutes(1));
+
+        // Then
+        assertThat(first).extracting(ScheduledRun::id).containsExactly(older.getId(), newer.getId());
+        assertThat(second).isEmpty();
+        assertThat(afterLease).extracting(ScheduledRun::id).containsExactly(older.getId(), newer.getId());
+        assertThat(claimedBy(older.getId())).isEqualTo("node-b");
+    }
+
+    @Test
+    @DisplayName("Success: A paid monthly run moves money and schedules the next occurrence from the first run")
+    void execute_Monthly_PaysAndAdvances() {
+        // Given
+        saveAccounts("1000.00");
+        LocalDateTime firstRunAt = LocalDateTime.now().minusMinutes(1).truncatedTo(ChronoUnit.SECONDS);
+        ScheduledTransferEntity order = saveOrder(TransferFrequency.MONTHLY, firstRunAt, "250.00");
+
+        // When
+        Outcome outcome = executor.execute(claimOne());
+
+        // Then
+        ScheduledTransferEntity updated = reload(order);
+        assertThat(outcome).isEqualTo(Outcome.SUCCEEDED);
+        assertThat(balance(SENDER_IBAN)).isEqualByComparingTo("750.00");
+        assertThat(balance(RECEIVER_IBAN)).isEqualByComparingTo("1250.00");
+        assertThat(updated.getStatus()).isEqualTo(ScheduledTransferStatus.ACTIVE);
+        assertThat(updated.getOccurrence()).isEqualTo(1);
+        assertThat(updated.getNextRunAt()).isEqualTo(firstRunAt.plusMonths(1));
+        assertThat(updated.getLastReferenceNumber()).startsWith("TX-");
+        assertThat(updated.getClaimedBy()).isNull();
+        assertThat(transactionRepository.count()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Failure: A rejected one-off run is retried with backoff, then the order fails")
+    void execute_InsufficientFunds_RetriesThenFails() {
+        // Given
+        saveAccounts("100.00");
+        ScheduledTransferEntity order = saveOrder(TransferFrequency.ONCE, LocalDateTime.now().minusMinutes(1), "500.00");
+
+        // When
+        Outcome first = executor.execute(claimOne());
+        ScheduledTransferEntity retried = reload(order);
+        jdbcTemplate.update("UPDATE scheduled_transfers SET attempts = 3, next_run_at = ? WHERE id = ?",
+                LocalDateTime.now().minusMinutes(1), order.getId());
+        Outcome last = executor.execute(claimOne());
+
+        // Then
+        assertThat(first).isEqualTo(Outcome.RETRIED);
+        assertThat(retried.getAttempts()).isEqualTo(1);
+        assertThat(retried.getNextRunAt()).isAfter(LocalDateTime.now().plusMinutes(10));
+        assertThat(retried.getLastError()).contains("Insufficient funds");
+        assertThat(last).isEqualTo(Outcome.FAILED);
+        assertThat(reload(order).getStatus()).isEqualTo(ScheduledTransferStatus.FAILED);
+        assertThat(balance(SENDER_IBAN)).isEqualByComparingTo("100.00");
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Failure: A closed sender account fails the order at once instead of retrying it")
+    void execute_SenderClosed_FailsAtOnce() {
+        // Given
+        saveAccounts("1000.00");
+        ScheduledTransferEntity order = saveOrder(TransferFrequency.MONTHLY, LocalDateTime.now().minusMinutes(1), "100.00");
+        jdbcTemplate.update("UPDATE accounts SET status = 'CLOSED' WHERE iban = ?", SENDER_IBAN);
+
+        // When
+        Outcome outcome = executor.execute(claimOne());
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.FAILED);
+        assertThat(reload(order).getStatus()).isEqualTo(ScheduledTransferStatus.FAILED);
+        assertThat(reload(order).getLastError()).contains("closed");
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Failure: A sender account that changed hands fails the order without paying for the new holder")
+    void execute_SenderChangedHands_FailsAtOnce() {
+        // Given
+        saveAccounts("1000.00");
+        ScheduledTransferEntity order = saveOrder(TransferFrequency.MONTHLY, LocalDateTime.now().minusMinutes(1), "100.00");
+        UserEntity newHolder = saveTestUser();
+        jdbcTemplate.update("UPDATE accounts SET user_id = ? WHERE iban = ?", newHolder.getId(), SENDER_IBAN);
+
+        // When
+        Outcome outcome = executor.execute(claimOne());
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.FAILED);
+        assertThat(reload(order).getStatus()).isEqualTo(ScheduledTransferStatus.FAILED);
+        assertThat(balance(SENDER_IBAN)).isEqualByComparingTo("1000.00");
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Success: A run whose claim another node took over is skipped without moving money")
+    void execute_ClaimTakenOver_Skipped() {
+        // Given
+        saveAccounts("1000.00");
+        saveOrder(TransferFrequency.ONCE, LocalDateTime.now().minusMinutes(1), "100.00");
+        ScheduledRun stale = claimOne();
+        LocalDateTime afterLease = LocalDateTime.now().plus(LEASE).plusMinutes(1);
+        store.claim("other-node", afterLease, 10, LEASE, afterLease);
+
+        // When
+        Outcome outcome = executor.execute(stale);
+
+        // Then
+        assertThat(outcome).isEqualTo(Outcome.LOST_CLAIM);
+        assertThat(balance(SENDER_IBAN)).isEqualByComparingTo("1000.00");
+        assertThat(transactionRepository.count()).isZero();
+    }
+
+    @Test
+    @DisplayName("Success: An order is created through the API and can be cancelled once")
+    void api_CreateAndCancel() throws Exception {
+        // Given
+        saveAccounts("1000.00");
+        ScheduledTransferRequest request = new ScheduledTransferRequest(SENDER_IBAN, RECEIVER_IBAN, new BigDecimal("75.00"),
+                CurrencyType.TRY, "Rent", TransferFrequency.MONTHLY, LocalDateTime.now().plusDays(3), LocalDate.now().plusYears(1));
+
+        // When
+        performPost("/api/v1/scheduled-transfers", request)
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.data.status").value("ACTIVE"))
+                .andExpect(jsonPath("$.data.frequency").value("MONTHLY"));
+        UUID externalId = scheduledTransferRepository.findAll().get(0).getExternalId();
+
+        // Then
+        mockMvc.perform(delete("/api/v1/scheduled-transfers/{id}", externalId)
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.status").value("CANCELLED"));
+        mockMvc.perform(delete("/api/v1/scheduled-transfers/{id}", externalId)
+                        .with(jwt().authorities(new SimpleGrantedAuthority("ROLE_ADMIN"))))
+                .andExpect(status().isConflict());
+        assertThat(store.claim(executor.node(), LocalDateTime.now().plusYears(2), 10, LEASE, LocalDateTime.now())).isEmpty();
+    }
+
+    private void saveAccounts(String senderBalance) {
+        UserEntity sender = saveTestUser();
+        ownerEmail = sender.getEmail();
+        saveAccount(sender, SENDER_IBAN, senderBalance);
+        saveAccount(saveTestUser(), RECEIVER_IBAN, "1000.00");
+    }
+
+    private ScheduledTransferEntity saveOrder(TransferFrequency frequency, LocalDateTime firstRunAt, String amount) {
+        return scheduledTransferRepository.save(ScheduledTransferEntity.builder()
+                .senderIban(SENDER_IBAN)
+                .receiverIban(RECEIVER_IBAN)
+                .ownerEmail(ownerEmail)
+                .amount(new BigDecimal(amount))
+                .currency(CurrencyType.TRY)
+                .description("Standing order")
+                .frequency(frequency)
+                .firstRunAt(firstRunAt)
+                .nextRunAt(firstRunAt)
+                .status(ScheduledTransferStatus.ACTIVE)
+                .build());
+    }
+
+    private ScheduledRun claimOne() {
+        LocalDateTime now = LocalDateTime.now();
+        List<ScheduledRun> runs = store.claim(executor.node(), now, 10, LEASE, now);
+        assertThat(runs).hasSize(1);
+        return runs.get(0);
+    }
+
+    private ScheduledTransferEntity reload(ScheduledTransferEntity order) {
+        return scheduledTransferRepository.findById(order.getId()).orElseThrow();
+    }
+
+    private String claimedBy(Long id) {
+        return jdbcTemplate.queryForObject("SELECT claimed_by FROM scheduled_transfers WHERE id = ?", String.class, id);
+    }
+
+    private BigDecimal balance(String iban) {
+        return accountRepository.findByIban(iban).orElseThrow().getBalance();
+    }
+}
@@ -0,0 +1,106 @@
+package com.batuhan.banking_service.service.batch;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Timing Wheel Tests
+ * - Drives the wheel with explicit times and verifies that items expire on their tick, never early, in deadline
+ *   order, also when their deadline is several levels away and the wheel is advanced in uneven steps.
+ */
+@DisplayName("Batch - Timing Wheel Tests")
+class TimingWheelTest {
+
+    private static final long START = 1_000_000L;
+
+    @Test
+    @DisplayName("Success: Items expire on the tick of their deadline, rounded up, in deadline order")
+    void advance_ExpiresOnDeadlineTick() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(100, 8, START);
+        wheel.schedule(START + 350, "b");
+        wheel.schedule(START + 100, "a");
+        wheel.schedule(START + 400, "c");
+
+        // When
+        List<String> beforeFirst = wheel.advance(START + 99);
+        List<String> first = wheel.advance(START + 100);
+        List<String> beforeRoundedUp = wheel.advance(START + 350);
+        List<String> rest = wheel.advance(START + 400);
+
+        // Then
+        assertThat(beforeFirst).isEmpty();
+        assertThat(first).containsExactly("a");
+        assertThat(beforeRoundedUp).isEmpty();
+        assertThat(rest).containsExactly("b", "c");
+        assertThat(wheel.size()).isZero();
+    }
+
+    @Test
+    @DisplayName("Success: A deadline several levels away cascades down and expires on time")
+    void advance_FarDeadline_CascadesThroughLevels() {
+        // Given: 4 slots of 10 ms, so 10 s is five levels up
+        TimingWheel<String> wheel = new TimingWheel<>(10, 4, START);
+        wheel.schedule(START + 10_000, "far");
+        wheel.schedule(START + 30, "near");
+
+        // When
+        List<String> near = wheel.advance(START + 9_990);
+        List<String> early = wheel.advance(START + 9_999);
+        List<String> far = wheel.advance(START + 10_000);
+
+        // Then
+        assertThat(near).containsExactly("near");
+        assertThat(early).isEmpty();
+        assertThat(far).containsExactly("far");
+    }
+
+    @Test
+    @DisplayName("Success: Thousands of random deadlines all expire on their own tick under uneven advances")
+    void advance_RandomDeadlines_NoneEarlyNoneLate() {
+        // Given
+        Random random = new Random(42);
+        TimingWheel<Long> wheel = new TimingWheel<>(100, 64, START);
+        for (int i = 0; i < 20_000; i++) {
+            long deadline = START + 1 + random.nextInt(3_600_000);
+            assertThat(wheel.schedule(deadline, deadline)).isTrue();
+        }
+
+        // When
+        List<Long> expired = new ArrayList<>();
+        long now = START;
+        while (wheel.size() > 0) {
+            long previous = now;
+            now += random.nextInt(5_000);
+            for (long deadline : wheel.advance(now)) {
+                // Then: due now, and not yet due at the previous advance
+                assertThat(deadline).isLessThanOrEqualTo(now);
+                assertThat((deadline + 99) / 100).isGreaterThan(previous / 100);
+                expired.add(deadline);
+            }
+        }
+        assertThat(expired).hasSize(20_000);
+        List<Long> ticks = expired.stream().map(deadline -> (deadline + 99) / 100).toList();
+        assertThat(ticks).isSorted();
+    }
+
+    @Test
+    @DisplayName("Failure: A passed deadline is handed back and a bad slot count is rejected")
+    void schedule_PassedDeadline_NotKept() {
+        // Given
+        TimingWheel<String> wheel = new TimingWheel<>(100, 16, START);
+
+        // When & Then
+        assertThat(wheel.schedule(START, "now")).isFalse();
+        assertThat(wheel.schedule(START - 5_000, "past")).isFalse();
+        assertThat(wheel.size()).isZero();
+        assertThrows(IllegalArgumentException.class, () -> new TimingWheel<String>(100, 10, START));
+    }
+}
@@ -0,0 +1,116 @@
+package com.batuhan.banking_service.service.cache;
+
+import org.hibernate.cache.spi.CacheImplementor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for broadcasting committed entity changes and evicting them from the local second-level cache.
+ */
+@DisplayName("Second-Level Cache - Cluster Invalidation")
+class EntityCacheInvalidatorTest {
+
+    private static final String CHANNEL = "banking:l2-invalidation";
+    private static final String USER = "com.batuhan.banking_service.entity.UserEntity";
+
+    private final SessionFactoryImplementor sessionFactory = mock(SessionFactoryImplementor.class);
+    private final CacheImplementor cache = mock(CacheImplementor.class);
+    private final StringRedisTemplate redisTemplate = mock(StringRedisTemplate.class);
+    private final EntityPersister persister = mock(EntityPersister.class);
+
+    private EntityCacheInvalidator invalidator;
+
+    @BeforeEach
+    void setUp() {
+        when(sessionFactory.getCache()).thenReturn(cache);
+        when(persister.getEntityName()).thenReturn(USER);
+        when(persister.canWriteToCache()).thenReturn(true);
+        invalidator = new EntityCacheInvalidator(sessionFactory, redisTemplate, CHANNEL);
+    }
+
+    @Test
+    @DisplayName("Success: A committed update of a cached entity is published with this node's id")
+    void onPostUpdate_CachedEntity_Publishes() {
+        // When
+        invalidator.onPostUpdate(new PostUpdateEvent(new Object(), 42L, null, null, null, persister, null));
+
+        // Then
+        verify(redisTemplate).convertAndSend(CHANNEL, invalidator.nodeId() + "|UPDATE|" + USER + "|42");
+    }
+
+    @Test
+    @DisplayName("Success: Changes to entities outside the second-level cache are not published")
+    void onPostUpdate_UncachedEntity_Ignored() {
+        // Given
+        when(persister.canWriteToCache()).thenReturn(false);
+
+        // When
+        invalidator.onPostUpdate(new PostUpdateEvent(new Object(), 42L, null, null, null, persister, null));
+
+        // Then
+        verifyNoInteractions(redisTemplate);
+    }
+
+    @Test
+    @DisplayName("Success: A remote update evicts only the changed entity")
+    void onMessage_RemoteUpdate_EvictsEntity() {
+        // When
+        invalidator.onMessage(message("other-node|UPDATE|" + USER + "|42"), null);
+
+        // Then
+        verify(cache).evictEntityData(USER, 42L);
+        verify(cache, never()).evictNaturalIdData(anyString());
+        verify(cache, never()).evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("Success: A remote delete also evicts natural-id and query results that may reference the row")
+    void onMessage_RemoteDelete_EvictsNaturalIdsAndQueries() {
+        // When
+        invalidator.onMessage(message("other-node|DELETE|" + USER + "|42"), null);
+
+        // Then
+        verify(cache).evictEntityData(USER, 42L);
+        verify(cache).evictNaturalIdData(USER);
+        verify(cache).evictQueryRegions();
+    }
+
+    @Test
+    @DisplayName("Success: Messages published by this node are ignored")
+    void onMessage_OwnMessage_Ignored() {
+        // When
+        invalidator.onMessage(message(invalidator.nodeId() + "|UPDATE|" + USER + "|42"), null);
+
+        // Then
+        verifyNoInteractions(cache);
+    }
+
+    @Test
+    @DisplayName("Failure: A Redis outage does not fail the committed transaction")
+    void onPostDelete_RedisDown_DoesNotThrow() {
+        // Given
+        doThrow(new QueryTimeoutException("Redis command timed out")).when(redisTemplate).convertAndSend(anyString(), anyString());
+
+        // When & Then
+        assertThatCode(() -> invalidator.onPostDelete(new PostDeleteEvent(new Object(), 42L, null, persister, null)))
+                .doesNotThrowAnyException();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(CHANNEL.getBytes(StandardCharsets.UTF_8), body.getBytes(StandardCharsets.UTF_8));
+    }
+}
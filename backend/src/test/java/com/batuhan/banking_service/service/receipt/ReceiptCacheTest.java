@@ -0,0 +1,219 @@
+package com.batuhan.banking_service.service.receipt;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.util.unit.DataSize;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for the receipt cache's disk tier (LRU eviction, restart recovery) and its optional Redis tier.
+ */
+@DisplayName("Receipt Cache - Disk & Redis Tiers")
+class ReceiptCacheTest {
+
+    private static final String KEY = "0b5a5c6e-8d2f-4d6b-9d6a-1f2e3d4c5b6a-v1";
+
+    @TempDir
+    Path cacheDir;
+
+    private final AtomicInteger renders = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        renders.set(0);
+    }
+
+    @Test
+    @DisplayName("Success: Render once, then serve the same file and ETag from disk")
+    void getOrRender_RendersOnceAndServesFromDisk() throws Exception {
+        // Given
+        ReceiptCache cache = diskOnlyCache(DataSize.ofKilobytes(64));
+
+        // When
+        ReceiptDocument first = cache.getOrRender(KEY, "receipt_1.pdf", renderer("PDF_CONTENT"));
+        ReceiptDocument second = cache.getOrRender(KEY, "receipt_1.pdf", renderer("PDF_CONTENT"));
+
+        // Then
+        assertThat(renders).hasValue(1);
+        assertThat(first.isOnDisk()).isTrue();
+        assertThat(Files.readString(first.path())).isEqualTo("PDF_CONTENT");
+        assertThat(first.etag()).startsWith("\"").endsWith("\"").hasSize(66);
+        assertThat(second.path()).isEqualTo(first.path());
+        assertThat(second.etag()).isEqualTo(first.etag());
+        assertThat(second.sizeBytes()).isEqualTo(11);
+    }
+
+    @Test
+    @DisplayName("Success: Evict the least recently served receipt once the size limit is exceeded")
+    void getOrRender_EvictsLeastRecentlyUsed() {
+        // Given
+        ReceiptCache cache = diskOnlyCache(DataSize.ofBytes(25));
+        ReceiptDocument a = cache.getOrRender("a-v1", "a.pdf", renderer("AAAAAAAAAA"));
+        a.close();
+        ReceiptDocument b = cache.getOrRender("b-v1", "b.pdf", renderer("BBBBBBBBBB"));
+        b.close();
+
+        // When
+        cache.getOrRender("a-v1", "a.pdf", renderer("AAAAAAAAAA")).close();
+        ReceiptDocument c = cache.getOrRender("c-v1", "c.pdf", renderer("CCCCCCCCCC"));
+
+        // Then
+        assertThat(cache.size()).isEqualTo(2);
+        assertThat(cache.sizeInBytes()).isEqualTo(20);
+        assertThat(a.path()).exists();
+        assertThat(b.path()).doesNotExist();
+        assertThat(c.path()).exists();
+    }
+
+    @Test
+    @DisplayName("Success: A cached file deleted outside the cache is dropped from the index and rendered again")
+    void getOrRender_FileDeletedExternally_RendersAgain() throws Exception {
+        // Given
+        ReceiptCache cache = diskOnlyCache(DataSize.ofKilobytes(64));
+        ReceiptDocument first = cache.getOrRender(KEY, "r.pdf", renderer("PDF_CONTENT"));
+        first.close();
+        Files.delete(first.path());
+
+        // When
+        ReceiptDocument second = cache.getOrRender(KEY, "r.pdf", renderer("PDF_CONTENT"));
+
+        // Then
+        assertThat(renders).hasValue(2);
+        assertThat(second.isOnDisk()).isTrue();
+        assertThat(Files.readString(second.path())).isEqualTo("PDF_CONTENT");
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.sizeInBytes()).isEqualTo(11);
+        second.close();
+    }
+
+    @Test
+    @DisplayName("Success: An evicted receipt that is still being served is deleted only after it is released")
+    void getOrRender_EvictedWhilePinned_DeletedAfterRelease() throws Exception {
+        // Given
+        ReceiptCache cache = diskOnlyCache(DataSize.ofBytes(15));
+        ReceiptDocument served = cache.getOrRender("a-v1", "a.pdf", renderer("AAAAAAAAAA"));
+
+        // When
+        cache.getOrRender("b-v1", "b.pdf", renderer("BBBBBBBBBB")).close();
+        String whileServed = Files.readString(served.path());
+        served.close();
+        served.close();
+        cache.getOrRender("c-v1", "c.pdf", renderer("CCCCCCCCCC")).close();
+
+        // Then
+        assertThat(whileServed).isEqualTo("AAAAAAAAAA");
+        assertThat(served.path()).doesNotExist();
+        assertThat(cache.size()).isEqualTo(1);
+        assertThat(cache.sizeInBytes()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("Success: Rebuild the index from disk and drop partial writes on startup")
+    void loadIndex_RecoversEntriesAfterRestart() throws Exception {
+        // Given
+        ReceiptDocument stored = diskOnlyCache(DataSize.ofKilobytes(64)).getOrRender(KEY, "r.pdf", renderer("PDF_CONTENT"));
+        Path leftover = Files.writeString(cacheDir.resolve(KEY + ".123.part"), "PARTIAL");
+
+        // When
+        ReceiptCache restarted = diskOnlyCache(DataSize.ofKilobytes(64));
+        ReceiptDocument afterRestart = restarted.getOrRender(KEY, "r.pdf", renderer("PDF_CONTENT"));
+
+        // Then
+        assertThat(renders).hasValue(1);
+        assertThat(afterRestart.etag()).isEqualTo(stored.etag());
+        assertThat(restarted.sizeInBytes()).isEqualTo(11);
+        assertThat(leftover).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Success: Fill a local miss from Redis without rendering")
+    @SuppressWarnings("unchecked")
+    void getOrRender_RedisHit_SkipsRendering() throws Exception {
+        // Given
+        RedisTemplate<String, byte[]> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, byte[]> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.get("receipt:" + KEY)).thenReturn("FROM_REDIS".getBytes());
+        ReceiptCache cache = new ReceiptCache(cacheDir, DataSize.ofKilobytes(64), Duration.ofDays(7), Duration.ZERO, redisTemplate);
+        cache.loadIndex();
+
+        // When
+        ReceiptDocument result = cache.getOrRender(KEY, "r.pdf", renderer("RENDERED"));
+
+        // Then
+        assertThat(renders).hasValue(0);
+        assertThat(Files.readString(result.path())).isEqualTo("FROM_REDIS");
+        verify(ops, never()).setIfAbsent(anyString(), any(), any(Duration.class));
+    }
+
+    @Test
+    @DisplayName("Success: Serve the bytes another instance published first so the ETag matches across instances")
+    @SuppressWarnings("unchecked")
+    void getOrRender_RedisRace_KeepsFirstPublishedBytes() throws Exception {
+        // Given
+        RedisTemplate<String, byte[]> redisTemplate = mock(RedisTemplate.class);
+        ValueOperations<String, byte[]> ops = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(ops);
+        when(ops.get("receipt:" + KEY)).thenReturn(null, "OTHER_INSTANCE".getBytes());
+        when(ops.setIfAbsent(eq("receipt:" + KEY), any(), eq(Duration.ofDays(7)))).thenReturn(false);
+        ReceiptCache cache = new ReceiptCache(cacheDir, DataSize.ofKilobytes(64), Duration.ofDays(7), Duration.ZERO, redisTemplate);
+        cache.loadIndex();
+
+        // When
+        ReceiptDocument result = cache.getOrRender(KEY, "r.pdf", renderer("RENDERED"));
+
+        // Then
+        assertThat(renders).hasValue(1);
+        assertThat(Files.readString(result.path())).isEqualTo("OTHER_INSTANCE");
+    }
+
+    @Test
+    @DisplayName("Failure: Fall back to rendering when Redis is unavailable")
+    @SuppressWarnings("unchecked")
+    void getOrRender_RedisDown_StillServes() throws Exception {
+        // Given
+        RedisTemplate<String, byte[]> redisTemplate = mock(RedisTemplate.class);
+        when(redisTemplate.opsForValue()).thenThrow(new QueryTimeoutException("Redis command timed out"));
+        ReceiptCache cache = new ReceiptCache(cacheDir, DataSize.ofKilobytes(64), Duration.ofDays(7), Duration.ZERO, redisTemplate);
+        cache.loadIndex();
+
+        // When
+        ReceiptDocument result = cache.getOrRender(KEY, "r.pdf", renderer("RENDERED"));
+
+        // Then
+        assertThat(renders).hasValue(1);
+        assertThat(Files.readString(result.path())).isEqualTo("RENDERED");
+    }
+
+    private ReceiptCache diskOnlyCache(DataSize maxSize) {
+        ReceiptCache cache = new ReceiptCache(cacheDir, maxSize, Duration.ofDays(7), Duration.ZERO, null);
+        try {
+            cache.loadIndex();
+        } catch (Exception e) {
+            throw new IllegalStateException(e);
+        }
+        return cache;
+    }
+
+    private ReceiptDocument.ContentWriter renderer(String content) {
+        return out -> {
+            renders.incrementAndGet();
+            out.write(content.getBytes());
+        };
+    }
+}
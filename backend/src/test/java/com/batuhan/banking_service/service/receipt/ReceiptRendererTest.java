@@ -0,0 +1,84 @@
+package com.batuhan.banking_service.service.receipt;
+
+import com.batuhan.banking_service.entity.TransactionEntity;
+import com.batuhan.banking_service.entity.enums.TransactionStatus;
+import com.batuhan.banking_service.service.PdfService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for choosing between a streamed and a cached receipt; the retry and circuit breaker around it are
+ * configuration and are not exercised here.
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("Receipt Renderer - Streamed & Cached Receipts")
+class ReceiptRendererTest {
+
+    @Mock
+    private PdfService pdfService;
+
+    @Mock
+    private ReceiptCache receiptCache;
+
+    @InjectMocks
+    private ReceiptRenderer receiptRenderer;
+
+    @Test
+    @DisplayName("Success: Stream a pending transaction's receipt without caching it")
+    void render_Pending_Streamed() throws Exception {
+        // Given
+        TransactionEntity tx = TransactionEntity.builder().id(1L).status(TransactionStatus.PENDING).build();
+        ByteArrayOutputStream response = new ByteArrayOutputStream();
+        doAnswer(invocation -> {
+            invocation.<OutputStream>getArgument(1).write("PDF_CONTENT".getBytes());
+            return null;
+        }).when(pdfService).writeTransactionReceipt(eq(tx), any(OutputStream.class));
+
+        // When
+        ReceiptDocument result = receiptRenderer.render(tx);
+        result.writer().writeTo(response);
+
+        // Then
+        assertThat(response.toByteArray()).isEqualTo("PDF_CONTENT".getBytes());
+        assertThat(result.etag()).isNull();
+        assertThat(result.isOnDisk()).isFalse();
+        assertThat(result.filename()).isEqualTo("receipt_1.pdf");
+        verifyNoInteractions(receiptCache);
+    }
+
+    @Test
+    @DisplayName("Success: Serve a completed transaction's receipt through the cache keyed by external id and template version")
+    void render_Completed_UsesCache() {
+        // Given
+        UUID externalId = UUID.randomUUID();
+        TransactionEntity tx = TransactionEntity.builder()
+                .id(2L)
+                .externalId(externalId)
+                .status(TransactionStatus.COMPLETED)
+                .build();
+        ReceiptDocument cached = ReceiptDocument.cached("receipt_2.pdf", "\"abc\"", Path.of("receipt.pdf"), 11, null);
+        when(receiptCache.getOrRender(eq(externalId + "-v" + PdfService.RECEIPT_TEMPLATE_VERSION), eq("receipt_2.pdf"), any()))
+                .thenReturn(cached);
+
+        // When
+        ReceiptDocument result = receiptRenderer.render(tx);
+
+        // Then
+        assertThat(result).isSameAs(cached);
+        verifyNoInteractions(pdfService);
+    }
+}
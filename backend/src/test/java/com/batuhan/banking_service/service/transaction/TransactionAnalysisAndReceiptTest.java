@@ -4,23 +4,29 @@ import com.batuhan.banking_service.TestDataFactory;
 import com.batuhan.banking_service.dto.request.TransactionRequest;
 import com.batuhan.banking_service.entity.TransactionEntity;
 import com.batuhan.banking_service.entity.enums.CurrencyType;
+import com.batuhan.banking_service.entity.enums.TransactionStatus;
 import com.batuhan.banking_service.exception.BankingServiceException;
 import com.batuhan.banking_service.service.BaseServiceTest;
 import com.batuhan.banking_service.service.impl.TransactionServiceImpl;
+import com.batuhan.banking_service.service.receipt.ReceiptDocument;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.springframework.http.HttpStatus;
+import org.springframework.transaction.TransactionDefinition;
 
-import java.io.ByteArrayInputStream;
 import java.math.BigDecimal;
+import java.nio.file.Path;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 /**
@@ -81,6 +87,88 @@ class TransactionAnalysisAndReceiptTest extends BaseServiceTest {
             assertThat(result.get(0).category()).isEqualTo("Food");
             verify(analysisService).calculateCategoryAnalysis(iban);
         }
+
+        @Test
+        @DisplayName("Success: Composite dashboard loads all sections after a single access check")
+        void getDashboard_Success() {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+
+            // When
+            when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
+            when(transactionRepository.getTransactionSummary(iban))
+                    .thenReturn(TestDataFactory.createTransactionSummaryDTO());
+            when(transactionRepository.getWeeklySpendingTrend(eq(iban), any())).thenReturn(List.of());
+            when(analysisService.calculateCategoryAnalysis(iban))
+                    .thenReturn(List.of(TestDataFactory.createTransactionCategoryDTO("Rent", BigDecimal.TEN, 100.0)));
+
+            var result = transactionService.getDashboard(iban);
+
+            // Then
+            assertAll("Composite Dashboard Verification",
+                    () -> assertThat(result.summary()).isNotNull(),
+                    () -> assertThat(result.weeklyTrend()).isEmpty(),
+                    () -> assertThat(result.categories()).hasSize(1),
+                    () -> assertThat(result.unavailableSections()).isEmpty(),
+                    () -> verify(bankingBusinessValidator, times(1)).isAccountOwner(iban)
+            );
+        }
+
+        @Test
+        @DisplayName("Success: Each dashboard section runs in a read-only transaction that times out with the section")
+        void getDashboard_SectionsRunWithQueryTimeout() {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+            ArgumentCaptor<TransactionDefinition> definitions = ArgumentCaptor.forClass(TransactionDefinition.class);
+
+            // When
+            when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
+            transactionService.getDashboard(iban);
+
+            // Then
+            verify(transactionManager, times(3)).getTransaction(definitions.capture());
+            assertThat(definitions.getAllValues()).allSatisfy(definition -> {
+                assertThat(definition.isReadOnly()).isTrue();
+                assertThat(definition.getTimeout()).isEqualTo(2);
+            });
+        }
+
+        @Test
+        @DisplayName("Partial: Failing dashboard section is reported while the others are returned")
+        void getDashboard_PartialResult() {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+
+            // When
+            when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
+            when(transactionRepository.getTransactionSummary(iban))
+                    .thenReturn(TestDataFactory.createTransactionSummaryDTO());
+            when(transactionRepository.getWeeklySpendingTrend(eq(iban), any()))
+                    .thenThrow(new IllegalStateException("Query timeout"));
+            when(analysisService.calculateCategoryAnalysis(iban)).thenReturn(List.of());
+
+            var result = transactionService.getDashboard(iban);
+
+            // Then
+            assertThat(result.summary()).isNotNull();
+            assertThat(result.weeklyTrend()).isNull();
+            assertThat(result.unavailableSections()).containsExactly("weeklyTrend");
+        }
+
+        @Test
+        @DisplayName("Failure: Composite dashboard is blocked for non-owners before any query runs")
+        void getDashboard_Unauthorized_Failure() {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+
+            // When
+            when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(false);
+
+            // Then
+            assertThatThrownBy(() -> transactionService.getDashboard(iban))
+                    .isInstanceOf(BankingServiceException.class);
+            verifyNoInteractions(transactionRepository, analysisService);
+        }
     }
 
     @Nested
@@ -88,24 +176,55 @@ class TransactionAnalysisAndReceiptTest extends BaseServiceTest {
     class ReceiptTests {
 
         @Test
-        @DisplayName("Success: Generate PDF receipt for an authorized transaction")
-        void generateReceipt_Success() throws Exception {
+        @DisplayName("Success: Hand the loaded transaction to the renderer after the ownership check")
+        void generateReceipt_Success() {
             // Given
             Long txId = 1L;
-            TransactionEntity tx = TransactionEntity.builder().id(txId).build();
+            TransactionEntity tx = TransactionEntity.builder().id(txId).status(TransactionStatus.COMPLETED).build();
+            ReceiptDocument cached = ReceiptDocument.cached("receipt_1.pdf", "\"abc\"", Path.of("receipt.pdf"), 11, null);
 
             // When
-            when(transactionRepository.findById(txId)).thenReturn(Optional.of(tx));
-            when(bankingBusinessValidator.isTransactionOwner(txId)).thenReturn(true);
-            when(pdfService.generateTransactionReceipt(tx))
-                    .thenReturn(new ByteArrayInputStream("PDF_CONTENT".getBytes()));
+            when(transactionRepository.findReceiptById(txId)).thenReturn(Optional.of(tx));
+            when(bankingBusinessValidator.isTransactionOwner(tx)).thenReturn(true);
+            when(receiptRenderer.render(tx)).thenReturn(cached);
 
-            byte[] result = transactionService.generateTransactionReceipt(txId);
+            ReceiptDocument result = transactionService.generateTransactionReceipt(txId);
 
             // Then
-            assertThat(result).isNotEmpty();
-            verify(bankingBusinessValidator).isTransactionOwner(txId);
-            verify(pdfService).generateTransactionReceipt(tx);
+            assertThat(result).isSameAs(cached);
+            verify(bankingBusinessValidator).isTransactionOwner(tx);
+            verify(transactionRepository, never()).findById(any());
+        }
+
+        @Test
+        @DisplayName("Failure: Check ownership before anything is rendered")
+        void generateReceipt_Completed_Unauthorized_Failure() {
+            // Given
+            Long txId = 3L;
+            TransactionEntity tx = TransactionEntity.builder().id(txId).status(TransactionStatus.COMPLETED).build();
+
+            // When
+            when(transactionRepository.findReceiptById(txId)).thenReturn(Optional.of(tx));
+            when(bankingBusinessValidator.isTransactionOwner(tx)).thenReturn(false);
+
+            // Then
+            assertThatThrownBy(() -> transactionService.generateTransactionReceipt(txId))
+                    .isInstanceOf(BankingServiceException.class)
+                    .hasMessageContaining("not authorized");
+            verifyNoInteractions(receiptRenderer);
+        }
+
+        @Test
+        @DisplayName("Failure: Unknown transaction is reported as not found without rendering")
+        void generateReceipt_NotFound_Failure() {
+            // When
+            when(transactionRepository.findReceiptById(404L)).thenReturn(Optional.empty());
+
+            // Then
+            assertThatThrownBy(() -> transactionService.generateTransactionReceipt(404L))
+                    .isInstanceOf(BankingServiceException.class)
+                    .hasMessageContaining("not found");
+            verifyNoInteractions(receiptRenderer);
         }
 
         @Test
@@ -124,7 +243,7 @@ class TransactionAnalysisAndReceiptTest extends BaseServiceTest {
 
             // When
             mockCurrentUser("hacker@test.com");
-            when(transactionRepository.findById(txId)).thenReturn(Optional.of(tx));
+            when(transactionRepository.findReceiptById(txId)).thenReturn(Optional.of(tx));
 
             // Then
             assertThatThrownBy(() -> transactionService.generateTransactionReceipt(txId))
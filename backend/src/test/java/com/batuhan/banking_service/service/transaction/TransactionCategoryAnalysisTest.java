@@ -0,0 +1,90 @@
+package com.batuhan.banking_service.service.transaction;
+
+import com.batuhan.banking_service.TestDataFactory;
+import com.batuhan.banking_service.dto.common.TransactionCategoryDTO;
+import com.batuhan.banking_service.entity.enums.TransactionCategory;
+import com.batuhan.banking_service.service.BaseServiceTest;
+import com.batuhan.banking_service.service.impl.TransactionAnalysisServiceImpl;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.mockito.InjectMocks;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for the category analysis engine.
+ * Verifies that SQL-side category totals are merged with the not-yet-backfilled rows,
+ * and that the description classifier used at write time maps keywords to stable categories.
+ */
+@DisplayName("Transaction Service - Category Analysis")
+class TransactionCategoryAnalysisTest extends BaseServiceTest {
+
+    @InjectMocks
+    private TransactionAnalysisServiceImpl analysisService;
+
+    @Test
+    @DisplayName("Success: Merge stored category totals with uncategorized legacy rows")
+    void calculateCategoryAnalysis_MergesStoredAndLegacyRows() {
+        // Given
+        String iban = TestDataFactory.VALID_IBAN;
+        List<Object[]> stored = List.<Object[]>of(
+                new Object[]{TransactionCategory.RENT, new BigDecimal("600.00")},
+                new Object[]{TransactionCategory.SHOPPING, new BigDecimal("200.00")}
+        );
+        List<Object[]> legacy = List.<Object[]>of(
+                new Object[]{"Monthly kira payment", new BigDecimal("200.00")}
+        );
+
+        // When
+        when(transactionRepository.getCategoryTotals(iban)).thenReturn(stored);
+        when(transactionRepository.getRawCategoryData(iban)).thenReturn(legacy);
+
+        List<TransactionCategoryDTO> result = analysisService.calculateCategoryAnalysis(iban);
+
+        // Then
+        assertThat(result).extracting(TransactionCategoryDTO::category)
+                .containsExactlyInAnyOrder("Rent", "Shopping");
+        assertThat(result).filteredOn(dto -> dto.category().equals("Rent"))
+                .singleElement()
+                .satisfies(dto -> {
+                    assertThat(dto.amount()).isEqualByComparingTo(new BigDecimal("800.00"));
+                    assertThat(dto.percentage()).isEqualTo(80.0);
+                });
+    }
+
+    @Test
+    @DisplayName("Edge Case: Return empty analysis when the account has no outgoing transactions")
+    void calculateCategoryAnalysis_NoData_ReturnsEmpty() {
+        // Given
+        String iban = TestDataFactory.VALID_IBAN;
+
+        // When
+        when(transactionRepository.getCategoryTotals(iban)).thenReturn(List.of());
+        when(transactionRepository.getRawCategoryData(iban)).thenReturn(List.of());
+
+        // Then
+        assertThat(analysisService.calculateCategoryAnalysis(iban)).isEmpty();
+    }
+
+    @ParameterizedTest(name = "Scenario: [{0}] -> {1}")
+    @CsvSource({
+            "Monthly rent, RENT",
+            "Migros grocery, SHOPPING",
+            "Electricity invoice, BILLS",
+            "Salary October, SALARY",
+            "Cafe Nero, DINING",
+            "EFT to friend, TRANSFER",
+            "Misc, OTHER"
+    })
+    @DisplayName("Classifier: Map descriptions to categories at write time")
+    void determineCategory_MapsKeywords(String description, TransactionCategory expected) {
+        // When & Then
+        assertThat(analysisService.determineCategory(description)).isEqualTo(expected);
+    }
+}
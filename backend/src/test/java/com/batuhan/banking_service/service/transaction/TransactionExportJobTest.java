@@ -0,0 +1,285 @@
+package com.batuhan.banking_service.service.transaction;
+
+import com.batuhan.banking_service.TestDataFactory;
+import com.batuhan.banking_service.dto.response.ExportJobResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.entity.enums.ExportJobStatus;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.service.BaseServiceTest;
+import com.batuhan.banking_service.service.TransactionExportService;
+import com.batuhan.banking_service.service.export.ExportJobFile;
+import com.batuhan.banking_service.service.impl.ExportJobServiceImpl;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.springframework.core.task.SyncTaskExecutor;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Transaction Service - Background Export Jobs")
+class TransactionExportJobTest extends BaseServiceTest {
+
+    private static final String OWNER = "owner@test.com";
+
+    @Mock
+    private TransactionExportService transactionExportService;
+
+    @TempDir
+    Path stagingDir;
+
+    private ExportJobServiceImpl exportJobService;
+    private final String iban = TestDataFactory.VALID_IBAN;
+
+    @BeforeEach
+    void setUp() {
+        exportJobService = createService(new SyncTaskExecutor());
+        lenient().when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
+        lenient().when(bankingBusinessValidator.getAuthenticatedUserEmail()).thenReturn(OWNER);
+    }
+
+    private ExportJobServiceImpl createService(Executor executor) {
+        ExportJobServiceImpl service = new ExportJobServiceImpl(transactionExportService, bankingBusinessValidator, executor);
+        ReflectionTestUtils.setField(service, "stagingDir", stagingDir);
+        return service;
+    }
+
+    private void mockExportWrites(String content) {
+        when(transactionExportService.exportTransactions(eq(iban), eq(ExportFormat.CSV), any(OutputStream.class)))
+                .thenAnswer(invocation -> {
+                    invocation.getArgument(2, OutputStream.class).write(content.getBytes(StandardCharsets.UTF_8));
+                    return 1L;
+                });
+    }
+
+    @Test
+    @DisplayName("Success: Job writes to staging and exposes the finished file")
+    void submitExport_Success() throws IOException {
+        // Given
+        mockExportWrites("reference_number\r\nREF-1\r\n");
+
+        // When
+        ExportJobResponse submitted = exportJobService.submitExport(iban, ExportFormat.CSV);
+        ExportJobResponse status = exportJobService.getExportJob(submitted.jobId());
+        ExportJobFile file = exportJobService.getExportFile(submitted.jobId());
+
+        // Then
+        assertThat(status.status()).isEqualTo(ExportJobStatus.COMPLETED);
+        assertThat(status.rowCount()).isEqualTo(1L);
+        assertThat(status.expiresAt()).isAfter(status.completedAt());
+        assertThat(file.sizeBytes()).isEqualTo(Files.size(file.path()));
+        assertThat(Files.readString(file.path())).startsWith("reference_number");
+        assertThat(file.filename()).isEqualTo("transactions_" + iban + ".csv");
+        try (var staged = Files.list(stagingDir)) {
+            assertThat(staged).noneMatch(path -> path.toString().endsWith(".part"));
+        }
+    }
+
+    @Test
+    @DisplayName("Failure: Failed job leaves no partial file and cannot be downloaded")
+    void submitExport_ExportFails_MarkedFailed() throws IOException {
+        // Given
+        when(transactionExportService.exportTransactions(eq(iban), eq(ExportFormat.CSV), any(OutputStream.class)))
+                .thenThrow(new IllegalStateException("Cursor closed"));
+
+        // When
+        UUID jobId = exportJobService.submitExport(iban, ExportFormat.CSV).jobId();
+
+        // Then
+        assertThat(exportJobService.getExportJob(jobId).status()).isEqualTo(ExportJobStatus.FAILED);
+        assertThatThrownBy(() -> exportJobService.getExportFile(jobId))
+                .isInstanceOf(BankingServiceException.class)
+                .extracting("status").isEqualTo(HttpStatus.CONFLICT);
+        try (var staged = Files.list(stagingDir)) {
+            assertThat(staged).isEmpty();
+        }
+    }
+
+    @Test
+    @DisplayName("Security: Jobs of other users are reported as not found")
+    void getExportJob_OtherUser_NotFound() {
+        // Given
+        mockExportWrites("data");
+        UUID jobId = exportJobService.submitExport(iban, ExportFormat.CSV).jobId();
+
+        // When
+        when(bankingBusinessValidator.getAuthenticatedUserEmail()).thenReturn("intruder@test.com");
+        when(bankingBusinessValidator.isAdmin()).thenReturn(false);
+
+        // Then
+        assertThatThrownBy(() -> exportJobService.getExportJob(jobId))
+                .isInstanceOf(BankingServiceException.class)
+                .extracting("status").isEqualTo(HttpStatus.NOT_FOUND);
+    }
+
+    @Test
+    @DisplayName("Failure: Full worker queue rejects the job without tracking it")
+    void submitExport_QueueFull_ServiceUnavailable() {
+        // Given
+        ExportJobServiceImpl saturated = createService(task -> {
+            throw new TaskRejectedException("queue full");
+        });
+
+        // When & Then
+        assertThatThrownBy(() -> saturated.submitExport(iban, ExportFormat.CSV))
+                .isInstanceOf(BankingServiceException.class)
+                .extracting("status").isEqualTo(HttpStatus.SERVICE_UNAVAILABLE);
+        verifyNoInteractions(transactionExportService);
+    }
+
+    @Test
+    @DisplayName("Failure: Per-user limit on concurrently running jobs")
+    void submitExport_TooManyActiveJobs_Rejected() {
+        // Given
+        ExportJobServiceImpl queued = createService(task -> { });
+        queued.submitExport(iban, ExportFormat.CSV);
+        queued.submitExport(iban, ExportFormat.NDJSON);
+
+        // When & Then
+        assertThatThrownBy(() -> queued.submitExport(iban, ExportFormat.EXCEL))
+                .isInstanceOf(BankingServiceException.class)
+                .extracting("status").isEqualTo(HttpStatus.TOO_MANY_REQUESTS);
+    }
+
+    @Test
+    @DisplayName("Concurrency: Simultaneous submissions never exceed the per-user limit")
+    void submitExport_ConcurrentSubmissions_LimitHolds() throws Exception {
+        // Given
+        ExportJobServiceImpl queued = createService(task -> { });
+        int submitters = 16;
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(submitters);
+        List<Future<Boolean>> results = new ArrayList<>();
+
+        // When
+        try {
+            for (int i = 0; i < submitters; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    try {
+                        queued.submitExport(iban, ExportFormat.CSV);
+                        return true;
+                    } catch (BankingServiceException e) {
+                        return false;
+                    }
+                }));
+            }
+            start.countDown();
+            int accepted = 0;
+            for (Future<Boolean> result : results) {
+                accepted += result.get(10, TimeUnit.SECONDS) ? 1 : 0;
+            }
+
+            // Then
+            assertThat(accepted).isEqualTo(2);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    @DisplayName("Success: A finished job frees its slot for the next submission")
+    void submitExport_AfterCompletion_SlotReleased() {
+        // Given
+        mockExportWrites("data");
+        exportJobService.submitExport(iban, ExportFormat.CSV);
+        exportJobService.submitExport(iban, ExportFormat.CSV);
+
+        // When
+        ExportJobResponse third = exportJobService.submitExport(iban, ExportFormat.CSV);
+
+        // Then
+        assertThat(third.status()).isEqualTo(ExportJobStatus.COMPLETED);
+    }
+
+    @Test
+    @DisplayName("Cleanup: Expired jobs and orphaned staging files are removed")
+    void cleanupExpiredExports_RemovesExpiredAndOrphans() throws IOException {
+        // Given
+        mockExportWrites("data");
+        UUID jobId = exportJobService.submitExport(iban, ExportFormat.CSV).jobId();
+        Path stagedFile;
+        try (ExportJobFile file = exportJobService.getExportFile(jobId)) {
+            stagedFile = file.path();
+        }
+        ReflectionTestUtils.setField(exportJobService, "downloadReleaseGrace", Duration.ZERO);
+        Path orphan = Files.writeString(stagingDir.resolve(UUID.randomUUID() + ".csv.part"), "stale");
+        Files.setLastModifiedTime(orphan, FileTime.from(Instant.now().minus(Duration.ofDays(1))));
+
+        // When
+        ReflectionTestUtils.setField(exportJobService, "ttl", Duration.ofSeconds(-1));
+        int removed = exportJobService.cleanupExpiredExports();
+
+        // Then
+        assertThat(removed).isEqualTo(2);
+        assertThat(stagedFile).doesNotExist();
+        assertThat(orphan).doesNotExist();
+        assertThatThrownBy(() -> exportJobService.getExportJob(jobId)).isInstanceOf(BankingServiceException.class);
+    }
+
+    @Test
+    @DisplayName("Cleanup: An expired job is kept while its file is being downloaded")
+    void cleanupExpiredExports_DownloadInFlight_Deferred() throws IOException {
+        // Given
+        mockExportWrites("data");
+        UUID jobId = exportJobService.submitExport(iban, ExportFormat.CSV).jobId();
+        ReflectionTestUtils.setField(exportJobService, "ttl", Duration.ofSeconds(-1));
+        ReflectionTestUtils.setField(exportJobService, "downloadReleaseGrace", Duration.ZERO);
+        ExportJobFile download = exportJobService.getExportFile(jobId);
+
+        // When
+        int removedWhileServing = exportJobService.cleanupExpiredExports();
+        download.close();
+        download.close();
+        int removedAfterRelease = exportJobService.cleanupExpiredExports();
+
+        // Then
+        assertThat(removedWhileServing).isZero();
+        assertThat(removedAfterRelease).isEqualTo(1);
+        assertThat(download.path()).doesNotExist();
+    }
+
+    @Test
+    @DisplayName("Cleanup: A file stays on disk for the release grace after its download ends")
+    void cleanupExpiredExports_WithinReleaseGrace_Deferred() throws IOException {
+        // Given
+        mockExportWrites("data");
+        UUID jobId = exportJobService.submitExport(iban, ExportFormat.CSV).jobId();
+        ReflectionTestUtils.setField(exportJobService, "ttl", Duration.ofSeconds(-1));
+        ExportJobFile download = exportJobService.getExportFile(jobId);
+        download.close();
+
+        // When
+        int removed = exportJobService.cleanupExpiredExports();
+
+        // Then
+        assertThat(removed).isZero();
+        assertThat(download.path()).exists();
+    }
+}
@@ -0,0 +1,157 @@
+package com.batuhan.banking_service.service.transaction;
+
+import com.batuhan.banking_service.TestDataFactory;
+import com.batuhan.banking_service.dto.response.TransactionResponse;
+import com.batuhan.banking_service.entity.enums.ExportFormat;
+import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.service.BaseServiceTest;
+import com.batuhan.banking_service.service.export.CsvTransactionExportWriter;
+import com.batuhan.banking_service.service.export.NdjsonTransactionExportWriter;
+import com.batuhan.banking_service.service.impl.ExcelServiceImpl;
+import com.batuhan.banking_service.service.impl.TransactionExportServiceImpl;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.ss.usermodel.Workbook;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@DisplayName("Transaction Service - Streaming Export")
+class TransactionExportTest extends BaseServiceTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private TransactionExportServiceImpl transactionExportService;
+
+    @BeforeEach
+    void setUp() {
+        transactionExportService = new TransactionExportServiceImpl(
+                transactionRepository, bankingBusinessValidator,
+                List.of(new ExcelServiceImpl(), new CsvTransactionExportWriter(), new NdjsonTransactionExportWriter(objectMapper)));
+    }
+
+    private void mockCursor(String iban, TransactionResponse firstRow, TransactionResponse secondRow) {
+        when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
+        when(transactionRepository.streamResponsesByIban(iban)).thenReturn(Stream.of(firstRow, secondRow));
+    }
+
+    @Nested
+    @DisplayName("1. Export Orchestration")
+    class OrchestrationTests {
+
+        @Test
+        @DisplayName("Success: Projected cursor rows are written to the workbook without entity mapping")
+        void exportTransactions_Excel_Success() throws IOException {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            mockCursor(iban,
+                    createMockTransactionResponse("REF-1", BigDecimal.TEN, iban, TestDataFactory.OTHER_VALID_IBAN),
+                    createMockTransactionResponse("REF-2", BigDecimal.ONE, TestDataFactory.OTHER_VALID_IBAN, iban));
+
+            long written = transactionExportService.exportTransactions(iban, ExportFormat.EXCEL, out);
+
+            // Then
+            assertThat(written).isEqualTo(2);
+            verifyNoInteractions(transactionMapper);
+
+            try (Workbook workbook = new XSSFWorkbook(new ByteArrayInputStream(out.toByteArray()))) {
+                Sheet sheet = workbook.getSheetAt(0);
+                assertThat(sheet.getLastRowNum()).isEqualTo(2);
+                assertThat(sheet.getRow(0).getCell(0).getStringCellValue()).isEqualTo("Reference Number");
+                assertThat(sheet.getRow(2).getCell(0).getStringCellValue()).isEqualTo("REF-2");
+                assertThat(sheet.getColumnWidth(2)).isPositive();
+            }
+        }
+
+        @Test
+        @DisplayName("Failure: Export is blocked for non-owners before the cursor is opened")
+        void exportTransactions_Unauthorized_Failure() {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+
+            // When
+            when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(false);
+
+            // Then
+            assertThatThrownBy(() -> transactionExportService.exportTransactions(iban, ExportFormat.CSV, new ByteArrayOutputStream()))
+                    .isInstanceOf(BankingServiceException.class);
+            verify(transactionRepository, never()).streamResponsesByIban(any());
+        }
+    }
+
+    @Nested
+    @DisplayName("2. Text Formats")
+    class TextFormatTests {
+
+        @Test
+        @DisplayName("CSV: Header plus one quoted, formula-safe line per row")
+        void exportTransactions_Csv_Success() {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            TransactionResponse plain = createMockTransactionResponse("REF-1", new BigDecimal("10.50"), iban, TestDataFactory.OTHER_VALID_IBAN);
+            TransactionResponse tricky = new TransactionResponse(
+                    plain.externalId(), iban, "Doe, \"JD\" John", TestDataFactory.OTHER_VALID_IBAN, "Receiver",
+                    BigDecimal.ONE, plain.transactionType(), plain.status(), "=HYPERLINK(\"x\")", plain.createdAt(), "REF-2");
+
+            // When
+            mockCursor(iban, plain, tricky);
+            long written = transactionExportService.exportTransactions(iban, ExportFormat.CSV, out);
+
+            // Then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+            assertThat(written).isEqualTo(2);
+            assertThat(lines).hasSize(3);
+            assertThat(lines[0]).startsWith("reference_number,external_id");
+            assertThat(lines[1]).startsWith("REF-1,").contains(",10.50,");
+            assertThat(lines[2]).contains("\"Doe, \"\"JD\"\" John\"")
+                    .contains("\"'=HYPERLINK(\"\"x\"\")\"");
+        }
+
+        @Test
+        @DisplayName("NDJSON: One JSON object per line with API field names")
+        void exportTransactions_Ndjson_Success() throws IOException {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+            // When
+            mockCursor(iban,
+                    createMockTransactionResponse("REF-1", BigDecimal.TEN, iban, TestDataFactory.OTHER_VALID_IBAN),
+                    createMockTransactionResponse("REF-2", BigDecimal.ONE, TestDataFactory.OTHER_VALID_IBAN, iban));
+            long written = transactionExportService.exportTransactions(iban, ExportFormat.NDJSON, out);
+
+            // Then
+            String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+            assertThat(written).isEqualTo(2);
+            assertThat(lines).hasSize(2);
+            JsonNode secondLine = objectMapper.readTree(lines[1]);
+            assertThat(lines[1]).doesNotStartWith(" ");
+            assertThat(secondLine.get("referenceNumber").asText()).isEqualTo("REF-2");
+            assertThat(secondLine.get("createdAt").isTextual()).isTrue();
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.batuhan.banking_service.service.transaction;
 
 import com.batuhan.banking_service.TestDataFactory;
-import com.batuhan.banking_service.entity.TransactionEntity;
 import com.batuhan.banking_service.exception.BankingServiceException;
+import com.batuhan.banking_service.repository.specification.TransactionTextSearch;
 import com.batuhan.banking_service.service.BaseServiceTest;
 import com.batuhan.banking_service.service.impl.TransactionServiceImpl;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +14,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.http.HttpStatus;
 
@@ -48,7 +49,7 @@ class TransactionQueryTest extends BaseServiceTest {
             // When
             mockAccountLookup(account);
             when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
-            when(transactionRepository.findAllByIban(eq(iban), any(Pageable.class)))
+            when(transactionRepository.findResponsesByIban(eq(iban), any(Pageable.class)))
                     .thenReturn(new PageImpl<>(Collections.emptyList()));
 
             var result = transactionService.getTransactionHistory(iban, pageable);
@@ -56,7 +57,7 @@ class TransactionQueryTest extends BaseServiceTest {
             // Then
             assertAll("History Result Checks",
                     () -> assertThat(result).isNotNull(),
-                    () -> verify(transactionRepository).findAllByIban(eq(iban), any(Pageable.class)),
+                    () -> verify(transactionRepository).findResponsesByIban(eq(iban), any(Pageable.class)),
                     () -> verify(bankingBusinessValidator).isAccountOwner(iban)
             );
         }
@@ -78,7 +79,7 @@ class TransactionQueryTest extends BaseServiceTest {
                     () -> transactionService.getTransactionHistory(iban, pageable));
 
             assertThat(ex.getStatus()).isEqualTo(HttpStatus.FORBIDDEN);
-            verify(transactionRepository, never()).findAllByIban(anyString(), any());
+            verify(transactionRepository, never()).findResponsesByIban(anyString(), any());
         }
     }
 
@@ -98,7 +99,7 @@ class TransactionQueryTest extends BaseServiceTest {
             // When
             mockAccountLookup(account);
             when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
-            when(transactionRepository.findAll(any(Specification.class), eq(pageable)))
+            when(transactionRepository.findResponses(any(Specification.class), eq(pageable)))
                     .thenReturn(new PageImpl<>(Collections.emptyList()));
 
             var result = transactionService.filterTransactions(
@@ -106,7 +107,8 @@ class TransactionQueryTest extends BaseServiceTest {
 
             // Then
             assertThat(result).isNotNull();
-            verify(transactionRepository).findAll(any(Specification.class), eq(pageable));
+            verify(transactionRepository).findResponses(any(Specification.class), eq(pageable));
+            verifyNoInteractions(transactionMapper);
         }
 
         @Test
@@ -116,14 +118,12 @@ class TransactionQueryTest extends BaseServiceTest {
             // Given
             String iban = TestDataFactory.VALID_IBAN;
             var account = TestDataFactory.createTestAccount(TestDataFactory.createTestUser(), iban);
-            var mockEntity = TestDataFactory.createTransactionEntity(account, account, BigDecimal.TEN);
             var mockResponse = TestDataFactory.createTransactionResponse();
 
             // When
             mockAccountLookup(account);
             when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
-            when(transactionRepository.findAll(any(Specification.class))).thenReturn(List.of(mockEntity));
-            when(transactionMapper.toResponse(any(TransactionEntity.class))).thenReturn(mockResponse);
+            when(transactionRepository.findResponses(any(Specification.class), any(Sort.class))).thenReturn(List.of(mockResponse));
 
             var result = transactionService.getAllTransactionsByIban(iban);
 
@@ -133,8 +133,69 @@ class TransactionQueryTest extends BaseServiceTest {
                     () -> assertThat(result).isNotNull().isNotEmpty(),
                     () -> assertThat(firstResponse).isNotNull(),
                     () -> assertThat(firstResponse.amount()).isEqualByComparingTo(new BigDecimal("100.00")),
-                    () -> verify(transactionRepository).findAll(any(Specification.class))
+                    () -> verify(transactionRepository).findResponses(any(Specification.class), any(Sort.class))
             );
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("3. Transaction Search Operations")
+    class SearchTests {
+
+        @Test
+        @DisplayName("Success: Fetch one extra row to decide whether a next cursor is returned")
+        @SuppressWarnings("unchecked")
+        void searchTransactions_ReturnsNextCursor() {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+            var first = TestDataFactory.createTransactionResponse();
+            var second = TestDataFactory.createTransactionResponse();
+            var firstPosition = new TransactionTextSearch.Cursor(3, first.createdAt(), 7L);
+
+            // When
+            when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
+            when(transactionRepository.search(any(Specification.class), any(TransactionTextSearch.class), isNull(), eq(2)))
+                    .thenReturn(List.of(new TransactionTextSearch.Hit(first, firstPosition),
+                            new TransactionTextSearch.Hit(second, new TransactionTextSearch.Cursor(2, second.createdAt(), 5L))));
+
+            var result = transactionService.searchTransactions(iban, "  Rent at ", null, null, null, null, null, 1);
+
+            // Then
+            assertThat(result.items()).containsExactly(first);
+            assertThat(TransactionTextSearch.Cursor.decode(result.nextCursor())).isEqualTo(firstPosition);
+            verify(transactionRepository).search(any(Specification.class),
+                    eq(new TransactionTextSearch(iban, List.of("rent"))), isNull(), eq(2));
+        }
+
+        @Test
+        @DisplayName("Failure: Reject a query without any term long enough for the trigram index")
+        void searchTransactions_ShortQuery_Failure() {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+
+            // When
+            when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
+
+            // Then
+            BankingServiceException ex = assertThrows(BankingServiceException.class,
+                    () -> transactionService.searchTransactions(iban, "a b", null, null, null, null, null, 20));
+            assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+            verify(transactionRepository, never()).search(any(), any(), any(), anyInt());
+        }
+
+        @Test
+        @DisplayName("Failure: Reject a tampered cursor")
+        void searchTransactions_InvalidCursor_Failure() {
+            // Given
+            String iban = TestDataFactory.VALID_IBAN;
+
+            // When
+            when(bankingBusinessValidator.isAccountOwner(iban)).thenReturn(true);
+
+            // Then
+            BankingServiceException ex = assertThrows(BankingServiceException.class,
+                    () -> transactionService.searchTransactions(iban, "rent", null, null, null, null, "not-a-cursor", 20));
+            assertThat(ex.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST);
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.batuhan.banking_service.service.transaction;
+
+import com.batuhan.banking_service.TestDataFactory;
+import com.batuhan.banking_service.entity.AccountEntity;
+import com.batuhan.banking_service.entity.TransactionEntity;
+import com.batuhan.banking_service.entity.UserEntity;
+import com.batuhan.banking_service.repository.BaseIntegrationTest;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Transaction Receipt Access Integration Tests
+ * - Calls the receipt endpoint through the real service, validator and resilience aspects.
+ * - Verifies that denied and unknown receipts are answered with 403/404 instead of the rendering fallback, and that
+ *   repeated denials do not open the receipt circuit breaker for the account holders.
+ */
+@DisplayName("Service - Transaction Receipt Access Integration Tests")
+class TransactionReceiptAccessIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+
+    private UserEntity owner;
+    private TransactionEntity transaction;
+
+    @BeforeEach
+    void setUp() {
+        clearDatabase();
+        circuitBreakerRegistry.circuitBreaker("receiptService").reset();
+
+        owner = saveTestUser();
+        AccountEntity sender = saveAccount(owner, TestDataFactory.VALID_IBAN, "1000.00");
+        AccountEntity receiver = createAndSaveAccount(TestDataFactory.OTHER_VALID_IBAN, "1000.00");
+        transaction = transactionRepository.saveAndFlush(
+                TestDataFactory.createTransactionEntity(sender, receiver, new BigDecimal("25.00")));
+    }
+
+    @Test
+    @DisplayName("Failure: A non-owner gets 403 every time and the breaker stays closed for the owner")
+    void downloadReceipt_NonOwner_Forbidden() throws Exception {
+        // When
+        for (int i = 0; i < 6; i++) {
+            mockMvc.perform(get("/api/v1/transactions/receipt/{id}", transaction.getId()).with(user("intruder@test.com")))
+                    .andExpect(status().isForbidden());
+        }
+
+        // Then
+        CircuitBreaker breaker = circuitBreakerRegistry.circuitBreaker("receiptService");
+        assertThat(breaker.getState()).isEqualTo(CircuitBreaker.State.CLOSED);
+        assertThat(breaker.getMetrics().getNumberOfFailedCalls()).isZero();
+        mockMvc.perform(get("/api/v1/transactions/receipt/{id}", transaction.getId()).with(user(owner.getEmail())))
+                .andExpect(status().isOk());
+    }
+
+    @Test
+    @DisplayName("Failure: An unknown transaction id is reported as 404, not as a busy PDF service")
+    void downloadReceipt_UnknownId_NotFound() throws Exception {
+        // When & Then
+        mockMvc.perform(get("/api/v1/transactions/receipt/{id}", transaction.getId() + 1000).with(user(owner.getEmail())))
+                .andExpect(status().isNotFound());
+    }
+
+    private static JwtRequestPostProcessor user(String email) {
+        return jwt().jwt(token -> token.claim("email", email))
+                .authorities(new SimpleGrantedAuthority("ROLE_USER"));
+    }
+}
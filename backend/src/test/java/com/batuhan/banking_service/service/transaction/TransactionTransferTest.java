@@ -6,6 +6,7 @@ import com.batuhan.banking_service.entity.TransactionEntity;
 import com.batuhan.banking_service.entity.enums.CurrencyType;
 import com.batuhan.banking_service.exception.BankingServiceException;
 import com.batuhan.banking_service.service.BaseServiceTest;
+import com.batuhan.banking_service.service.helper.TransferMetrics;
 import com.batuhan.banking_service.service.impl.TransactionServiceImpl;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -17,6 +18,7 @@ import org.mockito.quality.Strictness;
 import org.springframework.http.HttpStatus;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -65,7 +67,9 @@ class TransactionTransferTest extends BaseServiceTest {
                     () -> assertThat(response).isNotNull(),
                     () -> assertThat(response.referenceNumber()).isEqualTo("TX-REF"),
                     () -> verify(accountingManager).processAccounting(any(), any(), eq(amount)),
-                    () -> verify(auditService).log(eq("MONEY_TRANSFER"), any(), contains("Reference:"))
+                    () -> verify(auditService).log(eq("MONEY_TRANSFER"), any(), contains("Reference:")),
+                    () -> verify(readYourWritesWindow).openForCurrentUser(),
+                    () -> verify(transactionRepository).save(argThat(saved -> saved.getCurrency() == CurrencyType.TRY))
             );
         }
 
@@ -154,4 +158,72 @@ class TransactionTransferTest extends BaseServiceTest {
             inOrder.verify(accountRepository).findByIbanWithLock(largeIban);
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("4. Phase Metrics")
+    class PhaseMetricsTests {
+
+        @Test
+        @DisplayName("Success: Every phase and the whole transfer are timed with a success outcome")
+        void transferMoney_TimesEveryPhase() {
+            // Given
+            String senderIban = TestDataFactory.VALID_IBAN;
+            String receiverIban = TestDataFactory.OTHER_VALID_IBAN;
+            var request = new TransactionRequest(senderIban, receiverIban, BigDecimal.TEN, CurrencyType.TRY, "Metrics");
+            mockAccountPairLookup(senderIban, receiverIban);
+            when(transactionRepository.save(any())).thenReturn(new TransactionEntity());
+
+            // When
+            transactionService.transferMoney(request);
+
+            // Then
+            for (String phase : List.of("self_transfer_check", "lock", "validation", "accounting",
+                    "record_insert", "audit_enqueue", "notification_publish")) {
+                assertThat(phaseCount(phase, "success", "none")).as(phase).isEqualTo(1);
+            }
+            assertThat(meterRegistry.get(TransferMetrics.TRANSFER).tag("outcome", "success").timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Failure: A rejected transfer is tagged with the failing phase and its reason")
+        void transferMoney_RuleViolation_TaggedWithReason() {
+            // Given
+            mockAccountPairLookup("TR-A", "TR-B");
+            mockBusinessException("Insufficient funds in sender account!", HttpStatus.BAD_REQUEST);
+            var request = new TransactionRequest("TR-A", "TR-B", BigDecimal.TEN, CurrencyType.TRY, "Metrics");
+
+            // When
+            assertThatThrownBy(() -> transactionService.transferMoney(request)).isInstanceOf(BankingServiceException.class);
+
+            // Then
+            assertThat(phaseCount("lock", "success", "none")).isEqualTo(1);
+            assertThat(phaseCount("validation", "failure", "bad_request")).isEqualTo(1);
+            assertThat(meterRegistry.find(TransferMetrics.PHASE).tag("phase", "accounting").timer()).isNull();
+            assertThat(meterRegistry.get(TransferMetrics.TRANSFER).tags("outcome", "failure", "reason", "bad_request")
+                    .timer().count()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("Success: A failed notification publish is timed as a failure without failing the transfer")
+        void transferMoney_BrokerFailure_TaggedOnNotificationPhase() {
+            // Given
+            mockAccountPairLookup("TR-A", "TR-B");
+            when(transactionRepository.save(any())).thenReturn(new TransactionEntity());
+            doThrow(new IllegalStateException("Broker down")).when(rabbitMQProducer).sendToQueue(any());
+            var request = new TransactionRequest("TR-A", "TR-B", BigDecimal.TEN, CurrencyType.TRY, "Metrics");
+
+            // When
+            transactionService.transferMoney(request);
+
+            // Then
+            assertThat(phaseCount("notification_publish", "failure", "IllegalStateException")).isEqualTo(1);
+            assertThat(meterRegistry.get(TransferMetrics.TRANSFER).tag("outcome", "success").timer().count()).isEqualTo(1);
+        }
+
+        private long phaseCount(String phase, String outcome, String reason) {
+            return meterRegistry.get(TransferMetrics.PHASE)
+                    .tags("phase", phase, "outcome", outcome, "reason", reason)
+                    .timer().count();
+        }
+    }
+}
@@ -0,0 +1,101 @@
+package com.batuhan.banking_service.service.user;
+
+import com.batuhan.banking_service.service.helper.BloomFilter;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Bloom Filter Tests
+ * - Verifies that added values are always reported, that values never added are reported at about the configured
+ *   rate, and that the size and fill estimates follow the standard formulas, also under concurrent adds.
+ */
+@DisplayName("Service - Bloom Filter Tests")
+class BloomFilterTest {
+
+    private static final int ELEMENTS = 100_000;
+
+    @Test
+    @DisplayName("Success: No false negatives and a false-positive rate close to the configured one")
+    void mightContain_NoFalseNegatives_ConfiguredFalsePositiveRate() {
+        // Given
+        BloomFilter filter = BloomFilter.create(ELEMENTS, 0.01);
+
+        // When
+        for (int i = 0; i < ELEMENTS; i++) {
+            filter.add("customer" + i + "@banking.com");
+        }
+
+        // Then
+        assertThat(IntStream.range(0, ELEMENTS).allMatch(i -> filter.mightContain("customer" + i + "@banking.com"))).isTrue();
+        long falsePositives = IntStream.range(0, ELEMENTS)
+                .filter(i -> filter.mightContain("prospect" + i + "@banking.com"))
+                .count();
+        assertThat((double) falsePositives / ELEMENTS).isBetween(0.005, 0.015);
+        assertThat(filter.expectedFalsePositiveRate()).isCloseTo(0.01, within(0.002));
+        assertThat(filter.approximateElements()).isCloseTo(ELEMENTS, within(2_000L));
+        // -n ln p / (ln 2)^2 bits, about 9.6 per element
+        assertThat(filter.sizeInBytes()).isBetween(119_000L, 121_000L);
+    }
+
+    @Test
+    @DisplayName("Success: Only the first add of a value changes the filter")
+    void add_SameValueTwice_ChangesOnce() {
+        // Given
+        BloomFilter filter = BloomFilter.create(1_000, 0.01);
+
+        // When & Then
+        assertThat(filter.mightContain("12345678950")).isFalse();
+        assertThat(filter.add("12345678950")).isTrue();
+        assertThat(filter.add("12345678950")).isFalse();
+        assertThat(filter.mightContain("12345678950")).isTrue();
+    }
+
+    @Test
+    @DisplayName("Success: Values added from several threads at once are all kept")
+    void add_Concurrently_KeepsEveryValue() throws Exception {
+        // Given
+        BloomFilter filter = BloomFilter.create(ELEMENTS, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // When
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = thread; i < ELEMENTS; i += 8) {
+                        filter.add("TR" + i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        // Then
+        assertThat(IntStream.range(0, ELEMENTS).allMatch(i -> filter.mightContain("TR" + i))).isTrue();
+        assertThat(filter.approximateElements()).isCloseTo(ELEMENTS, within(2_000L));
+    }
+
+    @Test
+    @DisplayName("Failure: Rejects a non-positive size or a false-positive rate outside (0, 1)")
+    void create_InvalidSettings_Throws() {
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(0, 0.01));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1_000, 0));
+        assertThrows(IllegalArgumentException.class, () -> BloomFilter.create(1_000, 1));
+    }
+}
@@ -0,0 +1,166 @@
+package com.batuhan.banking_service.service.user;
+
+import com.batuhan.banking_service.TestDataFactory;
+import com.batuhan.banking_service.entity.UserEntity;
+import com.batuhan.banking_service.repository.BaseIntegrationTest;
+import com.batuhan.banking_service.service.BulkOnboardingService;
+import com.batuhan.banking_service.validator.IbanCodec;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.JwtRequestPostProcessor;
+import org.springframework.test.util.AopTestUtils;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Bulk Onboarding Integration Tests
+ * - Imports CSV and NDJSON files end to end, through the endpoint into the database.
+ * - Uses a chunk size of 2, so rows of one file are validated in parallel and saved over several chunks.
+ * - Verifies the per-row error report for parse errors, validation errors and duplicates in the file and database.
+ */
+@DisplayName("Service - Bulk Onboarding Integration Tests")
+class BulkOnboardingIntegrationTest extends BaseIntegrationTest {
+
+    private static final String IMPORT_URL = "/api/v1/users/import";
+    private static final String HEADER = "first_name,last_name,tckn,email,birth_date,phone_number,country,city,district,street,address_detail,zip_code,currency,daily_limit";
+
+    @Autowired
+    private BulkOnboardingService bulkOnboardingService;
+
+    private Object serviceTarget;
+    private int defaultChunkSize;
+
+    @BeforeEach
+    void setUp() {
+        serviceTarget = AopTestUtils.getUltimateTargetObject(bulkOnboardingService);
+        defaultChunkSize = (int) ReflectionTestUtils.getField(serviceTarget, "chunkSize");
+        ReflectionTestUtils.setField(serviceTarget, "chunkSize", 2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(serviceTarget, "chunkSize", defaultChunkSize);
+    }
+
+    @Test
+    @DisplayName("Success: Valid CSV rows are imported with address, account and limit; the others are reported")
+    void importCsv_MixedRows_ImportsValidRowsAndReportsTheRest() throws Exception {
+        // Given
+        UserEntity existing = saveTestUser();
+        String first = TestDataFactory.generateValidTckn();
+        String second = TestDataFactory.generateValidTckn();
+        String third = TestDataFactory.generateValidTckn();
+        String csv = HEADER + "\r\n"
+                + csvRow("Ayse", first, "ayse@payroll.com", "1990-04-12", "+905550000001", "\"Block A, No: 1\"") + "\r\n"
+                + csvRow("Mehmet", "12345678901", "mehmet@payroll.com", "1991-02-01", "+905550000002", "Block B") + "\r\n"
+                + csvRow("Zeynep", second, "AYSE@payroll.com", "1992-03-03", "+905550000003", "Block C") + "\r\n"
+                + "\r\n"
+                + csvRow("Ali", existing.getTckn(), "ali@payroll.com", "1985-05-05", "+905550000004", "Block D") + "\r\n"
+                + csvRow("Can", third, "can@payroll.com", "05/06/1980", "+905550000005", "Block E") + "\r\n"
+                + csvRow("Elif", third, "elif@payroll.com", "1980-06-05", "+905550000006", "\"Flat \"\"7\"\"\"") + "\r\n";
+
+        // When & Then
+        mockMvc.perform(post(IMPORT_URL)
+                        .with(admin())
+                        .contentType("text/csv")
+                        .content(csv))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRows").value(6))
+                .andExpect(jsonPath("$.data.imported").value(2))
+                .andExpect(jsonPath("$.data.rejected").value(4))
+                .andExpect(jsonPath("$.data.errors[0].row").value(2))
+                .andExpect(jsonPath("$.data.errors[0].field").value("tckn"))
+                .andExpect(jsonPath("$.data.errors[1].row").value(3))
+                .andExpect(jsonPath("$.data.errors[1].message").value("Duplicate email within the file"))
+                .andExpect(jsonPath("$.data.errors[2].row").value(4))
+                .andExpect(jsonPath("$.data.errors[2].message").value("TCKN is already in use"))
+                .andExpect(jsonPath("$.data.errors[3].row").value(5))
+                .andExpect(jsonPath("$.data.errors[3].field").value("birthDate"))
+                .andExpect(jsonPath("$.data.errorsTruncated").value(false));
+
+        // Then
+        List<Map<String, Object>> imported = jdbcTemplate.queryForList("""
+                SELECT u.first_name, u.customer_number, a.address_detail, acc.iban, acc.currency, l.daily_limit
+                FROM users u
+                JOIN addresses a ON a.id = u.address_id
+                JOIN accounts acc ON acc.user_id = u.id
+                JOIN account_limits l ON l.account_id = acc.id
+                WHERE u.tckn IN (?, ?, ?) ORDER BY u.first_name""", first, second, third);
+        assertThat(imported).extracting(row -> row.get("first_name")).containsExactly("Ayse", "Elif");
+        assertThat(imported).extracting(row -> row.get("address_detail")).containsExactly("Block A, No: 1", "Flat \"7\"");
+        assertThat(imported).allSatisfy(row -> {
+            assertThat(IbanCodec.isValid((String) row.get("iban"))).isTrue();
+            assertThat((String) row.get("customer_number")).hasSize(10);
+            assertThat(row.get("currency")).isEqualTo("TRY");
+        });
+    }
+
+    @Test
+    @DisplayName("Success: NDJSON rows keep a given foreign IBAN and report unparseable values by field")
+    void importNdjson_GivenIbanAndBadCurrency_ImportsAndReports() throws Exception {
+        // Given
+        String tckn = TestDataFactory.generateValidTckn();
+        String ndjson = jsonRow("Deniz", tckn, "deniz@payroll.com", "EUR", "\"de89 3704 0044 0532 0130 00\"") + "\n"
+                + jsonRow("Mert", TestDataFactory.generateValidTckn(), "mert@payroll.com", "XYZ", "null") + "\n"
+                + jsonRow("Ece", TestDataFactory.generateValidTckn(), "ece@payroll.com", "USD", "\"" + TestDataFactory.VALID_IBAN.substring(0, 20) + "\"") + "\n"
+                + "{not json\n";
+
+        // When & Then
+        mockMvc.perform(post(IMPORT_URL)
+                        .with(admin())
+                        .contentType("application/x-ndjson")
+                        .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.totalRows").value(4))
+                .andExpect(jsonPath("$.data.imported").value(1))
+                .andExpect(jsonPath("$.data.errors[0].field").value("currency"))
+                .andExpect(jsonPath("$.data.errors[1].field").value("iban"))
+                .andExpect(jsonPath("$.data.errors[2].message").value("Malformed JSON"));
+
+        // Then
+        String iban = jdbcTemplate.queryForObject(
+                "SELECT acc.iban FROM accounts acc JOIN users u ON u.id = acc.user_id WHERE u.tckn = ?", String.class, tckn);
+        assertThat(iban).isEqualTo("DE89370400440532013000");
+    }
+
+    @Test
+    @DisplayName("Failure: A CSV without the required columns is rejected as a whole")
+    void importCsv_MissingColumns_ReturnsBadRequest() throws Exception {
+        // When & Then
+        mockMvc.perform(post(IMPORT_URL)
+                        .with(admin())
+                        .contentType("text/csv")
+                        .content("first_name,last_name,email\r\nAyse,Yilmaz,ayse@payroll.com\r\n"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("tckn")));
+    }
+
+    private static JwtRequestPostProcessor admin() {
+        return jwt().jwt(token -> token.claim("email", "ops@bank.com"))
+                .authorities(new SimpleGrantedAuthority("ROLE_ADMIN"));
+    }
+
+    private static String csvRow(String firstName, String tckn, String email, String birthDate, String phone, String addressDetail) {
+        return String.join(",", firstName, "Yilmaz", tckn, email, birthDate, phone,
+                "Turkey", "Istanbul", "Levent", "Street 1", addressDetail, "34330", "TRY", "2500.00");
+    }
+
+    private static String jsonRow(String firstName, String tckn, String email, String currency, String iban) {
+        return """
+                {"firstName":"%s","lastName":"Kaya","tckn":"%s","email":"%s","birthDate":"1990-01-01","phoneNumber":"+90555%s","address":{"country":"Turkey","city":"Izmir","district":"Konak","street":"Street 2","addressDetail":"No: 3","zipCode":"35210"},"currency":"%s","dailyLimit":1000,"iban":%s}"""
+                .formatted(firstName, tckn, email, tckn.substring(0, 7), currency, iban);
+    }
+}
@@ -0,0 +1,141 @@
+package com.batuhan.banking_service.service.user;
+
+import com.batuhan.banking_service.TestDataFactory;
+import com.batuhan.banking_service.entity.UserEntity;
+import com.batuhan.banking_service.repository.BaseIntegrationTest;
+import com.batuhan.banking_service.service.helper.UniquenessFilters;
+import com.batuhan.banking_service.service.helper.UniquenessFilters.Key;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Uniqueness Filters Integration Tests
+ * - Builds the filters from the test database with a private instance, so the listeners of the shared context are
+ *   left alone and the rebuild runs synchronously.
+ * - Verifies that only values the filter may have seen reach the database, that new values are recorded, and that
+ *   lookups fall back to the database until the first scan.
+ */
+@DisplayName("Service - Uniqueness Filters Integration Tests")
+class UniquenessFiltersIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UniquenessFilters filters;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filters = new UniquenessFilters(entityManagerFactory, jdbcTemplate, transactionTemplate, meterRegistry,
+                true, 0.01, 1_000, 100);
+    }
+
+    @Test
+    @DisplayName("Success: Taken values are confirmed by the database, unseen ones are answered by the filter")
+    void exists_AfterRebuild_QueriesOnlyPossibleMatches() {
+        // Given
+        UserEntity user = userRepository.saveAndFlush(TestDataFactory.createTestUser());
+        filters.rebuild();
+        List<String> queried = new ArrayList<>();
+
+        // When
+        boolean taken = filters.exists(Key.EMAIL, user.getEmail(), email -> queried.add(email) && userRepository.existsByEmail(email));
+        boolean tcknTaken = filters.exists(Key.TCKN, user.getTckn(), tckn -> queried.add(tckn) && userRepository.existsByTckn(tckn));
+        boolean free = filters.exists(Key.EMAIL, "nobody@banking.com", email -> queried.add(email));
+
+        // Then
+        assertThat(taken).isTrue();
+        assertThat(tcknTaken).isTrue();
+        assertThat(free).isFalse();
+        assertThat(queried).containsExactly(user.getEmail(), user.getTckn());
+        assertThat(lookups("email", "confirmed")).isEqualTo(1);
+        assertThat(lookups("email", "skipped")).isEqualTo(1);
+        assertThat(meterRegistry.get(UniquenessFilters.ELEMENTS).tag("key", "email").gauge().value()).isGreaterThanOrEqualTo(1);
+        assertThat(meterRegistry.get(UniquenessFilters.SIZE).tag("key", "email").gauge().value()).isPositive();
+    }
+
+    @Test
+    @DisplayName("Success: A batch lookup sends only the possible matches to the database")
+    void existing_AfterRebuild_QueriesOnlyCandidates() {
+        // Given
+        UserEntity user = userRepository.saveAndFlush(TestDataFactory.createTestUser());
+        filters.rebuild();
+        List<String> emails = new ArrayList<>();
+        emails.add(user.getEmail());
+        for (int i = 0; i < 200; i++) {
+            emails.add("new-customer-" + i + "@banking.com");
+        }
+        List<Collection<String>> queries = new ArrayList<>();
+
+        // When
+        Set<String> existing = filters.existing(Key.EMAIL, emails, candidates -> {
+            queries.add(candidates);
+            Set<String> found = new HashSet<>();
+            candidates.stream().filter(userRepository::existsByEmail).forEach(found::add);
+            return found;
+        });
+
+        // Then
+        assertThat(existing).containsExactly(user.getEmail());
+        assertThat(queries).hasSize(1);
+        assertThat(queries.get(0)).contains(user.getEmail()).hasSizeLessThan(20);
+        assertThat(lookups("email", "skipped") + lookups("email", "confirmed") + lookups("email", "false_positive"))
+                .isEqualTo(emails.size());
+    }
+
+    @Test
+    @DisplayName("Success: Values inserted after the scan are recorded and no longer skipped")
+    void onPostInsert_AfterRebuild_RecordsNewValues() {
+        // Given
+        filters.rebuild();
+        UserEntity user = TestDataFactory.createTestUser();
+        PostInsertEvent event = mock(PostInsertEvent.class);
+        when(event.getEntity()).thenReturn(user);
+
+        // When
+        filters.onPostInsert(event);
+        filters.record(Key.IBAN, "TR330006100519786457841326");
+
+        // Then
+        assertThat(filters.exists(Key.EMAIL, user.getEmail(), email -> true)).isTrue();
+        assertThat(filters.exists(Key.TCKN, user.getTckn(), tckn -> true)).isTrue();
+        assertThat(filters.exists(Key.IBAN, "TR330006100519786457841326", iban -> true)).isTrue();
+        assertThat(lookups("email", "skipped") + lookups("tckn", "skipped") + lookups("iban", "skipped")).isZero();
+    }
+
+    @Test
+    @DisplayName("Success: Before the first scan every lookup goes to the database")
+    void exists_BeforeRebuild_AsksTheDatabase() {
+        // When
+        boolean taken = filters.exists(Key.IBAN, "TR330006100519786457841326", iban -> true);
+
+        // Then
+        assertThat(taken).isTrue();
+        assertThat(lookups("iban", "unavailable")).isEqualTo(1);
+        assertThat(meterRegistry.get(UniquenessFilters.FALSE_POSITIVE_RATE).tag("key", "iban").gauge().value()).isNaN();
+    }
+
+    private double lookups(String key, String result) {
+        return meterRegistry.get(UniquenessFilters.LOOKUPS).tag("key", key).tag("result", result).counter().count();
+    }
+}
@@ -55,6 +55,7 @@ class UserServiceTest extends BaseServiceTest {
             when(userRepository.existsByEmail(request.email())).thenReturn(false);
             when(userRepository.existsByTckn(request.tckn())).thenReturn(false);
             when(userMapper.toEntity(request)).thenReturn(userEntity);
+            when(identifierAllocator.nextCustomerNumber()).thenReturn("4812093376");
             when(userRepository.save(any(UserEntity.class))).thenReturn(userEntity);
             when(userMapper.toResponse(any(UserEntity.class))).thenReturn(expectedResponse);
 
@@ -64,7 +65,9 @@ class UserServiceTest extends BaseServiceTest {
             assertAll("User Creation Assertions",
                     () -> assertThat(result).isNotNull(),
                     () -> assertThat(result.email()).isEqualTo(request.email()),
-                    () -> verify(userRepository).save(any(UserEntity.class))
+                    () -> verify(userRepository).save(any(UserEntity.class)),
+                    () -> assertThat(userEntity.getCustomerNumber()).isEqualTo("4812093376"),
+                    () -> verify(userRepository, never()).existsByCustomerNumber(anyString())
             );
         }
 
@@ -0,0 +1,123 @@
+package com.batuhan.banking_service.validator;
+
+import com.batuhan.banking_service.TestDataFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.RepeatedTest;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.math.BigInteger;
+import java.util.BitSet;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * IBAN Codec Unit Tests
+ * - Verifies the rolling mod-97 checksum against published registry examples and a BigInteger reference.
+ * - Ensures registered countries are held to their length and BBAN format, and that generation round-trips.
+ */
+@DisplayName("Validator - IBAN Codec Unit Tests")
+class IbanCodecTest {
+
+    @ParameterizedTest(name = "Scenario: Registry example [{0}]")
+    @ValueSource(strings = {
+            "TR330006100519786457841326",
+            "DE89370400440532013000",
+            "GB82WEST12345698765432",
+            "FR1420041010050500013M02606",
+            "NL91ABNA0417164300",
+            "NO9386011117947",
+            "MT84MALT011000012345MTLCAST001S",
+            "gb82 west 1234 5698 7654 32"
+    })
+    @DisplayName("Success: Published IBANs of registered countries pass, in any case and with spaces")
+    void isValid_RegistryExamples_ReturnsTrue(String iban) {
+        // WHEN
+        boolean result = IbanCodec.isValid(iban);
+
+        // THEN
+        assertThat(result).isTrue();
+    }
+
+    @ParameterizedTest(name = "Scenario: Malformed IBAN [{0}]")
+    @ValueSource(strings = {
+            "TR3300061005197864578413",
+            "DE8937040044053201300A",
+            "GB82W3ST12345698765432",
+            "TR33-0006-1005-1978-6457-8413-26",
+            "1R330006100519786457841326",
+            "TRX30006100519786457841326",
+            "TR340006100519786457841326"
+    })
+    @DisplayName("Failure: Wrong length, wrong BBAN character classes, separators and bad checksums are rejected")
+    void isValid_MalformedIbans_ReturnsFalse(String iban) {
+        // WHEN
+        boolean result = IbanCodec.isValid(iban);
+
+        // THEN
+        assertThat(result).isFalse();
+    }
+
+    @Test
+    @DisplayName("Success: Countries outside the registry table only need a valid checksum and length")
+    void isValid_UnregisteredCountry_UsesGenericRules() {
+        // GIVEN
+        String iban = IbanCodec.build("ZZ", "AB1234567890C");
+
+        // WHEN & THEN
+        assertThat(IbanCodec.lengthOf("ZZ")).isEqualTo(-1);
+        assertThat(IbanCodec.isValid(iban)).isTrue();
+        assertThat(IbanCodec.isValid(iban.substring(0, 14))).isFalse();
+    }
+
+    @RepeatedTest(20)
+    @DisplayName("Success: Check digits match the BigInteger reference computation")
+    void checkDigits_MatchReference() {
+        // GIVEN
+        String iban = TestDataFactory.generateRandomValidIban();
+        String bban = iban.substring(4);
+
+        // WHEN
+        int checkDigits = IbanCodec.checkDigits("TR", bban);
+
+        // THEN
+        int reference = 98 - new BigInteger(bban + "292700").mod(BigInteger.valueOf(97)).intValue();
+        assertThat(checkDigits).isEqualTo(reference);
+        assertThat(IbanCodec.build("TR", bban)).isEqualTo(iban);
+        assertThat(IbanCodec.isValid(iban)).isTrue();
+    }
+
+    @Test
+    @DisplayName("Failure: Building from a BBAN that does not fit the country's format is rejected")
+    void build_BbanNotMatchingFormat_Throws() {
+        // WHEN & THEN
+        assertThat(IbanCodec.lengthOf("TR")).isEqualTo(26);
+        assertThatThrownBy(() -> IbanCodec.build("TR", "00062"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IbanCodec.build("DE", "37040044053201300A"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> IbanCodec.checkDigits("T1", "0006100519786457841326"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Success: Bulk validation reports the positions of the invalid IBANs")
+    void findInvalid_ReturnsInvalidPositions() {
+        // GIVEN
+        List<String> ibans = List.of(
+                TestDataFactory.VALID_IBAN,
+                "TR000000000000000000000000",
+                TestDataFactory.OTHER_VALID_IBAN,
+                "");
+
+        // WHEN
+        BitSet invalid = IbanCodec.findInvalid(ibans);
+
+        // THEN
+        assertThat(invalid.stream()).containsExactly(1, 3);
+        assertThat(IbanCodec.findInvalid(List.of(TestDataFactory.VALID_IBAN)).isEmpty()).isTrue();
+    }
+}